@@ -1,7 +1,17 @@
 import { useEffect, useState } from 'react'
-import { fetchAdminDashboard } from '../../services/statsApi'
+import {
+  fetchAdminComparison,
+  fetchAdminDashboard,
+  fetchThresholdCurve,
+  fetchTransferGraph,
+} from '../../services/statsApi'
 import { useAuth } from '../../hooks/useAuth'
-import type { AdminDashboardResponse } from '../../types/stats'
+import type {
+  AdminComparisonResponse,
+  AdminDashboardResponse,
+  ThresholdCurveResponse,
+  TransferGraphResponse,
+} from '../../types/stats'
 import { formatDate, formatNumber, formatPercent } from './statsUtils'
 
 function StatCard({
@@ -79,11 +89,339 @@ function FieldStatsCard({
   )
 }
 
+function ThresholdWhatIf({
+                           fromDate,
+                           toDate,
+                         }: {
+  fromDate?: string
+  toDate?: string
+}) {
+  const [engine, setEngine] = useState('ALL')
+  const [curve, setCurve] = useState<ThresholdCurveResponse | null>(null)
+  const [bin, setBin] = useState(700)
+  const [error, setError] = useState<string | null>(null)
+
+  useEffect(() => {
+    if (!fromDate || !toDate) {
+      return
+    }
+    let active = true
+    fetchThresholdCurve({ fromDate, toDate, engine })
+        .then((result) => {
+          if (active) {
+            setCurve(result)
+            setError(null)
+          }
+        })
+        .catch((err) => {
+          if (active) {
+            setError(err instanceof Error ? err.message : 'Failed to load threshold curve.')
+          }
+        })
+    return () => {
+      active = false
+    }
+  }, [fromDate, toDate, engine])
+
+  if (error) {
+    return <div className="empty">{error}</div>
+  }
+  if (!curve) {
+    return <div className="empty">임계값 곡선을 불러오는 중입니다.</div>
+  }
+
+  // 슬라이더 위치마다 요청하지 않고 받아 둔 누적 배열에서 바로 읽는다.
+  const index = Math.min(bin, curve.bins - 1)
+  const detections = curve.detections[index] ?? 0
+  const confirmedFraud = curve.confirmedFraud[index] ?? 0
+  const precision = detections ? confirmedFraud / detections : 0
+  const captureRate = curve.totalConfirmedFraud
+      ? confirmedFraud / curve.totalConfirmedFraud
+      : 0
+
+  return (
+      <div>
+        <h3>임계값 what-if</h3>
+        <div className="controls">
+          <label className="control">
+            엔진
+            <select value={engine} onChange={(event) => setEngine(event.target.value)}>
+              <option value="ALL">전체</option>
+              {curve.engines.map((name) => (
+                  <option key={name} value={name}>
+                    {name}
+                  </option>
+              ))}
+            </select>
+          </label>
+          <label className="control threshold-slider">
+            임계값 {(index / curve.bins).toFixed(3)}
+            <input
+                type="range"
+                min={0}
+                max={curve.bins - 1}
+                step={1}
+                value={index}
+                onChange={(event) => setBin(Number(event.target.value))}
+            />
+          </label>
+        </div>
+        <ul className="reason-list">
+          <li>
+            <span>탐지</span>
+            <strong>
+              {formatNumber(detections)} / {formatNumber(curve.totalDetections)}
+            </strong>
+          </li>
+          <li>
+            <span>사기 확정</span>
+            <strong>
+              {formatNumber(confirmedFraud)} / {formatNumber(curve.totalConfirmedFraud)}
+            </strong>
+          </li>
+          <li>
+            <span>정밀도</span>
+            <strong>{formatPercent(precision)}</strong>
+          </li>
+          <li>
+            <span>사기 포착률</span>
+            <strong>{formatPercent(captureRate)}</strong>
+          </li>
+        </ul>
+      </div>
+  )
+}
+
+function TransferGraphPanel({
+                              fromDate,
+                              toDate,
+                            }: {
+  fromDate?: string
+  toDate?: string
+}) {
+  const [graph, setGraph] = useState<TransferGraphResponse | null>(null)
+  const [error, setError] = useState<string | null>(null)
+
+  useEffect(() => {
+    if (!fromDate || !toDate) {
+      return
+    }
+    let active = true
+    fetchTransferGraph({ fromDate, toDate })
+        .then((result) => {
+          if (active) {
+            setGraph(result)
+            setError(null)
+          }
+        })
+        .catch((err) => {
+          if (active) {
+            setError(err instanceof Error ? err.message : 'Failed to load transfer graph.')
+          }
+        })
+    return () => {
+      active = false
+    }
+  }, [fromDate, toDate])
+
+  return (
+      <section className="panel">
+        <div className="panel__header">
+          <h2>이체 그래프</h2>
+          {graph ? (
+              <span className="panel__meta">
+              계좌 {formatNumber(graph.vertexCount)} · 이체 쌍 {formatNumber(graph.edgeCount)}
+                · 연결 요소 {formatNumber(graph.componentCount)}
+            </span>
+          ) : null}
+        </div>
+        {error ? (
+            <div className="empty">{error}</div>
+        ) : !graph ? (
+            <div className="empty">이체 그래프를 불러오는 중입니다.</div>
+        ) : (
+            <div className="split-grid">
+              <div>
+                <h3>플래그 계좌 노출</h3>
+                <ul className="reason-list">
+                  <li>
+                    <span>블랙리스트 / 신고</span>
+                    <strong>
+                      {formatNumber(graph.blacklistedAccounts)} / {formatNumber(graph.reportedAccounts)}
+                    </strong>
+                  </li>
+                  <li>
+                    <span>1단계 도달</span>
+                    <strong>{formatNumber(graph.oneHopExposed)}</strong>
+                  </li>
+                  <li>
+                    <span>2단계 도달</span>
+                    <strong>{formatNumber(graph.twoHopExposed)}</strong>
+                  </li>
+                  {graph.exposedAccounts.map((item) => (
+                      <li key={item.accountNumber}>
+                        <span>
+                          {item.accountNumber} ({item.hops}단계)
+                        </span>
+                        <strong>
+                          in {formatNumber(item.fanIn)} · out {formatNumber(item.fanOut)}
+                        </strong>
+                      </li>
+                  ))}
+                </ul>
+              </div>
+              <div>
+                <h3>팬인 상위</h3>
+                <ul className="reason-list">
+                  {graph.topFanIn.map((item) => (
+                      <li key={item.accountNumber}>
+                        <span>
+                          {item.accountNumber}
+                          {item.flagged ? ' ⚑' : ''}
+                        </span>
+                        <strong>{formatNumber(item.fanIn)}</strong>
+                      </li>
+                  ))}
+                </ul>
+              </div>
+              <div>
+                <h3>팬아웃 상위</h3>
+                <ul className="reason-list">
+                  {graph.topFanOut.map((item) => (
+                      <li key={item.accountNumber}>
+                        <span>
+                          {item.accountNumber}
+                          {item.flagged ? ' ⚑' : ''}
+                        </span>
+                        <strong>{formatNumber(item.fanOut)}</strong>
+                      </li>
+                  ))}
+                </ul>
+              </div>
+              <div>
+                <h3>의심 그룹</h3>
+                {graph.suspectedRings.length ? (
+                    <ul className="reason-list">
+                      {graph.suspectedRings.map((ring) => (
+                          <li key={ring.sampleAccounts.join(',')}>
+                            <span>{ring.sampleAccounts.join(', ')}</span>
+                            <strong>
+                              {formatNumber(ring.flaggedAccounts)} / {formatNumber(ring.size)}
+                            </strong>
+                          </li>
+                      ))}
+                    </ul>
+                ) : (
+                    <div className="empty">의심 그룹이 없습니다.</div>
+                )}
+              </div>
+            </div>
+        )}
+      </section>
+  )
+}
+
+const COMPARISON_LABELS: Record<string, string> = {
+  transactionCount: '거래 건수',
+  totalAmount: '거래 금액',
+  averageAmount: '평균 금액',
+  detectionCount: '탐지 건수',
+  fraudCount: '사기 건수',
+  fraudRate: '사기 비율',
+  detectionCoverage: '탐지 커버리지',
+  averageFraudProbability: '평균 사기 확률',
+  reportCount: '신고 건수',
+  newBlacklist: '신규 블랙리스트',
+  newUsers: '신규 사용자',
+  newAccounts: '신규 계좌',
+  newCards: '신규 카드',
+}
+
+const RATIO_METRICS = new Set(['fraudRate', 'detectionCoverage', 'averageFraudProbability'])
+
+function PeriodComparisonPanel() {
+  const [periodDays, setPeriodDays] = useState(7)
+  const [comparison, setComparison] = useState<AdminComparisonResponse | null>(null)
+  const [error, setError] = useState<string | null>(null)
+
+  useEffect(() => {
+    let active = true
+    fetchAdminComparison({ periods: 4, periodDays })
+        .then((result) => {
+          if (active) {
+            setComparison(result)
+            setError(null)
+          }
+        })
+        .catch((err) => {
+          if (active) {
+            setError(err instanceof Error ? err.message : 'Failed to load period comparison.')
+          }
+        })
+    return () => {
+      active = false
+    }
+  }, [periodDays])
+
+  return (
+      <section className="panel">
+        <div className="panel__header">
+          <h2>기간 비교</h2>
+          <select value={periodDays} onChange={(event) => setPeriodDays(Number(event.target.value))}>
+            <option value={1}>최근 4일</option>
+            <option value={7}>최근 4주</option>
+            <option value={30}>최근 4개월(30일)</option>
+          </select>
+        </div>
+        {error ? (
+            <div className="empty">{error}</div>
+        ) : !comparison ? (
+            <div className="empty">기간 비교를 불러오는 중입니다.</div>
+        ) : (
+            <div className="table-wrap">
+              <table>
+                <thead>
+                <tr>
+                  <th>지표</th>
+                  {comparison.ranges.map((range) => (
+                      <th key={range.fromDate}>
+                        {formatDate(range.fromDate)} ~ {formatDate(range.toDate)}
+                      </th>
+                  ))}
+                </tr>
+                </thead>
+                <tbody>
+                {comparison.metrics.map((metric) => (
+                    <tr key={metric.metric}>
+                      <td>{COMPARISON_LABELS[metric.metric] ?? metric.metric}</td>
+                      {metric.values.map((value, index) => (
+                          <td key={index}>
+                            {RATIO_METRICS.has(metric.metric) ? formatPercent(value) : formatNumber(value)}
+                            {metric.percentDeltas[index] !== null ? (
+                                <span className="panel__meta">
+                                  {' '}
+                                  ({Number(metric.percentDeltas[index]) > 0 ? '+' : ''}
+                                  {metric.percentDeltas[index]}%)
+                                </span>
+                            ) : null}
+                          </td>
+                      ))}
+                    </tr>
+                ))}
+                </tbody>
+              </table>
+            </div>
+        )}
+      </section>
+  )
+}
+
 function StatsAdminDashboardPage() {
   const { user } = useAuth()
   const [dashboard, setDashboard] = useState<AdminDashboardResponse | null>(null)
   const [loading, setLoading] = useState(false)
   const [error, setError] = useState<string | null>(null)
+  const [approximate, setApproximate] = useState(false)
 
   useEffect(() => {
     let active = true
@@ -91,7 +429,9 @@ function StatsAdminDashboardPage() {
       setLoading(true)
       setError(null)
       try {
-        const result = await fetchAdminDashboard()
+        const result = await fetchAdminDashboard({
+          accuracy: approximate ? 'approximate' : 'exact',
+        })
         if (!active) {
           return
         }
@@ -115,9 +455,12 @@ function StatsAdminDashboardPage() {
     return () => {
       active = false
     }
-  }, [])
+  }, [approximate])
 
   const range = dashboard?.range
+  const approximation = dashboard?.approximation
+  const transactionEstimate =
+      approximation?.estimates['transactions.totalTransactions']
 
   return (
       <div className="app">
@@ -137,10 +480,25 @@ function StatsAdminDashboardPage() {
                 {user?.loginId ?? 'Unknown'} · {user?.role ?? 'USER'}
               </span>
               </div>
+              <label className="control">
+                <input
+                    type="checkbox"
+                    checked={approximate}
+                    onChange={(event) => setApproximate(event.target.checked)}
+                />
+                빠른 모드(표본 추정)
+              </label>
             </div>
           </header>
 
           {error ? <div className="banner banner--error">{error}</div> : null}
+          {approximation ? (
+              <div className="banner">
+                거래 통계는 {approximation.samplePercent}% 표본(
+                {formatNumber(approximation.sampledRows)}건)으로 추정한 값입니다. 신뢰수준{' '}
+                {formatPercent(approximation.confidenceLevel)}
+              </div>
+          ) : null}
           {loading ? <div className="banner">Loading data...</div> : null}
 
           <section className="stat-grid">
@@ -159,6 +517,11 @@ function StatsAdminDashboardPage() {
             <StatCard
                 label="거래 건수"
                 value={formatNumber(dashboard?.transactions?.totalTransactions)}
+                hint={
+                  transactionEstimate
+                      ? `${formatNumber(Math.round(transactionEstimate.lower))} ~ ${formatNumber(Math.round(transactionEstimate.upper))}`
+                      : undefined
+                }
             />
             <StatCard
                 label="탐지 건수"
@@ -331,9 +694,14 @@ function StatsAdminDashboardPage() {
                   title="조치 분포"
                   data={dashboard?.detections?.actionDistribution ?? {}}
               />
+              <ThresholdWhatIf fromDate={range?.fromDate} toDate={range?.toDate} />
             </div>
           </section>
 
+          <TransferGraphPanel fromDate={range?.fromDate} toDate={range?.toDate} />
+
+          <PeriodComparisonPanel />
+
           <section className="panel-grid">
             <div className="panel">
               <div className="panel__header">
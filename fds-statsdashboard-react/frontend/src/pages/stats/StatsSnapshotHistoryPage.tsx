@@ -2,10 +2,16 @@ import { useEffect, useState } from 'react'
 import {
   fetchSnapshotDetail,
   fetchSnapshotList,
+  fetchSnapshotSeries,
   generateWeeklySnapshots,
 } from '../../services/statsApi'
 import { useAuth } from '../../hooks/useAuth'
-import type { GeneralSnapshotDetail, SnapshotMetadata } from '../../types/stats'
+import type {
+  GeneralSnapshotDetail,
+  SnapshotMetadata,
+  SnapshotSeriesPoint,
+  SnapshotTier,
+} from '../../types/stats'
 import {
   formatDate,
   formatDateTime,
@@ -53,6 +59,8 @@ function StatsSnapshotHistoryPage() {
       () => resolveLastWeekRange().toDate,
   )
   const [refreshKey, setRefreshKey] = useState(0)
+  const [fraudRateSeries, setFraudRateSeries] = useState<SnapshotSeriesPoint[]>([])
+  const [tier, setTier] = useState<SnapshotTier>('weekly')
   const scope = 'GENERAL'
 
   const formatProbability = (value: number | null | undefined) => {
@@ -76,11 +84,16 @@ function StatsSnapshotHistoryPage() {
       setLoading(true)
       setError(null)
       try {
-        const list = await fetchSnapshotList(scope)
+        const list = await fetchSnapshotList(scope, tier)
         if (!active) {
           return
         }
         setSnapshots(list)
+        const series = await fetchSnapshotSeries(scope, { metric: 'fraudRate', tier })
+        if (!active) {
+          return
+        }
+        setFraudRateSeries(series.points)
         setSelected(null)
         setDetail(null)
       } catch (err) {
@@ -102,7 +115,7 @@ function StatsSnapshotHistoryPage() {
     return () => {
       active = false
     }
-  }, [refreshKey, scope])
+  }, [refreshKey, scope, tier])
 
   useEffect(() => {
     if (!selected) {
@@ -117,6 +130,7 @@ function StatsSnapshotHistoryPage() {
         const data = await fetchSnapshotDetail<GeneralSnapshotDetail>(
             scope,
             selected.snapshotId,
+            tier,
         )
         if (!active) {
           return
@@ -146,7 +160,7 @@ function StatsSnapshotHistoryPage() {
     return () => {
       active = false
     }
-  }, [selected, scope])
+  }, [selected, scope, tier])
 
   const handleGenerate = async () => {
     setError(null)
@@ -179,10 +193,21 @@ function StatsSnapshotHistoryPage() {
             <div>
               <p className="eyebrow">FDS</p>
               <h1>스냅샷 히스토리</h1>
-              <p className="subtitle">주간 스냅샷 목록 및 상세 보기</p>
+              <p className="subtitle">주간/월간/분기 스냅샷 목록 및 상세 보기</p>
             </div>
             <div className="header-side">
               <div className="controls">
+                <label className="control">
+                  <span>주기</span>
+                  <select
+                      value={tier}
+                      onChange={(event) => setTier(event.target.value as SnapshotTier)}
+                  >
+                    <option value="weekly">주간</option>
+                    <option value="monthly">월간</option>
+                    <option value="quarterly">분기</option>
+                  </select>
+                </label>
                 {user?.role === 'ADMIN' ? (
                     <>
                       <label className="control">
@@ -250,6 +275,27 @@ function StatsSnapshotHistoryPage() {
             )}
           </section>
 
+          <section className="panel">
+            <div className="panel__header">
+              <h2>확정율 추이</h2>
+              <span className="panel__meta">{fraudRateSeries.length} snapshots</span>
+            </div>
+            {fraudRateSeries.length ? (
+                <ul className="reason-list">
+                  {fraudRateSeries.map((point) => (
+                      <li key={point.snapshotId}>
+                        <span>
+                          {formatDate(point.fromDate)} ~ {formatDate(point.toDate)}
+                        </span>
+                        <strong>{formatPercent(point.value)}</strong>
+                      </li>
+                  ))}
+                </ul>
+            ) : (
+                <div className="empty">추이 데이터가 없습니다.</div>
+            )}
+          </section>
+
           <div className="snapshot-summary">
             <div className="panel__header">
               <h2>스냅샷 요약</h2>
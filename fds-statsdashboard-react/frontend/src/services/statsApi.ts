@@ -1,8 +1,13 @@
 import type {
+  AdminComparisonResponse,
   AdminDashboardResponse,
   SnapshotMetadata,
   SnapshotScope,
+  SnapshotSeriesResponse,
+  SnapshotTier,
   StatsRangeType,
+  ThresholdCurveResponse,
+  TransferGraphResponse,
   UserDashboardResponse,
   UserSummaryResponse,
 } from '../types/stats'
@@ -60,22 +65,54 @@ export const fetchUserDashboard = (range: StatsRangeType) =>
 export const fetchAdminDashboard = (params?: {
   fromDate?: string
   toDate?: string
+  accuracy?: 'exact' | 'approximate'
 }) =>
     getJson<AdminDashboardResponse>('/api/stats/admin/dashboard', params)
 
-export const fetchSnapshotList = (scope: SnapshotScope) =>
+export const fetchAdminComparison = (params?: {
+  periods?: number
+  periodDays?: number
+}) =>
+    getJson<AdminComparisonResponse>('/api/stats/admin/dashboard/compare', params)
+
+export const fetchThresholdCurve = (params?: {
+  fromDate?: string
+  toDate?: string
+  engine?: string
+}) =>
+    getJson<ThresholdCurveResponse>('/api/detection/threshold-curve', params)
+
+export const fetchTransferGraph = (params?: {
+  fromDate?: string
+  toDate?: string
+}) =>
+    getJson<TransferGraphResponse>('/api/detection/transfer-graph', params)
+
+export const fetchSnapshotList = (scope: SnapshotScope, tier?: SnapshotTier) =>
     getJson<SnapshotMetadata[]>(
         scope === 'BUSINESS' ? '/api/stats/admin/snapshots' : '/api/stats/snapshots',
+        scope === 'BUSINESS' ? undefined : { tier },
     )
 
 export const fetchSnapshotDetail = <T = unknown>(
     scope: SnapshotScope,
     snapshotId: string,
+    tier?: SnapshotTier,
 ) =>
     getJson<T>(
         scope === 'BUSINESS'
             ? `/api/stats/admin/snapshots/${snapshotId}`
             : `/api/stats/snapshots/${snapshotId}`,
+        scope === 'BUSINESS' ? undefined : { tier },
+    )
+
+export const fetchSnapshotSeries = (
+    scope: SnapshotScope,
+    params: { metric: string; from?: string; to?: string; tier?: SnapshotTier },
+) =>
+    getJson<SnapshotSeriesResponse>(
+        scope === 'BUSINESS' ? '/api/stats/admin/snapshots/series' : '/api/stats/snapshots/series',
+        params,
     )
 
 export const generateWeeklySnapshots = (payload: {
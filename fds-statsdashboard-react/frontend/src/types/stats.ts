@@ -105,6 +105,7 @@ export type AdminDashboardResponse = {
     topAccountsByAmount: Array<{ name: string; amount: number | null }>
     topUsersByCount: Array<{ name: string; count: number }>
     topUsersByAmount: Array<{ name: string; amount: number | null }>
+    approximateTopMetrics: string[]
   }
   transactionFeatures: {
     transactionCount: number
@@ -197,6 +198,21 @@ export type AdminDashboardResponse = {
     }>
     blacklistDetectionRate: number | string
   }
+  approximation: DashboardApproximation | null
+}
+
+export type DashboardEstimate = {
+  estimate: number
+  lower: number
+  upper: number
+}
+
+export type DashboardApproximation = {
+  method: string
+  samplePercent: number
+  sampledRows: number
+  confidenceLevel: number
+  estimates: Record<string, DashboardEstimate>
 }
 
 export type FieldStats = {
@@ -214,8 +230,88 @@ export type FraudBucket = {
   averageFraudProbability: number | null
 }
 
+export type ThresholdPoint = {
+  threshold: number
+  detections: number
+  confirmedFraud: number
+  precision: number
+  fraudCaptureRate: number
+}
+
+export type ThresholdCurveResponse = {
+  fromDate: string
+  toDate: string
+  engine: string
+  engines: string[]
+  bins: number
+  totalDetections: number
+  totalConfirmedFraud: number
+  detections: number[]
+  confirmedFraud: number[]
+  point: ThresholdPoint | null
+}
+
+export type TransferAccountDegree = {
+  accountNumber: string
+  fanIn: number
+  fanOut: number
+  flagged: boolean
+}
+
+export type TransferExposedAccount = {
+  accountNumber: string
+  hops: number
+  fanIn: number
+  fanOut: number
+}
+
+export type TransferSuspectedRing = {
+  size: number
+  edgeCount: number
+  flaggedAccounts: number
+  sampleAccounts: string[]
+}
+
+export type TransferGraphResponse = {
+  fromDate: string
+  toDate: string
+  vertexCount: number
+  edgeCount: number
+  transferCount: number
+  blacklistedAccounts: number
+  reportedAccounts: number
+  oneHopExposed: number
+  twoHopExposed: number
+  componentCount: number
+  largestComponentSize: number
+  elapsedMillis: number
+  topFanIn: TransferAccountDegree[]
+  topFanOut: TransferAccountDegree[]
+  exposedAccounts: TransferExposedAccount[]
+  suspectedRings: TransferSuspectedRing[]
+}
+
+export type AdminComparisonRange = {
+  fromDate: string
+  toDate: string
+}
+
+export type AdminComparisonMetric = {
+  metric: string
+  values: Array<number | null>
+  deltas: Array<number | null>
+  percentDeltas: Array<number | null>
+}
+
+export type AdminComparisonResponse = {
+  ranges: AdminComparisonRange[]
+  metrics: AdminComparisonMetric[]
+}
+
 export type SnapshotScope = 'GENERAL' | 'BUSINESS'
 
+export type SnapshotTier = 'weekly' | 'monthly' | 'quarterly'
+
 export type SnapshotMetadata = {
   snapshotId: string
   scope: SnapshotScope
@@ -225,6 +321,19 @@ export type SnapshotMetadata = {
   filename: string
 }
 
+export type SnapshotSeriesPoint = {
+  snapshotId: string
+  fromDate: string
+  toDate: string
+  value: number | null
+}
+
+export type SnapshotSeriesResponse = {
+  scope: SnapshotScope
+  metric: string
+  points: SnapshotSeriesPoint[]
+}
+
 export type SnapshotKpi = {
   transactionCount: number
   totalAmount: number | null
@@ -0,0 +1,80 @@
+package kdt.project.fds.auth.security;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import kdt.project.fds.auth.config.SecurityProperties;
+import kdt.project.fds.users.security.UserPrincipal;
+import kdt.project.fds.users.security.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 이 파일은 JWT 발급/검증 마이크로벤치마크 파일이다.
+ * 인증 필터가 요청마다 수행하는 검증과 principal 추출 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+    private JwtTokenProvider tokenProvider;
+    private UserPrincipal principal;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SecurityProperties properties = new SecurityProperties();
+        properties.getJwt().setSecret("benchmark-secret-key-with-at-least-32-bytes");
+        properties.getJwt().setExpirationMinutes(60);
+        tokenProvider = new JwtTokenProvider(properties);
+        principal = new UserPrincipal(1L, "benchmark-user", "", UserRole.USER);
+        validToken = tokenProvider.createToken(principal);
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(principal);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return tokenProvider.validateToken(tamperedToken);
+    }
+
+    /**
+     * 캐시 없이 검증과 principal 추출을 따로 파싱하는 경로이다.
+     */
+    @Benchmark
+    public UserPrincipal validateAndGetPrincipal() {
+        if (!tokenProvider.validateToken(validToken)) {
+            return null;
+        }
+        return tokenProvider.getPrincipal(validToken);
+    }
+
+    /**
+     * JwtAuthenticationFilter의 현재 경로이다. 같은 토큰을 반복 사용하므로 캐시 적중 비용을 측정한다.
+     */
+    @Benchmark
+    public Optional<UserPrincipal> resolvePrincipal() {
+        return tokenProvider.resolvePrincipal(validToken);
+    }
+}
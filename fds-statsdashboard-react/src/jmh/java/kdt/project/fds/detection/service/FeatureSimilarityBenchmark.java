@@ -0,0 +1,112 @@
+package kdt.project.fds.detection.service;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 이 파일은 특징 벡터 유사도 검색 마이크로벤치마크 파일이다.
+ * 군집 데이터에서 질의 한 건당 전수 비교(Vector API/스칼라 내적)와 HNSW 탐색(efSearch별)의 처리량을 측정한다.
+ * HNSW 재현율은 FeatureSimilarityRecallTests에서 전수 비교 결과와 맞춰 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureSimilarityBenchmark {
+    private static final int DIMENSIONS = 16;
+    private static final int CLUSTERS = 64;
+    private static final int QUERIES = 1_024;
+    private static final int K = 10;
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"32", "64", "128"})
+    private int efSearch;
+
+    private FeatureMatrix matrix;
+    private HnswIndex hnsw;
+    private float[][] queries;
+    private int[] queryRows;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        double[][] centers = new double[CLUSTERS][DIMENSIONS];
+        for (double[] center : centers) {
+            for (int d = 0; d < DIMENSIONS; d++) {
+                center[d] = random.nextDouble(-3, 3);
+            }
+        }
+        FeatureMatrix.Builder builder = FeatureMatrix.builder();
+        StringBuilder features = new StringBuilder();
+        for (int row = 0; row < rows; row++) {
+            double[] center = centers[random.nextInt(CLUSTERS)];
+            features.setLength(0);
+            for (int d = 0; d < DIMENSIONS; d++) {
+                if (d > 0) {
+                    features.append(',');
+                }
+                features.append(String.format(Locale.ROOT, "%.4f", center[d] + random.nextDouble(-1.5, 1.5)));
+            }
+            builder.add(row + 1L, features.toString());
+        }
+        matrix = builder.build();
+        hnsw = HnswIndex.build(matrix, 16, 100, 42L);
+        queries = new float[QUERIES][];
+        queryRows = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryRows[i] = random.nextInt(rows);
+            queries[i] = matrix.copyRow(queryRows[i]);
+        }
+    }
+
+    @Benchmark
+    public void exactVectorApi(Blackhole blackhole) {
+        int i = nextQuery();
+        blackhole.consume(matrix.exactTopK(queries[i], K, queryRows[i]));
+    }
+
+    @Benchmark
+    public void exactScalar(Blackhole blackhole) {
+        int i = nextQuery();
+        float[] query = queries[i];
+        NodeScoreHeap top = NodeScoreHeap.minHeap(K);
+        float[] values = matrix.values();
+        for (int row = 0; row < rows; row++) {
+            if (row != queryRows[i]) {
+                top.pushBounded(row, VectorKernels.scalarDot(query, 0, values, matrix.offset(row), DIMENSIONS), K);
+            }
+        }
+        blackhole.consume(top);
+    }
+
+    @Benchmark
+    public void hnsw(Blackhole blackhole) {
+        int i = nextQuery();
+        blackhole.consume(hnsw.search(queries[i], K, efSearch, queryRows[i]));
+    }
+
+    private int nextQuery() {
+        int i = next;
+        next = (next + 1) & (QUERIES - 1);
+        return i;
+    }
+}
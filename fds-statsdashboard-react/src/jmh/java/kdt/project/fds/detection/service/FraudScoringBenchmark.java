@@ -0,0 +1,121 @@
+package kdt.project.fds.detection.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.dto.response.FraudScoreResponseDTO;
+import kdt.project.fds.detection.vo.ScoringRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 이 파일은 실시간 사기 점수 처리량 마이크로벤치마크 파일이다.
+ * 규칙 스냅샷과 블랙리스트를 메모리에 둔 상태에서 CPU 코어 수만큼의 스레드로 점수 계산만 반복해
+ * 한 노드가 초당 점수를 매길 수 있는 거래 수(TPS)를 측정한다. DB 저장은 비동기 배치이므로 측정에서 제외한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class FraudScoringBenchmark {
+    private static final int TRANSACTIONS = 65_536;
+    private static final int BLACKLIST_SIZE = 50_000;
+    private static final String[] TX_TYPES = {"PAYMENT", "TRANSFER", "WITHDRAWAL", "DEPOSIT", "CASH_OUT"};
+
+    private FraudScoringService scoringService;
+    private ScoringRules rules;
+    private FraudScoreRequestDTO[] transactions;
+    private LocalDateTime detectedAt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        Set<String> blacklist = new HashSet<>();
+        for (int i = 0; i < BLACKLIST_SIZE; i++) {
+            blacklist.add(accountNumber(random.nextInt(1_000_000)));
+        }
+        rules = ScoringRules.fromConfig(Map.of());
+        BlacklistIndex blacklistIndex = blacklistIndex(blacklist);
+        scoringService = new FraudScoringService(
+                List.of(new RuleFraudEvaluator(), new BlacklistFraudEvaluator(() -> blacklistIndex)),
+                null,
+                null,
+                new FraudDetectionProperties(),
+                new SimpleMeterRegistry()
+        );
+        transactions = new FraudScoreRequestDTO[TRANSACTIONS];
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 0, 0);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            transactions[i] = new FraudScoreRequestDTO(
+                    (long) i,
+                    (long) random.nextInt(150_000),
+                    accountNumber(random.nextInt(1_000_000)),
+                    TX_TYPES[random.nextInt(TX_TYPES.length)],
+                    BigDecimal.valueOf(random.nextLong(1_000, 10_000_000)),
+                    BigDecimal.valueOf(random.nextInt(10) == 0 ? 0 : random.nextLong(1, 50_000_000)),
+                    random.nextBoolean() ? accountNumber(random.nextInt(1_000_000)) : null,
+                    "SEOUL",
+                    base.plusMinutes(random.nextInt(60 * 24 * 7))
+            );
+        }
+        detectedAt = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public FraudScoreResponseDTO score(Cursor cursor) {
+        return scoringService.score(transactions[cursor.next()], rules, detectedAt);
+    }
+
+    /**
+     * 스레드마다 다른 거래를 순서대로 고르기 위한 위치이다.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            position = (int) (Thread.currentThread().threadId() * 7_919) & (TRANSACTIONS - 1);
+        }
+
+        int next() {
+            int current = position;
+            position = (position + 1) & (TRANSACTIONS - 1);
+            return current;
+        }
+    }
+
+    private static BlacklistIndex blacklistIndex(Set<String> accountNumbers) {
+        List<BlacklistIndex.Entry> entries = new ArrayList<>(accountNumbers.size());
+        for (String accountNumber : accountNumbers) {
+            entries.add(new BlacklistIndex.Entry(entries.size() + 1, accountNumber, null));
+        }
+        return BlacklistIndex.build(entries, 0.01, LocalDateTime.now());
+    }
+
+    private static String accountNumber(int value) {
+        return "110-%03d-%06d".formatted(value / 1_000_000, value % 1_000_000);
+    }
+}
@@ -0,0 +1,273 @@
+package kdt.project.fds.stats.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.service.BlacklistIndexService;
+import kdt.project.fds.stats.config.StatsSnapshotProperties;
+import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.project.fds.stats.dto.response.StatsSnapshotMetadataDTO;
+import kdt.project.fds.stats.vo.SnapshotScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * 이 파일은 통계 서비스의 순수 Java 구간 마이크로벤치마크 파일이다.
+ * DB 왕복을 제외한 분포 행 매핑, 비율 계산, 연령대 파싱, 중앙값, 스냅샷 파일명 파싱, 스냅샷 JSON 직렬화를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsHotPathBenchmark {
+    @Param({"1000"})
+    private int rowCount;
+
+    private AdminStatsDashboardService adminService;
+    private StatsSnapshotService snapshotService;
+    private ObjectMapper snapshotMapper;
+    private String[] births;
+    private long[] numerators;
+    private long[] denominators;
+    private List<Double> sortedProbabilities;
+    private Path snapshotDirectory;
+    private List<Path> snapshotFiles;
+    private Map<String, Object> snapshotPayload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42L);
+        FraudDetectionProperties detectionProperties = new FraudDetectionProperties();
+        adminService = new AdminStatsDashboardService(
+                new FixedRowsJdbcTemplate(distributionRows(random)),
+                new BlacklistIndexService(new JdbcTemplate(), detectionProperties),
+                // 분할/표본 집계와 트랜잭션은 getAdminDashboard에서만 쓰이고 이 벤치마크는 호출하지 않는다.
+                null,
+                null,
+                detectionProperties,
+                null
+        );
+
+        births = new String[rowCount];
+        numerators = new long[rowCount];
+        denominators = new long[rowCount];
+        List<Double> probabilities = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            births[i] = switch (i % 4) {
+                case 0 -> "%d-%02d-%02d".formatted(1950 + random.nextInt(60), 1 + random.nextInt(12), 1 + random.nextInt(28));
+                case 1 -> String.valueOf(19500101 + random.nextInt(600000));
+                case 2 -> "unknown";
+                default -> null;
+            };
+            denominators[i] = 1 + random.nextInt(1_000_000);
+            numerators[i] = random.nextInt((int) denominators[i]);
+            probabilities.add(random.nextDouble());
+        }
+        probabilities.sort(Double::compareTo);
+        sortedProbabilities = probabilities;
+
+        snapshotDirectory = Files.createTempDirectory("fds-jmh-snapshots");
+        StatsSnapshotProperties properties = new StatsSnapshotProperties();
+        properties.setBasePath(snapshotDirectory.toString());
+        snapshotService = new StatsSnapshotService(
+                new NamedParameterJdbcTemplate(new JdbcTemplate()),
+                adminService,
+                properties
+        );
+        Path businessDirectory = snapshotDirectory.resolve("weekly").resolve(SnapshotScope.BUSINESS.directoryName());
+        Files.createDirectories(businessDirectory);
+        snapshotFiles = new ArrayList<>();
+        LocalDate monday = LocalDate.of(2024, 1, 1);
+        for (int week = 0; week < 52; week++) {
+            LocalDate from = monday.plusWeeks(week);
+            LocalDate to = from.plusDays(6);
+            String filename = "%d_%02d%02d_%d_%02d%02d%s.json".formatted(
+                    from.getYear(), from.getMonthValue(), from.getDayOfMonth(),
+                    to.getYear(), to.getMonthValue(), to.getDayOfMonth(),
+                    SnapshotScope.BUSINESS.fileSuffix()
+            );
+            snapshotFiles.add(Files.writeString(businessDirectory.resolve(filename), "{}"));
+        }
+
+        snapshotMapper = StatsSnapshotService.createObjectMapper();
+        snapshotPayload = new LinkedHashMap<>();
+        snapshotPayload.put("scope", SnapshotScope.BUSINESS.name());
+        snapshotPayload.put("fromDate", monday);
+        snapshotPayload.put("toDate", monday.plusDays(6));
+        snapshotPayload.put("generatedAt", LocalDateTime.of(2024, 1, 8, 0, 0));
+        snapshotPayload.put("dashboard", largeDashboard(random, rowCount, monday));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Path file : snapshotFiles) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Long> loadDistributionRowMapping() {
+        return adminService.loadDistribution("SELECT 1", new MapSqlParameterSource());
+    }
+
+    @Benchmark
+    public void safeRate(Blackhole blackhole) {
+        for (int i = 0; i < numerators.length; i++) {
+            blackhole.consume(adminService.safeRate(numerators[i], denominators[i]));
+        }
+    }
+
+    @Benchmark
+    public void toAgeGroup(Blackhole blackhole) {
+        for (String birth : births) {
+            blackhole.consume(adminService.toAgeGroup(birth));
+        }
+    }
+
+    @Benchmark
+    public Double median() {
+        return StatsDashboardSupport.median(sortedProbabilities);
+    }
+
+    @Benchmark
+    public void parseMetadata(Blackhole blackhole) {
+        for (Path file : snapshotFiles) {
+            Optional<StatsSnapshotMetadataDTO> metadata = snapshotService.parseMetadata(SnapshotScope.BUSINESS, file);
+            blackhole.consume(metadata);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeBusinessSnapshot() throws IOException {
+        return snapshotMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(snapshotPayload);
+    }
+
+    private List<Map<String, Object>> distributionRows(Random random) {
+        List<Map<String, Object>> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put(StatsDashboardSupport.KEY_NAME, i % 50 == 0 ? null : "  KEY_" + i + " ");
+            row.put(StatsDashboardSupport.COUNT_VALUE, BigDecimal.valueOf(random.nextInt(100_000)));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * 섹션별 목록/분포를 rows 크기로 채운 관리자 대시보드 DTO를 만든다.
+     * 실제 스냅샷 파일과 비슷한 크기의 JSON을 직렬화하기 위해 사용한다.
+     */
+    private static AdminDashboardResponseDTO largeDashboard(Random random, int rows, LocalDate from) {
+        List<AdminDashboardResponseDTO.DateCountDTO> trend = new ArrayList<>();
+        List<AdminDashboardResponseDTO.NamedCountDTO> namedCounts = new ArrayList<>();
+        List<AdminDashboardResponseDTO.NamedAmountDTO> namedAmounts = new ArrayList<>();
+        List<AdminDashboardResponseDTO.SegmentMetricDTO> segments = new ArrayList<>();
+        List<AdminDashboardResponseDTO.AccountRankDTO> ranks = new ArrayList<>();
+        List<AdminDashboardResponseDTO.FraudBucketDTO> buckets = new ArrayList<>();
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < rows; i++) {
+            trend.add(new AdminDashboardResponseDTO.DateCountDTO(from.plusDays(i % 7), random.nextInt(10_000)));
+            namedCounts.add(new AdminDashboardResponseDTO.NamedCountDTO("NAME_" + i, random.nextInt(10_000)));
+            namedAmounts.add(new AdminDashboardResponseDTO.NamedAmountDTO(
+                    "NAME_" + i,
+                    BigDecimal.valueOf(random.nextInt(100_000_000), 2)
+            ));
+            segments.add(new AdminDashboardResponseDTO.SegmentMetricDTO(
+                    "SEGMENT", "VALUE_" + i, random.nextInt(10_000), random.nextInt(1_000), random.nextInt(100)
+            ));
+            ranks.add(new AdminDashboardResponseDTO.AccountRankDTO(
+                    "110-%09d".formatted(i), random.nextInt(10_000), random.nextInt(1_000), random.nextInt(100)
+            ));
+            buckets.add(new AdminDashboardResponseDTO.FraudBucketDTO(
+                    "BUCKET_" + i, random.nextInt(10_000), random.nextInt(100),
+                    BigDecimal.valueOf(random.nextInt(10_000), 4), random.nextDouble()
+            ));
+            distribution.put("KEY_" + i, (long) random.nextInt(10_000));
+        }
+        AdminDashboardResponseDTO.FieldStatsDTO fieldStats = new AdminDashboardResponseDTO.FieldStatsDTO(
+                rows, rows / 10, BigDecimal.valueOf(1000, 4), namedCounts
+        );
+        return new AdminDashboardResponseDTO(
+                new AdminDashboardResponseDTO.DateRangeDTO(from, from.plusDays(6)),
+                new AdminDashboardResponseDTO.UsersSectionDTO(rows, trend, distribution, distribution),
+                new AdminDashboardResponseDTO.AccountsSectionDTO(rows, trend, distribution, List.of(), distribution),
+                new AdminDashboardResponseDTO.CardsSectionDTO(
+                        rows, trend, distribution, distribution, distribution, distribution, distribution
+                ),
+                new AdminDashboardResponseDTO.TransactionsSectionDTO(
+                        rows, trend, distribution,
+                        new AdminDashboardResponseDTO.AmountSummaryDTO(BigDecimal.TEN, BigDecimal.ONE),
+                        distribution, fieldStats, fieldStats, fieldStats, fieldStats,
+                        namedCounts, namedAmounts, namedCounts, namedAmounts, List.of()
+                ),
+                new AdminDashboardResponseDTO.TransactionFeaturesSectionDTO(
+                        rows, rows, BigDecimal.ONE, List.of(), rows, BigDecimal.TEN
+                ),
+                new AdminDashboardResponseDTO.DetectionSectionDTO(
+                        rows, trend, BigDecimal.ONE, BigDecimal.ONE, rows, BigDecimal.ONE,
+                        distribution, distribution, distribution, distribution, BigDecimal.ONE
+                ),
+                new AdminDashboardResponseDTO.FraudReportsSectionDTO(
+                        rows, trend, distribution, namedCounts, rows, BigDecimal.ONE, namedCounts,
+                        BigDecimal.ONE, BigDecimal.ONE
+                ),
+                new AdminDashboardResponseDTO.BlacklistSectionDTO(rows, trend, distribution, rows, 0, rows, rows),
+                new AdminDashboardResponseDTO.ReferenceDataSectionDTO(
+                        rows, trend, trend, distribution, rows, 0, 0, 0, distribution, List.of()
+                ),
+                new AdminDashboardResponseDTO.CrossEntitySectionDTO(
+                        segments, ranks, distribution, distribution, distribution, distribution,
+                        buckets, buckets, buckets, List.of(), BigDecimal.ONE
+                ),
+                null
+        );
+    }
+
+    /**
+     * 쿼리 없이 고정된 행 목록을 돌려주는 JDBC 템플릿이다.
+     * loadDistribution의 행 매핑 비용만 측정하기 위해 사용한다.
+     */
+    private static final class FixedRowsJdbcTemplate extends NamedParameterJdbcTemplate {
+        private final List<Map<String, Object>> rows;
+
+        private FixedRowsJdbcTemplate(List<Map<String, Object>> rows) {
+            super(new JdbcTemplate());
+            this.rows = rows;
+        }
+
+        @Override
+        public List<Map<String, Object>> queryForList(String sql, SqlParameterSource paramSource) {
+            return rows;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package kdt.project.fds;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class FdsStrawberrydreamsApplication {
 
     public static void main(String[] args) {
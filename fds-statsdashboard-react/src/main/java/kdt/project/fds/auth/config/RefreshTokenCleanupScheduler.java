@@ -1,38 +1,36 @@
 package kdt.project.fds.auth.config;
 
 import java.time.LocalDateTime;
-import kdt.project.fds.auth.repository.RefreshTokenRepository;
+import kdt.project.fds.auth.service.RefreshTokenPurgeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 이 파일은 리프레시 토큰 정리 스케줄러 파일이다.
- * 만료된 리프레시 토큰을 주기적으로 삭제하여 테이블 크기를 관리한다.
+ * 만료되었거나 보관 기간이 지난 폐기 리프레시 토큰을 주기적으로 삭제하여 테이블 크기를 관리한다.
  */
 @Component
 public class RefreshTokenCleanupScheduler {
     private static final Logger log = LoggerFactory.getLogger(RefreshTokenCleanupScheduler.class);
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenPurgeService refreshTokenPurgeService;
 
-    public RefreshTokenCleanupScheduler(RefreshTokenRepository refreshTokenRepository) {
-        this.refreshTokenRepository = refreshTokenRepository;
+    public RefreshTokenCleanupScheduler(RefreshTokenPurgeService refreshTokenPurgeService) {
+        this.refreshTokenPurgeService = refreshTokenPurgeService;
     }
 
     /**
-     * 매일 새벽 3시에 만료된 리프레시 토큰을 삭제한다.
-     * Asia/Seoul 시간대 기준으로 실행된다.
+     * 매일 새벽 3시에 만료/폐기 리프레시 토큰을 배치 단위로 삭제한다.
+     * Asia/Seoul 시간대 기준으로 실행되며, 배치마다 커밋하므로 별도 트랜잭션을 열지 않는다.
      */
     @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void cleanupExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        int deletedCount = refreshTokenRepository.deleteExpiredTokensBefore(now);
-        if (deletedCount > 0) {
-            log.info("Deleted {} expired refresh tokens", deletedCount);
+        RefreshTokenPurgeService.PurgeResult result = refreshTokenPurgeService.purge(LocalDateTime.now());
+        if (result.deletedRows() > 0) {
+            log.info("Deleted {} refresh tokens in {} batches ({} ms)",
+                    result.deletedRows(), result.batches(), result.elapsedMillis());
         }
     }
 }
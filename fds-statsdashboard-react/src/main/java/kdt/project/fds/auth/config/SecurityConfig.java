@@ -79,6 +79,9 @@ public class SecurityConfig {
                         .hasAnyRole("USER", "ADMIN")
                         .requestMatchers("/api/stats/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/stats/codebook/**").hasRole("ADMIN")
+                        .requestMatchers("/api/detection/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -14,6 +14,12 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class SecurityProperties {
     // JWT 관련 설정을 묶는 private 필드이다. 하위 설정을 한 곳에서 주입받기 위해 사용한다.
     private final Jwt jwt = new Jwt();
+    // 로그인 비밀번호 검증 작업 풀 설정을 묶는 private 필드이다.
+    private final Login login = new Login();
+    // 리프레시 토큰 메모리 캐시와 사용 기록 지연 저장 설정을 묶는 private 필드이다.
+    private final RefreshCache refreshCache = new RefreshCache();
+    // 만료/폐기 리프레시 토큰 정리 작업 설정을 묶는 private 필드이다.
+    private final RefreshPurge refreshPurge = new RefreshPurge();
 
     @Setter
     @Getter
@@ -23,5 +29,46 @@ public class SecurityProperties {
         private long expirationMinutes = 15;
         // 리프레시 토큰 만료 시간을 일 단위로 정의한다. 회전 정책과 쿠키 만료 계산에 사용한다.
         private long refreshExpirationDays = 14;
+        // 검증된 액세스 토큰 캐시의 최대 항목 수를 정의한다. 0이면 캐시를 사용하지 않는다.
+        private int verifiedCacheSize = 10_000;
+    }
+
+    @Setter
+    @Getter
+    public static class Login {
+        // 비밀번호 해시 검증 전용 스레드 수를 정의한다. 기본값은 CPU 코어 수이다.
+        private int passwordWorkers = Runtime.getRuntime().availableProcessors();
+        // 대기열에 쌓을 수 있는 로그인 요청 수를 정의한다. 넘치면 즉시 429로 응답한다.
+        private int passwordQueueCapacity = 64;
+        // 과부하 응답의 Retry-After 헤더 값(초)을 정의한다.
+        private long retryAfterSeconds = 1;
+    }
+
+    @Setter
+    @Getter
+    public static class RefreshCache {
+        // 메모리에 유지할 활성 리프레시 토큰 최대 수를 정의한다. 넘치면 DB 조회로 처리한다.
+        private int maxEntries = 100_000;
+        // 토큰 계열 잠금 스트라이프 수를 정의한다.
+        private int lockStripes = 64;
+        // 캐시된 사용자 정보(로그인 id, 역할)를 다시 조회하기 전까지의 시간(초)을 정의한다.
+        private long principalTtlSeconds = 300;
+        // LAST_USED_AT/USER_AGENT/IP_ADDRESS 지연 저장 주기(밀리초)를 정의한다.
+        private long writeBehindIntervalMillis = 1_000;
+        // 지연 저장 배치 한 번에 보내는 최대 행 수를 정의한다.
+        private int writeBehindBatchSize = 500;
+        // 방금 회전된 토큰을 같은 후속 토큰으로 응답하는 유예 시간(밀리초)을 정의한다. 0이면 유예하지 않는다.
+        private long rotationGraceMillis = 10_000;
+    }
+
+    @Setter
+    @Getter
+    public static class RefreshPurge {
+        // 한 번의 DELETE로 지우는 최대 행 수를 정의한다. 트랜잭션 크기와 잠금 시간을 제한한다.
+        private int batchSize = 1_000;
+        // 배치 사이 대기 시간(밀리초)을 정의한다. 갱신 트래픽에 DB 자원을 양보하기 위해 사용한다.
+        private long pauseMillis = 100;
+        // 폐기된 토큰을 만료 전이라도 보관하는 일수를 정의한다. 감사 추적 기간이 지나면 삭제한다.
+        private long revokedRetentionDays = 7;
     }
 }
@@ -3,6 +3,7 @@ package kdt.project.fds.auth.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import kdt.project.fds.auth.config.SecurityProperties;
 import kdt.project.fds.auth.dto.request.LoginRequestDTO;
 import kdt.project.fds.auth.dto.response.LoginResponseDTO;
@@ -42,25 +43,27 @@ public class AuthController {
 
     /**
      * 자격 증명을 인증하고 토큰 정보를 반환한다.
-     * 인증 서비스를 호출하고 성공 시 리프레시 쿠키를 설정한다.
+     * 비밀번호 검증이 끝날 때까지 요청 스레드를 반환하는 비동기 응답을 사용하며, 성공 시 리프레시 쿠키를 설정한다.
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDTO> login(
+    public CompletableFuture<ResponseEntity<LoginResponseDTO>> login(
             @Valid
             @RequestBody
             LoginRequestDTO request,
             HttpServletRequest httpRequest
     ) {
-        AuthService.AuthResult result = authService.login(
+        boolean secure = isSecureRequest(httpRequest);
+        return authService.login(
                 request,
                 httpRequest.getHeader("User-Agent"),
                 resolveIp(httpRequest)
-        );
-        ResponseCookie refreshCookie = buildRefreshCookie(result.refreshToken(), httpRequest);
+        ).thenApply(result -> {
+            ResponseCookie refreshCookie = buildRefreshCookie(result.refreshToken(), secure);
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.SET_COOKIE, refreshCookie.toString())
-                .body(result.response());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, refreshCookie.toString())
+                    .body(result.response());
+        });
     }
 
     /**
@@ -88,7 +91,7 @@ public class AuthController {
                 httpRequest.getHeader("User-Agent"),
                 resolveIp(httpRequest)
         );
-        ResponseCookie refreshCookie = buildRefreshCookie(result.refreshToken(), httpRequest);
+        ResponseCookie refreshCookie = buildRefreshCookie(result.refreshToken(), isSecureRequest(httpRequest));
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, refreshCookie.toString())
@@ -115,12 +118,12 @@ public class AuthController {
 
     private ResponseCookie buildRefreshCookie(
             String refreshToken,
-            HttpServletRequest request
+            boolean secure
     ) {
         long maxAgeSeconds = Duration.ofDays(securityProperties.getJwt().getRefreshExpirationDays()).getSeconds();
         return ResponseCookie.from(REFRESH_TOKEN_COOKIE, refreshToken)
                 .httpOnly(true)
-                .secure(isSecureRequest(request))
+                .secure(secure)
                 .sameSite("Strict")
                 .path("/api/auth")
                 .maxAge(maxAgeSeconds)
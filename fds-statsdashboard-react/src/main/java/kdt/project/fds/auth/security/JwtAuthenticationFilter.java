@@ -4,8 +4,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import io.jsonwebtoken.JwtException;
 import java.io.IOException;
+import java.util.Optional;
 import kdt.project.fds.users.security.UserPrincipal;
 import org.jspecify.annotations.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -39,6 +39,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * JWT 헤더로부터 인증 정보를 설정하도록 요청을 처리한다.
      * 유효한 토큰이면 보안 컨텍스트에 인증 principal을 만든다.
+     * 토큰은 요청당 한 번만 파싱하며, 이미 검증한 토큰은 캐시된 principal을 사용한다.
      */
     @Override
     protected void doFilterInternal(
@@ -51,20 +52,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader(AUTHORIZATION_HEADER);
         if (header != null && header.startsWith(BEARER_PREFIX)) {
             String token = header.substring(BEARER_PREFIX.length());
-            if (tokenProvider.validateToken(token)) {
-                try {
-                    UserPrincipal principal = tokenProvider.getPrincipal(token);
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    principal,
-                                    null,
-                                    principal.getAuthorities()
-                            );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                } catch (JwtException | IllegalArgumentException ex) {
-                    SecurityContextHolder.clearContext();
-                }
+            Optional<UserPrincipal> principal = tokenProvider.resolvePrincipal(token);
+            if (principal.isPresent()) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                principal.get(),
+                                null,
+                                principal.get().getAuthorities()
+                        );
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
         filterChain.doFilter(request, response);
@@ -1,6 +1,7 @@
 package kdt.project.fds.auth.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -9,6 +10,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import kdt.project.fds.auth.config.SecurityProperties;
 import kdt.project.fds.users.security.UserPrincipal;
 import kdt.project.fds.users.security.UserRole;
@@ -26,10 +28,17 @@ public class JwtTokenProvider {
     private static final String CLAIM_USER_ID = "uid";
     private final SecurityProperties securityProperties;
     private final Key signingKey;
+    // 서명 키가 고정이므로 파서를 한 번만 만들어 재사용한다. JwtParser는 스레드 안전하다.
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtTokenProvider(SecurityProperties securityProperties) {
         this.securityProperties = securityProperties;
         this.signingKey = buildSigningKey(securityProperties);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(securityProperties.getJwt().getVerifiedCacheSize());
     }
 
     /**
@@ -67,7 +76,42 @@ public class JwtTokenProvider {
      * subject와 role 클레임을 읽어 principal로 매핑한다.
      */
     public UserPrincipal getPrincipal(String token) {
-        Claims claims = parseClaims(token);
+        return toPrincipal(parseClaims(token));
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해 검증과 principal 추출을 함께 처리한다.
+     * 이미 검증한 토큰은 만료 전까지 캐시에서 바로 반환하고, 잘못된 토큰이면 빈 값을 반환한다.
+     */
+    public Optional<UserPrincipal> resolvePrincipal(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        String digest = VerifiedTokenCache.digest(token);
+        UserPrincipal cached = verifiedTokenCache.get(digest, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parseClaims(token);
+            UserPrincipal principal = toPrincipal(claims);
+            Date expiration = claims.getExpiration();
+            if (expiration != null) {
+                verifiedTokenCache.put(digest, principal, expiration.getTime(), now);
+            }
+            return Optional.of(principal);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 검증된 클레임을 UserPrincipal로 매핑한다.
+     * 필수 클레임이 없거나 역할 값이 잘못되면 JwtException이 발생한다.
+     */
+    private UserPrincipal toPrincipal(Claims claims) {
         Long userId = claims.get(CLAIM_USER_ID, Long.class);
         String loginId = claims.getSubject();
         String roleValue = claims.get(CLAIM_ROLE, String.class);
@@ -92,11 +136,7 @@ public class JwtTokenProvider {
      * 서명 검증 실패 시 JwtException이 발생한다.
      */
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
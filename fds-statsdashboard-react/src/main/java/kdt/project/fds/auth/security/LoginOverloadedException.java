@@ -0,0 +1,25 @@
+package kdt.project.fds.auth.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 로그인 과부하 예외 파일이다.
+ * 비밀번호 검증 대기열이 가득 찼을 때 429 응답과 Retry-After 헤더를 함께 전달한다.
+ */
+public class LoginOverloadedException extends ResponseStatusException {
+    private final long retryAfterSeconds;
+
+    public LoginOverloadedException(long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "Login is temporarily overloaded");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
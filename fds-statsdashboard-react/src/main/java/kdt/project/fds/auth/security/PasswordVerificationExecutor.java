@@ -0,0 +1,104 @@
+package kdt.project.fds.auth.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kdt.project.fds.auth.config.SecurityProperties;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 로그인 비밀번호 검증 전용 작업 풀 파일이다.
+ * BCrypt 검증을 고정 크기 스레드와 제한된 대기열에서 실행해 요청 스레드가 해시 계산에 묶이지 않도록 한다.
+ * 대기열이 가득 차면 즉시 LoginOverloadedException(429)을 발생시키고, 대기열 길이와 검증 지연 시간을 메트릭으로 노출한다.
+ */
+@Component
+public class PasswordVerificationExecutor {
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer verificationTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordVerificationExecutor(SecurityProperties securityProperties, MeterRegistry meterRegistry) {
+        SecurityProperties.Login login = securityProperties.getLogin();
+        int workers = Math.max(1, login.getPasswordWorkers());
+        this.retryAfterSeconds = Math.max(1, login.getRetryAfterSeconds());
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, login.getPasswordQueueCapacity())),
+                new WorkerThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("fds.auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Login password verifications waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("fds.auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Login password verifications currently running")
+                .register(meterRegistry);
+        this.verificationTimer = Timer.builder("fds.auth.password.verification")
+                .description("Time spent authenticating credentials on a worker, including the BCrypt hash")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("fds.auth.password.queue.wait")
+                .description("Time a login waited in the queue before a worker picked it up")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("fds.auth.password.rejected")
+                .description("Logins rejected with 429 because the verification queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인증 요청을 작업 풀에 넣고 결과를 비동기로 반환한다.
+     * 대기열이 가득 차면 호출 스레드에서 바로 LoginOverloadedException을 발생시킨다.
+     */
+    public CompletableFuture<Authentication> authenticate(
+            AuthenticationManager authenticationManager,
+            Authentication request
+    ) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return authenticationManager.authenticate(request);
+                } finally {
+                    verificationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }, executor);
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            throw new LoginOverloadedException(retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "fds-password-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
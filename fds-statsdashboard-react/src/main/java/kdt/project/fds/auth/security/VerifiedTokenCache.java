@@ -0,0 +1,72 @@
+package kdt.project.fds.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import kdt.project.fds.users.security.UserPrincipal;
+
+/**
+ * 이 파일은 검증이 끝난 액세스 토큰 캐시 파일이다.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 UserPrincipal을 보관하고, 토큰 만료 시각이 지나면 제거한다.
+ * 접근 순서 LinkedHashMap으로 크기를 제한해 용량이 차면 가장 오래 조회되지 않은 토큰을 내보낸다.
+ * 같은 토큰으로 반복 호출되는 대시보드 폴링에서 서명 검증과 클레임 파싱을 건너뛰기 위해 사용한다.
+ */
+final class VerifiedTokenCache {
+    private final Map<String, Entry> entries;
+    private final int maxSize;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 principal을 반환한다.
+     * 만료된 항목은 조회 시점에 제거하고 null을 반환한다.
+     */
+    synchronized UserPrincipal get(String digest, long nowMillis) {
+        Entry entry = entries.get(digest);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= nowMillis) {
+            entries.remove(digest);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    /**
+     * 검증된 principal을 만료 시각과 함께 저장한다.
+     * 용량이 차면 가장 오래 조회되지 않은 항목을 내보내므로 새로 검증된 토큰은 항상 캐시된다.
+     */
+    synchronized void put(String digest, UserPrincipal principal, long expiresAtMillis, long nowMillis) {
+        if (maxSize <= 0 || expiresAtMillis <= nowMillis) {
+            return;
+        }
+        entries.put(digest, new Entry(principal, expiresAtMillis));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAtMillis) { }
+}
@@ -1,77 +1,65 @@
 package kdt.project.fds.auth.service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.Base64;
-import java.util.HexFormat;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import kdt.project.fds.auth.config.SecurityProperties;
-import kdt.project.fds.auth.entity.RefreshToken;
-import kdt.project.fds.users.entity.User;
 import kdt.project.fds.auth.dto.request.LoginRequestDTO;
 import kdt.project.fds.auth.dto.response.LoginResponseDTO;
-import kdt.project.fds.auth.repository.RefreshTokenRepository;
-import kdt.project.fds.users.repository.UserRepository;
 import kdt.project.fds.auth.security.JwtTokenProvider;
+import kdt.project.fds.auth.security.PasswordVerificationExecutor;
 import kdt.project.fds.users.security.UserPrincipal;
-import kdt.project.fds.users.security.UserRole;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
  * 이 파일은 인증 서비스 파일이다.
- * 자격 증명을 검증하고 JWT를 발급하며 해시된 리프레시 토큰을 저장한다.
+ * 자격 증명을 검증하고 JWT를 발급하며 리프레시 토큰 발급/회전/폐기는 RefreshTokenStore에 위임한다.
  */
 @Service
 public class AuthService {
     // 액세스 토큰 타입 문자열 상수이다. 로그인 응답의 tokenType 값으로 사용한다.
     private static final String TOKEN_TYPE = "Bearer";
-    // 리프레시 토큰 생성에 사용할 바이트 길이이다. Base64 URL 인코딩 전에 랜덤 바이트를 만든다.
-    private static final int REFRESH_TOKEN_BYTES = 32;
-    // USER_AGENT 저장 시 최대 길이를 제한한다. 과도한 헤더 길이로 인한 저장 문제를 예방한다.
-    private static final int USER_AGENT_MAX_LENGTH = 512;
-    // IP_ADDRESS 저장 시 최대 길이를 제한한다. 예외적인 주소 길이를 안전하게 잘라낸다.
-    private static final int IP_ADDRESS_MAX_LENGTH = 64;
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final SecurityProperties securityProperties;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
-
-    // 리프레시 토큰 생성을 위한 난수 생성기이다. 매 요청마다 안전한 랜덤 값을 만들기 위해 재사용한다.
-    private final SecureRandom secureRandom = new SecureRandom();
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordVerificationExecutor passwordVerificationExecutor;
+    private final AsyncTaskExecutor tokenIssueExecutor;
 
     public AuthService(
             AuthenticationManager authenticationManager,
             JwtTokenProvider tokenProvider,
             SecurityProperties securityProperties,
-            RefreshTokenRepository refreshTokenRepository,
-            UserRepository userRepository
+            RefreshTokenStore refreshTokenStore,
+            PasswordVerificationExecutor passwordVerificationExecutor,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor tokenIssueExecutor
     ) {
         this.authenticationManager = authenticationManager;
         this.tokenProvider = tokenProvider;
         this.securityProperties = securityProperties;
-        this.refreshTokenRepository = refreshTokenRepository;
-        this.userRepository = userRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.passwordVerificationExecutor = passwordVerificationExecutor;
+        this.tokenIssueExecutor = tokenIssueExecutor;
     }
 
     /**
      * 자격 증명을 인증하고 액세스/리프레시 토큰을 발급한다.
-     * 인증 매니저와 JWT 공급자를 사용하고 리프레시 토큰 해시를 저장한다.
+     * 비밀번호 검증은 전용 작업 풀에서 실행되며, 대기열이 가득 차면 429 예외가 즉시 발생한다.
+     * 토큰 발급은 DB 쓰기가 BCrypt 스레드를 점유하지 않도록 애플리케이션 작업 실행기로 넘겨 처리하고,
+     * 리프레시 토큰 저장은 저장소 트랜잭션을 사용한다.
      */
-    @Transactional
-    public AuthResult login(
+    public CompletableFuture<AuthResult> login(
             LoginRequestDTO request,
             String userAgent,
             String ipAddress) {
@@ -80,210 +68,76 @@ public class AuthService {
         }
 
         String normalizedUserId = request.userId().trim();
-        Authentication authentication;
-        try {
-            authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(normalizedUserId, request.password())
-            );
-        } catch (AuthenticationException ex) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
-        }
+        return passwordVerificationExecutor.authenticate(
+                        authenticationManager,
+                        new UsernamePasswordAuthenticationToken(normalizedUserId, request.password())
+                )
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof AuthenticationException) {
+                        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
+                    }
+                    throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                })
+                .thenApplyAsync(authentication -> issueTokens(authentication, userAgent, ipAddress), tokenIssueExecutor);
+    }
 
+    private AuthResult issueTokens(Authentication authentication, String userAgent, String ipAddress) {
         UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
-        String token = tokenProvider.createToken(Objects.requireNonNull(principal));
-        long expiresIn = securityProperties.getJwt().getExpirationMinutes() * 60;
-        IssuedRefreshToken refreshToken = issueRefreshToken(
-                principal.getUserId(),
+        RefreshTokenStore.IssuedToken refreshToken = refreshTokenStore.issue(
+                Objects.requireNonNull(principal),
                 userAgent,
                 ipAddress,
                 LocalDateTime.now()
         );
 
-        return new AuthResult(new LoginResponseDTO(
-                token,
-                TOKEN_TYPE,
-                expiresIn,
-                principal.getUserId(),
-                principal.getUsername(),
-                principal.getRole().name()
-        ), refreshToken.rawToken());
+        return new AuthResult(buildResponse(refreshToken.principal()), refreshToken.rawToken());
     }
 
     /**
      * 리프레시 토큰을 교체하고 새 액세스 토큰을 발급한다.
-     * 현재 토큰을 검증한 뒤 폐기하고 새 토큰 해시를 저장한다.
+     * 같은 토큰 계열의 회전은 저장소의 스트라이프 잠금으로 직렬화되며, 기존 토큰 폐기와 새 토큰 저장은 동기로 반영된다.
      */
-    @Transactional
     public AuthResult refresh(
             String rawRefreshToken,
             String userAgent,
             String ipAddress) {
-        LocalDateTime now = LocalDateTime.now();
-        RefreshToken stored = getActiveRefreshToken(rawRefreshToken, now);
-        stored.markUsed(now);
-        IssuedRefreshToken rotated = issueRefreshToken(
-                stored.getUserId(),
+        RefreshTokenStore.IssuedToken rotated = refreshTokenStore.rotate(
+                rawRefreshToken,
                 userAgent,
                 ipAddress,
-                now
+                LocalDateTime.now()
         );
-        stored.revoke(now, rotated.hash());
-        refreshTokenRepository.save(stored);
 
-        UserPrincipal principal = loadPrincipal(stored.getUserId());
-        String accessToken = tokenProvider.createToken(principal);
-        long expiresIn = securityProperties.getJwt().getExpirationMinutes() * 60;
-
-        return new AuthResult(new LoginResponseDTO(
-                accessToken,
-                TOKEN_TYPE,
-                expiresIn,
-                principal.getUserId(),
-                principal.getUsername(),
-                principal.getRole().name()
-        ), rotated.rawToken());
+        return new AuthResult(buildResponse(rotated.principal()), rotated.rawToken());
     }
 
     /**
      * 리프레시 토큰이 있으면 폐기한다.
      * 저장된 토큰을 사용/폐기 상태로 표시해 재사용을 막는다.
      */
-    @Transactional
     public void logout(String rawRefreshToken) {
-        if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
-            return;
-        }
-
-        String hash = hashToken(rawRefreshToken);
-        refreshTokenRepository.findByTokenHash(hash).ifPresent(token -> {
-            if (!token.isRevoked()) {
-                LocalDateTime now = LocalDateTime.now();
-                token.markUsed(now);
-                token.revoke(now, null);
-                refreshTokenRepository.save(token);
-            }
-        });
-    }
-
-    /**
-     * 원문 리프레시 토큰을 검증하고 유효한 토큰 엔티티를 반환한다.
-     * 해시 변환 후 DB 조회, 폐기/만료 여부를 순차적으로 확인한다.
-     */
-    private RefreshToken getActiveRefreshToken(
-            String rawRefreshToken,
-            LocalDateTime now) {
-        if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is missing");
-        }
-
-        String hash = hashToken(rawRefreshToken);
-        RefreshToken token = refreshTokenRepository.findByTokenHash(hash)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is invalid"));
-
-        if (token.isRevoked()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is revoked");
-        }
-
-        if (token.isExpired(now)) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is expired");
-        }
-
-        return token;
+        refreshTokenStore.revoke(rawRefreshToken, LocalDateTime.now());
     }
 
-    /**
-     * 사용자 ID로 DB에서 사용자를 조회하고 인증 principal을 생성한다.
-     * 리프레시 토큰 갱신 시 최신 사용자 정보로 새 액세스 토큰을 발급하기 위해 사용한다.
-     */
-    private UserPrincipal loadPrincipal(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
-        UserRole role = resolveRole(user);
-
-        return new UserPrincipal(user.getId(), user.getUserId(), "", role);
-    }
-
-    /**
-     * 사용자 역할을 안전하게 추출한다.
-     * null인 경우 기본값 USER를 반환하여 NPE를 방지한다.
-     */
-    private UserRole resolveRole(User user) {
-        if (user == null || user.getRole() == null) {
-            return UserRole.USER;
-        }
-        return user.getRole();
-    }
+    private LoginResponseDTO buildResponse(UserPrincipal principal) {
+        String accessToken = tokenProvider.createToken(principal);
+        long expiresIn = securityProperties.getJwt().getExpirationMinutes() * 60;
 
-    /**
-     * 새 리프레시 토큰을 생성하고 DB에 저장한다.
-     * 토큰 원문과 해시를 함께 반환하여 클라이언트 전달 및 회전 추적에 사용한다.
-     */
-    private IssuedRefreshToken issueRefreshToken(
-            Long userId,
-            String userAgent,
-            String ipAddress,
-            LocalDateTime now
-    ) {
-        String rawToken = generateRefreshToken();
-        String hash = hashToken(rawToken);
-        LocalDateTime expiresAt = now.plusDays(securityProperties.getJwt().getRefreshExpirationDays());
-        RefreshToken token = new RefreshToken(
-                userId,
-                hash,
-                expiresAt,
-                now,
-                limit(userAgent, USER_AGENT_MAX_LENGTH),
-                limit(ipAddress, IP_ADDRESS_MAX_LENGTH)
+        return new LoginResponseDTO(
+                accessToken,
+                TOKEN_TYPE,
+                expiresIn,
+                principal.getUserId(),
+                principal.getUsername(),
+                principal.getRole().name()
         );
-        refreshTokenRepository.save(token);
-
-        return new IssuedRefreshToken(rawToken, hash);
-    }
-
-    /**
-     * 암호학적으로 안전한 랜덤 리프레시 토큰을 생성한다.
-     * 32바이트 랜덤 값을 Base64 URL 인코딩하여 클라이언트에 전달할 토큰을 만든다.
-     */
-    private String generateRefreshToken() {
-        byte[] tokenBytes = new byte[REFRESH_TOKEN_BYTES];
-        secureRandom.nextBytes(tokenBytes);
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
-    }
-
-    /**
-     * 리프레시 토큰을 SHA-256으로 해시하여 DB 저장용 값을 생성한다.
-     * 원문 토큰 대신 해시를 저장해 토큰 유출 시 피해를 최소화한다.
-     */
-    private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hashed);
-        } catch (NoSuchAlgorithmException ex) {
-            throw new IllegalStateException("SHA-256 not available", ex);
-        }
-    }
-
-    private String limit(String value, int maxLength) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        String trimmed = value.trim();
-
-        return trimmed.length() <= maxLength ? trimmed : trimmed.substring(0, maxLength);
     }
 
     private boolean isBlank(String value) {
         return value == null || value.isBlank();
     }
 
-    /**
-     * 내부 토큰 발급 결과를 담는 private 레코드이다.
-     * 원문 토큰과 해시 값을 함께 전달한다.
-     */
-    private record IssuedRefreshToken(String rawToken, String hash) {
-    }
-
     public record AuthResult(LoginResponseDTO response, String refreshToken) {
     }
 }
@@ -0,0 +1,118 @@
+package kdt.project.fds.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kdt.project.fds.auth.config.SecurityProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이 파일은 리프레시 토큰 정리 서비스 파일이다.
+ * 만료되었거나 보관 기간이 지난 폐기 토큰을 REFRESH_TOKEN_ID 키셋 순서로 작은 배치씩 삭제하고,
+ * 배치 사이에 대기하여 한 번의 대량 DELETE가 테이블 잠금과 언두를 독점하지 않도록 한다.
+ */
+@Service
+public class RefreshTokenPurgeService {
+    private static final String SELECT_BATCH_SQL = """
+            SELECT REFRESH_TOKEN_ID
+            FROM REFRESH_TOKENS
+            WHERE REFRESH_TOKEN_ID > ?
+              AND (EXPIRES_AT < ? OR REVOKED_AT < ?)
+            ORDER BY REFRESH_TOKEN_ID
+            FETCH FIRST ? ROWS ONLY
+            """;
+    // 조회와 삭제 사이에 갱신된 토큰이 지워지지 않도록 삭제 시 조건을 다시 확인한다.
+    private static final String DELETE_BATCH_SQL = """
+            DELETE FROM REFRESH_TOKENS
+            WHERE REFRESH_TOKEN_ID BETWEEN ? AND ?
+              AND (EXPIRES_AT < ? OR REVOKED_AT < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SecurityProperties securityProperties;
+    private final Timer batchTimer;
+    private final Counter deletedRows;
+    private volatile double lastRowsPerSecond;
+
+    public RefreshTokenPurgeService(
+            JdbcTemplate jdbcTemplate,
+            SecurityProperties securityProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.securityProperties = securityProperties;
+        this.batchTimer = Timer.builder("fds.auth.refresh-token.purge.batch")
+                .description("Latency of a single refresh token purge batch")
+                .register(meterRegistry);
+        this.deletedRows = Counter.builder("fds.auth.refresh-token.purge.rows")
+                .description("Refresh tokens deleted by the purge job")
+                .register(meterRegistry);
+        Gauge.builder("fds.auth.refresh-token.purge.rows-per-second", this, service -> service.lastRowsPerSecond)
+                .description("Delete throughput of the most recent purge run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기준 시각 이전에 만료된 토큰과 보관 기간이 지난 폐기 토큰을 배치 단위로 삭제한다.
+     * 각 배치는 자체 커밋되며, 대기 중 인터럽트되면 지금까지의 결과를 반환하고 중단한다.
+     */
+    public PurgeResult purge(LocalDateTime now) {
+        SecurityProperties.RefreshPurge settings = securityProperties.getRefreshPurge();
+        int batchSize = Math.max(1, settings.getBatchSize());
+        long pauseMillis = Math.max(0, settings.getPauseMillis());
+        Timestamp expiredBefore = Timestamp.valueOf(now);
+        Timestamp revokedBefore = Timestamp.valueOf(now.minusDays(Math.max(0, settings.getRevokedRetentionDays())));
+
+        long startedAt = System.nanoTime();
+        long lastId = 0;
+        long rows = 0;
+        int batches = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    SELECT_BATCH_SQL, Long.class, lastId, expiredBefore, revokedBefore, batchSize
+            );
+            if (ids.isEmpty()) {
+                break;
+            }
+            long firstId = ids.getFirst();
+            long batchLastId = ids.getLast();
+            long batchStartedAt = System.nanoTime();
+            int deleted = jdbcTemplate.update(DELETE_BATCH_SQL, firstId, batchLastId, expiredBefore, revokedBefore);
+            batchTimer.record(System.nanoTime() - batchStartedAt, TimeUnit.NANOSECONDS);
+            deletedRows.increment(deleted);
+            rows += deleted;
+            batches++;
+            lastId = batchLastId;
+
+            if (ids.size() < batchSize) {
+                break;
+            }
+            if (pauseMillis > 0 && !pause(pauseMillis)) {
+                break;
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        lastRowsPerSecond = elapsedMillis == 0 ? rows : rows * 1000.0 / elapsedMillis;
+        return new PurgeResult(rows, batches, elapsedMillis);
+    }
+
+    private boolean pause(long pauseMillis) {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public record PurgeResult(long deletedRows, int batches, long elapsedMillis) {
+    }
+}
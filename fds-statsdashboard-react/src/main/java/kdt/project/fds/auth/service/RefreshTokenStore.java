@@ -0,0 +1,436 @@
+package kdt.project.fds.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import kdt.project.fds.auth.config.SecurityProperties;
+import kdt.project.fds.auth.entity.RefreshToken;
+import kdt.project.fds.auth.repository.RefreshTokenRepository;
+import kdt.project.fds.users.entity.User;
+import kdt.project.fds.users.repository.UserRepository;
+import kdt.project.fds.users.security.UserPrincipal;
+import kdt.project.fds.users.security.UserRole;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 리프레시 토큰 저장소 계층 파일이다.
+ * 활성 토큰을 토큰 해시 기준으로 메모리에 보관하고, 같은 토큰 계열(로그인 한 번에서 이어지는 회전 체인)은
+ * 스트라이프 잠금으로 직렬화해 DB 행 잠금 없이 회전한다.
+ * 토큰 원문은 "계열 id.랜덤 값" 형식이라 캐시 상태와 무관하게 원문만으로 같은 계열 잠금을 잡는다.
+ * 회전(신규 토큰 INSERT + 기존 토큰 조건부 폐기)은 동기로 저장하고, 사용 기록 컬럼은 RefreshTokenUsageWriter로 지연 저장한다.
+ * 조건부 폐기(REVOKED_AT IS NULL)로 여러 인스턴스가 같은 토큰을 동시에 회전해도 한 요청만 성공한다.
+ * 여러 탭이 같은 쿠키로 거의 동시에 갱신하는 경우를 위해, 방금 회전된 토큰은 유예 시간 동안 같은 후속 토큰으로 응답한다.
+ * 로그아웃하면 그 계열의 유예 기록을 모두 지워 이전 토큰으로 후속 토큰을 다시 받을 수 없게 한다.
+ */
+@Component
+public class RefreshTokenStore {
+    // 리프레시 토큰 생성에 사용할 바이트 길이이다. Base64 URL 인코딩 전에 랜덤 바이트를 만든다.
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    // 토큰 계열 id 생성에 사용할 바이트 길이이다. 계열 id는 토큰 원문 앞부분에 붙는다.
+    private static final int FAMILY_ID_BYTES = 12;
+    // 토큰 원문에서 계열 id와 랜덤 값을 나누는 구분자이다. Base64 URL 문자에 포함되지 않는다.
+    private static final char FAMILY_SEPARATOR = '.';
+    // USER_AGENT 저장 시 최대 길이를 제한한다. 과도한 헤더 길이로 인한 저장 문제를 예방한다.
+    private static final int USER_AGENT_MAX_LENGTH = 512;
+    // IP_ADDRESS 저장 시 최대 길이를 제한한다. 예외적인 주소 길이를 안전하게 잘라낸다.
+    private static final int IP_ADDRESS_MAX_LENGTH = 64;
+    // 최근 회전 계열 수가 이 값을 넘으면 유예 시간이 지난 항목을 정리한다.
+    private static final int RECENT_ROTATION_SWEEP_THRESHOLD = 1_024;
+    // 후속 토큰이 다시 회전된 경우 따라갈 최대 단계 수이다.
+    private static final int MAX_SUCCESSOR_HOPS = 4;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final RefreshTokenUsageWriter usageWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final SecurityProperties securityProperties;
+    private final Map<String, CachedToken> activeTokens = new ConcurrentHashMap<>();
+    // 계열 id → (기존 토큰 해시 → 후속 토큰)이다. REPLACED_BY 컬럼과 같은 관계를 원문 토큰과 함께 유예 시간 동안만 보관한다.
+    private final Map<String, Map<String, RecentRotation>> recentRotations = new ConcurrentHashMap<>();
+    private final ReentrantLock[] familyLocks;
+    private final int maxEntries;
+    private final long principalTtlMillis;
+    private final long rotationGraceMillis;
+
+    // 리프레시 토큰 생성을 위한 난수 생성기이다. 매 요청마다 안전한 랜덤 값을 만들기 위해 재사용한다.
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenStore(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            RefreshTokenUsageWriter usageWriter,
+            PlatformTransactionManager transactionManager,
+            SecurityProperties securityProperties
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.usageWriter = usageWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.securityProperties = securityProperties;
+        SecurityProperties.RefreshCache settings = securityProperties.getRefreshCache();
+        this.familyLocks = new ReentrantLock[Math.max(1, settings.getLockStripes())];
+        for (int i = 0; i < familyLocks.length; i++) {
+            familyLocks[i] = new ReentrantLock();
+        }
+        this.maxEntries = settings.getMaxEntries();
+        this.principalTtlMillis = settings.getPrincipalTtlSeconds() * 1000;
+        this.rotationGraceMillis = Math.max(0, settings.getRotationGraceMillis());
+    }
+
+    /**
+     * 로그인 시 새 토큰 계열의 첫 토큰을 발급하고 저장한다.
+     * 사용자 정보는 비밀번호를 제외한 principal로 캐시해 이후 회전에서 사용자 조회를 생략한다.
+     */
+    public IssuedToken issue(UserPrincipal principal, String userAgent, String ipAddress, LocalDateTime now) {
+        String familyId = generateFamilyId();
+        String rawToken = generateRefreshToken(familyId);
+        String hash = hashToken(rawToken);
+        LocalDateTime expiresAt = expiresAt(now);
+        RefreshToken saved = refreshTokenRepository.save(new RefreshToken(
+                principal.getUserId(),
+                hash,
+                expiresAt,
+                now,
+                limit(userAgent, USER_AGENT_MAX_LENGTH),
+                limit(ipAddress, IP_ADDRESS_MAX_LENGTH)
+        ));
+        UserPrincipal cachedPrincipal = sanitize(principal);
+        cache(hash, new CachedToken(saved.getId(), familyId, saved.getUserId(), expiresAt, cachedPrincipal, System.currentTimeMillis()));
+        return new IssuedToken(rawToken, hash, cachedPrincipal);
+    }
+
+    /**
+     * 원문 리프레시 토큰을 검증하고 후속 토큰으로 회전한다.
+     * 캐시에 있으면 DB 조회 없이 진행하며, 회전 결과는 한 트랜잭션(INSERT + 조건부 UPDATE)으로 저장한다.
+     * 유예 시간 안에 다시 들어온 기존 토큰은 새로 회전하지 않고 같은 후속 토큰을 반환한다.
+     * 유예 기록은 기존 토큰을 캐시에서 빼기 전에 남겨, 어느 시점에 들어온 재요청도 둘 중 하나를 보게 한다.
+     */
+    public IssuedToken rotate(String rawRefreshToken, String userAgent, String ipAddress, LocalDateTime now) {
+        if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is missing");
+        }
+
+        String hash = hashToken(rawRefreshToken);
+        String familyId = familyOf(rawRefreshToken);
+        ReentrantLock lock = familyLock(familyId);
+        lock.lock();
+        try {
+            IssuedToken recent = resolveRecentRotation(familyId, hash, now);
+            if (recent != null) {
+                return recent;
+            }
+
+            CachedToken current = activeTokens.get(hash);
+            if (current == null) {
+                current = load(hash, familyId, now);
+            }
+            if (current.isExpired(now)) {
+                activeTokens.remove(hash);
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is expired");
+            }
+
+            CachedToken owner = current;
+            UserPrincipal principal = freshPrincipal(owner);
+            String rawSuccessor = generateRefreshToken(owner.familyId());
+            String successorHash = hashToken(rawSuccessor);
+            LocalDateTime successorExpiresAt = expiresAt(now);
+            Long successorId = transactionTemplate.execute(status -> {
+                if (refreshTokenRepository.revokeIfActive(owner.id(), now, successorHash) == 0) {
+                    throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is revoked");
+                }
+                return refreshTokenRepository.save(new RefreshToken(
+                        owner.userId(),
+                        successorHash,
+                        successorExpiresAt,
+                        now,
+                        null,
+                        null
+                )).getId();
+            });
+
+            rememberRotation(owner.familyId(), hash, new RecentRotation(
+                    rawSuccessor,
+                    successorHash,
+                    principal,
+                    now.plusNanos(rotationGraceMillis * 1_000_000)
+            ));
+            cache(successorHash, new CachedToken(
+                    successorId,
+                    owner.familyId(),
+                    owner.userId(),
+                    successorExpiresAt,
+                    principal,
+                    owner.principal() == principal ? owner.principalLoadedAtMillis() : System.currentTimeMillis()
+            ));
+            activeTokens.remove(hash);
+            usageWriter.record(owner.id(), now, null, null);
+            usageWriter.record(
+                    successorId,
+                    null,
+                    limit(userAgent, USER_AGENT_MAX_LENGTH),
+                    limit(ipAddress, IP_ADDRESS_MAX_LENGTH)
+            );
+            return new IssuedToken(rawSuccessor, successorHash, principal);
+        } catch (ResponseStatusException ex) {
+            activeTokens.remove(hash);
+            throw ex;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 토큰을 폐기하고 캐시에서 제거한다. 이미 폐기된 토큰이면 아무 것도 하지 않는다.
+     * 같은 계열의 유예 기록도 모두 지워 이전 토큰이 폐기된 후속 토큰으로 이어지지 않게 한다.
+     */
+    public void revoke(String rawRefreshToken, LocalDateTime now) {
+        if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
+            return;
+        }
+
+        String hash = hashToken(rawRefreshToken);
+        String familyId = familyOf(rawRefreshToken);
+        ReentrantLock lock = familyLock(familyId);
+        lock.lock();
+        try {
+            recentRotations.remove(familyId);
+            CachedToken hint = activeTokens.remove(hash);
+            Long tokenId = hint != null
+                    ? hint.id()
+                    : refreshTokenRepository.readByTokenHash(hash).map(RefreshToken::getId).orElse(null);
+            if (tokenId == null) {
+                return;
+            }
+            Integer revoked = transactionTemplate.execute(
+                    status -> refreshTokenRepository.revokeIfActive(tokenId, now, null)
+            );
+            if (revoked != null && revoked > 0) {
+                usageWriter.record(tokenId, now, null, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int cachedCount() {
+        return activeTokens.size();
+    }
+
+    /**
+     * 유예 시간 안에 회전된 토큰이면 후속 토큰을 반환한다.
+     * 후속 토큰도 이미 회전되었으면 최대 MAX_SUCCESSOR_HOPS 단계까지 따라가 마지막 후속 토큰을 반환한다.
+     * 마지막 후속 토큰이 더는 활성 상태가 아니면(다른 경로로 폐기되었거나 만료되었으면) 반환하지 않는다.
+     */
+    private IssuedToken resolveRecentRotation(String familyId, String hash, LocalDateTime now) {
+        Map<String, RecentRotation> family = recentRotations.get(familyId);
+        RecentRotation rotation = family == null ? null : family.get(hash);
+        if (rotation == null || rotation.graceUntil().isBefore(now)) {
+            return null;
+        }
+        for (int hop = 1; hop < MAX_SUCCESSOR_HOPS; hop++) {
+            RecentRotation next = family.get(rotation.successorHash());
+            if (next == null) {
+                break;
+            }
+            rotation = next;
+        }
+        if (!isActive(rotation.successorHash(), now)) {
+            return null;
+        }
+        return new IssuedToken(rotation.rawSuccessor(), rotation.successorHash(), rotation.principal());
+    }
+
+    /**
+     * 캐시에 있으면 만료 여부만 보고, 캐시되지 않은 토큰이면 DB에서 폐기/만료 여부를 확인한다.
+     */
+    private boolean isActive(String hash, LocalDateTime now) {
+        CachedToken cached = activeTokens.get(hash);
+        if (cached != null) {
+            return !cached.isExpired(now);
+        }
+        return refreshTokenRepository.readByTokenHash(hash)
+                .filter(token -> !token.isRevoked() && !token.isExpired(now))
+                .isPresent();
+    }
+
+    private void rememberRotation(String familyId, String hash, RecentRotation rotation) {
+        if (rotationGraceMillis <= 0) {
+            return;
+        }
+        if (recentRotations.size() >= RECENT_ROTATION_SWEEP_THRESHOLD) {
+            LocalDateTime now = LocalDateTime.now();
+            for (String key : recentRotations.keySet()) {
+                recentRotations.computeIfPresent(key, (ignored, family) -> {
+                    family.values().removeIf(entry -> entry.graceUntil().isBefore(now));
+                    return family.isEmpty() ? null : family;
+                });
+            }
+        }
+        recentRotations.compute(familyId, (ignored, family) -> {
+            Map<String, RecentRotation> target = family == null ? new ConcurrentHashMap<>() : family;
+            target.put(hash, rotation);
+            return target;
+        });
+    }
+
+    /**
+     * 캐시 미스 시 DB에서 토큰을 잠금 없이 읽어 검증한다.
+     * 계열 id는 토큰 원문에서 얻은 값을 그대로 사용한다.
+     */
+    private CachedToken load(String hash, String familyId, LocalDateTime now) {
+        RefreshToken token = refreshTokenRepository.readByTokenHash(hash)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is invalid"));
+
+        if (token.isRevoked()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is revoked");
+        }
+
+        if (token.isExpired(now)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is expired");
+        }
+
+        return new CachedToken(token.getId(), familyId, token.getUserId(), token.getExpiresAt(), null, 0L);
+    }
+
+    /**
+     * 캐시된 principal이 없거나 TTL이 지났으면 DB에서 사용자를 다시 조회한다.
+     * 역할 변경이 최대 TTL 안에 새 액세스 토큰에 반영되도록 하기 위함이다.
+     */
+    private UserPrincipal freshPrincipal(CachedToken token) {
+        if (token.principal() != null
+                && System.currentTimeMillis() - token.principalLoadedAtMillis() < principalTtlMillis) {
+            return token.principal();
+        }
+        User user = userRepository.findById(token.userId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+        UserRole role = user.getRole() == null ? UserRole.USER : user.getRole();
+        return new UserPrincipal(user.getId(), user.getUserId(), "", role);
+    }
+
+    /**
+     * 용량이 차면 만료 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않는다.
+     * 캐시되지 않은 토큰은 다음 회전 때 DB에서 다시 적재된다.
+     */
+    private void cache(String hash, CachedToken token) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (activeTokens.size() >= maxEntries) {
+            LocalDateTime now = LocalDateTime.now();
+            activeTokens.values().removeIf(entry -> entry.isExpired(now));
+            if (activeTokens.size() >= maxEntries) {
+                return;
+            }
+        }
+        activeTokens.put(hash, token);
+    }
+
+    private ReentrantLock familyLock(String familyId) {
+        return familyLocks[Math.floorMod(familyId.hashCode(), familyLocks.length)];
+    }
+
+    private LocalDateTime expiresAt(LocalDateTime now) {
+        return now.plusDays(securityProperties.getJwt().getRefreshExpirationDays());
+    }
+
+    private static UserPrincipal sanitize(UserPrincipal principal) {
+        UserRole role = principal.getRole() == null ? UserRole.USER : principal.getRole();
+        return new UserPrincipal(principal.getUserId(), principal.getUsername(), "", role);
+    }
+
+    private String generateFamilyId() {
+        return randomUrlSafe(FAMILY_ID_BYTES);
+    }
+
+    /**
+     * 암호학적으로 안전한 랜덤 리프레시 토큰을 생성한다.
+     * 계열 id 뒤에 32바이트 랜덤 값을 Base64 URL 인코딩해 붙여 클라이언트에 전달할 토큰을 만든다.
+     */
+    private String generateRefreshToken(String familyId) {
+        return familyId + FAMILY_SEPARATOR + randomUrlSafe(REFRESH_TOKEN_BYTES);
+    }
+
+    private String randomUrlSafe(int length) {
+        byte[] bytes = new byte[length];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 토큰 원문에서 계열 id를 꺼낸다.
+     * 구분자가 없는 이전 형식 토큰은 토큰 해시를 계열 id로 쓰며, 그 후속 토큰도 같은 계열 id를 이어받는다.
+     */
+    static String familyOf(String rawToken) {
+        int separator = rawToken.indexOf(FAMILY_SEPARATOR);
+        return separator > 0 ? rawToken.substring(0, separator) : hashToken(rawToken);
+    }
+
+    /**
+     * 리프레시 토큰을 SHA-256으로 해시하여 DB 저장용 값을 생성한다.
+     * 원문 토큰 대신 해시를 저장해 토큰 유출 시 피해를 최소화한다.
+     */
+    static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hashed);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static String limit(String value, int maxLength) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+
+        return trimmed.length() <= maxLength ? trimmed : trimmed.substring(0, maxLength);
+    }
+
+    /**
+     * 캐시에 보관하는 활성 토큰 정보이다.
+     * familyId는 회전 체인이 공유하는 잠금 키(토큰 원문의 계열 id)이며, principal은 회전 시 사용자 조회를 생략하기 위해 보관한다.
+     */
+    private record CachedToken(
+            Long id,
+            String familyId,
+            Long userId,
+            LocalDateTime expiresAt,
+            UserPrincipal principal,
+            long principalLoadedAtMillis
+    ) {
+        private boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+
+    /**
+     * 유예 시간 동안 보관하는 회전 결과이다.
+     * 다른 탭에 같은 쿠키 값을 돌려주기 위해 후속 토큰 원문을 함께 보관한다.
+     */
+    private record RecentRotation(
+            String rawSuccessor,
+            String successorHash,
+            UserPrincipal principal,
+            LocalDateTime graceUntil
+    ) {
+    }
+
+    /**
+     * 발급된 토큰의 원문, 해시, 액세스 토큰 발급에 사용할 principal을 담는다.
+     */
+    public record IssuedToken(String rawToken, String hash, UserPrincipal principal) {
+    }
+}
@@ -0,0 +1,132 @@
+package kdt.project.fds.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import kdt.project.fds.auth.config.SecurityProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 리프레시 토큰 사용 기록 지연 저장 파일이다.
+ * LAST_USED_AT, USER_AGENT, IP_ADDRESS처럼 회전 정합성과 무관한 컬럼을 토큰 id별로 병합해 두었다가
+ * 주기적으로 JDBC 배치 UPDATE로 반영한다.
+ */
+@Component
+public class RefreshTokenUsageWriter {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenUsageWriter.class);
+    private static final String UPDATE_SQL = """
+            UPDATE REFRESH_TOKENS
+            SET LAST_USED_AT = COALESCE(?, LAST_USED_AT),
+                USER_AGENT = COALESCE(?, USER_AGENT),
+                IP_ADDRESS = COALESCE(?, IP_ADDRESS)
+            WHERE REFRESH_TOKEN_ID = ?
+            """;
+    private static final int[] UPDATE_TYPES = {Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.BIGINT};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<Long, Usage> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public RefreshTokenUsageWriter(JdbcTemplate jdbcTemplate, SecurityProperties securityProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        SecurityProperties.RefreshCache settings = securityProperties.getRefreshCache();
+        this.batchSize = Math.max(1, settings.getWriteBehindBatchSize());
+        long interval = Math.max(10, settings.getWriteBehindIntervalMillis());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fds-refresh-usage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 토큰 사용 기록을 대기열에 병합한다.
+     * 같은 토큰에 대한 기록은 null이 아닌 최신 값으로 합쳐 한 번의 UPDATE로 보낸다.
+     */
+    public void record(Long tokenId, LocalDateTime lastUsedAt, String userAgent, String ipAddress) {
+        if (tokenId == null || (lastUsedAt == null && userAgent == null && ipAddress == null)) {
+            return;
+        }
+        pending.merge(tokenId, new Usage(lastUsedAt, userAgent, ipAddress), Usage::mergeWith);
+    }
+
+    /**
+     * 대기 중인 기록을 모두 배치 UPDATE로 반영하고 반영한 행 수를 반환한다.
+     */
+    public int flush() {
+        int written = 0;
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        Iterator<Map.Entry<Long, Usage>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Usage> entry = iterator.next();
+            Long tokenId = entry.getKey();
+            Usage usage = pending.remove(tokenId);
+            if (usage == null) {
+                continue;
+            }
+            batch.add(new Object[]{
+                    usage.lastUsedAt() == null ? null : Timestamp.valueOf(usage.lastUsedAt()),
+                    usage.userAgent(),
+                    usage.ipAddress(),
+                    tokenId
+            });
+            if (batch.size() >= batchSize) {
+                written += write(batch);
+            }
+        }
+        written += write(batch);
+        return written;
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flushQuietly();
+    }
+
+    private int write(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, batch, UPDATE_TYPES);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception ex) {
+            log.warn("Refresh token usage flush failed: {}", ex.getMessage());
+        }
+    }
+
+    private record Usage(LocalDateTime lastUsedAt, String userAgent, String ipAddress) {
+        private Usage mergeWith(Usage newer) {
+            return new Usage(
+                    newer.lastUsedAt() != null ? newer.lastUsedAt() : lastUsedAt,
+                    newer.userAgent() != null ? newer.userAgent() : userAgent,
+                    newer.ipAddress() != null ? newer.ipAddress() : ipAddress
+            );
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package kdt.project.fds.detection.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 실시간 사기 점수 엔진 설정 파일이다.
+ * 엔진명, 규칙 재적재 주기, 탐지 결과 일괄 저장 크기를 fds.detection 아래에서 지정한다.
+ * 점수 규칙 자체(임계값, 가중치)는 운영 중 바꿀 수 있도록 FDS_CONFIG 테이블에서 읽는다.
+ * 계좌별 스트리밍 특징값 저장소, 백테스트, 임계값 곡선, 블랙리스트 인덱스, 이체 그래프, 특징 벡터 유사도 검색 설정은 각각
+ * fds.detection.features, backtest, threshold-curve, blacklist, transfer-graph, similarity 아래에 둔다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.detection")
+public class FraudDetectionProperties {
+    /**
+     * FRAUD_DETECTION_RESULTS.DETECTED_ENGINE에 기록할 엔진명이다.
+     */
+    private String engineName = "RULE";
+    /**
+     * FDS_CONFIG와 블랙리스트를 다시 읽는 주기(밀리초)이다.
+     */
+    private long rulesRefreshMillis = 30_000;
+    /**
+     * 탐지 결과 INSERT 배치 한 번에 보내는 최대 행 수이다.
+     */
+    private int writeBatchSize = 500;
+    /**
+     * 대기 중인 탐지 결과를 저장하는 주기(밀리초)이다.
+     */
+    private long writeIntervalMillis = 200;
+    /**
+     * 저장 대기열에 쌓을 수 있는 최대 결과 수이다.
+     * 가득 차면 호출 스레드가 직접 배치를 저장해 생산 속도를 늦춘다.
+     */
+    private int writeQueueCapacity = 50_000;
+    /**
+     * 계좌별 스트리밍 특징값 저장소 설정이다.
+     */
+    private final Features features = new Features();
+    /**
+     * 임계값 백테스트 설정이다.
+     */
+    private final Backtest backtest = new Backtest();
+    /**
+     * 임계값 what-if 곡선 설정이다.
+     */
+    private final ThresholdCurve thresholdCurve = new ThresholdCurve();
+    /**
+     * 블랙리스트 멤버십 인덱스 설정이다.
+     */
+    private final Blacklist blacklist = new Blacklist();
+    /**
+     * 이체 그래프 분석 설정이다.
+     */
+    private final TransferGraph transferGraph = new TransferGraph();
+    /**
+     * 거래 특징 벡터 유사도 검색 설정이다.
+     */
+    private final Similarity similarity = new Similarity();
+
+    @Getter
+    @Setter
+    public static class Features {
+        /**
+         * 특징값 저장소 사용 여부이다. false이면 거래를 읽지 않고 체크포인트도 쓰지 않는다.
+         */
+        private boolean enabled = true;
+        /**
+         * TRANSACTIONS에서 새 거래를 읽는 주기(밀리초)이다.
+         */
+        private long pollMillis = 5_000;
+        /**
+         * 한 번의 조회로 읽는 최대 거래 수이다.
+         */
+        private int pollBatchSize = 5_000;
+        /**
+         * 한 번의 읽기 주기에서 이어 읽는 최대 배치 수이다. 밀린 거래가 더 있으면 체크포인트 작업에 차례를 넘긴 뒤 바로 이어 읽는다.
+         */
+        private int maxBatchesPerPoll = 20;
+        /**
+         * 늦게 커밋된 거래를 찾기 위해 마지막 TX_ID에서 거슬러 다시 읽는 TX_ID 범위이다.
+         * 시퀀스 캐시와 트랜잭션 지연으로 번호가 뒤바뀔 수 있는 폭보다 크게 둔다.
+         */
+        private long lateCommitOverlapIds = 1_000;
+        /**
+         * 체크포인트 파일 경로이다. 상대 경로일 경우 실행 디렉터리를 기준으로 한다.
+         */
+        private String checkpointPath = "feature-store/account-features.bin";
+        /**
+         * 체크포인트를 쓰는 주기(밀리초)이다.
+         */
+        private long checkpointMillis = 300_000;
+        /**
+         * 금액 EWMA의 새 거래 가중치(0~1)이다.
+         */
+        private double ewmaAlpha = 0.1;
+        /**
+         * 처음 확보할 계좌 슬롯 수이다. 넘치면 두 배씩 늘린다.
+         */
+        private int initialCapacity = 65_536;
+    }
+
+    @Getter
+    @Setter
+    public static class Backtest {
+        /**
+         * 동시에 조회하는 기간 파티션(일) 수이다. 분석용 커넥션 풀 크기를 넘지 않게 둔다.
+         */
+        private int parallelism = 4;
+        /**
+         * 과거 거래 조회의 JDBC fetch size이다.
+         */
+        private int fetchSize = 5_000;
+        /**
+         * 한 번에 비교할 수 있는 최대 후보 설정 수이다.
+         */
+        private int maxCandidates = 50;
+        /**
+         * 한 번에 재평가할 수 있는 최대 기간(일)이다.
+         */
+        private int maxRangeDays = 92;
+    }
+
+    @Getter
+    @Setter
+    public static class ThresholdCurve {
+        /**
+         * 한 번에 조회할 수 있는 최대 기간(일)이다.
+         */
+        private int maxRangeDays = 366;
+        /**
+         * 메모리에 둘 지난 날짜 히스토그램의 최대 일수이다.
+         */
+        private int cacheDays = 400;
+        /**
+         * 지난 날짜 히스토그램을 다시 집계하기 전까지 재사용하는 시간(밀리초)이다.
+         * 과거 탐지 결과를 뒤늦게 보정하거나 사기 신고가 나중에 확정되어도 이 시간이 지나면 곡선에 반영된다.
+         */
+        private long closedDayTtlMillis = 3_600_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Blacklist {
+        /**
+         * 새 블랙리스트 행을 반영하는 주기(밀리초)이다.
+         */
+        private long refreshMillis = 30_000;
+        /**
+         * 증분 반영과 별개로 인덱스를 처음부터 다시 만드는 주기(밀리초)이다.
+         */
+        private long fullRebuildMillis = 3_600_000;
+        /**
+         * 계좌 번호 블룸 필터의 목표 오탐률이다.
+         */
+        private double bloomFalsePositiveRate = 0.01;
+        /**
+         * 통계 쿼리에 IN 목록으로 바인딩할 최대 ACCOUNT_ID 수이다.
+         * 넘으면 BLACKLIST_ACCOUNTS 서브쿼리로 거른다.
+         */
+        private int maxBoundAccountIds = 5_000;
+    }
+
+    @Getter
+    @Setter
+    public static class TransferGraph {
+        /**
+         * 한 번에 분석할 수 있는 최대 기간(일)이다.
+         */
+        private int maxRangeDays = 92;
+        /**
+         * 간선 조회의 JDBC fetch size이다.
+         */
+        private int fetchSize = 10_000;
+        /**
+         * 팬인/팬아웃 상위 계좌, 노출 계좌, 의심 그룹 목록의 최대 길이이다.
+         */
+        private int topLimit = 20;
+        /**
+         * 의심 그룹으로 볼 연결 요소의 최소 계좌 수이다.
+         */
+        private int minRingSize = 3;
+        /**
+         * 의심 그룹으로 볼 연결 요소의 최대 계좌 수이다. 이보다 크면 일반 거래망으로 본다.
+         */
+        private int maxRingSize = 200;
+        /**
+         * 의심 그룹마다 보여 줄 예시 계좌 수이다.
+         */
+        private int ringSampleSize = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Similarity {
+        /**
+         * 색인에 올릴 최대 거래 수이다. 넘으면 TX_ID가 큰(최근) 거래부터 채운다.
+         */
+        private int maxRows = 2_000_000;
+        /**
+         * V_FEATURES 조회의 JDBC fetch size이다.
+         */
+        private int fetchSize = 10_000;
+        /**
+         * 색인을 다시 적재하는 주기(밀리초)이다. 한 번이라도 조회된 뒤에만 갱신한다.
+         */
+        private long refreshMillis = 3_600_000;
+        /**
+         * 개수를 지정하지 않았을 때 반환할 유사 거래 수이다.
+         */
+        private int defaultK = 10;
+        /**
+         * 한 번에 요청할 수 있는 최대 유사 거래 수이다.
+         */
+        private int maxK = 100;
+        /**
+         * HNSW 그래프 구성 여부이다. false이면 항상 전수 비교한다.
+         */
+        private boolean hnswEnabled = true;
+        /**
+         * HNSW 그래프를 만들 최소 색인 거래 수이다. 이보다 적으면 전수 비교가 충분히 빠르다.
+         */
+        private int hnswMinRows = 50_000;
+        /**
+         * HNSW 층별 최대 이웃 수(M)이다. 0층은 두 배를 둔다.
+         */
+        private int hnswMaxConnections = 16;
+        /**
+         * HNSW 구성 시 유지하는 후보 수(efConstruction)이다.
+         */
+        private int hnswEfConstruction = 100;
+        /**
+         * HNSW 조회 시 유지하는 후보 수(efSearch)이다. 클수록 재현율이 높고 느리다.
+         */
+        private int hnswEfSearch = 64;
+    }
+}
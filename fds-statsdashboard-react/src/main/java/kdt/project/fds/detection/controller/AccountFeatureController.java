@@ -0,0 +1,33 @@
+package kdt.project.fds.detection.controller;
+
+import kdt.project.fds.detection.dto.response.AccountFeaturesResponseDTO;
+import kdt.project.fds.detection.service.AccountFeatureService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이 파일은 계좌 특징값 컨트롤러 파일이다.
+ * 계좌별 스트리밍 특징값 조회를 특징값 서비스에 위임한다.
+ */
+@RestController
+@RequestMapping("/api/detection/features")
+public class AccountFeatureController {
+    private final AccountFeatureService accountFeatureService;
+
+    public AccountFeatureController(AccountFeatureService accountFeatureService) {
+        this.accountFeatureService = accountFeatureService;
+    }
+
+    /**
+     * 계좌의 현재 속도 특징값을 조회한다.
+     */
+    @GetMapping("/accounts/{accountId}")
+    public AccountFeaturesResponseDTO getAccountFeatures(
+            @PathVariable
+            long accountId
+    ) {
+        return accountFeatureService.getFeatures(accountId);
+    }
+}
@@ -0,0 +1,41 @@
+package kdt.project.fds.detection.controller;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import kdt.project.fds.detection.dto.response.BlacklistMembershipResponseDTO;
+import kdt.project.fds.detection.service.BlacklistIndexService;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이 파일은 블랙리스트 멤버십 컨트롤러 파일이다.
+ * 계좌 번호나 ACCOUNT_ID 목록의 블랙리스트 포함 여부를 DB 조회 없이 메모리 인덱스로 판정한다.
+ */
+@RestController
+@RequestMapping("/api/detection/blacklist")
+@Validated
+public class BlacklistIndexController {
+    private final BlacklistIndexService blacklistIndexService;
+
+    public BlacklistIndexController(BlacklistIndexService blacklistIndexService) {
+        this.blacklistIndexService = blacklistIndexService;
+    }
+
+    /**
+     * 요청한 계좌 번호와 ACCOUNT_ID 각각의 블랙리스트 포함 여부를 반환한다.
+     */
+    @GetMapping("/membership")
+    public BlacklistMembershipResponseDTO checkMembership(
+            @RequestParam(required = false)
+            @Size(max = 1000)
+            List<String> accountNumbers,
+            @RequestParam(required = false)
+            @Size(max = 1000)
+            List<Long> accountIds
+    ) {
+        return blacklistIndexService.checkMembership(accountNumbers, accountIds);
+    }
+}
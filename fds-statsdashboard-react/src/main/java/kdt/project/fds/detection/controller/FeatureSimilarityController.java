@@ -0,0 +1,35 @@
+package kdt.project.fds.detection.controller;
+
+import kdt.project.fds.detection.dto.response.SimilarTransactionsResponseDTO;
+import kdt.project.fds.detection.service.FeatureSimilarityService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이 파일은 유사 거래 검색 컨트롤러 파일이다.
+ * 기준 거래와 특징 벡터가 비슷한 거래 조회 요청을 유사도 검색 서비스에 위임한다.
+ */
+@RestController
+@RequestMapping("/api/detection/similar-transactions")
+public class FeatureSimilarityController {
+    private final FeatureSimilarityService featureSimilarityService;
+
+    public FeatureSimilarityController(FeatureSimilarityService featureSimilarityService) {
+        this.featureSimilarityService = featureSimilarityService;
+    }
+
+    /**
+     * 기준 거래와 V_FEATURES 코사인 유사도가 높은 거래를 반환한다.
+     * mode는 AUTO, EXACT, HNSW 중 하나이며 기본값은 AUTO이다.
+     */
+    @GetMapping
+    public SimilarTransactionsResponseDTO findSimilar(
+            @RequestParam long txId,
+            @RequestParam(required = false) Integer k,
+            @RequestParam(required = false) String mode
+    ) {
+        return featureSimilarityService.findSimilar(txId, k, mode);
+    }
+}
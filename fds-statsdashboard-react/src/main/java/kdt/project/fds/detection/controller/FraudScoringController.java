@@ -0,0 +1,114 @@
+package kdt.project.fds.detection.controller;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+import kdt.project.fds.detection.dto.request.FraudBacktestRequestDTO;
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.dto.response.FraudBacktestResponseDTO;
+import kdt.project.fds.detection.dto.response.FraudScoreResponseDTO;
+import kdt.project.fds.detection.dto.response.FraudScoringRulesResponseDTO;
+import kdt.project.fds.detection.dto.response.FraudThresholdCurveResponseDTO;
+import kdt.project.fds.detection.service.BlacklistIndexService;
+import kdt.project.fds.detection.service.FraudBacktestService;
+import kdt.project.fds.detection.service.FraudScoringRulesProvider;
+import kdt.project.fds.detection.service.FraudScoringService;
+import kdt.project.fds.detection.service.FraudThresholdCurveService;
+import kdt.project.fds.stats.config.StatsBulkhead;
+import kdt.project.fds.stats.vo.StatsTrafficClass;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이 파일은 실시간 사기 점수 컨트롤러 파일이다.
+ * 거래 점수, 규칙 재적재, 임계값 백테스트와 what-if 곡선 요청을 탐지 서비스에 위임한다.
+ */
+@RestController
+@RequestMapping("/api/detection")
+@Validated
+public class FraudScoringController {
+    private final FraudScoringService fraudScoringService;
+    private final FraudScoringRulesProvider rulesProvider;
+    private final FraudBacktestService fraudBacktestService;
+    private final FraudThresholdCurveService thresholdCurveService;
+    private final BlacklistIndexService blacklistIndexService;
+
+    public FraudScoringController(
+            FraudScoringService fraudScoringService,
+            FraudScoringRulesProvider rulesProvider,
+            FraudBacktestService fraudBacktestService,
+            FraudThresholdCurveService thresholdCurveService,
+            BlacklistIndexService blacklistIndexService
+    ) {
+        this.fraudScoringService = fraudScoringService;
+        this.rulesProvider = rulesProvider;
+        this.fraudBacktestService = fraudBacktestService;
+        this.thresholdCurveService = thresholdCurveService;
+        this.blacklistIndexService = blacklistIndexService;
+    }
+
+    /**
+     * 거래 목록에 점수를 매겨 판정 결과를 반환한다.
+     * 결과는 FRAUD_DETECTION_RESULTS에 비동기로 저장된다.
+     */
+    @PostMapping("/score")
+    public List<FraudScoreResponseDTO> score(
+            @RequestBody
+            @NotEmpty
+            @Size(max = 1000)
+            List<@Valid FraudScoreRequestDTO> transactions
+    ) {
+        return fraudScoringService.scoreAndRecord(transactions);
+    }
+
+    /**
+     * FDS_CONFIG와 블랙리스트 인덱스를 즉시 다시 읽고 적용된 규칙을 반환한다.
+     */
+    @PostMapping("/rules/reload")
+    public FraudScoringRulesResponseDTO reloadRules() {
+        return FraudScoringRulesResponseDTO.from(
+                rulesProvider.reload(), blacklistIndexService.refresh().accountNumberCount());
+    }
+
+    /**
+     * 기간 내 과거 거래를 후보 임계값 설정들로 재평가해 설정별 예상 탐지/조치 건수를 반환한다.
+     * 기간 전체를 스캔하는 작업이므로 벌크헤드로 동시 실행 수와 사용자별 요청률을 제한한다.
+     */
+    @StatsBulkhead(StatsTrafficClass.DETECTION_BACKTEST)
+    @PostMapping("/backtest")
+    public FraudBacktestResponseDTO backtest(
+            @Valid
+            @RequestBody
+            FraudBacktestRequestDTO request
+    ) {
+        return fraudBacktestService.backtest(request);
+    }
+
+    /**
+     * 기록된 탐지 결과의 사기 확률 분포로 임계값별 탐지 수와 사기 확정 수 곡선을 반환한다.
+     * 날짜 범위를 지정하지 않으면 최근 7일을 사용한다.
+     */
+    @GetMapping("/threshold-curve")
+    public FraudThresholdCurveResponseDTO getThresholdCurve(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate fromDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate toDate,
+            @RequestParam(required = false)
+            String engine,
+            @RequestParam(required = false)
+            Double threshold
+    ) {
+        return thresholdCurveService.getCurve(fromDate, toDate, engine, threshold);
+    }
+}
@@ -0,0 +1,44 @@
+package kdt.project.fds.detection.controller;
+
+import java.time.LocalDate;
+import kdt.project.fds.detection.dto.response.TransferGraphResponseDTO;
+import kdt.project.fds.detection.service.TransferGraphService;
+import kdt.project.fds.stats.config.StatsBulkhead;
+import kdt.project.fds.stats.vo.StatsTrafficClass;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이 파일은 이체 그래프 분석 컨트롤러 파일이다.
+ * 기간 내 계좌 간 이체 그래프 분석 요청을 그래프 서비스에 위임한다.
+ */
+@RestController
+@RequestMapping("/api/detection/transfer-graph")
+public class TransferGraphController {
+    private final TransferGraphService transferGraphService;
+
+    public TransferGraphController(TransferGraphService transferGraphService) {
+        this.transferGraphService = transferGraphService;
+    }
+
+    /**
+     * 팬인/팬아웃, 플래그 계좌에서의 2단계 도달 계좌, 의심 대포통장 그룹을 반환한다.
+     * 날짜 범위를 지정하지 않으면 최근 7일을 사용한다.
+     * 기간 내 이체 전체로 그래프를 만드는 작업이므로 벌크헤드로 동시 실행 수와 사용자별 요청률을 제한한다.
+     */
+    @StatsBulkhead(StatsTrafficClass.TRANSFER_GRAPH)
+    @GetMapping
+    public TransferGraphResponseDTO analyze(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate fromDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate toDate
+    ) {
+        return transferGraphService.analyze(fromDate, toDate);
+    }
+}
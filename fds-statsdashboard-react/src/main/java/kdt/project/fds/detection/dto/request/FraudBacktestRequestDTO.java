@@ -0,0 +1,35 @@
+package kdt.project.fds.detection.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이 파일은 임계값 백테스트 요청 DTO 레코드 파일이다.
+ * 재평가할 기간(시작일/종료일 포함)과 비교할 후보 설정 목록을 담는다.
+ * 후보 설정의 config는 FDS_CONFIG의 detection.* 키와 같은 키/값이며, 지정하지 않은 키는 현재 설정을 따른다.
+ */
+public record FraudBacktestRequestDTO(
+        @NotNull(message = "from is required")
+        LocalDate from,
+
+        @NotNull(message = "to is required")
+        LocalDate to,
+
+        @NotEmpty(message = "candidates are required")
+        List<@Valid CandidateDTO> candidates
+) {
+    public record CandidateDTO(
+            @NotBlank(message = "name is required")
+            @Size(max = 60)
+            String name,
+
+            Map<String, String> config
+    ) {
+    }
+}
@@ -0,0 +1,36 @@
+package kdt.project.fds.detection.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 이 파일은 사기 점수 요청 DTO 레코드 파일이다.
+ * 점수를 매길 거래 한 건의 데이터를 담는다. 필드는 TRANSACTIONS 컬럼과 같은 의미이다.
+ */
+public record FraudScoreRequestDTO(
+        @NotNull(message = "txId is required")
+        Long txId,
+
+        Long accountId,
+
+        String accountNumber,
+
+        @NotBlank(message = "txType is required")
+        String txType,
+
+        @NotNull(message = "txAmount is required")
+        @PositiveOrZero
+        BigDecimal txAmount,
+
+        BigDecimal balanceAfterTx,
+
+        String targetAccountNumber,
+
+        String location,
+
+        LocalDateTime txTimestamp
+) {
+}
@@ -0,0 +1,24 @@
+package kdt.project.fds.detection.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이 파일은 계좌 특징값 응답 DTO 레코드 파일이다.
+ * 1시간/24시간/7일 거래 건수와 금액, 거래 상대방 수(근사), 금액 EWMA를 담는다.
+ * lastAppliedTxId는 저장소가 반영한 마지막 TX_ID로, 특징값이 어느 거래까지 반영되었는지 나타낸다.
+ */
+public record AccountFeaturesResponseDTO(
+        long accountId,
+        long txCount1h,
+        double txAmount1h,
+        long txCount24h,
+        double txAmount24h,
+        long txCount7d,
+        double txAmount7d,
+        long distinctCounterparties,
+        double ewmaAmount,
+        long totalTxCount,
+        LocalDateTime lastSeenAt,
+        long lastAppliedTxId
+) {
+}
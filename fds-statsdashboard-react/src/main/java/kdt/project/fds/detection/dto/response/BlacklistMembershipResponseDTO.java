@@ -0,0 +1,18 @@
+package kdt.project.fds.detection.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 이 파일은 블랙리스트 멤버십 조회 응답 DTO 레코드 파일이다.
+ * 요청한 계좌 번호와 ACCOUNT_ID별 블랙리스트 포함 여부와, 판정에 사용한 인덱스의 기준 시점을 담는다.
+ * lastBlacklistId는 인덱스가 반영한 마지막 BLACKLIST_ID이다.
+ */
+public record BlacklistMembershipResponseDTO(
+        Map<String, Boolean> accountNumbers,
+        Map<Long, Boolean> accountIds,
+        int indexedAccountNumbers,
+        long lastBlacklistId,
+        LocalDateTime refreshedAt
+) {
+}
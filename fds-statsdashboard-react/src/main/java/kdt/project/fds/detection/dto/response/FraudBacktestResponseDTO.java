@@ -0,0 +1,36 @@
+package kdt.project.fds.detection.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이 파일은 임계값 백테스트 응답 DTO 레코드 파일이다.
+ * 재평가한 거래 수와 확정 신고 계좌가 관련된 사기 라벨 수, 후보 설정별 예상 탐지/조치 건수를 담는다.
+ * 신고되지 않은 거래는 정상으로 집계하므로 falsePositives는 상한, precision은 하한이다.
+ * 첫 번째 결과는 항상 현재 FDS_CONFIG 설정(current)이다.
+ */
+public record FraudBacktestResponseDTO(
+        LocalDate from,
+        LocalDate to,
+        long transactions,
+        long labelledFraud,
+        int partitions,
+        long elapsedMillis,
+        List<CandidateResultDTO> results
+) {
+    public record CandidateResultDTO(
+            String name,
+            double blockThreshold,
+            double reviewThreshold,
+            long detections,
+            long blocked,
+            long reviewed,
+            long allowed,
+            long caughtFraud,
+            long missedFraud,
+            long falsePositives,
+            double precision,
+            double recall
+    ) {
+    }
+}
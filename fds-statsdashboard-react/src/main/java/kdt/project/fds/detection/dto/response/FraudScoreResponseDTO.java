@@ -0,0 +1,18 @@
+package kdt.project.fds.detection.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이 파일은 사기 점수 응답 DTO 레코드 파일이다.
+ * FRAUD_DETECTION_RESULTS 한 행과 같은 내용의 판정 결과를 담는다.
+ */
+public record FraudScoreResponseDTO(
+        long txId,
+        double fraudProbability,
+        int isFraud,
+        String detectedEngine,
+        double thresholdValue,
+        String actionTaken,
+        LocalDateTime detectedAt
+) {
+}
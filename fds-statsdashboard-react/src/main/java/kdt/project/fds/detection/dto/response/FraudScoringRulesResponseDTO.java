@@ -0,0 +1,43 @@
+package kdt.project.fds.detection.dto.response;
+
+import java.util.List;
+import kdt.project.fds.detection.vo.ScoringRules;
+
+/**
+ * 이 파일은 사기 점수 규칙 응답 DTO 레코드 파일이다.
+ * 현재 적용 중인 임계값과 규칙 가중치를 담는다. 블랙리스트는 블랙리스트 인덱스의 계좌 수만 노출한다.
+ */
+public record FraudScoringRulesResponseDTO(
+        double blockThreshold,
+        double reviewThreshold,
+        double highAmount,
+        double highAmountWeight,
+        List<String> riskyTxTypes,
+        double riskyTxTypeWeight,
+        int nightStartHour,
+        int nightEndHour,
+        double nightWeight,
+        double drainWeight,
+        double blacklistWeight,
+        int blacklistedAccounts
+) {
+    /**
+     * 규칙 스냅샷을 DTO로 변환하는 정적 팩토리 메서드이다.
+     */
+    public static FraudScoringRulesResponseDTO from(ScoringRules rules, int blacklistedAccounts) {
+        return new FraudScoringRulesResponseDTO(
+                rules.blockThreshold(),
+                rules.reviewThreshold(),
+                rules.highAmount(),
+                rules.highAmountWeight(),
+                rules.riskyTxTypes().stream().sorted().toList(),
+                rules.riskyTxTypeWeight(),
+                rules.nightStartHour(),
+                rules.nightEndHour(),
+                rules.nightWeight(),
+                rules.drainWeight(),
+                rules.blacklistWeight(),
+                blacklistedAccounts
+        );
+    }
+}
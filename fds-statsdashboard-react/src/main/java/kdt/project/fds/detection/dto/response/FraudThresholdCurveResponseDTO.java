@@ -0,0 +1,44 @@
+package kdt.project.fds.detection.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import kdt.project.fds.detection.vo.ThresholdCurve;
+
+/**
+ * 이 파일은 임계값 what-if 곡선 응답 DTO 레코드 파일이다.
+ * detections[i]와 confirmedFraud[i]는 사기 확률이 i / bins 이상인 탐지 수와 그중 확정(CONFIRMED) 사기 신고가 있는 계좌의 거래 수이다.
+ * 화면은 배열을 그대로 받아 슬라이더 위치마다 추가 요청 없이 값을 읽는다.
+ */
+public record FraudThresholdCurveResponseDTO(
+        LocalDate fromDate,
+        LocalDate toDate,
+        String engine,
+        List<String> engines,
+        int bins,
+        long totalDetections,
+        long totalConfirmedFraud,
+        long[] detections,
+        long[] confirmedFraud,
+        ThresholdPointDTO point
+) {
+    public record ThresholdPointDTO(
+            double threshold,
+            long detections,
+            long confirmedFraud,
+            double precision,
+            double fraudCaptureRate
+    ) {
+        public static ThresholdPointDTO of(ThresholdCurve curve, double threshold) {
+            long detections = curve.detectionsAt(threshold);
+            long confirmedFraud = curve.confirmedFraudAt(threshold);
+            long totalFraud = curve.totalConfirmedFraud();
+            return new ThresholdPointDTO(
+                    threshold,
+                    detections,
+                    confirmedFraud,
+                    detections == 0 ? 0.0 : (double) confirmedFraud / detections,
+                    totalFraud == 0 ? 0.0 : (double) confirmedFraud / totalFraud
+            );
+        }
+    }
+}
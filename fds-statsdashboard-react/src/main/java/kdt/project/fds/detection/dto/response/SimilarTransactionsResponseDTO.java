@@ -0,0 +1,33 @@
+package kdt.project.fds.detection.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이 파일은 유사 거래 검색 응답 DTO 레코드 파일이다.
+ * 기준 거래와 V_FEATURES 코사인 유사도가 높은 거래를 유사도 내림차순으로 담는다.
+ * mode는 실제로 쓴 탐색 방식(EXACT 전수 비교 또는 HNSW 근사 탐색)이다.
+ */
+public record SimilarTransactionsResponseDTO(
+        long txId,
+        String mode,
+        int k,
+        int dimensions,
+        int indexedTransactions,
+        long skippedTransactions,
+        LocalDateTime indexLoadedAt,
+        long searchMicros,
+        List<NeighborDTO> neighbors
+) {
+    public record NeighborDTO(
+            long txId,
+            double similarity,
+            String txType,
+            BigDecimal txAmount,
+            LocalDateTime txTimestamp,
+            Double fraudProbability,
+            Integer isFraud
+    ) {
+    }
+}
@@ -0,0 +1,53 @@
+package kdt.project.fds.detection.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이 파일은 이체 그래프 분석 응답 DTO 레코드 파일이다.
+ * 기간 내 송금 계좌 → 수취 계좌 그래프의 규모, 팬인/팬아웃 상위 계좌, 블랙리스트·신고 계좌에서 2단계 안에 도달하는 계좌,
+ * 플래그 계좌를 포함한 연결 요소(의심 대포통장 그룹)를 담는다.
+ * edgeCount는 서로 다른 (송금, 수취) 쌍의 수이고 transferCount는 그 쌍들의 거래 건수 합이다.
+ */
+public record TransferGraphResponseDTO(
+        LocalDate fromDate,
+        LocalDate toDate,
+        int vertexCount,
+        int edgeCount,
+        long transferCount,
+        int blacklistedAccounts,
+        int reportedAccounts,
+        int oneHopExposed,
+        int twoHopExposed,
+        int componentCount,
+        int largestComponentSize,
+        long elapsedMillis,
+        List<AccountDegreeDTO> topFanIn,
+        List<AccountDegreeDTO> topFanOut,
+        List<ExposedAccountDTO> exposedAccounts,
+        List<SuspectedRingDTO> suspectedRings
+) {
+    public record AccountDegreeDTO(
+            String accountNumber,
+            int fanIn,
+            int fanOut,
+            boolean flagged
+    ) {
+    }
+
+    public record ExposedAccountDTO(
+            String accountNumber,
+            int hops,
+            int fanIn,
+            int fanOut
+    ) {
+    }
+
+    public record SuspectedRingDTO(
+            int size,
+            int edgeCount,
+            int flaggedAccounts,
+            List<String> sampleAccounts
+    ) {
+    }
+}
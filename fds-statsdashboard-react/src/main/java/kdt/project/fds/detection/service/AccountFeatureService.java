@@ -0,0 +1,224 @@
+package kdt.project.fds.detection.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.response.AccountFeaturesResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 계좌별 스트리밍 특징값 서비스 파일이다.
+ * TRANSACTIONS를 TX_ID 키셋 순서로 이어 읽어 AccountFeatureStore에 한 건씩 반영하므로,
+ * 과거 이력 전체에 대한 윈도 함수 집계 없이 새로 들어온 거래만큼만 일한다.
+ * 상태는 주기적으로 체크포인트 파일에 쓰고, 재시작 시 체크포인트의 마지막 TX_ID 다음부터 이어 읽는다.
+ * 첫 시작처럼 밀린 거래가 많으면 따라잡기가 오래 걸리므로, 공용 @Scheduled 스레드 대신 전용 스레드에서 배치 수를 제한해 읽는다.
+ * 늦게 커밋되어 작은 번호로 나타난 거래를 놓치지 않도록 마지막 TX_ID 조금 앞부터 다시 읽고, 이미 반영한 거래는 저장소가 걸러 낸다.
+ */
+@Service
+public class AccountFeatureService {
+    private static final Logger log = LoggerFactory.getLogger(AccountFeatureService.class);
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String NEXT_TRANSACTIONS_SQL = """
+            SELECT TX_ID, ACCOUNT_ID, TX_AMOUNT, COALESCE(TARGET_ACCOUNT_NUMBER, MERCHANT_NAME) AS COUNTERPARTY,
+                   TX_TIMESTAMP
+            FROM TRANSACTIONS
+            WHERE TX_ID > ?
+            ORDER BY TX_ID
+            FETCH FIRST ? ROWS ONLY
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FraudDetectionProperties.Features settings;
+    private final AccountFeatureStore store;
+    private final Path checkpointPath;
+    private final ScheduledExecutorService poller;
+    private volatile boolean restored;
+
+    public AccountFeatureService(JdbcTemplate jdbcTemplate, FraudDetectionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = properties.getFeatures();
+        this.store = new AccountFeatureStore(
+                settings.getInitialCapacity(), settings.getEwmaAlpha(), settings.getLateCommitOverlapIds());
+        this.checkpointPath = Paths.get(settings.getCheckpointPath()).toAbsolutePath().normalize();
+        if (!settings.isEnabled()) {
+            this.poller = null;
+            return;
+        }
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fds-account-feature-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long pollInterval = Math.max(10, settings.getPollMillis());
+        long checkpointInterval = Math.max(1_000, settings.getCheckpointMillis());
+        poller.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(this::scheduledCheckpoint, checkpointInterval, checkpointInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 계좌의 현재 특징값을 반환한다. 저장소가 아직 본 적 없는 계좌면 404를 반환한다.
+     */
+    public AccountFeaturesResponseDTO getFeatures(long accountId) {
+        // 복원 이후에는 따라잡기 중에도 서비스 잠금을 기다리지 않고 저장소만 읽는다.
+        if (!restored) {
+            restoreOnce();
+        }
+        AccountFeatureStore.Features features = store.features(accountId, System.currentTimeMillis());
+        if (features == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No features for account " + accountId);
+        }
+        return new AccountFeaturesResponseDTO(
+                features.accountId(),
+                features.txCount1h(),
+                features.txAmount1h(),
+                features.txCount24h(),
+                features.txAmount24h(),
+                features.txCount7d(),
+                features.txAmount7d(),
+                features.distinctCounterparties(),
+                features.ewmaAmount(),
+                features.totalTxCount(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(features.lastSeenMillis()), DEFAULT_ZONE),
+                store.lastTxId()
+        );
+    }
+
+    /**
+     * 밀린 거래를 배치 단위로 모두 읽어 반영하고, 반영한 거래 수를 반환한다.
+     */
+    public long catchUp() {
+        long applied = 0;
+        CatchUpResult result;
+        do {
+            result = catchUp(Integer.MAX_VALUE);
+            applied += result.applied();
+        } while (!result.caughtUp());
+        return applied;
+    }
+
+    /**
+     * 마지막 TX_ID에서 겹침 범위만큼 앞선 위치부터 최대 maxBatches개 배치를 읽어 반영한다.
+     * TX_TIMESTAMP가 없는 거래는 시간 창에 넣을 수 없으므로 건너뛰되, 같은 행을 계속 다시 반영하지 않도록 처리한 TX_ID로 기록한다.
+     */
+    synchronized CatchUpResult catchUp(int maxBatches) {
+        restoreOnce();
+        int batchSize = Math.max(1, settings.getPollBatchSize());
+        long applied = 0;
+        // 키셋 위치, 읽은 행 수, 반영한 행 수
+        long[] cursor = {store.rescanFromTxId(), 0, 0};
+        for (int batches = 0; batches < maxBatches; batches++) {
+            cursor[1] = 0;
+            cursor[2] = 0;
+            jdbcTemplate.query(NEXT_TRANSACTIONS_SQL, rs -> {
+                long txId = rs.getLong("TX_ID");
+                cursor[0] = txId;
+                cursor[1]++;
+                Timestamp txTimestamp = rs.getTimestamp("TX_TIMESTAMP");
+                if (txTimestamp == null) {
+                    store.skip(txId);
+                    return;
+                }
+                boolean recorded = store.record(
+                        txId,
+                        rs.getLong("ACCOUNT_ID"),
+                        rs.getDouble("TX_AMOUNT"),
+                        AccountFeatureStore.counterpartyHash(rs.getString("COUNTERPARTY")),
+                        txTimestamp.toLocalDateTime().atZone(DEFAULT_ZONE).toInstant().toEpochMilli()
+                );
+                if (recorded) {
+                    cursor[2]++;
+                }
+            }, cursor[0], batchSize);
+            applied += cursor[2];
+            if (cursor[1] < batchSize) {
+                return new CatchUpResult(applied, true);
+            }
+        }
+        return new CatchUpResult(applied, false);
+    }
+
+    /**
+     * 현재 상태를 임시 파일에 쓴 뒤 원자적으로 교체해, 쓰는 도중 종료되어도 이전 체크포인트가 남도록 한다.
+     */
+    public synchronized void checkpoint() throws IOException {
+        Files.createDirectories(checkpointPath.getParent());
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            store.writeTo(out);
+        }
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        scheduledCheckpoint();
+    }
+
+    private void poll() {
+        try {
+            CatchUpResult result = catchUp(Math.max(1, settings.getMaxBatchesPerPoll()));
+            if (!result.caughtUp() && !poller.isShutdown()) {
+                // 밀린 거래가 남았으면 실행할 때가 된 체크포인트에 차례를 넘긴 뒤 곧바로 이어 읽는다.
+                poller.execute(this::poll);
+            }
+        } catch (Exception ex) {
+            log.warn("Account feature catch-up failed: {}", ex.getMessage());
+        }
+    }
+
+    private void scheduledCheckpoint() {
+        if (!settings.isEnabled() || !restored) {
+            return;
+        }
+        try {
+            checkpoint();
+        } catch (IOException ex) {
+            log.warn("Account feature checkpoint failed: {}", ex.getMessage());
+        }
+    }
+
+    private synchronized void restoreOnce() {
+        if (restored) {
+            return;
+        }
+        restored = true;
+        if (!Files.isRegularFile(checkpointPath)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointPath), 1 << 16))) {
+            store.readFrom(in);
+            log.info("Account features restored from {} ({} accounts, last tx {})",
+                    checkpointPath, store.size(), store.lastTxId());
+        } catch (IOException ex) {
+            // 읽을 수 없는 체크포인트는 무시하고 처음부터 다시 쌓는다.
+            log.warn("Ignoring account feature checkpoint {}: {}", checkpointPath, ex.getMessage());
+        }
+    }
+
+    record CatchUpResult(long applied, boolean caughtUp) {
+    }
+}
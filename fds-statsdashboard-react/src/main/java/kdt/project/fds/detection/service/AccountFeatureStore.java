@@ -0,0 +1,405 @@
+package kdt.project.fds.detection.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이 파일은 계좌별 스트리밍 특징값 저장소 파일이다.
+ * 계좌 id → 슬롯 번호는 LongIntHashMap으로 찾고, 슬롯별 상태는 기본형 배열(struct-of-arrays)에 둔다.
+ * 1시간/24시간/7일 거래 건수와 금액은 고정 크기 버킷 링(10분×6, 1시간×24, 1일×7)으로 누적하므로
+ * 창 경계는 버킷 단위로 근사된다. 거래 상대방 수는 계좌별 64레지스터 HyperLogLog(오차 약 13%)로,
+ * 금액 EWMA는 거래마다 alpha 가중으로 갱신한다.
+ * 늦게 커밋되어 마지막 TX_ID보다 작은 번호로 나타나는 거래를 다시 읽을 수 있도록, 마지막 TX_ID에서 overlapIds 이내의
+ * 반영한 TX_ID를 기억해 같은 거래를 두 번 반영하지 않는다. 이 구간보다 더 늦게 나타난 거래는 반영하지 못한다.
+ * 모든 메서드는 이 객체로 동기화된다.
+ */
+final class AccountFeatureStore {
+    static final int HLL_REGISTERS = 64;
+    private static final int HLL_BITS = 6;
+    private static final int CHECKPOINT_MAGIC = 0x46445346;
+    private static final int CHECKPOINT_VERSION = 2;
+
+    private final Tier hour = new Tier(TimeUnit.MINUTES.toMillis(10), 6);
+    private final Tier day = new Tier(TimeUnit.HOURS.toMillis(1), 24);
+    private final Tier week = new Tier(TimeUnit.DAYS.toMillis(1), 7);
+    private final Tier[] tiers = {hour, day, week};
+    private final double ewmaAlpha;
+    private final long overlapIds;
+    private final TreeSet<Long> recentTxIds = new TreeSet<>();
+
+    private LongIntHashMap slots;
+    private long[] accountIds;
+    private long[] totalCounts;
+    private long[] lastSeenMillis;
+    private double[] ewmaAmounts;
+    private byte[] hllRegisters;
+    private int size;
+    private long lastTxId;
+
+    AccountFeatureStore(int initialCapacity, double ewmaAlpha, long overlapIds) {
+        this.ewmaAlpha = ewmaAlpha;
+        this.overlapIds = Math.max(0, overlapIds);
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    /**
+     * 거래 한 건을 반영하고, 이미 반영한 거래면 false를 반환한다. 창 밖으로 밀려난 과거 거래는 건수/금액 창에는 더하지 않는다.
+     */
+    synchronized boolean record(long txId, long accountId, double amount, long counterpartyHash, long txMillis) {
+        if (!markApplied(txId)) {
+            return false;
+        }
+        int slot = slotOf(accountId);
+        for (Tier tier : tiers) {
+            tier.add(slot, txMillis, amount);
+        }
+        ewmaAmounts[slot] = totalCounts[slot] == 0
+                ? amount
+                : ewmaAlpha * amount + (1.0 - ewmaAlpha) * ewmaAmounts[slot];
+        totalCounts[slot]++;
+        lastSeenMillis[slot] = Math.max(lastSeenMillis[slot], txMillis);
+        if (counterpartyHash != 0) {
+            int register = slot * HLL_REGISTERS + (int) (counterpartyHash >>> (64 - HLL_BITS));
+            byte rank = (byte) Math.min(64 - HLL_BITS + 1, Long.numberOfLeadingZeros(counterpartyHash << HLL_BITS) + 1);
+            if (hllRegisters[register] < rank) {
+                hllRegisters[register] = rank;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 반영하지 못한 거래도 다시 읽지 않도록 처리한 TX_ID로만 기록한다.
+     */
+    synchronized void skip(long txId) {
+        markApplied(txId);
+    }
+
+    /**
+     * 늦게 커밋된 거래를 찾기 위해 다시 읽기 시작할 TX_ID(이 값 초과)를 반환한다.
+     */
+    synchronized long rescanFromTxId() {
+        return Math.max(0, lastTxId - overlapIds);
+    }
+
+    /**
+     * 기준 시각의 계좌 특징값을 반환한다. 처음 보는 계좌면 null을 반환한다.
+     */
+    synchronized Features features(long accountId, long nowMillis) {
+        int slot = slots.get(accountId);
+        if (slot < 0) {
+            return null;
+        }
+        return new Features(
+                accountId,
+                hour.count(slot, nowMillis), hour.amount(slot, nowMillis),
+                day.count(slot, nowMillis), day.amount(slot, nowMillis),
+                week.count(slot, nowMillis), week.amount(slot, nowMillis),
+                distinctCounterparties(slot),
+                ewmaAmounts[slot],
+                totalCounts[slot],
+                lastSeenMillis[slot]
+        );
+    }
+
+    synchronized long lastTxId() {
+        return lastTxId;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 전체 상태를 이진 형식으로 쓴다. 창 설정이 다르면 복원 시 거부되도록 버킷 설정도 함께 기록한다.
+     */
+    synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(CHECKPOINT_MAGIC);
+        out.writeInt(CHECKPOINT_VERSION);
+        for (Tier tier : tiers) {
+            out.writeLong(tier.bucketMillis);
+            out.writeInt(tier.buckets);
+        }
+        out.writeLong(lastTxId);
+        out.writeInt(recentTxIds.size());
+        for (long txId : recentTxIds) {
+            out.writeLong(txId);
+        }
+        out.writeInt(size);
+        for (int slot = 0; slot < size; slot++) {
+            out.writeLong(accountIds[slot]);
+            out.writeLong(totalCounts[slot]);
+            out.writeLong(lastSeenMillis[slot]);
+            out.writeDouble(ewmaAmounts[slot]);
+            for (Tier tier : tiers) {
+                tier.write(slot, out);
+            }
+            out.write(hllRegisters, slot * HLL_REGISTERS, HLL_REGISTERS);
+        }
+    }
+
+    /**
+     * writeTo로 쓴 상태를 읽어 현재 상태를 대체한다. 형식이나 창 설정이 다르면 IOException을 던지고 상태를 바꾸지 않는다.
+     */
+    synchronized void readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != CHECKPOINT_VERSION) {
+            throw new IOException("Unsupported account feature checkpoint format");
+        }
+        for (Tier tier : tiers) {
+            if (in.readLong() != tier.bucketMillis || in.readInt() != tier.buckets) {
+                throw new IOException("Account feature checkpoint was written with different windows");
+            }
+        }
+        long restoredLastTxId = in.readLong();
+        int recentCount = in.readInt();
+        TreeSet<Long> restoredRecentTxIds = new TreeSet<>();
+        for (int i = 0; i < recentCount; i++) {
+            restoredRecentTxIds.add(in.readLong());
+        }
+        int restoredSize = in.readInt();
+        AccountFeatureStore restored = new AccountFeatureStore(restoredSize, ewmaAlpha, overlapIds);
+        for (int i = 0; i < restoredSize; i++) {
+            int slot = restored.slotOf(in.readLong());
+            restored.totalCounts[slot] = in.readLong();
+            restored.lastSeenMillis[slot] = in.readLong();
+            restored.ewmaAmounts[slot] = in.readDouble();
+            for (Tier tier : restored.tiers) {
+                tier.read(slot, in);
+            }
+            in.readFully(restored.hllRegisters, slot * HLL_REGISTERS, HLL_REGISTERS);
+        }
+        slots = restored.slots;
+        accountIds = restored.accountIds;
+        totalCounts = restored.totalCounts;
+        lastSeenMillis = restored.lastSeenMillis;
+        ewmaAmounts = restored.ewmaAmounts;
+        hllRegisters = restored.hllRegisters;
+        for (int t = 0; t < tiers.length; t++) {
+            tiers[t].adopt(restored.tiers[t]);
+        }
+        size = restored.size;
+        lastTxId = restoredLastTxId;
+        recentTxIds.clear();
+        recentTxIds.addAll(restoredRecentTxIds);
+        forgetBeforeOverlap();
+    }
+
+    /**
+     * 거래 상대방 식별 문자열을 HyperLogLog용 64비트 해시로 바꾼다. null이면 0을 반환해 집계에서 제외한다.
+     */
+    static long counterpartyHash(String counterparty) {
+        if (counterparty == null || counterparty.isEmpty()) {
+            return 0;
+        }
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < counterparty.length(); i++) {
+            h ^= counterparty.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    // 처음 처리하는 TX_ID면 기록하고 true를 반환한다. 다시 읽기 구간보다 앞선 번호는 더 읽히지 않으므로 잊는다.
+    private boolean markApplied(long txId) {
+        if (!recentTxIds.add(txId)) {
+            return false;
+        }
+        lastTxId = Math.max(lastTxId, txId);
+        forgetBeforeOverlap();
+        return true;
+    }
+
+    private void forgetBeforeOverlap() {
+        recentTxIds.headSet(lastTxId - overlapIds, true).clear();
+    }
+
+    private int slotOf(long accountId) {
+        int slot = slots.get(accountId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size == accountIds.length) {
+            grow(accountIds.length << 1);
+        }
+        slot = size++;
+        accountIds[slot] = accountId;
+        slots.put(accountId, slot);
+        return slot;
+    }
+
+    private long distinctCounterparties(int slot) {
+        double harmonic = 0;
+        int zeros = 0;
+        int base = slot * HLL_REGISTERS;
+        for (int i = 0; i < HLL_REGISTERS; i++) {
+            byte register = hllRegisters[base + i];
+            harmonic += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double m = HLL_REGISTERS;
+        double estimate = 0.709 * m * m / harmonic;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // 작은 값 구간은 선형 카운팅이 더 정확하다.
+            estimate = m * Math.log(m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private void allocate(int capacity) {
+        slots = new LongIntHashMap(capacity);
+        accountIds = new long[capacity];
+        totalCounts = new long[capacity];
+        lastSeenMillis = new long[capacity];
+        ewmaAmounts = new double[capacity];
+        hllRegisters = new byte[capacity * HLL_REGISTERS];
+        for (Tier tier : tiers) {
+            tier.allocate(capacity);
+        }
+    }
+
+    private void grow(int capacity) {
+        accountIds = Arrays.copyOf(accountIds, capacity);
+        totalCounts = Arrays.copyOf(totalCounts, capacity);
+        lastSeenMillis = Arrays.copyOf(lastSeenMillis, capacity);
+        ewmaAmounts = Arrays.copyOf(ewmaAmounts, capacity);
+        hllRegisters = Arrays.copyOf(hllRegisters, capacity * HLL_REGISTERS);
+        for (Tier tier : tiers) {
+            tier.grow(capacity);
+        }
+    }
+
+    record Features(
+            long accountId,
+            long txCount1h,
+            double txAmount1h,
+            long txCount24h,
+            double txAmount24h,
+            long txCount7d,
+            double txAmount7d,
+            long distinctCounterparties,
+            double ewmaAmount,
+            long totalTxCount,
+            long lastSeenMillis
+    ) {
+    }
+
+    /**
+     * 한 시간 창의 버킷 링이다. 슬롯마다 buckets개의 건수/금액 칸과 마지막으로 기록한 버킷 번호를 가진다.
+     * 버킷 번호 k의 값은 칸 k mod buckets에 있고, (마지막 버킷 - buckets, 마지막 버킷] 구간만 유효하다.
+     */
+    private static final class Tier {
+        private final long bucketMillis;
+        private final int buckets;
+        private int[] counts;
+        private double[] amounts;
+        private long[] lastBuckets;
+
+        private Tier(long bucketMillis, int buckets) {
+            this.bucketMillis = bucketMillis;
+            this.buckets = buckets;
+        }
+
+        private void add(int slot, long txMillis, double amount) {
+            long bucket = Math.floorDiv(txMillis, bucketMillis);
+            long last = lastBuckets[slot];
+            int base = slot * buckets;
+            if (last == Long.MIN_VALUE || bucket - last >= buckets) {
+                Arrays.fill(counts, base, base + buckets, 0);
+                Arrays.fill(amounts, base, base + buckets, 0.0);
+                lastBuckets[slot] = bucket;
+            } else if (bucket > last) {
+                // 마지막 기록 이후 지나간 버킷 칸을 비운다.
+                for (long k = last + 1; k <= bucket; k++) {
+                    int index = base + (int) Math.floorMod(k, (long) buckets);
+                    counts[index] = 0;
+                    amounts[index] = 0.0;
+                }
+                lastBuckets[slot] = bucket;
+            } else if (bucket <= last - buckets) {
+                return;
+            }
+            int index = base + (int) Math.floorMod(bucket, (long) buckets);
+            counts[index]++;
+            amounts[index] += amount;
+        }
+
+        private long count(int slot, long nowMillis) {
+            long total = 0;
+            int base = slot * buckets;
+            long last = lastBuckets[slot];
+            for (long k = firstValidBucket(last, nowMillis); k <= last; k++) {
+                total += counts[base + (int) Math.floorMod(k, (long) buckets)];
+            }
+            return total;
+        }
+
+        private double amount(int slot, long nowMillis) {
+            double total = 0;
+            int base = slot * buckets;
+            long last = lastBuckets[slot];
+            for (long k = firstValidBucket(last, nowMillis); k <= last; k++) {
+                total += amounts[base + (int) Math.floorMod(k, (long) buckets)];
+            }
+            return total;
+        }
+
+        // 기준 시각 기준 창과 마지막 기록 기준 유효 구간이 겹치는 첫 버킷이다. 겹치지 않으면 last보다 큰 값을 반환한다.
+        private long firstValidBucket(long last, long nowMillis) {
+            if (last == Long.MIN_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long nowBucket = Math.floorDiv(nowMillis, bucketMillis);
+            return Math.max(nowBucket, last) - buckets + 1;
+        }
+
+        private void allocate(int capacity) {
+            counts = new int[capacity * buckets];
+            amounts = new double[capacity * buckets];
+            lastBuckets = new long[capacity];
+            Arrays.fill(lastBuckets, Long.MIN_VALUE);
+        }
+
+        private void grow(int capacity) {
+            int previous = lastBuckets.length;
+            counts = Arrays.copyOf(counts, capacity * buckets);
+            amounts = Arrays.copyOf(amounts, capacity * buckets);
+            lastBuckets = Arrays.copyOf(lastBuckets, capacity);
+            Arrays.fill(lastBuckets, previous, capacity, Long.MIN_VALUE);
+        }
+
+        private void adopt(Tier other) {
+            counts = other.counts;
+            amounts = other.amounts;
+            lastBuckets = other.lastBuckets;
+        }
+
+        private void write(int slot, DataOutputStream out) throws IOException {
+            out.writeLong(lastBuckets[slot]);
+            int base = slot * buckets;
+            for (int i = 0; i < buckets; i++) {
+                out.writeInt(counts[base + i]);
+                out.writeDouble(amounts[base + i]);
+            }
+        }
+
+        private void read(int slot, DataInputStream in) throws IOException {
+            lastBuckets[slot] = in.readLong();
+            int base = slot * buckets;
+            for (int i = 0; i < buckets; i++) {
+                counts[base + i] = in.readInt();
+                amounts[base + i] = in.readDouble();
+            }
+        }
+    }
+}
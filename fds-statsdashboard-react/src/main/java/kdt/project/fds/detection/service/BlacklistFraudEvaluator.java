@@ -0,0 +1,37 @@
+package kdt.project.fds.detection.service;
+
+import java.util.function.Supplier;
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.vo.ScoringRules;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 블랙리스트 평가기 파일이다.
+ * 출금 계좌나 입금 대상 계좌가 BLACKLIST_ACCOUNTS에 있으면 블랙리스트 가중치를 위험도로 반환한다.
+ * 블랙리스트는 대시보드와 멤버십 조회가 쓰는 BlacklistIndexService의 현재 스냅샷에서 확인하므로 별도 사본을 두지 않는다.
+ */
+@Component
+public class BlacklistFraudEvaluator implements FraudEvaluator {
+    private final Supplier<BlacklistIndex> blacklistIndex;
+
+    @Autowired
+    public BlacklistFraudEvaluator(BlacklistIndexService blacklistIndexService) {
+        this(blacklistIndexService::current);
+    }
+
+    BlacklistFraudEvaluator(Supplier<BlacklistIndex> blacklistIndex) {
+        this.blacklistIndex = blacklistIndex;
+    }
+
+    @Override
+    public double evaluate(FraudScoreRequestDTO transaction, ScoringRules rules) {
+        BlacklistIndex index = blacklistIndex.get();
+        if (index.accountNumberCount() == 0) {
+            return 0.0;
+        }
+        boolean listed = index.containsAccountNumber(transaction.accountNumber())
+                || index.containsAccountNumber(transaction.targetAccountNumber());
+        return listed ? rules.blacklistWeight() : 0.0;
+    }
+}
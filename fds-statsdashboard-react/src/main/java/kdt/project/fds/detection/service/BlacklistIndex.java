@@ -0,0 +1,161 @@
+package kdt.project.fds.detection.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 이 파일은 블랙리스트 멤버십 인덱스 스냅샷 파일이다.
+ * 블랙리스트 계좌 번호는 정렬된 문자열 배열과 블룸 필터로, 해당 계좌의 ACCOUNT_ID는 원시 long 해시 집합으로 보관한다.
+ * 한 번 게시된 스냅샷은 바뀌지 않으며, 새 블랙리스트 행이 생기면 기존 스냅샷을 복사해 확장한 새 스냅샷을 만든다.
+ */
+public final class BlacklistIndex {
+    private final String[] sortedAccountNumbers;
+    private final BloomFilter accountNumberFilter;
+    private final LongHashSet accountIdSet;
+    private final List<Long> accountIds;
+    // 반영한 BLACKLIST_ACCOUNTS 행 수이다. 같은 계좌 번호가 여러 행에 있어도 행마다 센다.
+    private final long rowCount;
+    private final long lastBlacklistId;
+    private final LocalDateTime refreshedAt;
+    private final LocalDateTime rebuiltAt;
+
+    private BlacklistIndex(
+            String[] sortedAccountNumbers,
+            BloomFilter accountNumberFilter,
+            LongHashSet accountIdSet,
+            long rowCount,
+            long lastBlacklistId,
+            LocalDateTime refreshedAt,
+            LocalDateTime rebuiltAt
+    ) {
+        this.sortedAccountNumbers = sortedAccountNumbers;
+        this.accountNumberFilter = accountNumberFilter;
+        this.accountIdSet = accountIdSet;
+        List<Long> ids = new ArrayList<>(accountIdSet.size());
+        for (long id : accountIdSet.toSortedArray()) {
+            ids.add(id);
+        }
+        this.accountIds = Collections.unmodifiableList(ids);
+        this.rowCount = rowCount;
+        this.lastBlacklistId = lastBlacklistId;
+        this.refreshedAt = refreshedAt;
+        this.rebuiltAt = rebuiltAt;
+    }
+
+    /**
+     * 블랙리스트 전체 행으로 새 인덱스를 만든다.
+     */
+    static BlacklistIndex build(List<Entry> entries, double falsePositiveRate, LocalDateTime now) {
+        BloomFilter filter = BloomFilter.create(entries.size() * 2, falsePositiveRate);
+        LongHashSet ids = new LongHashSet(entries.size());
+        List<String> numbers = new ArrayList<>(entries.size());
+        long lastId = 0;
+        for (Entry entry : entries) {
+            numbers.add(entry.accountNumber());
+            filter.put(entry.accountNumber());
+            if (entry.accountId() != null) {
+                ids.add(entry.accountId());
+            }
+            lastId = Math.max(lastId, entry.blacklistId());
+        }
+        String[] sorted = numbers.stream().distinct().sorted().toArray(String[]::new);
+        return new BlacklistIndex(sorted, filter, ids, countRows(entries), lastId, now, now);
+    }
+
+    /**
+     * 마지막으로 반영한 BLACKLIST_ID 이후에 추가된 행을 합친 새 인덱스를 만든다.
+     */
+    BlacklistIndex withAdded(List<Entry> added, double falsePositiveRate, LocalDateTime now) {
+        int newSize = sortedAccountNumbers.length + added.size();
+        BloomFilter filter;
+        if (newSize > accountNumberFilter.capacity()) {
+            // 설계 용량을 넘으면 오탐률이 올라가므로 넉넉한 크기로 다시 만든다.
+            filter = BloomFilter.create(newSize * 2, falsePositiveRate);
+            for (String number : sortedAccountNumbers) {
+                filter.put(number);
+            }
+        } else {
+            filter = accountNumberFilter.copy();
+        }
+        LongHashSet ids = accountIdSet.copy();
+        String[] merged = Arrays.copyOf(sortedAccountNumbers, newSize);
+        long lastId = lastBlacklistId;
+        for (int i = 0; i < added.size(); i++) {
+            Entry entry = added.get(i);
+            merged[sortedAccountNumbers.length + i] = entry.accountNumber();
+            filter.put(entry.accountNumber());
+            if (entry.accountId() != null) {
+                ids.add(entry.accountId());
+            }
+            lastId = Math.max(lastId, entry.blacklistId());
+        }
+        String[] sorted = Arrays.stream(merged).distinct().sorted().toArray(String[]::new);
+        return new BlacklistIndex(sorted, filter, ids, rowCount + countRows(added), lastId, now, rebuiltAt);
+    }
+
+    /**
+     * BLACKLIST_ID 순으로 정렬된 항목에서 행 수를 센다.
+     * ACCOUNTS 조인으로 한 행이 여러 항목이 되어도 한 번만 센다.
+     */
+    private static long countRows(List<Entry> entries) {
+        long rows = 0;
+        long previousId = 0;
+        for (Entry entry : entries) {
+            if (rows == 0 || entry.blacklistId() != previousId) {
+                rows++;
+                previousId = entry.blacklistId();
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 계좌 번호가 블랙리스트에 있는지 확인한다. 블룸 필터가 없다고 하면 정렬 배열은 보지 않는다.
+     */
+    public boolean containsAccountNumber(String accountNumber) {
+        return accountNumber != null
+                && accountNumberFilter.mightContain(accountNumber)
+                && Arrays.binarySearch(sortedAccountNumbers, accountNumber) >= 0;
+    }
+
+    public boolean containsAccountId(long accountId) {
+        return accountIdSet.contains(accountId);
+    }
+
+    /**
+     * 블랙리스트 계좌의 ACCOUNT_ID 목록(오름차순)이다. 통계 쿼리의 IN 목록 바인딩에 사용한다.
+     * ACCOUNTS에 없는 블랙리스트 계좌 번호는 포함되지 않는다.
+     */
+    public List<Long> accountIds() {
+        return accountIds;
+    }
+
+    public int accountNumberCount() {
+        return sortedAccountNumbers.length;
+    }
+
+    /**
+     * 인덱스에 반영된 BLACKLIST_ACCOUNTS 행 수이다. 테이블 COUNT(*)와 비교해 삭제 여부를 판단한다.
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    public long lastBlacklistId() {
+        return lastBlacklistId;
+    }
+
+    public LocalDateTime refreshedAt() {
+        return refreshedAt;
+    }
+
+    LocalDateTime rebuiltAt() {
+        return rebuiltAt;
+    }
+
+    record Entry(long blacklistId, String accountNumber, Long accountId) {
+    }
+}
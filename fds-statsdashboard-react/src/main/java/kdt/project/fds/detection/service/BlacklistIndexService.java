@@ -0,0 +1,137 @@
+package kdt.project.fds.detection.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.response.BlacklistMembershipResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이 파일은 블랙리스트 멤버십 인덱스 서비스 파일이다.
+ * BLACKLIST_ACCOUNTS와 해당 계좌의 ACCOUNT_ID를 메모리 인덱스로 유지하고, 주기적으로 마지막 BLACKLIST_ID 이후 행만 읽어 확장한다.
+ * 삭제가 있었거나(행 수 불일치) 전체 재구성 주기가 지나면 처음부터 다시 읽는다.
+ * 조회 스레드는 잠금 없이 현재 스냅샷만 읽는다.
+ */
+@Service
+public class BlacklistIndexService {
+    private static final Logger log = LoggerFactory.getLogger(BlacklistIndexService.class);
+    private static final String ENTRIES_AFTER_SQL = """
+            SELECT b.BLACKLIST_ID, b.ACCOUNT_NUMBER, a.ACCOUNT_ID
+            FROM BLACKLIST_ACCOUNTS b
+            LEFT JOIN ACCOUNTS a ON a.ACCOUNT_NUMBER = b.ACCOUNT_NUMBER
+            WHERE b.BLACKLIST_ID > ?
+            ORDER BY b.BLACKLIST_ID
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FraudDetectionProperties.Blacklist settings;
+    private final AtomicReference<BlacklistIndex> current = new AtomicReference<>();
+
+    public BlacklistIndexService(JdbcTemplate jdbcTemplate, FraudDetectionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = properties.getBlacklist();
+    }
+
+    /**
+     * 현재 인덱스 스냅샷을 반환한다. 아직 적재되지 않았으면 한 번 적재한다.
+     */
+    public BlacklistIndex current() {
+        BlacklistIndex index = current.get();
+        return index != null ? index : refresh();
+    }
+
+    /**
+     * 새로 추가된 블랙리스트 행을 반영한 스냅샷을 게시한다.
+     */
+    public synchronized BlacklistIndex refresh() {
+        BlacklistIndex previous = current.get();
+        LocalDateTime now = LocalDateTime.now();
+        if (previous == null || isRebuildDue(previous, now)) {
+            return publish(rebuild(now));
+        }
+
+        List<BlacklistIndex.Entry> added = loadEntriesAfter(previous.lastBlacklistId());
+        BlacklistIndex candidate = added.isEmpty()
+                ? previous
+                : previous.withAdded(added, settings.getBloomFalsePositiveRate(), now);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BLACKLIST_ACCOUNTS", Long.class);
+        if (total == null || total != candidate.rowCount()) {
+            // 삭제되었거나 BLACKLIST_ID 순서가 어긋난 행이 있으면 증분으로 맞출 수 없으므로 다시 읽는다.
+            return publish(rebuild(now));
+        }
+        return candidate == previous ? previous : publish(candidate);
+    }
+
+    /**
+     * 계좌 번호와 ACCOUNT_ID 각각의 블랙리스트 포함 여부를 현재 스냅샷으로 판정한다.
+     */
+    public BlacklistMembershipResponseDTO checkMembership(List<String> accountNumbers, List<Long> accountIds) {
+        BlacklistIndex index = current();
+        Map<String, Boolean> numberResults = new LinkedHashMap<>();
+        if (accountNumbers != null) {
+            for (String accountNumber : accountNumbers) {
+                numberResults.put(accountNumber, index.containsAccountNumber(accountNumber));
+            }
+        }
+        Map<Long, Boolean> idResults = new LinkedHashMap<>();
+        if (accountIds != null) {
+            for (Long accountId : accountIds) {
+                idResults.put(accountId, accountId != null && index.containsAccountId(accountId));
+            }
+        }
+        return new BlacklistMembershipResponseDTO(
+                numberResults,
+                idResults,
+                index.accountNumberCount(),
+                index.lastBlacklistId(),
+                index.refreshedAt()
+        );
+    }
+
+    @Scheduled(
+            fixedDelayString = "${fds.detection.blacklist.refresh-millis:30000}",
+            initialDelayString = "${fds.detection.blacklist.refresh-millis:30000}"
+    )
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception ex) {
+            // 갱신에 실패하면 이전 스냅샷으로 계속 응답한다.
+            log.warn("Blacklist index refresh failed: {}", ex.getMessage());
+        }
+    }
+
+    private boolean isRebuildDue(BlacklistIndex index, LocalDateTime now) {
+        // 블랙리스트 등록 뒤에 개설된 계좌의 ACCOUNT_ID도 주기적인 전체 재구성에서 채워진다.
+        return Duration.between(index.rebuiltAt(), now).toMillis() >= settings.getFullRebuildMillis();
+    }
+
+    private BlacklistIndex rebuild(LocalDateTime now) {
+        return BlacklistIndex.build(loadEntriesAfter(Long.MIN_VALUE), settings.getBloomFalsePositiveRate(), now);
+    }
+
+    private List<BlacklistIndex.Entry> loadEntriesAfter(long blacklistId) {
+        return jdbcTemplate.query(ENTRIES_AFTER_SQL, (rs, rowNum) -> {
+            long accountId = rs.getLong("ACCOUNT_ID");
+            boolean unresolved = rs.wasNull();
+            return new BlacklistIndex.Entry(
+                    rs.getLong("BLACKLIST_ID"),
+                    rs.getString("ACCOUNT_NUMBER"),
+                    unresolved ? null : accountId
+            );
+        }, blacklistId);
+    }
+
+    private BlacklistIndex publish(BlacklistIndex index) {
+        current.set(index);
+        return index;
+    }
+}
@@ -0,0 +1,81 @@
+package kdt.project.fds.detection.service;
+
+/**
+ * 이 파일은 문자열 블룸 필터 파일이다.
+ * 64비트 해시 하나를 두 값으로 나누어 k개 비트 위치를 만들고(Kirsch-Mitzenmacher), long 배열 비트맵에 기록한다.
+ * false이면 확실히 없는 값이고, true이면 정확한 집합에서 한 번 더 확인해야 한다.
+ */
+final class BloomFilter {
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+
+    private BloomFilter(long[] bits, int hashCount, int capacity) {
+        this.bits = bits;
+        this.bitCount = (long) bits.length * Long.SIZE;
+        this.hashCount = hashCount;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 비트 수와 해시 수를 정한다.
+     */
+    static BloomFilter create(int expectedSize, double falsePositiveRate) {
+        int capacity = Math.max(64, expectedSize);
+        double rate = Math.min(0.5, Math.max(1e-6, falsePositiveRate));
+        long optimalBits = (long) Math.ceil(-capacity * Math.log(rate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+        int hashCount = (int) Math.max(1, Math.round((double) words * Long.SIZE / capacity * Math.log(2)));
+        return new BloomFilter(new long[words], hashCount, capacity);
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 설계 용량이다. 원소가 이보다 많아지면 오탐률이 목표보다 높아지므로 새로 만든다.
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    BloomFilter copy() {
+        return new BloomFilter(bits.clone(), hashCount, capacity);
+    }
+
+    // 계좌 번호 문자열을 FNV-1a로 누적한 뒤 murmur3 fmix64로 섞어 상위/하위 32비트를 고르게 만든다.
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,236 @@
+package kdt.project.fds.detection.service;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+/**
+ * 이 파일은 거래 특징 벡터 행렬 파일이다.
+ * TRANSACTION_FEATURES의 이진 벡터(V_FEATURES_PACKED)나 쉼표 구분 문자열(V_FEATURES)을 한 번만 읽어 길이 1로 정규화한 float 값을
+ * 행 우선 배열 하나에 이어 붙여 보관한다. 정규화해 두었으므로 코사인 유사도는 내적 한 번으로 구한다.
+ * 적재가 끝난 뒤에는 바뀌지 않으므로 여러 조회 스레드가 잠금 없이 읽는다.
+ */
+final class FeatureMatrix {
+    private final float[] values;
+    private final long[] txIds;
+    private final LongIntHashMap rowsByTxId;
+    private final int dimensions;
+    private final int rows;
+
+    private FeatureMatrix(float[] values, long[] txIds, LongIntHashMap rowsByTxId, int dimensions, int rows) {
+        this.values = values;
+        this.txIds = txIds;
+        this.rowsByTxId = rowsByTxId;
+        this.dimensions = dimensions;
+        this.rows = rows;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    long txId(int row) {
+        return txIds[row];
+    }
+
+    /**
+     * 거래의 행 번호를 반환한다. 색인되지 않은 거래이면 -1을 반환한다.
+     */
+    int rowOf(long txId) {
+        return rowsByTxId.get(txId);
+    }
+
+    float[] values() {
+        return values;
+    }
+
+    int offset(int row) {
+        return row * dimensions;
+    }
+
+    float[] copyRow(int row) {
+        return Arrays.copyOfRange(values, row * dimensions, (row + 1) * dimensions);
+    }
+
+    float similarity(float[] query, int row) {
+        return VectorKernels.dot(query, 0, values, row * dimensions, dimensions);
+    }
+
+    float similarity(int left, int right) {
+        return VectorKernels.dot(values, left * dimensions, values, right * dimensions, dimensions);
+    }
+
+    /**
+     * 모든 행과 내적해 유사도 상위 k개를 최소 힙에 모은다. excludeRow는 결과에서 뺀다(-1이면 빼지 않는다).
+     */
+    NodeScoreHeap exactTopK(float[] query, int k, int excludeRow) {
+        NodeScoreHeap top = NodeScoreHeap.minHeap(k);
+        for (int row = 0; row < rows; row++) {
+            if (row != excludeRow) {
+                top.pushBounded(row, similarity(query, row), k);
+            }
+        }
+        return top;
+    }
+
+    /**
+     * 디코딩된 값 dimensions개를 target에 복사하고 길이 1로 정규화한다. 개수가 다르거나 영벡터이면 false를 반환한다.
+     */
+    static boolean copyNormalized(FloatBuffer source, float[] target, int offset, int dimensions) {
+        if (source.remaining() != dimensions) {
+            return false;
+        }
+        source.get(source.position(), target, offset, dimensions);
+        return normalize(target, offset, dimensions);
+    }
+
+    /**
+     * 쉼표 구분 특징값 문자열을 파싱해 dimensions개의 값을 target에 채우고 길이 1로 정규화한다.
+     * 개수가 다르거나, 숫자가 아니거나, 영벡터이면 false를 반환한다.
+     */
+    static boolean parseNormalized(String text, float[] target, int offset, int dimensions) {
+        int count = 0;
+        int start = 0;
+        int length = text.length();
+        while (start <= length) {
+            int end = text.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (count == dimensions) {
+                return false;
+            }
+            float value;
+            try {
+                value = Float.parseFloat(text.substring(start, end).trim());
+            } catch (NumberFormatException ex) {
+                return false;
+            }
+            if (!Float.isFinite(value)) {
+                return false;
+            }
+            target[offset + count++] = value;
+            start = end + 1;
+        }
+        return count == dimensions && normalize(target, offset, dimensions);
+    }
+
+    private static boolean normalize(float[] target, int offset, int dimensions) {
+        double squares = 0;
+        for (int i = 0; i < dimensions; i++) {
+            float value = target[offset + i];
+            if (!Float.isFinite(value)) {
+                return false;
+            }
+            squares += (double) value * value;
+        }
+        if (squares == 0) {
+            return false;
+        }
+        float scale = (float) (1.0 / Math.sqrt(squares));
+        for (int i = 0; i < dimensions; i++) {
+            target[offset + i] *= scale;
+        }
+        return true;
+    }
+
+    static int countDimensions(String text) {
+        int count = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == ',') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 조회 결과를 한 행씩 받아 행렬을 쌓는다. 차원 수는 처음 파싱에 성공한 행을 따른다.
+     */
+    static final class Builder {
+        private float[] values = new float[0];
+        private long[] txIds = new long[1_024];
+        private final LongIntHashMap rowsByTxId = new LongIntHashMap(1_024);
+        private int dimensions;
+        private int rows;
+        private long skipped;
+
+        private Builder() {
+        }
+
+        /**
+         * 텍스트 벡터 행을 추가한다. 파싱할 수 없거나 차원 수가 다르거나 이미 있는 거래이면 건너뛰고 false를 반환한다.
+         */
+        boolean add(long txId, String features) {
+            if (features == null || features.isBlank() || !reserve(txId, countDimensions(features))) {
+                skipped++;
+                return false;
+            }
+            if (!parseNormalized(features, values, rows * dimensions, dimensions)) {
+                skipped++;
+                return false;
+            }
+            return commit(txId);
+        }
+
+        /**
+         * 디코딩된 이진 벡터 행을 추가한다. 문자열을 거치지 않고 버퍼에서 바로 복사한다.
+         */
+        boolean add(long txId, FloatBuffer features) {
+            if (features == null || !reserve(txId, features.remaining())) {
+                skipped++;
+                return false;
+            }
+            if (!copyNormalized(features, values, rows * dimensions, dimensions)) {
+                skipped++;
+                return false;
+            }
+            return commit(txId);
+        }
+
+        private boolean reserve(long txId, int rowDimensions) {
+            if (rowsByTxId.get(txId) >= 0 || rowDimensions == 0) {
+                return false;
+            }
+            if (dimensions == 0) {
+                dimensions = rowDimensions;
+                values = new float[dimensions * 1_024];
+            }
+            if ((rows + 1) * dimensions > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            return true;
+        }
+
+        private boolean commit(long txId) {
+            if (rows == txIds.length) {
+                txIds = Arrays.copyOf(txIds, rows * 2);
+            }
+            txIds[rows] = txId;
+            rowsByTxId.put(txId, rows);
+            rows++;
+            return true;
+        }
+
+        long skipped() {
+            return skipped;
+        }
+
+        FeatureMatrix build() {
+            return new FeatureMatrix(
+                    Arrays.copyOf(values, rows * dimensions),
+                    Arrays.copyOf(txIds, rows),
+                    rowsByTxId,
+                    dimensions,
+                    rows
+            );
+        }
+    }
+}
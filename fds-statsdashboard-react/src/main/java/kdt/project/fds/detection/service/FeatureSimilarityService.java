@@ -0,0 +1,289 @@
+package kdt.project.fds.detection.service;
+
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.nio.FloatBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.response.SimilarTransactionsResponseDTO;
+import kdt.project.fds.other.vo.FeatureVectorCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 거래 특징 벡터 유사도 검색 서비스 파일이다.
+ * TRANSACTION_FEATURES의 이진 벡터(없으면 텍스트 V_FEATURES)를 한 번 읽어 정규화된 float 행렬로 두고, 기준 거래와 코사인 유사도가 높은 거래를 찾는다.
+ * 행 수가 설정값 이상이면 HNSW 그래프도 함께 만들어 근사 탐색에 쓰고, 작으면 Vector API 내적으로 전수 비교한다.
+ * 색인 적재는 이름이 붙은 읽기 전용 트랜잭션으로 실행되어 분석용 커넥션 풀로 라우팅되고, 주기적 재적재와 HNSW 구성은 전용 스레드에서 한다.
+ */
+@Service
+public class FeatureSimilarityService {
+    private static final Logger log = LoggerFactory.getLogger(FeatureSimilarityService.class);
+    private static final long HNSW_SEED = 42L;
+    // 이진 벡터가 있는 행은 텍스트 LOB을 가져오지 않는다.
+    private static final String FEATURES_SQL = """
+            SELECT TX_ID,
+                   V_FEATURES_PACKED,
+                   CASE WHEN V_FEATURES_PACKED IS NULL THEN V_FEATURES END AS V_FEATURES
+            FROM TRANSACTION_FEATURES
+            WHERE V_FEATURES_PACKED IS NOT NULL OR V_FEATURES IS NOT NULL
+            ORDER BY TX_ID DESC
+            FETCH FIRST ? ROWS ONLY
+            """;
+    private static final String NEIGHBOR_DETAILS_SQL = """
+            SELECT t.TX_ID, t.TX_TYPE, t.TX_AMOUNT, t.TX_TIMESTAMP, d.FRAUD_PROBABILITY, d.IS_FRAUD
+            FROM TRANSACTIONS t
+            LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
+            WHERE t.TX_ID IN (:txIds)
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate loadTransaction;
+    private final FraudDetectionProperties.Similarity settings;
+    private final AtomicReference<IndexSnapshot> current = new AtomicReference<>();
+    private final ScheduledExecutorService indexer;
+
+    public FeatureSimilarityService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            FraudDetectionProperties properties
+    ) {
+        this.settings = properties.getSimilarity();
+        this.streamingJdbcTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        this.streamingJdbcTemplate.setFetchSize(Math.max(1, settings.getFetchSize()));
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+        this.loadTransaction.setName(FeatureSimilarityService.class.getName() + ".loadIndex");
+        // 적재와 HNSW 구성은 수십 초가 걸릴 수 있어 공용 스케줄러 스레드 대신 전용 스레드에서 돌린다.
+        this.indexer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fds-feature-similarity-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1_000, settings.getRefreshMillis());
+        indexer.scheduleWithFixedDelay(this::scheduledRefresh, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 기준 거래와 가장 비슷한 거래 k개를 반환한다.
+     * mode는 AUTO(기본, HNSW가 있으면 사용), EXACT, HNSW 중 하나이다.
+     */
+    public SimilarTransactionsResponseDTO findSimilar(long txId, Integer k, String mode) {
+        int limit = k == null ? settings.getDefaultK() : k;
+        if (limit < 1 || limit > settings.getMaxK()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "k must be between 1 and " + settings.getMaxK());
+        }
+        String requestedMode = mode == null ? "AUTO" : mode.toUpperCase(Locale.ROOT);
+        if (!requestedMode.equals("AUTO") && !requestedMode.equals("EXACT") && !requestedMode.equals("HNSW")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "mode must be one of AUTO, EXACT, HNSW");
+        }
+
+        IndexSnapshot snapshot = current();
+        if (requestedMode.equals("HNSW") && snapshot.hnsw() == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "HNSW index is not built for " + snapshot.matrix().rows() + " rows");
+        }
+        FeatureMatrix matrix = snapshot.matrix();
+        int row = matrix.rowOf(txId);
+        if (row < 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Transaction has no indexed V_FEATURES: " + txId);
+        }
+
+        boolean useHnsw = !requestedMode.equals("EXACT") && snapshot.hnsw() != null;
+        long started = System.nanoTime();
+        float[] query = matrix.copyRow(row);
+        NodeScoreHeap top = useHnsw
+                ? snapshot.hnsw().search(query, limit, Math.max(limit, settings.getHnswEfSearch()), row)
+                : matrix.exactTopK(query, limit, row);
+        int[] rows = new int[top.size()];
+        float[] scores = new float[top.size()];
+        int found = top.drainDescending(rows, scores);
+        long searchMicros = (System.nanoTime() - started) / 1_000;
+
+        List<Long> neighborIds = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            neighborIds.add(matrix.txId(rows[i]));
+        }
+        Map<Long, NeighborDetail> details = loadDetails(neighborIds);
+        List<SimilarTransactionsResponseDTO.NeighborDTO> neighbors = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            long neighborId = neighborIds.get(i);
+            NeighborDetail detail = details.get(neighborId);
+            neighbors.add(new SimilarTransactionsResponseDTO.NeighborDTO(
+                    neighborId,
+                    scores[i],
+                    detail == null ? null : detail.txType(),
+                    detail == null ? null : detail.txAmount(),
+                    detail == null ? null : detail.txTimestamp(),
+                    detail == null ? null : detail.fraudProbability(),
+                    detail == null ? null : detail.isFraud()
+            ));
+        }
+        return new SimilarTransactionsResponseDTO(
+                txId,
+                useHnsw ? "HNSW" : "EXACT",
+                limit,
+                matrix.dimensions(),
+                matrix.rows(),
+                snapshot.skippedRows(),
+                snapshot.loadedAt(),
+                searchMicros,
+                neighbors
+        );
+    }
+
+    /**
+     * V_FEATURES를 다시 읽어 새 색인을 게시한다. HNSW 그래프가 필요하면 다 만든 뒤에 교체하므로
+     * 조회 스레드는 그동안 이전 색인을 그대로 쓴다.
+     */
+    public synchronized void refresh() {
+        IndexSnapshot loaded = loadMatrix();
+        IndexSnapshot previous = current.get();
+        if (!needsHnsw(loaded.matrix())) {
+            current.set(loaded);
+            return;
+        }
+        if (previous == null || previous.hnsw() == null) {
+            current.set(loaded);
+        }
+        current.set(withHnsw(loaded));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    /**
+     * 첫 조회는 행렬만 적재해 바로 전수 비교로 응답하고, HNSW 그래프는 색인 스레드에서 만들어 교체한다.
+     */
+    private IndexSnapshot current() {
+        IndexSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (current.get() == null) {
+                IndexSnapshot loaded = loadMatrix();
+                current.set(loaded);
+                if (needsHnsw(loaded.matrix())) {
+                    indexer.execute(() -> current.compareAndSet(loaded, withHnsw(loaded)));
+                }
+            }
+            return current.get();
+        }
+    }
+
+    private void scheduledRefresh() {
+        if (current.get() == null) {
+            // 한 번도 조회되지 않았으면 메모리를 쓰지 않도록 적재하지 않는다.
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception ex) {
+            log.warn("Feature similarity index refresh failed: {}", ex.getMessage());
+        }
+    }
+
+    private IndexSnapshot loadMatrix() {
+        long started = System.nanoTime();
+        FeatureMatrix.Builder builder = FeatureMatrix.builder();
+        loadTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(
+                FEATURES_SQL,
+                rs -> {
+                    long txId = rs.getLong("TX_ID");
+                    byte[] packed = rs.getBytes("V_FEATURES_PACKED");
+                    if (packed == null) {
+                        builder.add(txId, rs.getString("V_FEATURES"));
+                    } else {
+                        builder.add(txId, decodeOrNull(packed));
+                    }
+                },
+                Math.max(1, settings.getMaxRows())
+        ));
+        FeatureMatrix matrix = builder.build();
+        log.info("Feature similarity matrix loaded: {} rows x {} dims ({} skipped, simd={}) in {} ms",
+                matrix.rows(), matrix.dimensions(), builder.skipped(), VectorKernels.SIMD_AVAILABLE,
+                (System.nanoTime() - started) / 1_000_000);
+        return new IndexSnapshot(matrix, null, builder.skipped(), LocalDateTime.now());
+    }
+
+    private static FloatBuffer decodeOrNull(byte[] packed) {
+        try {
+            return FeatureVectorCodec.decode(packed);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private boolean needsHnsw(FeatureMatrix matrix) {
+        return settings.isHnswEnabled() && matrix.rows() >= settings.getHnswMinRows();
+    }
+
+    private IndexSnapshot withHnsw(IndexSnapshot loaded) {
+        long started = System.nanoTime();
+        HnswIndex hnsw = HnswIndex.build(
+                loaded.matrix(), settings.getHnswMaxConnections(), settings.getHnswEfConstruction(), HNSW_SEED);
+        log.info("Feature similarity HNSW graph built for {} rows in {} ms",
+                hnsw.size(), (System.nanoTime() - started) / 1_000_000);
+        return new IndexSnapshot(loaded.matrix(), hnsw, loaded.skippedRows(), loaded.loadedAt());
+    }
+
+    private Map<Long, NeighborDetail> loadDetails(List<Long> txIds) {
+        Map<Long, NeighborDetail> details = new HashMap<>();
+        if (txIds.isEmpty()) {
+            return details;
+        }
+        namedJdbcTemplate.query(NEIGHBOR_DETAILS_SQL, new MapSqlParameterSource("txIds", txIds), rs -> {
+            long txId = rs.getLong("TX_ID");
+            Timestamp timestamp = rs.getTimestamp("TX_TIMESTAMP");
+            double probability = rs.getDouble("FRAUD_PROBABILITY");
+            Double fraudProbability = rs.wasNull() ? null : probability;
+            int fraud = rs.getInt("IS_FRAUD");
+            Integer isFraud = rs.wasNull() ? null : fraud;
+            details.put(txId, new NeighborDetail(
+                    rs.getString("TX_TYPE"),
+                    rs.getBigDecimal("TX_AMOUNT"),
+                    timestamp == null ? null : timestamp.toLocalDateTime(),
+                    fraudProbability,
+                    isFraud
+            ));
+        });
+        return details;
+    }
+
+    private record NeighborDetail(
+            String txType,
+            BigDecimal txAmount,
+            LocalDateTime txTimestamp,
+            Double fraudProbability,
+            Integer isFraud
+    ) {
+    }
+
+    private record IndexSnapshot(FeatureMatrix matrix, HnswIndex hnsw, long skippedRows, LocalDateTime loadedAt) {
+    }
+}
@@ -0,0 +1,242 @@
+package kdt.project.fds.detection.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.request.FraudBacktestRequestDTO;
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.dto.response.FraudBacktestResponseDTO;
+import kdt.project.fds.detection.dto.response.FraudScoreResponseDTO;
+import kdt.project.fds.detection.vo.ScoringRules;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 탐지 임계값 백테스트 서비스 파일이다.
+ * 기간을 일 단위 파티션으로 나누어 fork-join으로 병렬 조회하고, 각 파티션의 거래를 큰 fetch size로 한 번만 읽으면서
+ * 모든 후보 설정으로 동시에 점수를 매겨 예상 탐지/조치 건수를 누적한다.
+ * 정답 라벨은 모델 출력과 무관한 FRAUD_REPORTS에서 가져온다. 출금 계좌나 입금 계좌에 확정(CONFIRMED) 신고가 있는
+ * 거래를 사기로 보고 후보별 적중/누락/오탐 수를 함께 계산한다.
+ * 신고는 계좌 단위이고 신고되지 않은 사기는 정상으로 집계되므로, 오탐 수는 상한이고 정밀도는 하한으로 읽어야 한다.
+ * 파티션 조회는 이름이 붙은 읽기 전용 트랜잭션으로 실행되어 분석용 커넥션 풀로 라우팅된다.
+ */
+@Service
+public class FraudBacktestService {
+    private static final String PARTITION_SQL = """
+            SELECT t.TX_ID, t.ACCOUNT_ID, a.ACCOUNT_NUMBER, t.TX_TYPE, t.TX_AMOUNT, t.BALANCE_AFTER_TX,
+                   t.TARGET_ACCOUNT_NUMBER, t.LOCATION, t.TX_TIMESTAMP,
+                   CASE WHEN EXISTS (
+                       SELECT 1
+                       FROM FRAUD_REPORTS r
+                       WHERE r.STATUS = 'CONFIRMED'
+                         AND r.ACCOUNT_NUMBER IN (a.ACCOUNT_NUMBER, t.TARGET_ACCOUNT_NUMBER)
+                   ) THEN 1 ELSE 0 END AS LABELLED_FRAUD
+            FROM TRANSACTIONS t
+            LEFT JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+            WHERE t.TX_TIMESTAMP >= ? AND t.TX_TIMESTAMP < ?
+            """;
+    private static final String CURRENT_CANDIDATE = "current";
+
+    // 후보별 누적 지표의 배열 위치이다.
+    private static final int DETECTIONS = 0;
+    private static final int BLOCKED = 1;
+    private static final int REVIEWED = 2;
+    private static final int ALLOWED = 3;
+    private static final int CAUGHT = 4;
+    private static final int FALSE_POSITIVES = 5;
+    private static final int METRICS = 6;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate partitionTransaction;
+    private final FraudScoringService scoringService;
+    private final FraudScoringRulesProvider rulesProvider;
+    private final FraudDetectionProperties.Backtest settings;
+
+    public FraudBacktestService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            FraudScoringService scoringService,
+            FraudScoringRulesProvider rulesProvider,
+            FraudDetectionProperties properties
+    ) {
+        this.settings = properties.getBacktest();
+        this.streamingJdbcTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        this.streamingJdbcTemplate.setFetchSize(Math.max(1, settings.getFetchSize()));
+        this.partitionTransaction = new TransactionTemplate(transactionManager);
+        this.partitionTransaction.setReadOnly(true);
+        this.partitionTransaction.setName(FraudBacktestService.class.getName() + ".partition");
+        this.scoringService = scoringService;
+        this.rulesProvider = rulesProvider;
+    }
+
+    /**
+     * 기간 내 거래를 현재 설정과 후보 설정으로 재평가해 설정별 예상 건수를 반환한다.
+     */
+    public FraudBacktestResponseDTO backtest(FraudBacktestRequestDTO request) {
+        if (request.to().isBefore(request.from())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "to must not be before from");
+        }
+        long days = ChronoUnit.DAYS.between(request.from(), request.to()) + 1;
+        if (days > settings.getMaxRangeDays()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Backtest range must be at most " + settings.getMaxRangeDays() + " days");
+        }
+        if (request.candidates().size() > settings.getMaxCandidates()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "At most " + settings.getMaxCandidates() + " candidates are allowed");
+        }
+
+        List<String> names = new ArrayList<>(request.candidates().size() + 1);
+        List<ScoringRules> candidates = new ArrayList<>(request.candidates().size() + 1);
+        names.add(CURRENT_CANDIDATE);
+        candidates.add(rulesProvider.current());
+        for (FraudBacktestRequestDTO.CandidateDTO candidate : request.candidates()) {
+            names.add(candidate.name());
+            candidates.add(rulesProvider.withOverrides(candidate.config()));
+        }
+
+        long started = System.nanoTime();
+        ScoringRules[] rules = candidates.toArray(ScoringRules[]::new);
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, settings.getParallelism()));
+        Totals totals;
+        try {
+            totals = pool.invoke(new PartitionTask(request.from(), (int) days, rules));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        List<FraudBacktestResponseDTO.CandidateResultDTO> results = new ArrayList<>(rules.length);
+        for (int c = 0; c < rules.length; c++) {
+            long[] metrics = totals.metrics[c];
+            long missed = totals.labelledFraud - metrics[CAUGHT];
+            results.add(new FraudBacktestResponseDTO.CandidateResultDTO(
+                    names.get(c),
+                    rules[c].blockThreshold(),
+                    rules[c].reviewThreshold(),
+                    metrics[DETECTIONS],
+                    metrics[BLOCKED],
+                    metrics[REVIEWED],
+                    metrics[ALLOWED],
+                    metrics[CAUGHT],
+                    missed,
+                    metrics[FALSE_POSITIVES],
+                    ratio(metrics[CAUGHT], metrics[DETECTIONS]),
+                    ratio(metrics[CAUGHT], totals.labelledFraud)
+            ));
+        }
+        return new FraudBacktestResponseDTO(
+                request.from(),
+                request.to(),
+                totals.transactions,
+                totals.labelledFraud,
+                (int) days,
+                elapsedMillis,
+                results
+        );
+    }
+
+    /**
+     * 하루치 거래를 스트리밍하며 모든 후보 설정으로 점수를 매긴다.
+     */
+    private Totals scanPartition(LocalDate day, ScoringRules[] rules) {
+        Totals totals = new Totals(rules.length);
+        LocalDateTime detectedAt = LocalDateTime.now();
+        partitionTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(PARTITION_SQL, rs -> {
+            Timestamp txTimestamp = rs.getTimestamp("TX_TIMESTAMP");
+            FraudScoreRequestDTO transaction = new FraudScoreRequestDTO(
+                    rs.getLong("TX_ID"),
+                    rs.getLong("ACCOUNT_ID"),
+                    rs.getString("ACCOUNT_NUMBER"),
+                    rs.getString("TX_TYPE"),
+                    rs.getBigDecimal("TX_AMOUNT"),
+                    rs.getBigDecimal("BALANCE_AFTER_TX"),
+                    rs.getString("TARGET_ACCOUNT_NUMBER"),
+                    rs.getString("LOCATION"),
+                    txTimestamp == null ? null : txTimestamp.toLocalDateTime()
+            );
+            boolean labelledFraud = rs.getInt("LABELLED_FRAUD") == 1;
+            totals.transactions++;
+            if (labelledFraud) {
+                totals.labelledFraud++;
+            }
+            for (int c = 0; c < rules.length; c++) {
+                FraudScoreResponseDTO result = scoringService.score(transaction, rules[c], detectedAt);
+                long[] metrics = totals.metrics[c];
+                switch (result.actionTaken()) {
+                    case FraudScoringService.ACTION_BLOCK -> metrics[BLOCKED]++;
+                    case FraudScoringService.ACTION_REVIEW -> metrics[REVIEWED]++;
+                    default -> metrics[ALLOWED]++;
+                }
+                if (result.isFraud() == 1) {
+                    metrics[DETECTIONS]++;
+                    metrics[labelledFraud ? CAUGHT : FALSE_POSITIVES]++;
+                }
+            }
+        }, Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay())));
+        return totals;
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0.0 : (double) numerator / denominator;
+    }
+
+    /**
+     * 기간을 반으로 나누어 하루 단위가 될 때까지 분할하고, 결과 지표는 더해서 합친다.
+     */
+    private final class PartitionTask extends RecursiveTask<Totals> {
+        private final LocalDate from;
+        private final int days;
+        private final ScoringRules[] rules;
+
+        private PartitionTask(LocalDate from, int days, ScoringRules[] rules) {
+            this.from = from;
+            this.days = days;
+            this.rules = rules;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (days == 1) {
+                return scanPartition(from, rules);
+            }
+            int half = days / 2;
+            PartitionTask right = new PartitionTask(from.plusDays(half), days - half, rules);
+            right.fork();
+            Totals left = new PartitionTask(from, half, rules).compute();
+            return left.merge(right.join());
+        }
+    }
+
+    private static final class Totals {
+        private final long[][] metrics;
+        private long transactions;
+        private long labelledFraud;
+
+        private Totals(int candidates) {
+            this.metrics = new long[candidates][METRICS];
+        }
+
+        private Totals merge(Totals other) {
+            transactions += other.transactions;
+            labelledFraud += other.labelledFraud;
+            for (int c = 0; c < metrics.length; c++) {
+                for (int m = 0; m < METRICS; m++) {
+                    metrics[c][m] += other.metrics[c][m];
+                }
+            }
+            return this;
+        }
+    }
+}
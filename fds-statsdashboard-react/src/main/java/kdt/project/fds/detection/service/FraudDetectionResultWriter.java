@@ -0,0 +1,155 @@
+package kdt.project.fds.detection.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.response.FraudScoreResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 사기 탐지 결과 일괄 저장 파일이다.
+ * 점수 계산 결과를 대기열에 모았다가 주기적으로 FRAUD_DETECTION_RESULTS에 JDBC 배치로 저장한다.
+ * 같은 거래를 다시 점수 매겨도 TX_ID 유일 제약에 걸리지 않도록 MERGE로 최신 점수를 덮어쓴다.
+ * IS_FRAUD는 처음 저장할 때만 채우고 재채점으로는 바꾸지 않는다. 확정 판정이나 검토 결과가 모델 예측으로 덮이지 않게 하기 위함이다.
+ */
+@Component
+public class FraudDetectionResultWriter {
+    private static final Logger log = LoggerFactory.getLogger(FraudDetectionResultWriter.class);
+    private static final String MERGE_SQL = """
+            MERGE INTO FRAUD_DETECTION_RESULTS d
+            USING (SELECT CAST(? AS NUMBER(19)) AS TX_ID FROM DUAL) s
+            ON (d.TX_ID = s.TX_ID)
+            WHEN MATCHED THEN UPDATE SET
+                d.FRAUD_PROBABILITY = ?, d.DETECTED_ENGINE = ?,
+                d.THRESHOLD_VALUE = ?, d.ACTION_TAKEN = ?, d.DETECTED_AT = ?
+            WHEN NOT MATCHED THEN INSERT (
+                DETECTION_ID, TX_ID, FRAUD_PROBABILITY, IS_FRAUD, DETECTED_ENGINE, THRESHOLD_VALUE,
+                ACTION_TAKEN, DETECTED_AT
+            ) VALUES (SEQ_DETECTION_ID.NEXTVAL, s.TX_ID, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int[] MERGE_TYPES = {
+            Types.BIGINT,
+            Types.DOUBLE, Types.VARCHAR, Types.DOUBLE, Types.VARCHAR, Types.TIMESTAMP,
+            Types.DOUBLE, Types.INTEGER, Types.VARCHAR, Types.DOUBLE, Types.VARCHAR, Types.TIMESTAMP
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final BlockingQueue<FraudScoreResponseDTO> pending;
+    private final ScheduledExecutorService flusher;
+    private final Counter writtenRows;
+    private final Counter failedRows;
+
+    public FraudDetectionResultWriter(
+            JdbcTemplate jdbcTemplate,
+            FraudDetectionProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, properties.getWriteBatchSize());
+        this.pending = new ArrayBlockingQueue<>(Math.max(batchSize, properties.getWriteQueueCapacity()));
+        this.writtenRows = Counter.builder("fds.detection.results.written")
+                .description("Fraud detection results written to FRAUD_DETECTION_RESULTS")
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("fds.detection.results.failed")
+                .description("Fraud detection results that could not be written")
+                .register(meterRegistry);
+        meterRegistry.gauge("fds.detection.results.pending", pending, BlockingQueue::size);
+        long interval = Math.max(10, properties.getWriteIntervalMillis());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fds-detection-result-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 판정 결과를 저장 대기열에 넣는다.
+     * 대기열이 가득 차면 호출 스레드가 한 배치를 직접 저장한 뒤 다시 시도한다.
+     */
+    public void enqueue(FraudScoreResponseDTO result) {
+        while (!pending.offer(result)) {
+            writeBatch();
+        }
+    }
+
+    /**
+     * 대기 중인 결과를 모두 저장하고 저장한 행 수를 반환한다.
+     */
+    public int flush() {
+        int written = 0;
+        int batch;
+        while ((batch = writeBatch()) > 0) {
+            written += batch;
+        }
+        return written;
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flushQuietly();
+    }
+
+    private int writeBatch() {
+        List<FraudScoreResponseDTO> batch = new ArrayList<>(batchSize);
+        pending.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(MERGE_SQL, batch.stream().map(FraudDetectionResultWriter::toArgs).toList(), MERGE_TYPES);
+            writtenRows.increment(batch.size());
+        } catch (DataAccessException ex) {
+            // 배치 하나가 실패해도 나머지 결과는 남기도록 한 행씩 다시 저장한다.
+            for (FraudScoreResponseDTO result : batch) {
+                try {
+                    jdbcTemplate.update(MERGE_SQL, toArgs(result), MERGE_TYPES);
+                    writtenRows.increment();
+                } catch (DataAccessException rowEx) {
+                    failedRows.increment();
+                    log.warn("Fraud detection result for tx {} was not written: {}", result.txId(), rowEx.getMessage());
+                }
+            }
+        }
+        return batch.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception ex) {
+            log.warn("Fraud detection result flush failed: {}", ex.getMessage());
+        }
+    }
+
+    private static Object[] toArgs(FraudScoreResponseDTO result) {
+        Timestamp detectedAt = Timestamp.valueOf(result.detectedAt());
+        return new Object[]{
+                result.txId(),
+                result.fraudProbability(), result.detectedEngine(),
+                result.thresholdValue(), result.actionTaken(), detectedAt,
+                result.fraudProbability(), result.isFraud(), result.detectedEngine(),
+                result.thresholdValue(), result.actionTaken(), detectedAt
+        };
+    }
+}
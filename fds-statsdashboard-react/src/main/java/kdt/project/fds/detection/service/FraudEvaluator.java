@@ -0,0 +1,16 @@
+package kdt.project.fds.detection.service;
+
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.vo.ScoringRules;
+
+/**
+ * 이 파일은 사기 점수 평가기 인터페이스 파일이다.
+ * 평가기는 거래 한 건의 위험도를 0~1로 반환하며, 이 인터페이스를 구현한 빈을 등록하면 엔진에 자동으로 추가된다.
+ * 요청 경로에서 호출되므로 구현은 규칙 스냅샷과 거래 값만 사용하고 I/O를 하지 않아야 한다.
+ */
+public interface FraudEvaluator {
+    /**
+     * 거래의 위험도를 0(정상)~1(사기 확실) 사이 값으로 반환한다.
+     */
+    double evaluate(FraudScoreRequestDTO transaction, ScoringRules rules);
+}
@@ -0,0 +1,83 @@
+package kdt.project.fds.detection.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import kdt.project.fds.detection.vo.ScoringRules;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이 파일은 사기 점수 규칙 제공 서비스 파일이다.
+ * FDS_CONFIG의 detection.* 설정을 읽어 ScoringRules 스냅샷으로 교체 게시한다.
+ * 블랙리스트는 BlacklistIndexService가 따로 유지하는 인덱스 하나를 평가기가 직접 읽으므로 여기서 다시 읽지 않는다.
+ * 점수 계산 스레드는 잠금 없이 현재 스냅샷만 읽고, 재적재는 주기 작업이나 관리자 요청에서만 일어난다.
+ */
+@Service
+public class FraudScoringRulesProvider {
+    private static final Logger log = LoggerFactory.getLogger(FraudScoringRulesProvider.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicReference<ScoringRules> current = new AtomicReference<>();
+    private volatile Map<String, String> config = Map.of();
+
+    public FraudScoringRulesProvider(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 현재 규칙 스냅샷을 반환한다. 아직 적재되지 않았으면 한 번 적재한다.
+     */
+    public ScoringRules current() {
+        ScoringRules rules = current.get();
+        return rules != null ? rules : reload();
+    }
+
+    /**
+     * 현재 FDS_CONFIG 값에 일부 키를 덮어쓴 규칙을 만든다. 게시된 스냅샷은 바꾸지 않는다.
+     * 백테스트처럼 후보 설정을 현재 블랙리스트와 함께 평가할 때 사용한다.
+     */
+    public ScoringRules withOverrides(Map<String, String> overrides) {
+        ScoringRules base = current();
+        if (overrides == null || overrides.isEmpty()) {
+            return base;
+        }
+        Map<String, String> merged = new HashMap<>(config);
+        merged.putAll(overrides);
+        return ScoringRules.fromConfig(merged);
+    }
+
+    /**
+     * FDS_CONFIG를 다시 읽어 새 스냅샷을 게시한다.
+     */
+    public synchronized ScoringRules reload() {
+        Map<String, String> loaded = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT CONFIG_KEY, CONFIG_VALUE
+                FROM FDS_CONFIG
+                WHERE CONFIG_KEY LIKE 'detection.%'
+                """, rs -> {
+            loaded.put(rs.getString("CONFIG_KEY"), rs.getString("CONFIG_VALUE"));
+        });
+        ScoringRules rules = ScoringRules.fromConfig(loaded);
+        this.config = Map.copyOf(loaded);
+        current.set(rules);
+        return rules;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${fds.detection.rules-refresh-millis:30000}",
+            initialDelayString = "${fds.detection.rules-refresh-millis:30000}"
+    )
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception ex) {
+            // 재적재에 실패하면 이전 스냅샷으로 계속 점수를 계산한다.
+            log.warn("Fraud scoring rules refresh failed: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package kdt.project.fds.detection.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.dto.response.FraudScoreResponseDTO;
+import kdt.project.fds.detection.vo.ScoringRules;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이 파일은 실시간 사기 점수 서비스 파일이다.
+ * 등록된 FraudEvaluator들의 위험도를 noisy-OR(1 - Π(1 - 위험도))로 합쳐 사기 확률을 만들고,
+ * FDS_CONFIG의 임계값으로 BLOCK/REVIEW/ALLOW를 정한다.
+ * 점수 계산은 메모리의 규칙 스냅샷만 사용하며, 결과 저장은 FraudDetectionResultWriter가 비동기 배치로 처리한다.
+ */
+@Service
+public class FraudScoringService {
+    public static final String ACTION_BLOCK = "BLOCK";
+    public static final String ACTION_REVIEW = "REVIEW";
+    public static final String ACTION_ALLOW = "ALLOW";
+
+    private final FraudEvaluator[] evaluators;
+    private final FraudScoringRulesProvider rulesProvider;
+    private final FraudDetectionResultWriter resultWriter;
+    private final String engineName;
+    private final Timer scoreTimer;
+    private final Counter blocked;
+    private final Counter reviewed;
+    private final Counter allowed;
+
+    public FraudScoringService(
+            List<FraudEvaluator> evaluators,
+            FraudScoringRulesProvider rulesProvider,
+            FraudDetectionResultWriter resultWriter,
+            FraudDetectionProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.evaluators = evaluators.toArray(FraudEvaluator[]::new);
+        this.rulesProvider = rulesProvider;
+        this.resultWriter = resultWriter;
+        this.engineName = properties.getEngineName();
+        this.scoreTimer = Timer.builder("fds.detection.score")
+                .description("In-memory scoring latency of a transaction batch")
+                .register(meterRegistry);
+        this.blocked = decisionCounter(meterRegistry, ACTION_BLOCK);
+        this.reviewed = decisionCounter(meterRegistry, ACTION_REVIEW);
+        this.allowed = decisionCounter(meterRegistry, ACTION_ALLOW);
+    }
+
+    /**
+     * 거래 목록에 점수를 매기고 판정 결과를 저장 대기열에 넣은 뒤 반환한다.
+     */
+    public List<FraudScoreResponseDTO> scoreAndRecord(List<FraudScoreRequestDTO> transactions) {
+        long started = System.nanoTime();
+        ScoringRules rules = rulesProvider.current();
+        LocalDateTime detectedAt = LocalDateTime.now();
+        List<FraudScoreResponseDTO> results = new ArrayList<>(transactions.size());
+        for (FraudScoreRequestDTO transaction : transactions) {
+            FraudScoreResponseDTO result = score(transaction, rules, detectedAt);
+            count(result.actionTaken());
+            results.add(result);
+        }
+        scoreTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        for (FraudScoreResponseDTO result : results) {
+            resultWriter.enqueue(result);
+        }
+        return results;
+    }
+
+    /**
+     * 주어진 규칙 스냅샷으로 거래 한 건의 판정 결과를 계산한다. DB나 대기열에 접근하지 않는다.
+     */
+    public FraudScoreResponseDTO score(FraudScoreRequestDTO transaction, ScoringRules rules, LocalDateTime detectedAt) {
+        double normal = 1.0;
+        for (FraudEvaluator evaluator : evaluators) {
+            double risk = evaluator.evaluate(transaction, rules);
+            normal *= 1.0 - Math.max(0.0, Math.min(1.0, risk));
+            if (normal == 0.0) {
+                break;
+            }
+        }
+        double probability = 1.0 - normal;
+        String action = probability >= rules.blockThreshold()
+                ? ACTION_BLOCK
+                : probability >= rules.reviewThreshold() ? ACTION_REVIEW : ACTION_ALLOW;
+        return new FraudScoreResponseDTO(
+                transaction.txId(),
+                probability,
+                probability >= rules.blockThreshold() ? 1 : 0,
+                engineName,
+                rules.blockThreshold(),
+                action,
+                detectedAt
+        );
+    }
+
+    private void count(String action) {
+        switch (action) {
+            case ACTION_BLOCK -> blocked.increment();
+            case ACTION_REVIEW -> reviewed.increment();
+            default -> allowed.increment();
+        }
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("fds.detection.decisions")
+                .description("Fraud scoring decisions by action")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+}
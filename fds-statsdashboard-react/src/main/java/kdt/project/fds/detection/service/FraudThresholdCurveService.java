@@ -0,0 +1,197 @@
+package kdt.project.fds.detection.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.response.FraudThresholdCurveResponseDTO;
+import kdt.project.fds.detection.vo.ProbabilityHistogram;
+import kdt.project.fds.detection.vo.ThresholdCurve;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 임계값 what-if 곡선 서비스 파일이다.
+ * FRAUD_DETECTION_RESULTS를 일자/엔진/확률 구간별로 DB에서 집계해 1000구간 히스토그램으로 보관하고,
+ * 요청 기간의 히스토그램을 더해 임계값별 탐지 수와 사기 확정 수 곡선을 만든다.
+ * 사기 확정 라벨은 엔진 자신의 판정인 IS_FRAUD가 아니라 백테스트와 같이 출금/입금 계좌의 확정(CONFIRMED) FRAUD_REPORTS에서 가져오므로,
+ * 같은 기간의 곡선과 백테스트 적중 수가 같은 기준으로 비교된다.
+ * 지난 날짜의 히스토그램은 메모리에 두고 재사용하며, 오늘 날짜는 결과가 계속 쌓이므로 매번 다시 집계한다.
+ */
+@Service
+public class FraudThresholdCurveService {
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String ALL_ENGINES = "ALL";
+    // 구간 번호는 ProbabilityHistogram.binOf와 같은 방식(BINS = 1000, 경계 보정값 포함)으로 계산한다.
+    private static final String DAY_HISTOGRAM_SQL = """
+            SELECT DETECTED_DAY, ENGINE, BIN,
+                   COUNT(*) AS DETECTION_COUNT,
+                   SUM(LABELLED_FRAUD) AS FRAUD_COUNT
+            FROM (
+                SELECT TRUNC(d.DETECTED_AT) AS DETECTED_DAY,
+                       NVL(d.DETECTED_ENGINE, 'UNKNOWN') AS ENGINE,
+                       FLOOR(d.FRAUD_PROBABILITY * 1000 + 0.000000001) AS BIN,
+                       CASE WHEN EXISTS (
+                           SELECT 1
+                           FROM FRAUD_REPORTS r
+                           WHERE r.STATUS = 'CONFIRMED'
+                             AND r.ACCOUNT_NUMBER IN (a.ACCOUNT_NUMBER, t.TARGET_ACCOUNT_NUMBER)
+                       ) THEN 1 ELSE 0 END AS LABELLED_FRAUD
+                FROM FRAUD_DETECTION_RESULTS d
+                LEFT JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
+                LEFT JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+                WHERE d.DETECTED_AT >= ? AND d.DETECTED_AT < ?
+                  AND d.FRAUD_PROBABILITY IS NOT NULL
+            )
+            GROUP BY DETECTED_DAY, ENGINE, BIN
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate loadTransaction;
+    private final FraudDetectionProperties.ThresholdCurve settings;
+    private final Map<LocalDate, CachedDay> closedDays = new ConcurrentHashMap<>();
+
+    public FraudThresholdCurveService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            FraudDetectionProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+        this.loadTransaction.setName(FraudThresholdCurveService.class.getName() + ".loadDays");
+        this.settings = properties.getThresholdCurve();
+    }
+
+    /**
+     * 기간과 엔진에 대한 임계값 곡선을 반환한다.
+     * engine이 비어 있으면 모든 엔진을 합치고, threshold가 있으면 해당 임계값의 값을 함께 담는다.
+     */
+    public FraudThresholdCurveResponseDTO getCurve(LocalDate fromDate, LocalDate toDate, String engine, Double threshold) {
+        LocalDate today = LocalDate.now(DEFAULT_ZONE);
+        LocalDate to = toDate == null ? today : toDate;
+        LocalDate from = fromDate == null ? to.minusDays(6) : fromDate;
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "toDate must not be before fromDate");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > settings.getMaxRangeDays()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Threshold curve range must be at most " + settings.getMaxRangeDays() + " days");
+        }
+        if (threshold != null && (threshold < 0.0 || threshold > 1.0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "threshold must be between 0 and 1");
+        }
+        String engineFilter = engine == null || engine.isBlank() || ALL_ENGINES.equalsIgnoreCase(engine.trim())
+                ? null
+                : engine.trim();
+
+        Map<LocalDate, Map<String, ProbabilityHistogram>> days = loadDays(from, to, today);
+        ProbabilityHistogram merged = new ProbabilityHistogram();
+        TreeSet<String> engines = new TreeSet<>();
+        for (Map<String, ProbabilityHistogram> byEngine : days.values()) {
+            for (Map.Entry<String, ProbabilityHistogram> entry : byEngine.entrySet()) {
+                engines.add(entry.getKey());
+                if (engineFilter == null || engineFilter.equals(entry.getKey())) {
+                    merged.merge(entry.getValue());
+                }
+            }
+        }
+
+        ThresholdCurve curve = merged.toCurve();
+        FraudThresholdCurveResponseDTO.ThresholdPointDTO point = threshold == null
+                ? null
+                : FraudThresholdCurveResponseDTO.ThresholdPointDTO.of(curve, threshold);
+        return new FraudThresholdCurveResponseDTO(
+                from,
+                to,
+                engineFilter == null ? ALL_ENGINES : engineFilter,
+                List.copyOf(engines),
+                ProbabilityHistogram.BINS,
+                curve.totalDetections(),
+                curve.totalConfirmedFraud(),
+                curve.detections(),
+                curve.confirmedFraud(),
+                point
+        );
+    }
+
+    /**
+     * 기간의 일자별 엔진 히스토그램을 반환한다. 캐시에 없는 날짜만 한 번의 집계 쿼리로 읽는다.
+     */
+    private Map<LocalDate, Map<String, ProbabilityHistogram>> loadDays(LocalDate from, LocalDate to, LocalDate today) {
+        long now = System.currentTimeMillis();
+        Map<LocalDate, Map<String, ProbabilityHistogram>> result = new HashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            CachedDay cached = day.isBefore(today) ? closedDays.get(day) : null;
+            if (cached != null && now - cached.loadedAt() < settings.getClosedDayTtlMillis()) {
+                result.put(day, cached.histograms());
+                continue;
+            }
+            if (firstMissing == null) {
+                firstMissing = day;
+            }
+            lastMissing = day;
+        }
+        if (firstMissing == null) {
+            return result;
+        }
+
+        Map<LocalDate, Map<String, ProbabilityHistogram>> loaded = queryDays(firstMissing, lastMissing);
+        for (LocalDate day = firstMissing; !day.isAfter(lastMissing); day = day.plusDays(1)) {
+            if (result.containsKey(day)) {
+                continue;
+            }
+            Map<String, ProbabilityHistogram> histograms = loaded.getOrDefault(day, Map.of());
+            result.put(day, histograms);
+            if (day.isBefore(today)) {
+                closedDays.put(day, new CachedDay(histograms, now));
+            }
+        }
+        evictOverflow();
+        return result;
+    }
+
+    private Map<LocalDate, Map<String, ProbabilityHistogram>> queryDays(LocalDate from, LocalDate to) {
+        Map<LocalDate, Map<String, ProbabilityHistogram>> loaded = new HashMap<>();
+        loadTransaction.executeWithoutResult(status -> jdbcTemplate.query(DAY_HISTOGRAM_SQL, rs -> {
+            LocalDate day = rs.getTimestamp("DETECTED_DAY").toLocalDateTime().toLocalDate();
+            int bin = Math.max(0, Math.min(ProbabilityHistogram.BINS - 1, rs.getInt("BIN")));
+            loaded.computeIfAbsent(day, ignored -> new HashMap<>())
+                    .computeIfAbsent(rs.getString("ENGINE"), ignored -> new ProbabilityHistogram())
+                    .addBin(bin, rs.getLong("DETECTION_COUNT"), rs.getLong("FRAUD_COUNT"));
+        }, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay())));
+        return loaded;
+    }
+
+    /**
+     * 캐시된 날짜 수가 한도를 넘으면 가장 오래전에 읽은 날짜부터 버린다.
+     */
+    private void evictOverflow() {
+        int overflow = closedDays.size() - Math.max(0, settings.getCacheDays());
+        if (overflow <= 0) {
+            return;
+        }
+        List<Map.Entry<LocalDate, CachedDay>> entries = new ArrayList<>(closedDays.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().loadedAt()));
+        for (int i = 0; i < overflow && i < entries.size(); i++) {
+            closedDays.remove(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+    }
+
+    private record CachedDay(Map<String, ProbabilityHistogram> histograms, long loadedAt) {
+    }
+}
@@ -0,0 +1,261 @@
+package kdt.project.fds.detection.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 이 파일은 특징 벡터 근사 최근접 탐색용 HNSW(hierarchical navigable small world) 그래프 파일이다.
+ * 행마다 지수 분포로 뽑은 최고 층까지 이웃 목록을 두고, 위층에서 탐욕 탐색으로 진입점을 좁힌 뒤 0층에서 ef개 후보로 넓게 찾는다.
+ * 이웃은 "후보가 이미 고른 이웃보다 질의에 더 가까울 때만 고른다"는 휴리스틱으로 골라 군집 사이 연결을 남긴다.
+ * 이웃 목록은 [개수, 이웃...] 형태의 int 배열이며, 구성은 한 스레드에서 하고 공개 뒤에는 읽기만 한다.
+ */
+final class HnswIndex {
+    private final FeatureMatrix vectors;
+    private final int maxConnections;
+    private final int maxConnectionsLevel0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final int[][][] links;
+    private int entryPoint = -1;
+    private int topLevel = -1;
+
+    private HnswIndex(FeatureMatrix vectors, int maxConnections, int efConstruction) {
+        this.vectors = vectors;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsLevel0 = maxConnections * 2;
+        this.efConstruction = Math.max(efConstruction, maxConnections);
+        this.levelMultiplier = 1.0 / Math.log(maxConnections);
+        this.links = new int[vectors.rows()][][];
+    }
+
+    /**
+     * 행렬의 모든 행을 차례로 넣어 그래프를 만든다. 같은 seed이면 같은 그래프가 나온다.
+     */
+    static HnswIndex build(FeatureMatrix vectors, int maxConnections, int efConstruction, long seed) {
+        HnswIndex index = new HnswIndex(vectors, Math.max(2, maxConnections), efConstruction);
+        SplittableRandom random = new SplittableRandom(seed);
+        VisitedRows visited = new VisitedRows(vectors.rows());
+        for (int row = 0; row < vectors.rows(); row++) {
+            index.insert(row, index.randomLevel(random), visited);
+        }
+        return index;
+    }
+
+    int size() {
+        return links.length;
+    }
+
+    /**
+     * 질의와 가까운 행 k개를 최소 힙으로 반환한다. ef가 클수록 재현율이 높고 느리다.
+     */
+    NodeScoreHeap search(float[] query, int k, int ef, int excludeRow) {
+        NodeScoreHeap top = NodeScoreHeap.minHeap(k);
+        if (entryPoint < 0) {
+            return top;
+        }
+        int current = entryPoint;
+        float currentScore = vectors.similarity(query, current);
+        for (int level = topLevel; level > 0; level--) {
+            current = greedyClosest(query, current, currentScore, level);
+            currentScore = vectors.similarity(query, current);
+        }
+        VisitedRows visited = new VisitedRows(links.length);
+        // 질의 자신을 결과에서 빼므로 한 칸 더 찾는다.
+        NodeScoreHeap found = searchLayer(query, current, currentScore, Math.max(ef, k + 1), 0, visited);
+        while (!found.isEmpty()) {
+            float score = found.peekScore();
+            int row = found.pop();
+            if (row != excludeRow) {
+                top.pushBounded(row, score, k);
+            }
+        }
+        return top;
+    }
+
+    private int randomLevel(SplittableRandom random) {
+        return (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private void insert(int row, int level, VisitedRows visited) {
+        links[row] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            links[row][l] = new int[capacity(l) + 1];
+        }
+        if (entryPoint < 0) {
+            entryPoint = row;
+            topLevel = level;
+            return;
+        }
+        float[] query = vectors.copyRow(row);
+        int current = entryPoint;
+        float currentScore = vectors.similarity(query, current);
+        for (int l = topLevel; l > level; l--) {
+            current = greedyClosest(query, current, currentScore, l);
+            currentScore = vectors.similarity(query, current);
+        }
+        for (int l = Math.min(level, topLevel); l >= 0; l--) {
+            visited.clear();
+            NodeScoreHeap candidates = searchLayer(query, current, currentScore, efConstruction, l, visited);
+            int[] ordered = new int[candidates.size()];
+            float[] scores = new float[candidates.size()];
+            int count = candidates.drainDescending(ordered, scores);
+            current = ordered[0];
+            currentScore = scores[0];
+            int[] selected = selectNeighbors(ordered, scores, count, maxConnections);
+            int[] own = links[row][l];
+            for (int neighbor : selected) {
+                own[++own[0]] = neighbor;
+                connect(neighbor, row, l);
+            }
+        }
+        if (level > topLevel) {
+            topLevel = level;
+            entryPoint = row;
+        }
+    }
+
+    /**
+     * 한 층에서 더 가까운 이웃이 없을 때까지 이동한다.
+     */
+    private int greedyClosest(float[] query, int start, float startScore, int level) {
+        int current = start;
+        float currentScore = startScore;
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            int[] neighbors = links[current][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                float score = vectors.similarity(query, neighbors[i]);
+                if (score > currentScore) {
+                    currentScore = score;
+                    current = neighbors[i];
+                    moved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 층에서 ef개 후보를 유지하며 너비 우선으로 넓혀 찾는다. 결과는 가장 먼 항목이 위에 있는 최소 힙이다.
+     */
+    private NodeScoreHeap searchLayer(float[] query, int entry, float entryScore, int ef, int level, VisitedRows visited) {
+        NodeScoreHeap candidates = NodeScoreHeap.maxHeap(ef);
+        NodeScoreHeap results = NodeScoreHeap.minHeap(ef + 1);
+        visited.mark(entry);
+        candidates.push(entry, entryScore);
+        results.push(entry, entryScore);
+        while (!candidates.isEmpty()) {
+            float candidateScore = candidates.peekScore();
+            if (results.size() >= ef && candidateScore < results.peekScore()) {
+                break;
+            }
+            int candidate = candidates.pop();
+            int[] neighbors = links[candidate][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (!visited.mark(neighbor)) {
+                    continue;
+                }
+                float score = vectors.similarity(query, neighbor);
+                if (results.size() < ef || score > results.peekScore()) {
+                    candidates.push(neighbor, score);
+                    results.push(neighbor, score);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 유사도 내림차순 후보에서 이미 고른 이웃보다 기준 행에 더 가까운 후보만 최대 limit개 고른다.
+     */
+    private int[] selectNeighbors(int[] ordered, float[] scores, int count, int limit) {
+        int[] selected = new int[Math.min(limit, count)];
+        int size = 0;
+        for (int i = 0; i < count && size < selected.length; i++) {
+            int candidate = ordered[i];
+            boolean diverse = true;
+            for (int j = 0; j < size; j++) {
+                if (vectors.similarity(candidate, selected[j]) > scores[i]) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[size++] = candidate;
+            }
+        }
+        return size == selected.length ? selected : Arrays.copyOf(selected, size);
+    }
+
+    /**
+     * neighbor의 이웃 목록에 row를 더한다. 가득 찼으면 기존 이웃과 함께 다시 골라 목록을 바꾼다.
+     */
+    private void connect(int neighbor, int row, int level) {
+        int[] list = links[neighbor][level];
+        int limit = capacity(level);
+        if (list[0] < limit) {
+            list[++list[0]] = row;
+            return;
+        }
+        NodeScoreHeap pool = NodeScoreHeap.minHeap(limit + 1);
+        pool.push(row, vectors.similarity(neighbor, row));
+        for (int i = 1; i <= list[0]; i++) {
+            pool.push(list[i], vectors.similarity(neighbor, list[i]));
+        }
+        int[] ordered = new int[pool.size()];
+        float[] scores = new float[pool.size()];
+        int count = pool.drainDescending(ordered, scores);
+        int[] selected = selectNeighbors(ordered, scores, count, limit);
+        list[0] = selected.length;
+        System.arraycopy(selected, 0, list, 1, selected.length);
+    }
+
+    private int capacity(int level) {
+        return level == 0 ? maxConnectionsLevel0 : maxConnections;
+    }
+
+    /**
+     * 방문한 행 비트 집합이다. 삽입마다 전체를 지우지 않도록 건드린 워드만 기록해 두었다가 지운다.
+     */
+    private static final class VisitedRows {
+        private final long[] bits;
+        private int[] touched = new int[256];
+        private int touchedCount;
+
+        private VisitedRows(int rows) {
+            this.bits = new long[(rows + 63) >>> 6];
+        }
+
+        /**
+         * 처음 방문하면 표시하고 true를 반환한다.
+         */
+        boolean mark(int row) {
+            int word = row >>> 6;
+            long bit = 1L << row;
+            long current = bits[word];
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (current == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = word;
+            }
+            bits[word] = current | bit;
+            return true;
+        }
+
+        void clear() {
+            for (int i = 0; i < touchedCount; i++) {
+                bits[touched[i]] = 0L;
+            }
+            touchedCount = 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package kdt.project.fds.detection.service;
+
+import java.util.Arrays;
+
+/**
+ * 이 파일은 long 원시값 오픈 어드레싱 해시 집합 파일이다.
+ * LongIntHashMap과 같은 선형 탐사/부하율 0.5 구성을 쓰며, 박싱된 Long 없이 계좌 id 포함 여부를 확인한다.
+ * 삭제는 지원하지 않는다. 동기화는 호출 측 책임이다.
+ */
+final class LongHashSet {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int size;
+    private int resizeAt;
+
+    LongHashSet(int expectedSize) {
+        allocate(tableSizeFor(Math.max(4, expectedSize)));
+    }
+
+    boolean contains(long key) {
+        int mask = keys.length - 1;
+        for (int index = mix(key) & mask; ; index = (index + 1) & mask) {
+            long current = keys[index];
+            if (current == key) {
+                return key != EMPTY;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 값을 추가한다. 새로 추가되었으면 true를 반환한다. Long.MIN_VALUE는 빈 칸 표시로 쓰므로 추가할 수 없다.
+     */
+    boolean add(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE cannot be used as a key");
+        }
+        int mask = keys.length - 1;
+        for (int index = mix(key) & mask; ; index = (index + 1) & mask) {
+            long current = keys[index];
+            if (current == key) {
+                return false;
+            }
+            if (current == EMPTY) {
+                keys[index] = key;
+                if (++size >= resizeAt) {
+                    rehash(keys.length << 1);
+                }
+                return true;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    LongHashSet copy() {
+        LongHashSet copy = new LongHashSet(4);
+        copy.keys = keys.clone();
+        copy.size = size;
+        copy.resizeAt = resizeAt;
+        return copy;
+    }
+
+    /**
+     * 저장된 값을 오름차순 배열로 반환한다.
+     */
+    long[] toSortedArray() {
+        long[] values = new long[size];
+        int position = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                values[position++] = key;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (long key : oldKeys) {
+            if (key == EMPTY) {
+                continue;
+            }
+            int index = mix(key) & mask;
+            while (keys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        resizeAt = capacity >>> 1;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        return Integer.highestOneBit(expectedSize * 2 - 1) << 1;
+    }
+
+    // 연속된 계좌 id가 인접 칸에 몰리지 않도록 murmur3 fmix64로 섞는다.
+    private static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
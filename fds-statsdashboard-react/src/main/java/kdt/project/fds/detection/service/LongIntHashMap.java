@@ -0,0 +1,108 @@
+package kdt.project.fds.detection.service;
+
+import java.util.Arrays;
+
+/**
+ * 이 파일은 long 키 → int 값 오픈 어드레싱 해시 맵 파일이다.
+ * 선형 탐사와 2의 거듭제곱 용량을 쓰며, 박싱된 Long/Integer 없이 배열 두 개만으로 계좌 id를 슬롯 번호에 대응시킨다.
+ * 삭제는 지원하지 않는다. 동기화는 호출 측 책임이다.
+ */
+final class LongIntHashMap {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int resizeAt;
+
+    LongIntHashMap(int expectedSize) {
+        allocate(tableSizeFor(Math.max(4, expectedSize)));
+    }
+
+    /**
+     * 키에 대응하는 값을 반환한다. 없으면 -1을 반환한다.
+     */
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int index = mix(key) & mask; ; index = (index + 1) & mask) {
+            long current = keys[index];
+            if (current == key) {
+                return values[index];
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * 키에 값을 저장한다. Long.MIN_VALUE는 빈 칸 표시로 쓰므로 키로 쓸 수 없다.
+     */
+    void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE cannot be used as a key");
+        }
+        int mask = keys.length - 1;
+        for (int index = mix(key) & mask; ; index = (index + 1) & mask) {
+            long current = keys[index];
+            if (current == key) {
+                values[index] = value;
+                return;
+            }
+            if (current == EMPTY) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size >= resizeAt) {
+                    rehash(keys.length << 1);
+                }
+                return;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == EMPTY) {
+                continue;
+            }
+            int index = mix(key) & mask;
+            while (keys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        // 부하율을 0.5로 유지해 선형 탐사 길이를 짧게 한다.
+        resizeAt = capacity >>> 1;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        return Integer.highestOneBit(expectedSize * 2 - 1) << 1;
+    }
+
+    // 연속된 계좌 id가 인접 칸에 몰리지 않도록 murmur3 fmix64로 섞는다.
+    private static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
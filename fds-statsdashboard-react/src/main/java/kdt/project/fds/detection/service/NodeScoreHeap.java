@@ -0,0 +1,132 @@
+package kdt.project.fds.detection.service;
+
+import java.util.Arrays;
+
+/**
+ * 이 파일은 (유사도, 행 번호) 쌍의 원시 배열 힙 파일이다.
+ * 최소 힙은 상위 K 결과를 모을 때 가장 나쁜 항목을 위에 두고, 최대 힙은 HNSW 탐색 후보를 가장 가까운 순서로 꺼낸다.
+ * 탐색마다 박싱된 객체를 만들지 않도록 float/int 배열 두 개로 보관한다.
+ */
+final class NodeScoreHeap {
+    private final boolean maxHeap;
+    private float[] scores;
+    private int[] nodes;
+    private int size;
+
+    private NodeScoreHeap(boolean maxHeap, int initialCapacity) {
+        this.maxHeap = maxHeap;
+        this.scores = new float[Math.max(4, initialCapacity)];
+        this.nodes = new int[scores.length];
+    }
+
+    static NodeScoreHeap minHeap(int initialCapacity) {
+        return new NodeScoreHeap(false, initialCapacity);
+    }
+
+    static NodeScoreHeap maxHeap(int initialCapacity) {
+        return new NodeScoreHeap(true, initialCapacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    float peekScore() {
+        return scores[0];
+    }
+
+    int peekNode() {
+        return nodes[0];
+    }
+
+    void push(int node, float score) {
+        if (size == scores.length) {
+            scores = Arrays.copyOf(scores, size * 2);
+            nodes = Arrays.copyOf(nodes, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(score, scores[parent])) {
+                break;
+            }
+            scores[index] = scores[parent];
+            nodes[index] = nodes[parent];
+            index = parent;
+        }
+        scores[index] = score;
+        nodes[index] = node;
+    }
+
+    /**
+     * 크기를 limit 이하로 유지하며 추가한다. 최소 힙에서 상위 limit개를 모을 때 쓴다.
+     */
+    void pushBounded(int node, float score, int limit) {
+        if (size < limit) {
+            push(node, score);
+        } else if (before(scores[0], score)) {
+            scores[0] = score;
+            nodes[0] = node;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 맨 위 항목을 꺼내 행 번호를 반환한다.
+     */
+    int pop() {
+        int top = nodes[0];
+        size--;
+        if (size > 0) {
+            scores[0] = scores[size];
+            nodes[0] = nodes[size];
+            siftDown(0);
+        }
+        return top;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * 힙을 비우면서 유사도 내림차순으로 행 번호와 유사도를 채운다. 최소 힙에서만 호출한다.
+     */
+    int drainDescending(int[] nodesOut, float[] scoresOut) {
+        int count = size;
+        for (int i = count - 1; i >= 0; i--) {
+            scoresOut[i] = scores[0];
+            nodesOut[i] = pop();
+        }
+        return count;
+    }
+
+    private void siftDown(int index) {
+        float score = scores[index];
+        int node = nodes[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && before(scores[right], scores[child])) {
+                child = right;
+            }
+            if (!before(scores[child], score)) {
+                break;
+            }
+            scores[index] = scores[child];
+            nodes[index] = nodes[child];
+            index = child;
+        }
+        scores[index] = score;
+        nodes[index] = node;
+    }
+
+    private boolean before(float left, float right) {
+        return maxHeap ? left > right : left < right;
+    }
+}
@@ -0,0 +1,42 @@
+package kdt.project.fds.detection.service;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.vo.ScoringRules;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 거래 속성 규칙 평가기 파일이다.
+ * 고액 거래, 위험 거래 유형, 심야 거래, 잔액 소진 규칙의 가중치를 독립 신호로 보고 noisy-OR로 합친다.
+ */
+@Component
+public class RuleFraudEvaluator implements FraudEvaluator {
+
+    @Override
+    public double evaluate(FraudScoreRequestDTO transaction, ScoringRules rules) {
+        double amount = transaction.txAmount().doubleValue();
+        double normal = 1.0;
+        if (rules.highAmount() > 0 && amount >= rules.highAmount()) {
+            normal *= 1.0 - rules.highAmountWeight();
+        }
+        if (isRiskyTxType(transaction.txType(), rules)) {
+            normal *= 1.0 - rules.riskyTxTypeWeight();
+        }
+        LocalDateTime txAt = transaction.txTimestamp();
+        if (txAt != null && rules.isNightHour(txAt.getHour())) {
+            normal *= 1.0 - rules.nightWeight();
+        }
+        if (amount > 0 && transaction.balanceAfterTx() != null && transaction.balanceAfterTx().signum() == 0) {
+            normal *= 1.0 - rules.drainWeight();
+        }
+        return 1.0 - normal;
+    }
+
+    /**
+     * 설정된 위험 거래 유형은 대문자로 정규화되어 있으므로 요청 값도 같은 규칙으로 맞춰 비교한다.
+     */
+    private static boolean isRiskyTxType(String txType, ScoringRules rules) {
+        return txType != null && rules.riskyTxTypes().contains(txType.trim().toUpperCase(Locale.ROOT));
+    }
+}
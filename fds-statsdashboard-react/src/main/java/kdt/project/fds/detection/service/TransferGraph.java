@@ -0,0 +1,268 @@
+package kdt.project.fds.detection.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이 파일은 계좌 이체 그래프 파일이다.
+ * 계좌를 0부터 시작하는 정수 정점 번호로 사전 인코딩하고, 송금 → 수취 간선을 CSR(compressed sparse row) 형태의
+ * int 배열로 보관한다. 정방향(out)과 역방향(in) 인접 배열을 모두 두어 팬아웃/팬인을 O(1)로 읽는다.
+ * 간선마다 정점 번호 두 개(8바이트)만 쓰므로 수천만 간선도 수백 MB 안에서 다룰 수 있다.
+ */
+final class TransferGraph {
+    private final String[] accounts;
+    private final long[] accountIds;
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final int[] inOffsets;
+    private final int[] inSources;
+    private final long transferCount;
+
+    private TransferGraph(
+            String[] accounts,
+            long[] accountIds,
+            int[] outOffsets,
+            int[] outTargets,
+            int[] inOffsets,
+            int[] inSources,
+            long transferCount
+    ) {
+        this.accounts = accounts;
+        this.accountIds = accountIds;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+        this.inOffsets = inOffsets;
+        this.inSources = inSources;
+        this.transferCount = transferCount;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    int vertexCount() {
+        return accounts.length;
+    }
+
+    int edgeCount() {
+        return outTargets.length;
+    }
+
+    long transferCount() {
+        return transferCount;
+    }
+
+    String account(int vertex) {
+        return accounts[vertex];
+    }
+
+    /**
+     * 내부 계좌의 ACCOUNT_ID를 반환한다. ACCOUNTS에 없는 외부 계좌이면 -1을 반환한다.
+     */
+    long accountId(int vertex) {
+        return accountIds[vertex];
+    }
+
+    int fanOut(int vertex) {
+        return outOffsets[vertex + 1] - outOffsets[vertex];
+    }
+
+    int fanIn(int vertex) {
+        return inOffsets[vertex + 1] - inOffsets[vertex];
+    }
+
+    /**
+     * 시작 정점에서 송금 방향으로 maxHops 단계까지 너비 우선 탐색한 단계 수를 반환한다.
+     * 시작 정점은 0, 도달하지 못한 정점은 -1이다.
+     */
+    int[] hopsFrom(boolean[] sources, int maxHops) {
+        int[] hops = new int[accounts.length];
+        Arrays.fill(hops, -1);
+        int[] frontier = new int[accounts.length];
+        int frontierSize = 0;
+        for (int v = 0; v < sources.length; v++) {
+            if (sources[v]) {
+                hops[v] = 0;
+                frontier[frontierSize++] = v;
+            }
+        }
+        int[] next = new int[accounts.length];
+        for (int hop = 1; hop <= maxHops && frontierSize > 0; hop++) {
+            int nextSize = 0;
+            for (int i = 0; i < frontierSize; i++) {
+                int v = frontier[i];
+                for (int e = outOffsets[v]; e < outOffsets[v + 1]; e++) {
+                    int target = outTargets[e];
+                    if (hops[target] < 0) {
+                        hops[target] = hop;
+                        next[nextSize++] = target;
+                    }
+                }
+            }
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize;
+        }
+        return hops;
+    }
+
+    /**
+     * 간선 방향을 무시한 연결 요소 번호를 정점별로 반환한다. 요소 번호는 그 요소의 대표 정점 번호이다.
+     * 경로 반감과 크기 기준 합치기를 쓰는 union-find로 간선을 한 번만 훑는다.
+     */
+    int[] components() {
+        int[] parent = new int[accounts.length];
+        int[] size = new int[accounts.length];
+        for (int v = 0; v < parent.length; v++) {
+            parent[v] = v;
+            size[v] = 1;
+        }
+        for (int v = 0; v < accounts.length; v++) {
+            for (int e = outOffsets[v]; e < outOffsets[v + 1]; e++) {
+                int a = find(parent, v);
+                int b = find(parent, outTargets[e]);
+                if (a == b) {
+                    continue;
+                }
+                if (size[a] < size[b]) {
+                    int swap = a;
+                    a = b;
+                    b = swap;
+                }
+                parent[b] = a;
+                size[a] += size[b];
+            }
+        }
+        for (int v = 0; v < parent.length; v++) {
+            parent[v] = find(parent, v);
+        }
+        return parent;
+    }
+
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * 조회 결과를 한 행씩 받아 정점 사전과 간선 배열을 쌓는다.
+     * 내부 계좌는 ACCOUNT_ID를 원시 long 해시 맵으로, ACCOUNTS에 없는 외부 수취 계좌만 계좌 번호 문자열로 사전 인코딩한다.
+     * 같은 (송금, 수취) 쌍은 한 번만 들어온다고 가정한다. 쿼리에서 GROUP BY로 미리 합친다.
+     */
+    static final class Builder {
+        private static final long EXTERNAL = -1L;
+
+        private final LongIntHashMap internalVertices = new LongIntHashMap(1_024);
+        private final Map<String, Integer> externalVertices = new HashMap<>();
+        private String[] accounts = new String[1_024];
+        private long[] accountIds = new long[1_024];
+        private int vertexCount;
+        private int[] sources = new int[4_096];
+        private int[] targets = new int[4_096];
+        private int edges;
+        private long transferCount;
+
+        private Builder() {
+        }
+
+        /**
+         * ACCOUNT_ID가 있는 내부 계좌의 정점 번호를 반환한다. 계좌 번호는 처음 등록될 때만 저장한다.
+         */
+        int internalVertex(long accountId, String accountNumber) {
+            int existing = internalVertices.get(accountId);
+            if (existing >= 0) {
+                return existing;
+            }
+            int vertex = append(accountNumber, accountId);
+            internalVertices.put(accountId, vertex);
+            return vertex;
+        }
+
+        /**
+         * ACCOUNTS에 없는 외부 계좌의 정점 번호를 반환한다.
+         */
+        int externalVertex(String accountNumber) {
+            Integer existing = externalVertices.get(accountNumber);
+            if (existing != null) {
+                return existing;
+            }
+            int vertex = append(accountNumber, EXTERNAL);
+            externalVertices.put(accountNumber, vertex);
+            return vertex;
+        }
+
+        void addTransfers(int from, int to, long count) {
+            if (from == to) {
+                return;
+            }
+            if (edges == sources.length) {
+                sources = Arrays.copyOf(sources, edges * 2);
+                targets = Arrays.copyOf(targets, edges * 2);
+            }
+            sources[edges] = from;
+            targets[edges] = to;
+            edges++;
+            transferCount += count;
+        }
+
+        /**
+         * 계좌의 정점 번호를 반환한다. accountId가 null이면 외부 계좌로 찾는다. 그래프에 없으면 -1을 반환한다.
+         */
+        int lookup(Long accountId, String accountNumber) {
+            if (accountId != null) {
+                return internalVertices.get(accountId);
+            }
+            Integer vertex = externalVertices.get(accountNumber);
+            return vertex == null ? -1 : vertex;
+        }
+
+        TransferGraph build() {
+            int[] outOffsets = new int[vertexCount + 1];
+            int[] inOffsets = new int[vertexCount + 1];
+            for (int e = 0; e < edges; e++) {
+                outOffsets[sources[e] + 1]++;
+                inOffsets[targets[e] + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                outOffsets[v + 1] += outOffsets[v];
+                inOffsets[v + 1] += inOffsets[v];
+            }
+            int[] outTargets = new int[edges];
+            int[] inSources = new int[edges];
+            int[] outCursor = Arrays.copyOf(outOffsets, vertexCount);
+            int[] inCursor = Arrays.copyOf(inOffsets, vertexCount);
+            for (int e = 0; e < edges; e++) {
+                outTargets[outCursor[sources[e]]++] = targets[e];
+                inSources[inCursor[targets[e]]++] = sources[e];
+            }
+            // 간선 목록 배열은 CSR을 만든 뒤에는 필요 없으므로 참조를 끊어 회수되게 한다.
+            sources = null;
+            targets = null;
+            return new TransferGraph(
+                    Arrays.copyOf(accounts, vertexCount),
+                    Arrays.copyOf(accountIds, vertexCount),
+                    outOffsets,
+                    outTargets,
+                    inOffsets,
+                    inSources,
+                    transferCount
+            );
+        }
+
+        private int append(String accountNumber, long accountId) {
+            int vertex = vertexCount++;
+            if (vertex == accounts.length) {
+                accounts = Arrays.copyOf(accounts, vertex * 2);
+                accountIds = Arrays.copyOf(accountIds, vertex * 2);
+            }
+            accounts[vertex] = accountNumber;
+            accountIds[vertex] = accountId;
+            return vertex;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package kdt.project.fds.detection.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.response.TransferGraphResponseDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 이체 그래프 분석 서비스 파일이다.
+ * 기간 내 거래를 (송금 계좌, 수취 계좌) 쌍으로 DB에서 합쳐 읽어 CSR 그래프를 만들고,
+ * 팬인/팬아웃 상위 계좌, 블랙리스트·신고 계좌에서 송금 방향 2단계 안에 도달하는 계좌, 연결 요소를 계산한다.
+ * 플래그 계좌를 포함하면서 크기가 설정 범위 안인 연결 요소를 의심 대포통장 그룹으로 보고한다.
+ * 간선 조회는 이름이 붙은 읽기 전용 트랜잭션으로 실행되어 분석용 커넥션 풀로 라우팅된다.
+ */
+@Service
+public class TransferGraphService {
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_HOPS = 2;
+    // 수취 계좌 번호를 ACCOUNTS와 맞춰 내부 계좌는 ACCOUNT_ID로 식별한다.
+    private static final String EDGE_SQL = """
+            SELECT t.ACCOUNT_ID AS SOURCE_ID,
+                   a.ACCOUNT_NUMBER AS SOURCE_ACCOUNT,
+                   ta.ACCOUNT_ID AS TARGET_ID,
+                   t.TARGET_ACCOUNT_NUMBER AS TARGET_ACCOUNT,
+                   COUNT(*) AS TX_COUNT
+            FROM TRANSACTIONS t
+            JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+            LEFT JOIN ACCOUNTS ta ON ta.ACCOUNT_NUMBER = t.TARGET_ACCOUNT_NUMBER
+            WHERE t.TX_TIMESTAMP >= ? AND t.TX_TIMESTAMP < ?
+              AND t.TARGET_ACCOUNT_NUMBER IS NOT NULL
+            GROUP BY t.ACCOUNT_ID, a.ACCOUNT_NUMBER, ta.ACCOUNT_ID, t.TARGET_ACCOUNT_NUMBER
+            """;
+    private static final String REPORTED_SQL = """
+            SELECT DISTINCT r.ACCOUNT_NUMBER, a.ACCOUNT_ID
+            FROM FRAUD_REPORTS r
+            LEFT JOIN ACCOUNTS a ON a.ACCOUNT_NUMBER = r.ACCOUNT_NUMBER
+            WHERE r.CREATED_AT < ?
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate graphTransaction;
+    private final BlacklistIndexService blacklistIndexService;
+    private final FraudDetectionProperties.TransferGraph settings;
+
+    public TransferGraphService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            BlacklistIndexService blacklistIndexService,
+            FraudDetectionProperties properties
+    ) {
+        this.settings = properties.getTransferGraph();
+        this.streamingJdbcTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        this.streamingJdbcTemplate.setFetchSize(Math.max(1, settings.getFetchSize()));
+        this.graphTransaction = new TransactionTemplate(transactionManager);
+        this.graphTransaction.setReadOnly(true);
+        this.graphTransaction.setName(TransferGraphService.class.getName() + ".loadGraph");
+        this.blacklistIndexService = blacklistIndexService;
+    }
+
+    /**
+     * 기간의 이체 그래프를 만들어 분석 결과를 반환한다. 날짜 범위를 지정하지 않으면 최근 7일을 사용한다.
+     */
+    public TransferGraphResponseDTO analyze(LocalDate fromDate, LocalDate toDate) {
+        LocalDate to = toDate == null ? LocalDate.now(DEFAULT_ZONE) : toDate;
+        LocalDate from = fromDate == null ? to.minusDays(6) : fromDate;
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "toDate must not be before fromDate");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > settings.getMaxRangeDays()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Transfer graph range must be at most " + settings.getMaxRangeDays() + " days");
+        }
+
+        long started = System.nanoTime();
+        Timestamp fromTs = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp toTs = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+        TransferGraph.Builder builder = TransferGraph.builder();
+        List<Integer> reportedVertices = new ArrayList<>();
+        graphTransaction.executeWithoutResult(status -> {
+            streamingJdbcTemplate.query(EDGE_SQL, rs -> {
+                int source = builder.internalVertex(rs.getLong("SOURCE_ID"), rs.getString("SOURCE_ACCOUNT"));
+                long targetId = rs.getLong("TARGET_ID");
+                int target = rs.wasNull()
+                        ? builder.externalVertex(rs.getString("TARGET_ACCOUNT"))
+                        : builder.internalVertex(targetId, rs.getString("TARGET_ACCOUNT"));
+                builder.addTransfers(source, target, rs.getLong("TX_COUNT"));
+            }, fromTs, toTs);
+            streamingJdbcTemplate.query(REPORTED_SQL, rs -> {
+                long accountId = rs.getLong("ACCOUNT_ID");
+                Long resolvedId = rs.wasNull() ? null : accountId;
+                int vertex = builder.lookup(resolvedId, rs.getString("ACCOUNT_NUMBER"));
+                if (vertex >= 0) {
+                    reportedVertices.add(vertex);
+                }
+            }, toTs);
+        });
+        TransferGraph graph = builder.build();
+        int vertexCount = graph.vertexCount();
+
+        boolean[] flagged = new boolean[vertexCount];
+        int reportedAccounts = 0;
+        for (int vertex : reportedVertices) {
+            if (!flagged[vertex]) {
+                flagged[vertex] = true;
+                reportedAccounts++;
+            }
+        }
+        BlacklistIndex blacklist = blacklistIndexService.current();
+        int blacklistedAccounts = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            long accountId = graph.accountId(v);
+            boolean listed = accountId >= 0
+                    ? blacklist.containsAccountId(accountId)
+                    : blacklist.containsAccountNumber(graph.account(v));
+            if (listed) {
+                flagged[v] = true;
+                blacklistedAccounts++;
+            }
+        }
+
+        int[] hops = graph.hopsFrom(flagged, MAX_HOPS);
+        int oneHop = 0;
+        int twoHop = 0;
+        for (int hop : hops) {
+            if (hop == 1) {
+                oneHop++;
+            } else if (hop == 2) {
+                twoHop++;
+            }
+        }
+
+        int limit = settings.getTopLimit();
+        List<TransferGraphResponseDTO.AccountDegreeDTO> topFanIn =
+                toDegrees(graph, flagged, topVertices(vertexCount, limit, graph::fanIn, v -> graph.fanIn(v) > 0));
+        List<TransferGraphResponseDTO.AccountDegreeDTO> topFanOut =
+                toDegrees(graph, flagged, topVertices(vertexCount, limit, graph::fanOut, v -> graph.fanOut(v) > 0));
+        List<TransferGraphResponseDTO.ExposedAccountDTO> exposed = new ArrayList<>();
+        for (int v : topVertices(vertexCount, limit, graph::fanIn, v -> hops[v] > 0)) {
+            exposed.add(new TransferGraphResponseDTO.ExposedAccountDTO(
+                    graph.account(v), hops[v], graph.fanIn(v), graph.fanOut(v)));
+        }
+        exposed.sort(Comparator.comparingInt(TransferGraphResponseDTO.ExposedAccountDTO::hops)
+                .thenComparing(Comparator.comparingInt(TransferGraphResponseDTO.ExposedAccountDTO::fanIn).reversed()));
+
+        Components components = summarizeComponents(graph, flagged);
+        return new TransferGraphResponseDTO(
+                from,
+                to,
+                vertexCount,
+                graph.edgeCount(),
+                graph.transferCount(),
+                blacklistedAccounts,
+                reportedAccounts,
+                oneHop,
+                twoHop,
+                components.count(),
+                components.largest(),
+                (System.nanoTime() - started) / 1_000_000,
+                topFanIn,
+                topFanOut,
+                exposed,
+                components.rings()
+        );
+    }
+
+    /**
+     * 연결 요소별 크기, 내부 간선 수, 플래그 계좌 수를 세고 의심 그룹을 고른다.
+     */
+    private Components summarizeComponents(TransferGraph graph, boolean[] flagged) {
+        int vertexCount = graph.vertexCount();
+        int[] component = graph.components();
+        int[] size = new int[vertexCount];
+        int[] edges = new int[vertexCount];
+        int[] flaggedCount = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            int root = component[v];
+            size[root]++;
+            edges[root] += graph.fanOut(v);
+            if (flagged[v]) {
+                flaggedCount[root]++;
+            }
+        }
+
+        int count = 0;
+        int largest = 0;
+        List<Integer> candidates = new ArrayList<>();
+        for (int root = 0; root < vertexCount; root++) {
+            if (size[root] == 0) {
+                continue;
+            }
+            count++;
+            largest = Math.max(largest, size[root]);
+            if (flaggedCount[root] > 0
+                    && size[root] >= settings.getMinRingSize()
+                    && size[root] <= settings.getMaxRingSize()) {
+                candidates.add(root);
+            }
+        }
+        candidates.sort(Comparator.<Integer>comparingInt(root -> flaggedCount[root]).reversed()
+                .thenComparing(Comparator.<Integer>comparingInt(root -> size[root]).reversed()));
+        List<Integer> selected = candidates.subList(0, Math.min(candidates.size(), settings.getTopLimit()));
+
+        // 선택된 그룹마다 플래그 계좌를 먼저, 나머지 계좌를 뒤에 채워 예시 계좌 목록을 만든다.
+        Map<Integer, List<String>> samples = new HashMap<>();
+        for (Integer root : selected) {
+            samples.put(root, new ArrayList<>());
+        }
+        for (int pass = 0; pass < 2 && !samples.isEmpty(); pass++) {
+            boolean flaggedPass = pass == 0;
+            for (int v = 0; v < vertexCount; v++) {
+                List<String> sample = samples.get(component[v]);
+                if (sample != null && flagged[v] == flaggedPass && sample.size() < settings.getRingSampleSize()) {
+                    sample.add(graph.account(v));
+                }
+            }
+        }
+        List<TransferGraphResponseDTO.SuspectedRingDTO> rings = new ArrayList<>(selected.size());
+        for (Integer root : selected) {
+            rings.add(new TransferGraphResponseDTO.SuspectedRingDTO(
+                    size[root], edges[root], flaggedCount[root], List.copyOf(samples.get(root))));
+        }
+        return new Components(count, largest, rings);
+    }
+
+    private static List<TransferGraphResponseDTO.AccountDegreeDTO> toDegrees(
+            TransferGraph graph,
+            boolean[] flagged,
+            int[] vertices
+    ) {
+        List<TransferGraphResponseDTO.AccountDegreeDTO> result = new ArrayList<>(vertices.length);
+        for (int v : vertices) {
+            result.add(new TransferGraphResponseDTO.AccountDegreeDTO(
+                    graph.account(v), graph.fanIn(v), graph.fanOut(v), flagged[v]));
+        }
+        return result;
+    }
+
+    /**
+     * 점수가 큰 정점 limit개를 큰 순서로 반환한다. 전체 정렬 대신 크기 limit의 정렬 버퍼에 삽입한다.
+     */
+    private static int[] topVertices(int vertexCount, int limit, IntUnaryOperator score, IntPredicate include) {
+        int capacity = Math.max(0, limit);
+        int[] top = new int[capacity];
+        int[] topScores = new int[capacity];
+        int size = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            if (capacity == 0 || !include.test(v)) {
+                continue;
+            }
+            int value = score.applyAsInt(v);
+            if (size == capacity && value <= topScores[size - 1]) {
+                continue;
+            }
+            int position = size == capacity ? size - 1 : size++;
+            while (position > 0 && topScores[position - 1] < value) {
+                top[position] = top[position - 1];
+                topScores[position] = topScores[position - 1];
+                position--;
+            }
+            top[position] = v;
+            topScores[position] = value;
+        }
+        return Arrays.copyOf(top, size);
+    }
+
+    private record Components(int count, int largest, List<TransferGraphResponseDTO.SuspectedRingDTO> rings) {
+    }
+}
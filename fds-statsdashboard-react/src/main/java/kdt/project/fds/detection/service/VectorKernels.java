@@ -0,0 +1,30 @@
+package kdt.project.fds.detection.service;
+
+/**
+ * 이 파일은 특징 벡터 내적 커널 파일이다.
+ * jdk.incubator.vector 모듈이 실행 옵션(--add-modules)으로 올라와 있으면 Vector API 커널을, 아니면 스칼라 루프를 쓴다.
+ * 모듈이 없을 때 SIMD 클래스를 건드리지 않도록 분기 뒤에서만 참조한다.
+ */
+final class VectorKernels {
+    static final boolean SIMD_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private VectorKernels() {
+    }
+
+    /**
+     * 두 배열의 지정 구간 내적을 반환한다.
+     */
+    static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        return SIMD_AVAILABLE
+                ? SimdVectorKernels.dot(a, aOffset, b, bOffset, length)
+                : scalarDot(a, aOffset, b, bOffset, length);
+    }
+
+    static float scalarDot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+}
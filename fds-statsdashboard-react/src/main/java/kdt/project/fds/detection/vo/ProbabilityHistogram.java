@@ -0,0 +1,60 @@
+package kdt.project.fds.detection.vo;
+
+/**
+ * 이 파일은 사기 확률 히스토그램 파일이다.
+ * FRAUD_PROBABILITY를 0.001 간격의 고정 1000개 구간으로 나누어 구간별 탐지 수와 사기 확정 수를 원시 배열로 센다.
+ * 같은 구간 정의를 쓰므로 날짜나 엔진별 히스토그램을 구간별 덧셈으로 합칠 수 있다.
+ */
+public final class ProbabilityHistogram {
+    public static final int BINS = 1_000;
+    // 0.7 * 1000 = 699.999...처럼 경계값이 아래 구간으로 떨어지지 않도록 더하는 보정값이다.
+    private static final double EPSILON = 1e-9;
+
+    private final long[] detections = new long[BINS];
+    private final long[] confirmedFraud = new long[BINS];
+
+    /**
+     * 확률 값이 속하는 구간 번호를 반환한다. 0 미만은 0번, 1 이상은 마지막 구간으로 모은다.
+     */
+    public static int binOf(double probability) {
+        int bin = (int) Math.floor(probability * BINS + EPSILON);
+        return Math.max(0, Math.min(BINS - 1, bin));
+    }
+
+    public void add(double probability, boolean fraud) {
+        addBin(binOf(probability), 1, fraud ? 1 : 0);
+    }
+
+    /**
+     * DB에서 구간별로 미리 집계한 건수를 더한다.
+     */
+    public void addBin(int bin, long detectionCount, long fraudCount) {
+        detections[bin] += detectionCount;
+        confirmedFraud[bin] += fraudCount;
+    }
+
+    public ProbabilityHistogram merge(ProbabilityHistogram other) {
+        for (int i = 0; i < BINS; i++) {
+            detections[i] += other.detections[i];
+            confirmedFraud[i] += other.confirmedFraud[i];
+        }
+        return this;
+    }
+
+    /**
+     * 위쪽 구간부터 누적한 임계값 곡선을 만든다.
+     */
+    public ThresholdCurve toCurve() {
+        long[] detectionsAtOrAbove = new long[BINS];
+        long[] fraudAtOrAbove = new long[BINS];
+        long detectionSum = 0;
+        long fraudSum = 0;
+        for (int i = BINS - 1; i >= 0; i--) {
+            detectionSum += detections[i];
+            fraudSum += confirmedFraud[i];
+            detectionsAtOrAbove[i] = detectionSum;
+            fraudAtOrAbove[i] = fraudSum;
+        }
+        return new ThresholdCurve(detectionsAtOrAbove, fraudAtOrAbove);
+    }
+}
@@ -0,0 +1,94 @@
+package kdt.project.fds.detection.vo;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이 파일은 사기 점수 규칙 스냅샷 레코드 파일이다.
+ * FDS_CONFIG의 detection.* 키를 한 번에 읽어 만든 불변 값이며,
+ * 점수 계산은 이 스냅샷과 블랙리스트 인덱스 스냅샷만 참조하므로 요청 처리 중에는 DB를 조회하지 않는다.
+ */
+public record ScoringRules(
+        double blockThreshold,
+        double reviewThreshold,
+        double highAmount,
+        double highAmountWeight,
+        Set<String> riskyTxTypes,
+        double riskyTxTypeWeight,
+        int nightStartHour,
+        int nightEndHour,
+        double nightWeight,
+        double drainWeight,
+        double blacklistWeight
+) {
+    public static final String BLOCK_THRESHOLD = "detection.threshold.block";
+    public static final String REVIEW_THRESHOLD = "detection.threshold.review";
+    public static final String HIGH_AMOUNT = "detection.rule.high-amount";
+    public static final String HIGH_AMOUNT_WEIGHT = "detection.rule.high-amount.weight";
+    public static final String RISKY_TX_TYPES = "detection.rule.risky-tx-types";
+    public static final String RISKY_TX_TYPE_WEIGHT = "detection.rule.risky-tx-type.weight";
+    public static final String NIGHT_START_HOUR = "detection.rule.night.start-hour";
+    public static final String NIGHT_END_HOUR = "detection.rule.night.end-hour";
+    public static final String NIGHT_WEIGHT = "detection.rule.night.weight";
+    public static final String DRAIN_WEIGHT = "detection.rule.drain.weight";
+    public static final String BLACKLIST_WEIGHT = "detection.rule.blacklist.weight";
+
+    /**
+     * FDS_CONFIG 키/값으로 규칙을 만든다. 키가 없거나 숫자로 읽을 수 없으면 기본값을 사용한다.
+     * 기본 임계값은 기존 RULE 엔진 탐지 결과(차단 0.7, 검토는 차단 - 0.2)와 같다.
+     */
+    public static ScoringRules fromConfig(Map<String, String> config) {
+        double block = clamp(number(config, BLOCK_THRESHOLD, 0.7));
+        return new ScoringRules(
+                block,
+                Math.min(block, clamp(number(config, REVIEW_THRESHOLD, block - 0.2))),
+                Math.max(0, number(config, HIGH_AMOUNT, 3_000_000)),
+                clamp(number(config, HIGH_AMOUNT_WEIGHT, 0.45)),
+                txTypes(config.getOrDefault(RISKY_TX_TYPES, "TRANSFER,CASH_OUT")),
+                clamp(number(config, RISKY_TX_TYPE_WEIGHT, 0.2)),
+                (int) number(config, NIGHT_START_HOUR, 0),
+                (int) number(config, NIGHT_END_HOUR, 6),
+                clamp(number(config, NIGHT_WEIGHT, 0.25)),
+                clamp(number(config, DRAIN_WEIGHT, 0.3)),
+                clamp(number(config, BLACKLIST_WEIGHT, 1.0))
+        );
+    }
+
+    /**
+     * 시각(0~23시)이 심야 구간에 속하는지 판단한다. 시작 시각이 종료 시각보다 크면 자정을 넘는 구간이다.
+     */
+    public boolean isNightHour(int hour) {
+        if (nightStartHour == nightEndHour) {
+            return false;
+        }
+        return nightStartHour < nightEndHour
+                ? hour >= nightStartHour && hour < nightEndHour
+                : hour >= nightStartHour || hour < nightEndHour;
+    }
+
+    private static double number(Map<String, String> config, String key, double defaultValue) {
+        String value = config.get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException ex) {
+            return defaultValue;
+        }
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+
+    private static Set<String> txTypes(String value) {
+        return Arrays.stream(value.split(","))
+                .map(type -> type.trim().toUpperCase(Locale.ROOT))
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
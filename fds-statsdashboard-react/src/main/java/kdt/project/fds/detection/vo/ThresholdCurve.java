@@ -0,0 +1,26 @@
+package kdt.project.fds.detection.vo;
+
+/**
+ * 이 파일은 임계값 곡선 레코드 파일이다.
+ * i번째 값은 사기 확률이 i / 1000 이상인 탐지 수와 그중 사기 확정 수이며, 임계값 조회는 배열 한 칸을 읽는 것으로 끝난다.
+ */
+public record ThresholdCurve(
+        long[] detections,
+        long[] confirmedFraud
+) {
+    public long detectionsAt(double threshold) {
+        return detections[ProbabilityHistogram.binOf(threshold)];
+    }
+
+    public long confirmedFraudAt(double threshold) {
+        return confirmedFraud[ProbabilityHistogram.binOf(threshold)];
+    }
+
+    public long totalDetections() {
+        return detections[0];
+    }
+
+    public long totalConfirmedFraud() {
+        return confirmedFraud[0];
+    }
+}
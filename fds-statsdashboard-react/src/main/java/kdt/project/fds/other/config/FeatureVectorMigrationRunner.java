@@ -0,0 +1,38 @@
+package kdt.project.fds.other.config;
+
+import jakarta.annotation.PreDestroy;
+import kdt.project.fds.other.service.FeatureVectorMigrationService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 특징 벡터 이진 형식 이관 실행 파일이다.
+ * fds.feature-vectors.migration-enabled=true일 때만 등록되어, 시작을 막지 않도록 별도 스레드에서 한 번 이관한다.
+ * 종료 시 스레드를 인터럽트하면 진행 중인 배치까지만 커밋하고 멈춘다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "fds.feature-vectors", name = "migration-enabled", havingValue = "true")
+public class FeatureVectorMigrationRunner implements ApplicationRunner {
+    private final FeatureVectorMigrationService featureVectorMigrationService;
+    private Thread worker;
+
+    public FeatureVectorMigrationRunner(FeatureVectorMigrationService featureVectorMigrationService) {
+        this.featureVectorMigrationService = featureVectorMigrationService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        worker = new Thread(featureVectorMigrationService::migrate, "fds-feature-vector-migration");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+}
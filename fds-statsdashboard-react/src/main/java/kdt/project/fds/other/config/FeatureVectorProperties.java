@@ -0,0 +1,39 @@
+package kdt.project.fds.other.config;
+
+import kdt.project.fds.other.vo.FeatureEncoding;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 이진 특징 벡터 저장 설정 파일이다.
+ * V_FEATURES_PACKED에 쓸 값 형식과, 기존 텍스트 V_FEATURES를 변환하는 이관 작업의 실행 여부와 배치 크기를
+ * fds.feature-vectors 접두사로 지정한다. 이관 작업은 기본값이 비활성화 상태이다.
+ * 예: --fds.feature-vectors.migration-enabled=true --fds.feature-vectors.migration-batch-size=2000
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.feature-vectors")
+public class FeatureVectorProperties {
+    /**
+     * 새로 쓰거나 이관하는 이진 벡터의 값 형식이다.
+     */
+    private FeatureEncoding encoding = FeatureEncoding.FLOAT32;
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 이관 작업을 실행할지 여부이다.
+     */
+    private boolean migrationEnabled = false;
+
+    /**
+     * 이관 배치 한 번에 읽고 커밋하는 행 수이다.
+     */
+    private int migrationBatchSize = 1_000;
+
+    /**
+     * 배치 사이에 쉬는 시간(밀리초)이다. 운영 중 이관할 때 DB 부하를 낮춘다.
+     */
+    private long migrationPauseMillis = 0;
+}
@@ -0,0 +1,27 @@
+package kdt.project.fds.other.config;
+
+import kdt.project.fds.other.service.SyntheticDataGenerator;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 합성 데이터 생성기 실행 파일이다.
+ * fds.generator.enabled=true일 때만 등록되어 애플리케이션 시작 직후 한 번 데이터를 적재한다.
+ * 예: --fds.generator.enabled=true --fds.generator.scale-factor=5
+ */
+@Component
+@ConditionalOnProperty(prefix = "fds.generator", name = "enabled", havingValue = "true")
+public class SyntheticDataGeneratorRunner implements ApplicationRunner {
+    private final SyntheticDataGenerator syntheticDataGenerator;
+
+    public SyntheticDataGeneratorRunner(SyntheticDataGenerator syntheticDataGenerator) {
+        this.syntheticDataGenerator = syntheticDataGenerator;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        syntheticDataGenerator.generate();
+    }
+}
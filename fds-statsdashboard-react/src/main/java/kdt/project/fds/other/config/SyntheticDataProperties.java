@@ -0,0 +1,68 @@
+package kdt.project.fds.other.config;
+
+import kdt.project.fds.other.vo.GeneratorTarget;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 합성 FDS 데이터 생성기 설정 파일이다.
+ * 부하/용량 테스트용 데이터의 규모와 분포를 지정한다.
+ * 현재 설정은 fds.generator 접두사로 전달하며 기본값은 비활성화 상태이다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.generator")
+public class SyntheticDataProperties {
+    /**
+     * 애플리케이션 시작 시 생성기를 실행할지 여부이다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 적재 대상 DB이다. AUTO이면 JDBC 메타데이터로 판별한다.
+     */
+    private GeneratorTarget target = GeneratorTarget.AUTO;
+
+    /**
+     * 규모 배수이다. 1.0이면 사용자 10만, 계좌 15만, 카드 20만, 거래 200만 건을 만든다.
+     */
+    private double scaleFactor = 1.0;
+
+    /**
+     * 난수 시드이다. 같은 시드와 규모면 같은 데이터가 만들어진다.
+     */
+    private long seed = 20240101L;
+
+    /**
+     * 거래 시각을 분포시킬 과거 일수이다.
+     */
+    private int historyDays = 90;
+
+    /**
+     * 사기 거래 비율이다.
+     */
+    private double fraudRate = 0.002;
+
+    /**
+     * 정상 거래 중 탐지 결과를 남기는 비율이다. 사기 거래는 항상 탐지 결과를 남긴다.
+     */
+    private double detectionRate = 0.3;
+
+    /**
+     * 가맹점 수이다. 가맹점 선택은 Zipf 분포를 따른다.
+     */
+    private int merchantCount = 5_000;
+
+    /**
+     * 가맹점 Zipf 분포의 지수이다. 클수록 상위 가맹점에 거래가 몰린다.
+     */
+    private double merchantSkew = 1.1;
+
+    /**
+     * JDBC 배치 한 번에 보내는 행 수이다.
+     */
+    private int batchSize = 5_000;
+}
@@ -0,0 +1,13 @@
+package kdt.project.fds.other.dto.response;
+
+/**
+ * 이 파일은 특징 벡터 이진 형식 이관 결과 DTO 레코드 파일이다.
+ * 사용한 값 형식, 변환한 행 수, 변환하지 못해 건너뛴 행 수, 배치 수와 소요 시간을 담는다.
+ */
+public record FeatureVectorMigrationResultDTO(
+        String encoding,
+        long convertedRows,
+        long skippedRows,
+        int batches,
+        long elapsedMillis
+) { }
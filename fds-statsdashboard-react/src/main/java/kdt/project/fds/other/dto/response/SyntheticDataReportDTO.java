@@ -0,0 +1,14 @@
+package kdt.project.fds.other.dto.response;
+
+import java.util.Map;
+
+/**
+ * 이 파일은 합성 데이터 생성 결과 DTO 레코드 파일이다.
+ * 테이블별 적재 행 수와 전체 소요 시간을 담는다.
+ */
+public record SyntheticDataReportDTO(
+        String target,
+        double scaleFactor,
+        Map<String, Long> rowCounts,
+        long elapsedMillis
+) { }
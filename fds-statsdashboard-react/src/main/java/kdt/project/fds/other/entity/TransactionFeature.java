@@ -6,12 +6,14 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
+import kdt.project.fds.other.vo.FeatureVectorCodec;
 import lombok.Getter;
 import lombok.Setter;
 
 /**
  * 이 파일은 거래 특징값 엔티티 파일이다.
  * 거래별 모델 입력 특징값을 저장한다.
+ * 특징 벡터는 텍스트(V_FEATURES)와 이진(V_FEATURES_PACKED) 두 형식으로 둘 수 있으며 읽는 쪽은 이진 형식을 먼저 쓴다.
  */
 @Setter
 @Getter
@@ -41,6 +43,10 @@ public class TransactionFeature {
     @Column(name = "V_FEATURES")
     private String vFeatures;
 
+    // V_FEATURES와 같은 벡터를 FeatureVectorCodec 형식으로 담는다. 길이가 짧아 Oracle에서는 RAW로 행 안에 저장된다.
+    @Column(name = "V_FEATURES_PACKED", length = FeatureVectorCodec.MAX_PACKED_BYTES)
+    private byte[] vFeaturesPacked;
+
     protected TransactionFeature() {
     }
 }
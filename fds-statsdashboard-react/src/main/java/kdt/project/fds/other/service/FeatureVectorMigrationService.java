@@ -0,0 +1,127 @@
+package kdt.project.fds.other.service;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import kdt.project.fds.other.config.FeatureVectorProperties;
+import kdt.project.fds.other.dto.response.FeatureVectorMigrationResultDTO;
+import kdt.project.fds.other.vo.FeatureEncoding;
+import kdt.project.fds.other.vo.FeatureVectorCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이 파일은 특징 벡터 이진 형식 이관 서비스 파일이다.
+ * V_FEATURES는 있고 V_FEATURES_PACKED는 비어 있는 행을 TX_ID 순서로 배치 단위로 읽어 FeatureVectorCodec 형식으로 채운다.
+ * 배치마다 따로 커밋하므로 중간에 멈춰도 다시 실행하면 남은 행부터 이어서 변환한다.
+ * 숫자가 아니거나 컬럼 길이를 넘는 벡터는 그대로 두고 건너뛴 수로 센다.
+ */
+@Service
+public class FeatureVectorMigrationService {
+    private static final Logger log = LoggerFactory.getLogger(FeatureVectorMigrationService.class);
+    private static final String PENDING_SQL = """
+            SELECT TX_ID, V_FEATURES
+            FROM TRANSACTION_FEATURES
+            WHERE TX_ID > ?
+              AND V_FEATURES IS NOT NULL
+              AND V_FEATURES_PACKED IS NULL
+            ORDER BY TX_ID
+            FETCH FIRST ? ROWS ONLY
+            """;
+    private static final String UPDATE_SQL = """
+            UPDATE TRANSACTION_FEATURES
+            SET V_FEATURES_PACKED = ?
+            WHERE TX_ID = ?
+              AND V_FEATURES_PACKED IS NULL
+            """;
+    private static final int[] UPDATE_TYPES = {Types.VARBINARY, Types.BIGINT};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final FeatureVectorProperties properties;
+
+    public FeatureVectorMigrationService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            FeatureVectorProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * 남은 행이 없을 때까지 배치를 반복한다. 스레드가 인터럽트되면 현재 배치까지만 커밋하고 멈춘다.
+     */
+    public FeatureVectorMigrationResultDTO migrate() {
+        long started = System.nanoTime();
+        FeatureEncoding encoding = properties.getEncoding();
+        int batchSize = Math.max(1, properties.getMigrationBatchSize());
+        long lastTxId = Long.MIN_VALUE;
+        long converted = 0;
+        long skipped = 0;
+        int batches = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            BatchResult batch = migrateBatch(lastTxId, batchSize, encoding);
+            if (batch.read() == 0) {
+                break;
+            }
+            batches++;
+            converted += batch.converted();
+            skipped += batch.read() - batch.converted();
+            lastTxId = batch.lastTxId();
+            if (batches % 100 == 0) {
+                log.info("Feature vector migration progress: {} converted, {} skipped, last TX_ID {}",
+                        converted, skipped, lastTxId);
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Feature vector migration finished: {} converted, {} skipped in {} batches ({} ms)",
+                converted, skipped, batches, elapsedMillis);
+        return new FeatureVectorMigrationResultDTO(encoding.name(), converted, skipped, batches, elapsedMillis);
+    }
+
+    private BatchResult migrateBatch(long afterTxId, int batchSize, FeatureEncoding encoding) {
+        BatchResult result = batchTransaction.execute(status -> {
+            List<Object[]> updates = new ArrayList<>(batchSize);
+            long[] read = {0, afterTxId};
+            jdbcTemplate.query(PENDING_SQL, rs -> {
+                long txId = rs.getLong("TX_ID");
+                byte[] packed = FeatureVectorCodec.encodeText(rs.getString("V_FEATURES"), encoding);
+                if (packed != null) {
+                    updates.add(new Object[]{packed, txId});
+                }
+                read[0]++;
+                read[1] = txId;
+            }, afterTxId, batchSize);
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates, UPDATE_TYPES);
+            }
+            return new BatchResult((int) read[0], updates.size(), read[1]);
+        });
+        return result == null ? new BatchResult(0, 0, afterTxId) : result;
+    }
+
+    private boolean pause() {
+        if (properties.getMigrationPauseMillis() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getMigrationPauseMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record BatchResult(int read, int converted, long lastTxId) {
+    }
+}
@@ -0,0 +1,570 @@
+package kdt.project.fds.other.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import kdt.project.fds.other.config.FeatureVectorProperties;
+import kdt.project.fds.other.config.SyntheticDataProperties;
+import kdt.project.fds.other.dto.response.SyntheticDataReportDTO;
+import kdt.project.fds.other.vo.FeatureVectorCodec;
+import kdt.project.fds.other.vo.GeneratorTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이 파일은 부하/용량 테스트용 합성 FDS 데이터 생성기 파일이다.
+ * 테이블별 ID를 시퀀스에서 미리 일괄 채번한 뒤 JDBC 배치 삽입으로 사용자/계좌/카드/거래/특징값/탐지/신고/블랙리스트를 적재한다.
+ * 가맹점은 Zipf 분포, 거래 시각은 일중 패턴, 사기 거래는 설정된 비율을 따른다.
+ */
+@Service
+public class SyntheticDataGenerator {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 규모 배수 1.0 기준 테이블별 행 수이다.
+    private static final long BASE_USERS = 100_000;
+    private static final long BASE_ACCOUNTS = 150_000;
+    private static final long BASE_CARDS = 200_000;
+    private static final long BASE_TRANSACTIONS = 2_000_000;
+
+    // 시간대별 거래 가중치이다. 새벽에 가장 낮고 점심/퇴근 시간대에 가장 높다.
+    private static final double[] DIURNAL_WEIGHTS = {
+            0.6, 0.4, 0.3, 0.2, 0.2, 0.3, 0.8, 1.6, 2.8, 3.4, 3.6, 4.0,
+            5.0, 4.6, 3.8, 3.6, 3.8, 4.4, 5.2, 5.0, 4.2, 3.2, 2.0, 1.2
+    };
+    // 사기 거래의 시간대별 가중치이다. 심야와 새벽 비중이 높다.
+    private static final double[] FRAUD_HOUR_WEIGHTS = {
+            3.0, 3.4, 3.6, 3.2, 2.6, 1.8, 1.0, 0.8, 0.8, 1.0, 1.0, 1.0,
+            1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.2, 1.4, 1.8, 2.2, 2.6, 2.8
+    };
+    private static final String[] TX_TYPES = {"PAYMENT", "TRANSFER", "WITHDRAWAL", "DEPOSIT", "CASH_OUT"};
+    private static final double[] TX_TYPE_WEIGHTS = {55, 25, 8, 10, 2};
+    private static final String[] FRAUD_TX_TYPES = {"TRANSFER", "CASH_OUT"};
+    private static final String[] GENDERS = {"M", "F"};
+    private static final String[] ACCOUNT_STATUSES = {"ACTIVE", "DORMANT", "SUSPENDED"};
+    private static final double[] ACCOUNT_STATUS_WEIGHTS = {90, 8, 2};
+    private static final String[] CARD_TYPES = {"CREDIT", "DEBIT", "CHECK"};
+    private static final String[] CARD_STATUSES = {"ACTIVE", "LOST", "EXPIRED"};
+    private static final double[] CARD_STATUS_WEIGHTS = {92, 3, 5};
+    private static final String[] ISSUERS = {"KB", "SHINHAN", "HYUNDAI", "SAMSUNG", "WOORI", "LOTTE", "HANA"};
+    private static final String[] LOCATIONS = {"SEOUL", "BUSAN", "INCHEON", "DAEGU", "GWANGJU", "DAEJEON", "ONLINE"};
+    private static final double[] LOCATION_WEIGHTS = {35, 10, 8, 6, 4, 4, 33};
+    private static final String[] ENGINES = {"RULE", "ML", "HYBRID"};
+    private static final double[] ENGINE_THRESHOLDS = {0.7, 0.8, 0.75};
+    private static final String[] REPORT_STATUSES = {"RECEIVED", "INVESTIGATING", "CONFIRMED", "REJECTED"};
+    private static final String[] REPORT_REASONS = {"PHISHING", "ACCOUNT_TAKEOVER", "LOAN_SCAM", "UNKNOWN_TRANSFER"};
+    private static final String PASSWORD_HASH = "$2a$10$abcdefghijklmnopqrstuuJ2hY3k4l5m6n7o8p9q0r1s2t3u4v5w6";
+    private static final int FEATURE_DIMENSIONS = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyntheticDataProperties properties;
+    private final FeatureVectorProperties featureVectorProperties;
+
+    public SyntheticDataGenerator(
+            JdbcTemplate jdbcTemplate,
+            SyntheticDataProperties properties,
+            FeatureVectorProperties featureVectorProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.featureVectorProperties = featureVectorProperties;
+    }
+
+    /**
+     * 설정된 규모로 전체 테이블을 적재하고 테이블별 행 수를 반환한다.
+     * 외래키 순서(사용자 → 계좌 → 카드 → 거래 → 특징/탐지 → 신고 → 블랙리스트)를 따른다.
+     * 하나의 트랜잭션으로 묶지 않고 배치 단위로 커밋해 언두/메모리 사용량을 제한한다.
+     */
+    public SyntheticDataReportDTO generate() {
+        validate();
+        long started = System.nanoTime();
+        GeneratorTarget target = resolveTarget();
+        Run run = new Run(target, new SplittableRandom(properties.getSeed()), LocalDate.now(DEFAULT_ZONE));
+        double scale = properties.getScaleFactor();
+
+        run.users = run.allocate("USERS", "ID", "SEQ_USER_ID", scaled(BASE_USERS, scale));
+        run.accounts = run.allocate("ACCOUNTS", "ACCOUNT_ID", "SEQ_ACCOUNT_ID", scaled(BASE_ACCOUNTS, scale));
+        run.cards = run.allocate("CARDS", "CARD_ID", "SEQ_CARD_ID", scaled(BASE_CARDS, scale));
+        run.transactions = run.allocate("TRANSACTIONS", "TX_ID", "SEQ_TX_ID", scaled(BASE_TRANSACTIONS, scale));
+
+        Map<String, Long> rowCounts = new LinkedHashMap<>();
+        rowCounts.put("USERS", run.writeUsers());
+        rowCounts.put("ACCOUNTS", run.writeAccounts());
+        rowCounts.put("CARDS", run.writeCards());
+        rowCounts.putAll(run.writeTransactions());
+        rowCounts.put("FRAUD_REPORTS", run.writeFraudReports());
+        rowCounts.put("BLACKLIST_ACCOUNTS", run.writeBlacklist());
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Synthetic data generated on {} (scale {}): {} in {} ms", target, scale, rowCounts, elapsedMillis);
+        return new SyntheticDataReportDTO(target.name(), scale, rowCounts, elapsedMillis);
+    }
+
+    private void validate() {
+        if (properties.getScaleFactor() <= 0) {
+            throw new IllegalStateException("fds.generator.scale-factor must be positive");
+        }
+        if (properties.getBatchSize() <= 0) {
+            throw new IllegalStateException("fds.generator.batch-size must be positive");
+        }
+        if (properties.getHistoryDays() <= 0) {
+            throw new IllegalStateException("fds.generator.history-days must be positive");
+        }
+        if (properties.getMerchantCount() <= 0) {
+            throw new IllegalStateException("fds.generator.merchant-count must be positive");
+        }
+        if (properties.getFraudRate() < 0 || properties.getFraudRate() > 1
+                || properties.getDetectionRate() < 0 || properties.getDetectionRate() > 1) {
+            throw new IllegalStateException("fds.generator fraud/detection rates must be between 0 and 1");
+        }
+    }
+
+    /**
+     * 설정값이 AUTO이면 JDBC 메타데이터의 제품명으로 대상 DB를 판별한다.
+     */
+    private GeneratorTarget resolveTarget() {
+        if (properties.getTarget() != GeneratorTarget.AUTO) {
+            return properties.getTarget();
+        }
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        String normalized = product == null ? "" : product.toUpperCase(Locale.ROOT);
+        if (normalized.contains("ORACLE")) {
+            return GeneratorTarget.ORACLE;
+        }
+        if (normalized.contains("H2")) {
+            return GeneratorTarget.H2;
+        }
+        throw new IllegalStateException("Unsupported generator target database: " + product);
+    }
+
+    private static long scaled(long base, double scale) {
+        return Math.max(1, Math.round(base * scale));
+    }
+
+    private static String accountNumber(long accountId) {
+        return "990-%09d".formatted(accountId);
+    }
+
+    /**
+     * 시퀀스에서 미리 받아 둔 ID 목록이다. 시퀀스 값은 연속이 아닐 수 있으므로 위치로 조회한다.
+     */
+    private record IdBlock(long[] ids) {
+        long at(long offset) {
+            return ids[(int) offset];
+        }
+
+        long count() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * 한 번의 생성 실행 상태를 묶는다.
+     * 난수 생성기와 할당된 ID 구간, 신고 대상으로 쓸 사기 계좌 목록을 보관한다.
+     */
+    private final class Run {
+        private final GeneratorTarget target;
+        private final SplittableRandom random;
+        private final LocalDate baseDate;
+        private final WeightedSampler merchants;
+        private final WeightedSampler hours = WeightedSampler.of(DIURNAL_WEIGHTS);
+        private final WeightedSampler fraudHours = WeightedSampler.of(FRAUD_HOUR_WEIGHTS);
+        private final WeightedSampler txTypes = WeightedSampler.of(TX_TYPE_WEIGHTS);
+        private final WeightedSampler accountStatuses = WeightedSampler.of(ACCOUNT_STATUS_WEIGHTS);
+        private final WeightedSampler cardStatuses = WeightedSampler.of(CARD_STATUS_WEIGHTS);
+        private final WeightedSampler locations = WeightedSampler.of(LOCATION_WEIGHTS);
+        private final BitSet fraudAccounts = new BitSet();
+        private IdBlock users;
+        private IdBlock accounts;
+        private IdBlock cards;
+        private IdBlock transactions;
+
+        private Run(GeneratorTarget target, SplittableRandom random, LocalDate baseDate) {
+            this.target = target;
+            this.random = random;
+            this.baseDate = baseDate;
+            this.merchants = WeightedSampler.zipf(properties.getMerchantCount(), properties.getMerchantSkew());
+        }
+
+        /**
+         * 시퀀스 NEXTVAL로 count개의 ID를 배치 크기씩 나눠 받는다.
+         * 시퀀스를 재시작하지 않으므로 적재 중 애플리케이션이 같은 시퀀스로 채번해도 값이 겹치지 않는다.
+         * 시퀀스가 테이블 최대 ID보다 뒤처져 있으면(직접 ID를 넣은 행이 있으면) 그 이하 값은 버리고 더 받는다.
+         */
+        private IdBlock allocate(String table, String idColumn, String sequence, long count) {
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many ids requested for " + table + ": " + count);
+            }
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+            long floor = maxId == null ? 0 : maxId;
+            long[] ids = new long[(int) count];
+            int filled = 0;
+            while (filled < ids.length) {
+                int chunk = Math.min(properties.getBatchSize(), ids.length - filled);
+                for (Long value : jdbcTemplate.queryForList(target.nextValuesSql(sequence, chunk), Long.class)) {
+                    if (value > floor && filled < ids.length) {
+                        ids[filled++] = value;
+                    }
+                }
+            }
+            return new IdBlock(ids);
+        }
+
+        private long writeUsers() {
+            try (BatchWriter writer = new BatchWriter("""
+                    INSERT INTO USERS (ID, USER_ID, USER_PW, NAME, USER_EMAIL, BIRTH, GENDER, ROLE, CREATED_AT)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """)) {
+                for (long i = 0; i < users.count(); i++) {
+                    long id = users.at(i);
+                    int birthYear = 1945 + random.nextInt(62);
+                    writer.add(
+                            id,
+                            "gen" + id,
+                            PASSWORD_HASH,
+                            "Synthetic " + id,
+                            "gen" + id + "@fds.test",
+                            "%d-%02d-%02d".formatted(birthYear, 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                            random.nextInt(20) == 0 ? null : pick(GENDERS),
+                            "USER",
+                            timestamp(pastDateTime(properties.getHistoryDays() * 4, hours))
+                    );
+                }
+                return writer.total();
+            }
+        }
+
+        /**
+         * 계좌 소유자는 사용자 구간을 순환하며 배정해 사용자당 계좌 수가 고르게 퍼지도록 한다.
+         */
+        private long writeAccounts() {
+            try (BatchWriter writer = new BatchWriter("""
+                    INSERT INTO ACCOUNTS (ACCOUNT_ID, ACCOUNT_NUMBER, USER_INNER_ID, BALANCE, PASSWORD, STATUS, CREATED_AT)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)
+                    """)) {
+                for (long i = 0; i < accounts.count(); i++) {
+                    long id = accounts.at(i);
+                    writer.add(
+                            id,
+                            accountNumber(id),
+                            users.at(i % users.count()),
+                            logNormalAmount(13.5, 1.5, 0, 2_000_000_000L),
+                            "pw",
+                            ACCOUNT_STATUSES[accountStatuses.sample(random)],
+                            timestamp(pastDateTime(properties.getHistoryDays() * 2, hours))
+                    );
+                }
+                return writer.total();
+            }
+        }
+
+        private long writeCards() {
+            try (BatchWriter writer = new BatchWriter("""
+                    INSERT INTO CARDS (CARD_ID, CARD_NUMBER, CARD_TYPE, USER_INNER_ID, ACCOUNT_ID, ISSUER, STATUS, CREATED_AT)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                    """)) {
+                for (long i = 0; i < cards.count(); i++) {
+                    long id = cards.at(i);
+                    long accountOffset = i % accounts.count();
+                    writer.add(
+                            id,
+                            "9900%012d".formatted(id),
+                            pick(CARD_TYPES),
+                            users.at(accountOffset % users.count()),
+                            accounts.at(accountOffset),
+                            pick(ISSUERS),
+                            CARD_STATUSES[cardStatuses.sample(random)],
+                            timestamp(pastDateTime(properties.getHistoryDays() * 2, hours))
+                    );
+                }
+                return writer.total();
+            }
+        }
+
+        /**
+         * 거래와 특징값, 탐지 결과를 한 번의 순회로 생성한다.
+         * 사기 거래는 심야 비중이 높고 금액이 크며 항상 탐지 결과를 남기고, 계좌는 신고 후보로 기록된다.
+         */
+        private Map<String, Long> writeTransactions() {
+            try (BatchWriter transactionWriter = new BatchWriter("""
+                         INSERT INTO TRANSACTIONS (TX_ID, ACCOUNT_ID, TX_TYPE, TX_AMOUNT, BALANCE_AFTER_TX,
+                                                   TARGET_ACCOUNT_NUMBER, MERCHANT_NAME, LOCATION, DESCRIPTION, TX_TIMESTAMP)
+                         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                         """);
+                 BatchWriter featureWriter = new BatchWriter("""
+                         INSERT INTO TRANSACTION_FEATURES (TX_ID, OLD_BALANCE_ORG, NEW_BALANCE_ORG, OLD_BALANCE_DEST,
+                                                           NEW_BALANCE_DEST, ERROR_BALANCE, V_FEATURES,
+                                                           V_FEATURES_PACKED)
+                         VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                         """);
+                 BatchWriter detectionWriter = new BatchWriter("""
+                         INSERT INTO FRAUD_DETECTION_RESULTS (DETECTION_ID, TX_ID, FRAUD_PROBABILITY, IS_FRAUD,
+                                                              DETECTED_ENGINE, THRESHOLD_VALUE, ACTION_TAKEN, DETECTED_AT)
+                         VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                         """)) {
+                // 탐지 결과 수는 생성이 끝나야 정해지므로 배치 크기씩 채번해 쓰고, 남은 값은 시퀀스 빈 번호로 둔다.
+                IdBlock detections = new IdBlock(new long[0]);
+                int detectionOffset = 0;
+                for (long i = 0; i < transactions.count(); i++) {
+                    long txId = transactions.at(i);
+                    long accountOffset = random.nextLong(accounts.count());
+                    boolean fraud = random.nextDouble() < properties.getFraudRate();
+                    LocalDateTime txAt = pastDateTime(properties.getHistoryDays(), fraud ? fraudHours : hours);
+                    String txType = fraud ? pick(FRAUD_TX_TYPES) : TX_TYPES[txTypes.sample(random)];
+                    BigDecimal txAmount = fraud
+                            ? logNormalAmount(15.0, 0.8, 100_000, 50_000_000)
+                            : logNormalAmount(10.0, 1.2, 1_000, 50_000_000);
+                    BigDecimal balanceBefore = logNormalAmount(13.5, 1.5, 0, 2_000_000_000L).add(txAmount);
+                    BigDecimal balanceAfter = balanceBefore.subtract(txAmount);
+                    transactionWriter.add(
+                            txId,
+                            accounts.at(accountOffset),
+                            txType,
+                            txAmount,
+                            balanceAfter,
+                            targetAccountNumber(txType, fraud),
+                            "PAYMENT".equals(txType) ? "MERCHANT_%05d".formatted(merchants.sample(random)) : null,
+                            LOCATIONS[locations.sample(random)],
+                            random.nextInt(3) == 0 ? null : "memo " + random.nextInt(100),
+                            timestamp(txAt)
+                    );
+                    if (random.nextInt(10) < 8) {
+                        featureWriter.add(featureRow(txId, balanceBefore, balanceAfter, txAmount, fraud));
+                    }
+                    if (fraud) {
+                        fraudAccounts.set((int) accountOffset);
+                    }
+                    if (fraud || random.nextDouble() < properties.getDetectionRate()) {
+                        if (detectionOffset == detections.count()) {
+                            detections = allocate("FRAUD_DETECTION_RESULTS", "DETECTION_ID", "SEQ_DETECTION_ID",
+                                    properties.getBatchSize());
+                            detectionOffset = 0;
+                        }
+                        detectionWriter.add(detectionRow(detections.at(detectionOffset++), txId, txAt, fraud));
+                    }
+                }
+
+                Map<String, Long> counts = new LinkedHashMap<>();
+                counts.put("TRANSACTIONS", transactionWriter.total());
+                counts.put("TRANSACTION_FEATURES", featureWriter.total());
+                counts.put("FRAUD_DETECTION_RESULTS", detectionWriter.total());
+                return counts;
+            }
+        }
+
+        /**
+         * 신고의 80%는 사기 거래가 발생한 계좌를 대상으로 하고 나머지는 임의 계좌를 대상으로 한다.
+         */
+        private long writeFraudReports() {
+            long reportCount = Math.max(1, Math.round(fraudAccounts.cardinality() * 1.5));
+            IdBlock reports = allocate("FRAUD_REPORTS", "REPORT_ID", "SEQ_REPORT_ID", reportCount);
+            int[] fraudOffsets = fraudAccounts.stream().toArray();
+            try (BatchWriter writer = new BatchWriter("""
+                    INSERT INTO FRAUD_REPORTS (REPORT_ID, ACCOUNT_NUMBER, REPORTER_ID, REASON, STATUS, CREATED_AT)
+                    VALUES (?, ?, ?, ?, ?, ?)
+                    """)) {
+                for (long i = 0; i < reports.count(); i++) {
+                    long accountOffset = fraudOffsets.length > 0 && random.nextInt(10) < 8
+                            ? fraudOffsets[random.nextInt(fraudOffsets.length)]
+                            : random.nextLong(accounts.count());
+                    writer.add(
+                            reports.at(i),
+                            accountNumber(accounts.at(accountOffset)),
+                            users.at(random.nextLong(users.count())),
+                            pick(REPORT_REASONS),
+                            pick(REPORT_STATUSES),
+                            timestamp(pastDateTime(properties.getHistoryDays(), hours))
+                    );
+                }
+                return writer.total();
+            }
+        }
+
+        /**
+         * 사기 계좌의 절반을 블랙리스트에 올린다.
+         * BLACKLIST_ID는 IDENTITY 컬럼이므로 DB가 채번한다.
+         */
+        private long writeBlacklist() {
+            try (BatchWriter writer = new BatchWriter("""
+                    INSERT INTO BLACKLIST_ACCOUNTS (ACCOUNT_NUMBER, REASON, BLOCKED_AT)
+                    VALUES (?, ?, ?)
+                    """)) {
+                for (int offset = fraudAccounts.nextSetBit(0); offset >= 0; offset = fraudAccounts.nextSetBit(offset + 1)) {
+                    if (random.nextBoolean()) {
+                        writer.add(
+                                accountNumber(accounts.at(offset)),
+                                pick(REPORT_REASONS),
+                                timestamp(pastDateTime(properties.getHistoryDays(), hours))
+                        );
+                    }
+                }
+                return writer.total();
+            }
+        }
+
+        private String targetAccountNumber(String txType, boolean fraud) {
+            if (fraud) {
+                return "EXT-%09d".formatted(random.nextInt(1_000_000_000));
+            }
+            if (!"TRANSFER".equals(txType)) {
+                return null;
+            }
+            return accountNumber(accounts.at(random.nextLong(accounts.count())));
+        }
+
+        private Object[] featureRow(
+                long txId,
+                BigDecimal balanceBefore,
+                BigDecimal balanceAfter,
+                BigDecimal txAmount,
+                boolean fraud
+        ) {
+            BigDecimal destinationBefore = logNormalAmount(13.0, 1.5, 0, 2_000_000_000L);
+            BigDecimal destinationAfter = fraud && random.nextBoolean() ? destinationBefore : destinationBefore.add(txAmount);
+            BigDecimal error = destinationAfter.subtract(destinationBefore).subtract(txAmount).abs();
+            float[] vector = random.nextInt(5) == 0 ? null : featureVector(fraud);
+            return new Object[]{
+                    txId,
+                    balanceBefore,
+                    balanceAfter,
+                    destinationBefore,
+                    destinationAfter,
+                    error,
+                    vector == null ? null : featureText(vector),
+                    vector == null ? null : FeatureVectorCodec.encode(vector, featureVectorProperties.getEncoding())
+            };
+        }
+
+        /**
+         * 사기 거래는 높은 확률 쪽, 정상 거래는 낮은 확률 쪽으로 치우친 점수를 만든다.
+         * 판정과 조치는 엔진별 임계값을 기준으로 정한다.
+         */
+        private Object[] detectionRow(long detectionId, long txId, LocalDateTime txAt, boolean fraud) {
+            int engine = random.nextInt(ENGINES.length);
+            double threshold = ENGINE_THRESHOLDS[engine];
+            double draw = random.nextDouble();
+            double probability = fraud ? 0.5 + 0.5 * Math.sqrt(draw) : 0.75 * draw * draw * draw;
+            String action = probability >= threshold ? "BLOCK" : probability >= threshold - 0.2 ? "REVIEW" : "ALLOW";
+            return new Object[]{
+                    detectionId,
+                    txId,
+                    probability,
+                    probability >= threshold ? 1 : 0,
+                    ENGINES[engine],
+                    threshold,
+                    action,
+                    timestamp(txAt.plusSeconds(1 + random.nextInt(300)))
+            };
+        }
+
+        /**
+         * 텍스트와 이진 형식이 같은 값을 담도록 소수 넷째 자리로 반올림한 벡터를 만든다.
+         */
+        private float[] featureVector(boolean fraud) {
+            float[] vector = new float[FEATURE_DIMENSIONS];
+            double shift = fraud ? 1.5 : 0.0;
+            for (int i = 0; i < FEATURE_DIMENSIONS; i++) {
+                vector[i] = (float) (Math.round((nextGaussian() + (i < 4 ? shift : 0.0)) * 10_000) / 10_000.0);
+            }
+            return vector;
+        }
+
+        private String featureText(float[] vector) {
+            StringBuilder builder = new StringBuilder(FEATURE_DIMENSIONS * 8);
+            for (int i = 0; i < vector.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(String.format(Locale.ROOT, "%.4f", vector[i]));
+            }
+            return builder.toString();
+        }
+
+        /**
+         * 기준일 이전 days일 중 하루를 고르고, 시각은 주어진 시간대 분포에서 뽑는다.
+         */
+        private LocalDateTime pastDateTime(int days, WeightedSampler hourSampler) {
+            return baseDate.minusDays(random.nextInt(days))
+                    .atTime(hourSampler.sample(random), random.nextInt(60), random.nextInt(60));
+        }
+
+        private BigDecimal logNormalAmount(double mu, double sigma, long min, long max) {
+            double value = Math.exp(mu + sigma * nextGaussian());
+            long clamped = Math.max(min, Math.min(max, Math.round(value)));
+            return BigDecimal.valueOf(clamped).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        /**
+         * SplittableRandom에는 정규분포 난수가 없어 Box-Muller 변환으로 만든다.
+         */
+        private double nextGaussian() {
+            double u1 = 1.0 - random.nextDouble();
+            double u2 = random.nextDouble();
+            return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+        }
+
+        private String pick(String[] values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        private Timestamp timestamp(LocalDateTime value) {
+            return Timestamp.valueOf(value);
+        }
+    }
+
+    /**
+     * 행을 모아 batchSize마다 JDBC 배치로 보내는 작성기이다.
+     * 닫을 때 남은 행을 보내므로 try-with-resources로 사용한다.
+     */
+    private final class BatchWriter implements AutoCloseable {
+        private final String sql;
+        private final List<Object[]> buffer;
+        private long total;
+
+        private BatchWriter(String sql) {
+            this.sql = sql;
+            this.buffer = new ArrayList<>(properties.getBatchSize());
+        }
+
+        private void add(Object... row) {
+            buffer.add(row);
+            if (buffer.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        private long total() {
+            flush();
+            return total;
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, buffer);
+            total += buffer.size();
+            buffer.clear();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
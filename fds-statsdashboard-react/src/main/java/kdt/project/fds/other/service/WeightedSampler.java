@@ -0,0 +1,42 @@
+package kdt.project.fds.other.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 이 파일은 가중치 기반 인덱스 샘플러 파일이다.
+ * 누적 분포 배열을 미리 만들어 두고 이진 탐색으로 인덱스를 뽑는다.
+ */
+final class WeightedSampler {
+    private final double[] cumulative;
+
+    private WeightedSampler(double[] weights) {
+        this.cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+    }
+
+    static WeightedSampler of(double... weights) {
+        return new WeightedSampler(weights);
+    }
+
+    /**
+     * 순위 k(0부터)의 가중치가 1/(k+1)^exponent인 Zipf 샘플러를 만든다.
+     */
+    static WeightedSampler zipf(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int k = 0; k < size; k++) {
+            weights[k] = 1.0 / Math.pow(k + 1, exponent);
+        }
+        return new WeightedSampler(weights);
+    }
+
+    int sample(SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,38 @@
+package kdt.project.fds.other.vo;
+
+/**
+ * 이 파일은 이진 특징 벡터 값 형식을 구분하는 열거형 파일이다.
+ * FLOAT32는 값을 그대로 보존하고, FLOAT16은 유효숫자 약 3자리로 줄이는 대신 저장 공간을 절반으로 쓴다.
+ */
+public enum FeatureEncoding {
+    FLOAT32(1, Float.BYTES),
+    FLOAT16(2, Short.BYTES);
+
+    private final int code;
+    private final int bytesPerValue;
+
+    FeatureEncoding(int code, int bytesPerValue) {
+        this.code = code;
+        this.bytesPerValue = bytesPerValue;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public int bytesPerValue() {
+        return bytesPerValue;
+    }
+
+    /**
+     * 헤더에 기록된 형식 코드에 해당하는 값을 반환한다.
+     */
+    public static FeatureEncoding fromCode(int code) {
+        for (FeatureEncoding encoding : values()) {
+            if (encoding.code == code) {
+                return encoding;
+            }
+        }
+        throw new IllegalArgumentException("Unknown feature encoding code: " + code);
+    }
+}
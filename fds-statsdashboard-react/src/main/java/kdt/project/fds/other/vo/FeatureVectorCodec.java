@@ -0,0 +1,136 @@
+package kdt.project.fds.other.vo;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * 이 파일은 거래 특징 벡터 이진 코덱 파일이다.
+ * TRANSACTION_FEATURES.V_FEATURES_PACKED에 저장하는 형식은 4바이트 헤더 뒤에 고정 폭 값이 이어진다.
+ * 헤더는 매직 바이트('V'), 상위 4비트 버전과 하위 4비트 값 형식 코드, 차원 수(부호 없는 16비트, 빅 엔디언)이고,
+ * 값은 리틀 엔디언 float32 또는 float16이다. float32는 문자열을 만들지 않고 바이트 배열 위의 FloatBuffer 뷰로 바로 읽는다.
+ */
+public final class FeatureVectorCodec {
+    public static final int HEADER_BYTES = 4;
+    /**
+     * V_FEATURES_PACKED 컬럼 길이이다. Oracle에서는 LOB이 아닌 RAW로 저장되어 행 안에 함께 읽힌다.
+     */
+    public static final int MAX_PACKED_BYTES = 2_000;
+
+    private static final byte MAGIC = 'V';
+    private static final int VERSION = 1;
+    private static final ByteOrder VALUE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private FeatureVectorCodec() {
+    }
+
+    /**
+     * 값을 지정한 형식으로 인코딩한다. 컬럼 길이를 넘으면 IllegalArgumentException을 던진다.
+     */
+    public static byte[] encode(float[] values, FeatureEncoding encoding) {
+        int length = HEADER_BYTES + values.length * encoding.bytesPerValue();
+        if (values.length == 0 || values.length > 0xFFFF || length > MAX_PACKED_BYTES) {
+            throw new IllegalArgumentException("Feature vector must have 1.." + maxDimensions(encoding)
+                    + " values for " + encoding + ": " + values.length);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(MAGIC);
+        buffer.put((byte) (VERSION << 4 | encoding.code()));
+        buffer.putShort((short) values.length);
+        buffer.order(VALUE_ORDER);
+        for (float value : values) {
+            if (encoding == FeatureEncoding.FLOAT32) {
+                buffer.putFloat(value);
+            } else {
+                buffer.putShort(Float.floatToFloat16(value));
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 쉼표 구분 텍스트 벡터를 인코딩한다. 숫자가 아니거나 컬럼 길이를 넘으면 null을 반환한다.
+     */
+    public static byte[] encodeText(String text, FeatureEncoding encoding) {
+        float[] values = parseText(text);
+        if (values == null || values.length > maxDimensions(encoding)) {
+            return null;
+        }
+        return encode(values, encoding);
+    }
+
+    /**
+     * 이진 벡터를 FloatBuffer로 읽는다. float32는 복사 없이 배열 위의 읽기 전용 뷰를, float16은 변환한 새 버퍼를 반환한다.
+     */
+    public static FloatBuffer decode(byte[] packed) {
+        FeatureEncoding encoding = encoding(packed);
+        int dimensions = dimensions(packed);
+        if (packed.length != HEADER_BYTES + dimensions * encoding.bytesPerValue()) {
+            throw new IllegalArgumentException("Packed feature vector length does not match its header");
+        }
+        ByteBuffer payload = ByteBuffer.wrap(packed, HEADER_BYTES, packed.length - HEADER_BYTES)
+                .slice()
+                .order(VALUE_ORDER);
+        if (encoding == FeatureEncoding.FLOAT32) {
+            return payload.asFloatBuffer().asReadOnlyBuffer();
+        }
+        FloatBuffer values = FloatBuffer.allocate(dimensions);
+        for (int i = 0; i < dimensions; i++) {
+            values.put(Float.float16ToFloat(payload.getShort(i * Short.BYTES)));
+        }
+        return values.flip();
+    }
+
+    public static int dimensions(byte[] packed) {
+        checkHeader(packed);
+        return (packed[2] & 0xFF) << 8 | packed[3] & 0xFF;
+    }
+
+    public static FeatureEncoding encoding(byte[] packed) {
+        checkHeader(packed);
+        return FeatureEncoding.fromCode(packed[1] & 0x0F);
+    }
+
+    public static int maxDimensions(FeatureEncoding encoding) {
+        return (MAX_PACKED_BYTES - HEADER_BYTES) / encoding.bytesPerValue();
+    }
+
+    /**
+     * 쉼표 구분 텍스트 벡터를 float 배열로 읽는다. 비어 있거나 숫자가 아닌 값이 있으면 null을 반환한다.
+     */
+    public static float[] parseText(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        int count = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == ',') {
+                count++;
+            }
+        }
+        float[] values = new float[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = text.indexOf(',', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            try {
+                values[i] = Float.parseFloat(text.substring(start, end).trim());
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+            if (!Float.isFinite(values[i])) {
+                return null;
+            }
+            start = end + 1;
+        }
+        return values;
+    }
+
+    private static void checkHeader(byte[] packed) {
+        if (packed == null || packed.length < HEADER_BYTES || packed[0] != MAGIC || (packed[1] & 0xF0) >>> 4 != VERSION) {
+            throw new IllegalArgumentException("Not a packed feature vector");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package kdt.project.fds.other.vo;
+
+/**
+ * 이 파일은 합성 데이터 생성 대상 DB를 구분하는 열거형 파일이다.
+ * DB마다 다른 시퀀스 일괄 채번 구문을 제공한다.
+ */
+public enum GeneratorTarget {
+    AUTO,
+    H2,
+    ORACLE;
+
+    /**
+     * 시퀀스에서 count개의 값을 한 번에 받는 조회문을 만든다.
+     * NEXTVAL만 쓰므로 DDL 권한이나 DB 버전에 의존하지 않고, 동시에 채번하는 애플리케이션과도 값이 겹치지 않는다.
+     */
+    public String nextValuesSql(String sequenceName, int count) {
+        return switch (this) {
+            case H2 -> "SELECT NEXT VALUE FOR " + sequenceName + " FROM SYSTEM_RANGE(1, " + count + ")";
+            case ORACLE -> "SELECT " + sequenceName + ".NEXTVAL FROM DUAL CONNECT BY LEVEL <= " + count;
+            case AUTO -> throw new IllegalStateException("Generator target must be resolved before use");
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package kdt.project.fds.stats.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 이 파일은 기본/분석용 커넥션 풀 구성 파일이다.
+ * spring.datasource 설정으로 기본 풀을, fds.datasource.analytics 설정으로 분석용 풀을 만들고
+ * 읽기 전용 분석 트랜잭션만 분석용 풀로 보내는 라우팅 DataSource를 애플리케이션 DataSource로 등록한다.
+ * 두 풀은 fds-primary, fds-analytics 이름으로 hikaricp.* 메트릭을 따로 노출한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "fds.datasource.analytics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AnalyticsDataSourceConfig {
+    private static final String PRIMARY_POOL_NAME = "fds-primary";
+    private static final String ANALYTICS_POOL_NAME = "fds-analytics";
+
+    /**
+     * 기본 풀과 분석용 풀을 만든다.
+     * 풀은 DataSource 빈으로 노출하지 않아 주입 대상이 라우팅 DataSource 하나로 유지된다.
+     */
+    @Bean(destroyMethod = "close")
+    public DataSourcePools dataSourcePools(
+            DataSourceProperties dataSourceProperties,
+            AnalyticsDataSourceProperties analyticsProperties,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName(PRIMARY_POOL_NAME);
+        }
+        primary.setMetricsTrackerFactory(metrics);
+
+        HikariDataSource analytics = new HikariDataSource();
+        analytics.setPoolName(ANALYTICS_POOL_NAME);
+        analytics.setJdbcUrl(orDefault(analyticsProperties.getUrl(), dataSourceProperties.determineUrl()));
+        analytics.setUsername(orDefault(analyticsProperties.getUsername(), dataSourceProperties.determineUsername()));
+        analytics.setPassword(orDefault(analyticsProperties.getPassword(), dataSourceProperties.determinePassword()));
+        String driverClassName = orDefault(
+                analyticsProperties.getDriverClassName(),
+                analyticsProperties.getUrl() == null ? dataSourceProperties.determineDriverClassName() : null
+        );
+        if (driverClassName != null) {
+            analytics.setDriverClassName(driverClassName);
+        }
+        analytics.setMaximumPoolSize(Math.max(1, analyticsProperties.getMaximumPoolSize()));
+        analytics.setMinimumIdle(Math.max(0, analyticsProperties.getMinimumIdle()));
+        analytics.setConnectionTimeout(analyticsProperties.getConnectionTimeoutMillis());
+        analytics.setIdleTimeout(analyticsProperties.getIdleTimeoutMillis());
+        analytics.setReadOnly(true);
+        analytics.setMetricsTrackerFactory(metrics);
+
+        return new DataSourcePools(primary, analytics);
+    }
+
+    /**
+     * 트랜잭션 속성에 따라 풀을 고르는 라우팅 DataSource를 기본 DataSource로 등록한다.
+     * 실제 커넥션은 첫 SQL 실행 시점에 얻으므로 트랜잭션 시작 후 읽기 전용 여부로 풀을 고를 수 있다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourcePools pools, AnalyticsDataSourceProperties analyticsProperties) {
+        return new LazyConnectionDataSourceProxy(new AnalyticsRoutingDataSource(
+                pools.primary(),
+                pools.analytics(),
+                analyticsProperties.getRoutePrefixes()
+        ));
+    }
+
+    private static String orDefault(String value, String fallback) {
+        return value == null || value.isBlank() ? fallback : value;
+    }
+
+    public record DataSourcePools(HikariDataSource primary, HikariDataSource analytics) implements AutoCloseable {
+        @Override
+        public void close() {
+            analytics.close();
+            primary.close();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package kdt.project.fds.stats.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 분석용 커넥션 풀 설정 파일이다.
+ * 읽기 전용 통계 트랜잭션을 보낼 별도 풀의 접속 정보, 크기, 타임아웃과 라우팅 대상 서비스를 지정한다.
+ * 접속 정보를 비워 두면 기본 spring.datasource 값을 그대로 사용해 같은 DB에 용량만 분리된 풀을 만든다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.datasource.analytics")
+public class AnalyticsDataSourceProperties {
+    /**
+     * 분석용 풀 라우팅 사용 여부이다.
+     * false이면 스프링 부트 기본 DataSource 하나만 사용한다.
+     */
+    private boolean enabled = true;
+    /**
+     * 읽기 복제본이나 대기 DB의 JDBC URL이다. 비어 있으면 기본 DataSource URL을 사용한다.
+     */
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    // 분석용 풀의 최대/최소 커넥션 수이다. 기본 풀과 합쳐 DB 세션 한도를 넘지 않도록 정한다.
+    private int maximumPoolSize = 4;
+    private int minimumIdle = 1;
+    // 커넥션을 얻기 위해 기다리는 최대 시간(밀리초)이다. 분석 요청이 밀려도 오래 붙잡히지 않도록 짧게 둔다.
+    private long connectionTimeoutMillis = 3_000;
+    // 유휴 커넥션을 닫기 전까지의 시간(밀리초)이다.
+    private long idleTimeoutMillis = 300_000;
+    /**
+     * 분석용 풀로 보낼 읽기 전용 트랜잭션 이름(클래스명.메서드명) 접두사 목록이다.
+     * 인증/가입 조회처럼 목록에 없는 읽기 전용 트랜잭션은 기본 풀을 사용한다.
+     */
+    private List<String> routePrefixes = new ArrayList<>(List.of(
+            "kdt.project.fds.stats.service.AdminStatsDashboardService.",
+            "kdt.project.fds.stats.service.AdminStatsComparisonService.",
+            "kdt.project.fds.stats.service.UserStatsDashboardService.",
+            "kdt.project.fds.stats.service.PartitionedTransactionStatsService.",
+            "kdt.project.fds.stats.service.SampledTransactionStatsService.",
+            "kdt.project.fds.stats.service.StatsSnapshotService.listSnapshots",
+            "kdt.project.fds.detection.service.FraudBacktestService.",
+            "kdt.project.fds.detection.service.FraudThresholdCurveService.",
+            "kdt.project.fds.detection.service.TransferGraphService.",
+            "kdt.project.fds.detection.service.FeatureSimilarityService."
+    ));
+}
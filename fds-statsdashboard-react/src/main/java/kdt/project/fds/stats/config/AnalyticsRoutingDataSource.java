@@ -0,0 +1,44 @@
+package kdt.project.fds.stats.config;
+
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이 파일은 읽기 전용 분석 트랜잭션 라우팅 DataSource 파일이다.
+ * 현재 트랜잭션이 읽기 전용이고 이름이 라우팅 접두사와 일치하면 분석용 풀을, 그 외에는 기본 풀을 반환한다.
+ * 트랜잭션 속성이 정해진 뒤 실제 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ */
+public class AnalyticsRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String ANALYTICS = "analytics";
+
+    private final List<String> routePrefixes;
+
+    public AnalyticsRoutingDataSource(DataSource primary, DataSource analytics, List<String> routePrefixes) {
+        this.routePrefixes = List.copyOf(routePrefixes);
+        setTargetDataSources(Map.of(PRIMARY, primary, ANALYTICS, analytics));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transactionName != null) {
+            for (String prefix : routePrefixes) {
+                if (transactionName.startsWith(prefix)) {
+                    return ANALYTICS;
+                }
+            }
+        }
+        return PRIMARY;
+    }
+}
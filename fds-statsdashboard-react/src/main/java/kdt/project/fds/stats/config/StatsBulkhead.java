@@ -0,0 +1,17 @@
+package kdt.project.fds.stats.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import kdt.project.fds.stats.vo.StatsTrafficClass;
+
+/**
+ * 이 파일은 벌크헤드 적용 대상 핸들러를 표시하는 애노테이션 파일이다.
+ * 지정한 트래픽 분류의 동시 실행/요청률 한도를 통과해야 컨트롤러 메서드가 실행된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatsBulkhead {
+    StatsTrafficClass value();
+}
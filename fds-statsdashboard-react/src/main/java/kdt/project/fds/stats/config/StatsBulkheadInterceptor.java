@@ -0,0 +1,70 @@
+package kdt.project.fds.stats.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kdt.project.fds.stats.service.StatsBulkheadService;
+import kdt.project.fds.stats.vo.StatsTrafficClass;
+import kdt.project.fds.users.security.UserPrincipal;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 이 파일은 통계 엔드포인트 벌크헤드 인터셉터 파일이다.
+ * StatsBulkhead 애노테이션이 붙은 핸들러 실행 전에 실행 슬롯을 얻고, 요청 완료 후 반환한다.
+ * 보안 필터 이후에 실행되므로 인증된 사용자 id를 요청률 제한 키로 사용한다.
+ */
+@Component
+public class StatsBulkheadInterceptor implements HandlerInterceptor {
+    // 슬롯을 획득한 트래픽 분류를 요청 속성에 보관해 완료 시 같은 분류로 반환한다.
+    private static final String ACQUIRED_ATTRIBUTE = StatsBulkheadInterceptor.class.getName() + ".ACQUIRED";
+
+    private final StatsBulkheadService bulkheadService;
+
+    public StatsBulkheadInterceptor(StatsBulkheadService bulkheadService) {
+        this.bulkheadService = bulkheadService;
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler
+    ) {
+        if (!bulkheadService.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        StatsBulkhead bulkhead = handlerMethod.getMethodAnnotation(StatsBulkhead.class);
+        if (bulkhead == null) {
+            return true;
+        }
+        bulkheadService.acquire(bulkhead.value(), principalKey(request));
+        request.setAttribute(ACQUIRED_ATTRIBUTE, bulkhead.value());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            @Nullable Exception ex
+    ) {
+        if (request.getAttribute(ACQUIRED_ATTRIBUTE) instanceof StatsTrafficClass trafficClass) {
+            request.removeAttribute(ACQUIRED_ATTRIBUTE);
+            bulkheadService.release(trafficClass);
+        }
+    }
+
+    private String principalKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return "user:" + principal.getUserId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,61 @@
+package kdt.project.fds.stats.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 통계 엔드포인트 벌크헤드 설정 파일이다.
+ * 트래픽 분류별 동시 실행 수, 대기 시간, 사용자별 요청률을 fds.stats.bulkhead 아래에서 지정한다.
+ * 동시 실행 수의 합은 커넥션 풀 크기보다 작게 두어 로그인/토큰 갱신용 커넥션을 남겨야 한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.stats.bulkhead")
+public class StatsBulkheadProperties {
+    /**
+     * 벌크헤드 사용 여부이다.
+     * false이면 모든 요청을 한도 없이 통과시킨다.
+     */
+    private boolean enabled = true;
+    /**
+     * 분류별로 요청률 상태를 유지할 최대 사용자 수이다.
+     * 넘치면 토큰이 모두 회복된 사용자의 상태부터 정리한다.
+     */
+    private int maxTrackedPrincipals = 10_000;
+    /**
+     * 동시 실행 한도 초과(503) 응답의 Retry-After 값(초)이다.
+     */
+    private long retryAfterSeconds = 1;
+
+    private Limit adminDashboard = new Limit(3, 1_000, 1.0, 5);
+    private Limit snapshotGenerate = new Limit(1, 0, 0.1, 2);
+    private Limit userDashboard = new Limit(4, 250, 5.0, 10);
+    private Limit detectionBacktest = new Limit(1, 0, 0.1, 2);
+    private Limit transferGraph = new Limit(2, 500, 1.0, 3);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 동시에 실행할 수 있는 요청 수이다.
+        private int maxConcurrent;
+        // 실행 슬롯을 기다리는 최대 시간(밀리초)이다. 0이면 기다리지 않고 바로 503으로 응답한다.
+        private long queueTimeoutMillis;
+        // 사용자별 초당 허용 요청 수이다. 0 이하이면 요청률을 제한하지 않는다.
+        private double requestsPerSecond;
+        // 사용자별로 연속 허용하는 최대 요청 수이다.
+        private int burst;
+
+        public Limit() {
+        }
+
+        public Limit(int maxConcurrent, long queueTimeoutMillis, double requestsPerSecond, int burst) {
+            this.maxConcurrent = maxConcurrent;
+            this.queueTimeoutMillis = queueTimeoutMillis;
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
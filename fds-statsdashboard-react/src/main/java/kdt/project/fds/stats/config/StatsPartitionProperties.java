@@ -0,0 +1,58 @@
+package kdt.project.fds.stats.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 긴 기간 관리자 대시보드의 분할 집계 설정 파일이다.
+ * 거래 섹션을 기간 파티션으로 나누어 병렬 조회할 기준 일수, 파티션 크기, 병렬도, 재시도, 파티션 캐시를
+ * fds.stats.partitioning 아래에서 지정한다.
+ * 요청 스레드는 파티션을 기다리는 동안 커넥션을 잡지 않으므로, 병렬도는 분석용 커넥션 풀 크기보다 작게 두면
+ * 다른 통계 요청이 쓸 커넥션이 남는다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.stats.partitioning")
+public class StatsPartitionProperties {
+    /**
+     * 분할 집계 사용 여부이다.
+     * false이면 기간 길이와 관계없이 기간 전체를 한 번에 집계한다.
+     */
+    private boolean enabled = true;
+    /**
+     * 조회 기간이 이 일수를 넘을 때만 분할한다.
+     */
+    private int thresholdDays = 31;
+    /**
+     * 파티션 하나의 일수이다. 1이면 일 단위, 7이면 월요일부터 시작하는 주 단위로 나눈다.
+     * 경계를 달력에 맞추므로 기간이 달라도 가운데의 온전한 파티션은 캐시를 함께 쓴다.
+     */
+    private int partitionDays = 7;
+    /**
+     * 파티션을 동시에 조회하는 스레드 수이다. 모든 요청이 이 풀을 함께 사용한다.
+     */
+    private int parallelism = 2;
+    /**
+     * 파티션 하나를 조회하는 최대 시도 횟수이다. 커넥션 획득 실패나 일시적 DB 오류일 때 그 파티션만 다시 조회한다.
+     */
+    private int maxAttempts = 3;
+    /**
+     * 재시도 전 대기 시간(밀리초)이다. 시도마다 배수로 늘린다.
+     */
+    private long retryBackoffMillis = 200;
+    /**
+     * 오늘 이전에 끝난 파티션 결과를 캐시에 보관하는 시간(밀리초)이다. 0이면 캐시하지 않는다.
+     */
+    private long cacheTtlMillis = 600_000;
+    /**
+     * 캐시에 보관할 최대 파티션 수이다.
+     */
+    private int cacheMaxEntries = 1_000;
+    /**
+     * 파티션마다 가져오는 상위 항목 후보 수이다. 클수록 합친 상위 목록이 정확해지고 파티션 결과가 커진다.
+     */
+    private int topCandidates = 100;
+}
@@ -0,0 +1,40 @@
+package kdt.project.fds.stats.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 관리자 대시보드 근사 집계(accuracy=approximate) 설정 파일이다.
+ * 거래 표본 비율, 추정에 필요한 최소 표본 수, 신뢰수준, 표본 조회 fetch size를 fds.stats.sampling 아래에서 지정한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.stats.sampling")
+public class StatsSamplingProperties {
+    /**
+     * 기간 내 거래 중 표본으로 읽을 비율(%)이다. 100 이상이면 표본을 쓰지 않고 정확히 집계한다.
+     * 표본 1만 건이면 거래 건수의 상대 오차가 약 ±2%이므로 기간 거래 수에 맞춰 정한다.
+     */
+    private double samplePercent = 1.0;
+    /**
+     * 표본이 이보다 적으면 추정 오차가 커서 정확한 집계로 대신한다.
+     */
+    private long minSampleRows = 2_000;
+    /**
+     * 조회 기간이 이 일수보다 짧으면 표본을 읽지 않고 정확히 집계한다.
+     * Oracle SAMPLE 절은 기간 조건보다 먼저 적용되어 테이블 전체 블록을 읽으므로, 짧은 기간은 TX_TIMESTAMP 인덱스로
+     * 기간만 읽는 정확한 집계가 더 싸다.
+     */
+    private int minRangeDays = 31;
+    /**
+     * 신뢰구간의 신뢰수준이다. 0.90, 0.95, 0.99 중 하나를 사용한다.
+     */
+    private double confidenceLevel = 0.95;
+    /**
+     * 표본 행을 읽을 때 한 번에 가져오는 행 수이다.
+     */
+    private int fetchSize = 2_000;
+}
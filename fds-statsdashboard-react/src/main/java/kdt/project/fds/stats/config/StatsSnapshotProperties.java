@@ -1,5 +1,6 @@
 package kdt.project.fds.stats.config;
 
+import kdt.project.fds.stats.vo.SnapshotTier;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -7,7 +8,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * 이 파일은 스냅샷 저장 경로 설정 파일이다.
- * 파일 기반 스냅샷 저장 위치를 지정한다.
+ * 파일 기반 스냅샷 저장 위치와 주기별 일반 스냅샷 보관 기간을 지정한다.
  */
 @Getter
 @Setter
@@ -19,4 +20,25 @@ public class StatsSnapshotProperties {
      * 상대 경로일 경우 실행 디렉터리를 기준으로 한다.
      */
     private String basePath = "snapshots";
+    /**
+     * 주간 일반 스냅샷 보관 일수이다. 스냅샷 기간 종료일이 이보다 오래되면 삭제한다.
+     * 월간 스냅샷은 주간 스냅샷을 합쳐 만들므로 한 달보다 충분히 길어야 한다.
+     */
+    private int weeklyRetentionDays = 365;
+    /**
+     * 월간 일반 스냅샷 보관 일수이다. 분기 스냅샷의 원본이므로 분기보다 충분히 길어야 한다.
+     */
+    private int monthlyRetentionDays = 1_825;
+    /**
+     * 분기 일반 스냅샷 보관 일수이다.
+     */
+    private int quarterlyRetentionDays = 1_825;
+
+    public int retentionDays(SnapshotTier tier) {
+        return switch (tier) {
+            case WEEKLY -> weeklyRetentionDays;
+            case MONTHLY -> monthlyRetentionDays;
+            case QUARTERLY -> quarterlyRetentionDays;
+        };
+    }
 }
@@ -12,7 +12,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * 이 파일은 주간 스냅샷 스케줄러 파일이다.
- * 매주 월요일 00:00에 지난 주 스냅샷을 자동 생성한다.
+ * 매주 월요일 00:00에 지난 주 스냅샷을 자동 생성하고, 아직 없는 직전 월간/분기 스냅샷을 주간 스냅샷을 합쳐 만든다.
  */
 @Component
 public class StatsSnapshotScheduler {
@@ -41,5 +41,10 @@ public class StatsSnapshotScheduler {
         } catch (Exception ex) {
             log.warn("Weekly snapshot generation failed: {}", ex.getMessage());
         }
+        try {
+            statsSnapshotService.generateDueMergedSnapshots();
+        } catch (Exception ex) {
+            log.warn("Merged snapshot generation failed: {}", ex.getMessage());
+        }
     }
 }
@@ -0,0 +1,23 @@
+package kdt.project.fds.stats.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 이 파일은 통계 모듈 MVC 설정 파일이다.
+ * 통계 API와 분석성 탐지 API 경로에 벌크헤드 인터셉터를 등록한다.
+ */
+@Configuration
+public class StatsWebConfig implements WebMvcConfigurer {
+    private final StatsBulkheadInterceptor statsBulkheadInterceptor;
+
+    public StatsWebConfig(StatsBulkheadInterceptor statsBulkheadInterceptor) {
+        this.statsBulkheadInterceptor = statsBulkheadInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statsBulkheadInterceptor).addPathPatterns("/api/stats/**", "/api/detection/**");
+    }
+}
@@ -1,12 +1,18 @@
 package kdt.project.fds.stats.controller;
 
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
+import kdt.project.fds.stats.config.StatsBulkhead;
 import kdt.project.fds.stats.dto.request.StatsSnapshotGenerateRequestDTO;
 import kdt.project.fds.stats.dto.response.StatsSnapshotMetadataDTO;
+import kdt.project.fds.stats.dto.response.StatsSnapshotSeriesResponseDTO;
 import kdt.project.fds.stats.dto.response.StatsSnapshotGenerateResponseDTO;
 import kdt.project.fds.stats.service.StatsSnapshotService;
 import kdt.project.fds.stats.vo.SnapshotScope;
+import kdt.project.fds.stats.vo.SnapshotTier;
+import kdt.project.fds.stats.vo.StatsTrafficClass;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.validation.annotation.Validated;
@@ -15,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -36,6 +43,7 @@ public class AdminSnapshotController {
      * 요청을 스냅샷 서비스에 전달하고 결과를 반환한다.
      */
     @PostMapping({ "", "/generate" })
+    @StatsBulkhead(StatsTrafficClass.SNAPSHOT_GENERATE)
     public StatsSnapshotGenerateResponseDTO generate(
             @Valid
             @RequestBody
@@ -44,6 +52,28 @@ public class AdminSnapshotController {
         return statsSnapshotService.generate(request);
     }
 
+    /**
+     * 월간/분기 일반 스냅샷을 저장된 하위 주기 스냅샷을 합쳐 만든다. DB는 조회하지 않는다.
+     * periodDate가 속한 월/분기를 만들며, 생략하면 직전 월/분기를 만든다.
+     */
+    @PostMapping("/merge")
+    @StatsBulkhead(StatsTrafficClass.SNAPSHOT_GENERATE)
+    public StatsSnapshotGenerateResponseDTO merge(
+            @RequestParam
+            String tier,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate periodDate,
+            @RequestParam(defaultValue = "false")
+            boolean forceRebuild
+    ) {
+        SnapshotTier snapshotTier = SnapshotTier.fromParameter(tier);
+        if (snapshotTier == null || snapshotTier == SnapshotTier.WEEKLY) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "tier must be one of monthly, quarterly");
+        }
+        return statsSnapshotService.generateMergedSnapshot(snapshotTier, periodDate, forceRebuild);
+    }
+
     /**
      * 관리자용 스냅샷 목록을 반환한다.
      * 비즈니스 스냅샷 파일 메타데이터를 조회한다.
@@ -53,6 +83,24 @@ public class AdminSnapshotController {
         return statsSnapshotService.listSnapshots(SnapshotScope.BUSINESS);
     }
 
+    /**
+     * 관리자용 스냅샷 지표 시계열을 반환한다.
+     * 스냅샷 요약 로그만 읽으므로 스냅샷 수가 많아도 상세 파일을 열지 않는다.
+     */
+    @GetMapping("/series")
+    public StatsSnapshotSeriesResponseDTO series(
+            @RequestParam
+            String metric,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to
+    ) {
+        return statsSnapshotService.getSeries(SnapshotScope.BUSINESS, metric, from, to);
+    }
+
     /**
      * 관리자용 스냅샷 상세 JSON을 반환한다.
      * 주차 id에 해당하는 스냅샷 파일을 읽는다.
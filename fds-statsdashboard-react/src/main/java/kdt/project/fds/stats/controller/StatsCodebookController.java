@@ -1,10 +1,18 @@
 package kdt.project.fds.stats.controller;
 
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import kdt.project.fds.stats.dto.request.StatsCodebookRequestDTO;
+import kdt.project.fds.stats.dto.response.StatsCodebookImportResponseDTO;
 import kdt.project.fds.stats.dto.response.StatsCodebookResponseDTO;
+import kdt.project.fds.stats.service.StatsCodebookBulkService;
 import kdt.project.fds.stats.service.StatsCodebookService;
+import kdt.project.fds.stats.vo.CodebookExportFormat;
+import kdt.project.fds.stats.vo.CodebookImportMode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 이 파일은 통계 코드북 컨트롤러 파일이다.
@@ -25,9 +34,14 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class StatsCodebookController {
     private final StatsCodebookService statsCodebookService;
+    private final StatsCodebookBulkService statsCodebookBulkService;
 
-    public StatsCodebookController(StatsCodebookService statsCodebookService) {
+    public StatsCodebookController(
+            StatsCodebookService statsCodebookService,
+            StatsCodebookBulkService statsCodebookBulkService
+    ) {
         this.statsCodebookService = statsCodebookService;
+        this.statsCodebookBulkService = statsCodebookBulkService;
     }
 
     /**
@@ -93,4 +107,50 @@ public class StatsCodebookController {
     ) {
         statsCodebookService.delete(codebookId);
     }
+
+    /**
+     * JSON 배열로 받은 코드북 엔트리를 일괄 등록한다.
+     * 요청 본문을 스트림으로 읽어 배치 단위로 반영하고 행별 충돌을 보고한다.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public StatsCodebookImportResponseDTO importJson(
+            InputStream body,
+            @RequestParam(defaultValue = "UPSERT")
+            CodebookImportMode mode
+    ) {
+        return statsCodebookBulkService.importJson(body, mode);
+    }
+
+    /**
+     * 헤더가 있는 CSV로 받은 코드북 엔트리를 일괄 등록한다.
+     * 열 이름은 codeType, codeKey, displayName, description, sortOrder, active, metaJson이다.
+     */
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public StatsCodebookImportResponseDTO importCsv(
+            InputStream body,
+            @RequestParam(defaultValue = "UPSERT")
+            CodebookImportMode mode
+    ) {
+        return statsCodebookBulkService.importCsv(body, mode);
+    }
+
+    /**
+     * 코드북을 CSV 또는 JSON 파일로 스트리밍한다.
+     * 코드 타입을 지정하면 해당 타입만 내보낸다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "CSV")
+            CodebookExportFormat format,
+            @RequestParam(required = false)
+            String codeType
+    ) {
+        StreamingResponseBody body = format == CodebookExportFormat.JSON
+                ? out -> statsCodebookBulkService.exportJson(codeType, out)
+                : out -> statsCodebookBulkService.exportCsv(codeType, out);
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"stats-codebook." + format.extension() + "\"")
+                .body(body);
+    }
 }
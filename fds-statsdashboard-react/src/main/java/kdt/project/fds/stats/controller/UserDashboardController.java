@@ -1,20 +1,28 @@
 package kdt.project.fds.stats.controller;
 
 import java.time.LocalDate;
+import java.util.List;
+import kdt.project.fds.stats.config.StatsBulkhead;
+import kdt.project.fds.stats.dto.response.AdminComparisonResponseDTO;
 import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
 import kdt.project.fds.stats.dto.response.UserDashboardResponseDTO;
 import kdt.project.fds.stats.dto.response.UserSummaryResponseDTO;
+import kdt.project.fds.stats.service.AdminStatsComparisonService;
 import kdt.project.fds.stats.service.AdminStatsDashboardService;
 import kdt.project.fds.stats.service.UserStatsDashboardService;
+import kdt.project.fds.stats.vo.StatsAccuracy;
 import kdt.project.fds.stats.vo.StatsRangeType;
+import kdt.project.fds.stats.vo.StatsTrafficClass;
 import kdt.project.fds.users.security.UserPrincipal;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * 이 파일은 통계 대시보드 컨트롤러 파일이다.
@@ -26,13 +34,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserDashboardController {
     private final UserStatsDashboardService userDashboardService;
     private final AdminStatsDashboardService adminDashboardService;
+    private final AdminStatsComparisonService adminComparisonService;
 
     public UserDashboardController(
             UserStatsDashboardService userDashboardService,
-            AdminStatsDashboardService adminDashboardService
+            AdminStatsDashboardService adminDashboardService,
+            AdminStatsComparisonService adminComparisonService
     ) {
         this.userDashboardService = userDashboardService;
         this.adminDashboardService = adminDashboardService;
+        this.adminComparisonService = adminComparisonService;
     }
 
     /**
@@ -54,6 +65,7 @@ public class UserDashboardController {
      * 거래/탐지 요약은 range 필터를 따른다.
      */
     @GetMapping("/user/dashboard")
+    @StatsBulkhead(StatsTrafficClass.USER_DASHBOARD)
     public UserDashboardResponseDTO getUserDashboard(
             @AuthenticationPrincipal
             UserPrincipal principal,
@@ -65,17 +77,41 @@ public class UserDashboardController {
 
     /**
      * 관리자 대시보드 집계 데이터를 반환한다.
-     * 날짜 범위를 지정하지 않으면 최근 7일을 사용한다.
+     * 날짜 범위를 지정하지 않으면 최근 7일을 사용한다. accuracy=approximate이면 거래 섹션을 표본으로 추정한다.
      */
     @GetMapping("/admin/dashboard")
+    @StatsBulkhead(StatsTrafficClass.ADMIN_DASHBOARD)
     public AdminDashboardResponseDTO getAdminDashboard(
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
             LocalDate fromDate,
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-            LocalDate toDate
+            LocalDate toDate,
+            @RequestParam(defaultValue = "exact")
+            String accuracy
     ) {
-        return adminDashboardService.getAdminDashboard(fromDate, toDate);
+        StatsAccuracy statsAccuracy = StatsAccuracy.fromParameter(accuracy);
+        if (statsAccuracy == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "accuracy must be one of exact, approximate");
+        }
+        return adminDashboardService.getAdminDashboard(fromDate, toDate, statsAccuracy);
+    }
+
+    /**
+     * 여러 기간의 관리자 핵심 지표를 한 번에 비교한다.
+     * ranges(예: 2026-01-01..2026-01-07)를 여러 개 지정하거나, 생략하면 오늘로 끝나는 periodDays일 기간 periods개를 비교한다.
+     */
+    @GetMapping("/admin/dashboard/compare")
+    @StatsBulkhead(StatsTrafficClass.ADMIN_DASHBOARD)
+    public AdminComparisonResponseDTO compareAdminDashboard(
+            @RequestParam(required = false)
+            List<String> ranges,
+            @RequestParam(defaultValue = "4")
+            int periods,
+            @RequestParam(defaultValue = "7")
+            int periodDays
+    ) {
+        return adminComparisonService.compare(ranges, periods, periodDays);
     }
 }
@@ -1,20 +1,25 @@
 package kdt.project.fds.stats.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import kdt.project.fds.stats.dto.response.StatsSnapshotMetadataDTO;
+import kdt.project.fds.stats.dto.response.StatsSnapshotSeriesResponseDTO;
 import kdt.project.fds.stats.service.StatsSnapshotService;
 import kdt.project.fds.stats.vo.SnapshotScope;
+import kdt.project.fds.stats.vo.SnapshotTier;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * 이 파일은 사용자용 스냅샷 컨트롤러 파일이다.
- * 주간 스냅샷 목록과 상세 JSON을 제공한다.
+ * 주간 스냅샷 목록과 상세 JSON을 제공한다. tier(weekly, monthly, quarterly)로 월간/분기 스냅샷도 조회한다.
  */
 @RestController
 @RequestMapping("/api/stats/snapshots")
@@ -31,8 +36,28 @@ public class UserSnapshotController {
      * 일반 스냅샷 파일 메타데이터를 조회한다.
      */
     @GetMapping
-    public List<StatsSnapshotMetadataDTO> list() {
-        return statsSnapshotService.listSnapshots(SnapshotScope.GENERAL);
+    public List<StatsSnapshotMetadataDTO> list(@RequestParam(defaultValue = "weekly") String tier) {
+        return statsSnapshotService.listSnapshots(resolveTier(tier), SnapshotScope.GENERAL);
+    }
+
+    /**
+     * 사용자용 스냅샷 지표 시계열을 반환한다.
+     * 스냅샷 요약 로그만 읽으므로 스냅샷 수가 많아도 상세 파일을 열지 않는다.
+     */
+    @GetMapping("/series")
+    public StatsSnapshotSeriesResponseDTO series(
+            @RequestParam
+            String metric,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to,
+            @RequestParam(defaultValue = "weekly")
+            String tier
+    ) {
+        return statsSnapshotService.getSeries(resolveTier(tier), SnapshotScope.GENERAL, metric, from, to);
     }
 
     /**
@@ -40,12 +65,24 @@ public class UserSnapshotController {
      * 주차 id에 해당하는 스냅샷 파일을 읽는다.
      */
     @GetMapping("/{snapshotId}")
-    public Object detail(@PathVariable String snapshotId) {
-        String filename = statsSnapshotService.listSnapshots(SnapshotScope.GENERAL).stream()
+    public Object detail(
+            @PathVariable String snapshotId,
+            @RequestParam(defaultValue = "weekly") String tier
+    ) {
+        SnapshotTier snapshotTier = resolveTier(tier);
+        String filename = statsSnapshotService.listSnapshots(snapshotTier, SnapshotScope.GENERAL).stream()
                 .filter(s -> s.snapshotId().equals(snapshotId))
                 .map(StatsSnapshotMetadataDTO::filename)
                 .findFirst()
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Snapshot not found"));
-        return statsSnapshotService.getSnapshotDetailByFilename(SnapshotScope.GENERAL, filename);
+        return statsSnapshotService.getSnapshotDetailByFilename(snapshotTier, SnapshotScope.GENERAL, filename);
+    }
+
+    private static SnapshotTier resolveTier(String tier) {
+        SnapshotTier snapshotTier = SnapshotTier.fromParameter(tier);
+        if (snapshotTier == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "tier must be one of weekly, monthly, quarterly");
+        }
+        return snapshotTier;
     }
 }
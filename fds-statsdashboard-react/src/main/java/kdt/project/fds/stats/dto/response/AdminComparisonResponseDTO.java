@@ -0,0 +1,27 @@
+package kdt.project.fds.stats.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이 파일은 관리자 기간 비교 응답 DTO 레코드 파일이다.
+ * 시작일 순으로 정렬한 기간 목록과, 지표마다 기간 순서에 맞춘 값/직전 기간 대비 증감/증감률(%) 시리즈를 반환한다.
+ * 첫 기간의 증감과, 직전 값이 0이거나 없는 기간의 증감률은 null이다.
+ */
+public record AdminComparisonResponseDTO(
+        List<RangeDTO> ranges,
+        List<MetricSeriesDTO> metrics
+) {
+    public record RangeDTO(
+            LocalDate fromDate,
+            LocalDate toDate
+    ) { }
+
+    public record MetricSeriesDTO(
+            String metric,
+            List<BigDecimal> values,
+            List<BigDecimal> deltas,
+            List<BigDecimal> percentDeltas
+    ) { }
+}
@@ -8,6 +8,8 @@ import java.util.Map;
 /**
  * 이 파일은 관리자 대시보드 응답 DTO 레코드 파일이다.
  * 주간 집계 통계와 분포 지표를 섹션별로 묶어 반환한다.
+ * approximation은 표본 추정으로 집계한 경우에만 채워지며, 추정한 지표별 값과 신뢰구간을 담는다.
+ * 거래 섹션의 approximateTopMetrics는 분할 집계에서 파티션 후보만 합쳐 구성이 보장되지 않는 상위 목록 이름이며, 정확하면 비어 있다.
  */
 public record AdminDashboardResponseDTO(
         DateRangeDTO range,
@@ -20,7 +22,8 @@ public record AdminDashboardResponseDTO(
         FraudReportsSectionDTO fraudReports,
         BlacklistSectionDTO blacklist,
         ReferenceDataSectionDTO referenceData,
-        CrossEntitySectionDTO crossEntity
+        CrossEntitySectionDTO crossEntity,
+        ApproximationDTO approximation
 ) {
     public record DateRangeDTO(
             LocalDate fromDate,
@@ -105,7 +108,8 @@ public record AdminDashboardResponseDTO(
             List<NamedCountDTO> topAccountsByCount,
             List<NamedAmountDTO> topAccountsByAmount,
             List<NamedCountDTO> topUsersByCount,
-            List<NamedAmountDTO> topUsersByAmount
+            List<NamedAmountDTO> topUsersByAmount,
+            List<String> approximateTopMetrics
     ) { }
 
     public record TransactionFeaturesSectionDTO(
@@ -215,4 +219,18 @@ public record AdminDashboardResponseDTO(
             List<EngineActionComparisonDTO> engineActionComparisons,
             BigDecimal blacklistDetectionRate
     ) { }
+
+    public record ApproximationDTO(
+            String method,
+            BigDecimal samplePercent,
+            long sampledRows,
+            BigDecimal confidenceLevel,
+            Map<String, EstimateDTO> estimates
+    ) { }
+
+    public record EstimateDTO(
+            BigDecimal estimate,
+            BigDecimal lower,
+            BigDecimal upper
+    ) { }
 }
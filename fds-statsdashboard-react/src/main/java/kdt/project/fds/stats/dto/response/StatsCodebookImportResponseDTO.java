@@ -0,0 +1,28 @@
+package kdt.project.fds.stats.dto.response;
+
+import java.util.List;
+
+/**
+ * 이 파일은 코드북 일괄 등록 결과 DTO 레코드 파일이다.
+ * 처리 건수와 행 번호별 검증 실패/충돌 사유를 담는다.
+ */
+public record StatsCodebookImportResponseDTO(
+        long received,
+        long inserted,
+        long updated,
+        long rejected,
+        List<RowConflictDTO> conflicts,
+        boolean conflictsTruncated
+) {
+    /**
+     * 반영되지 않은 행의 위치와 사유를 담는다.
+     * row는 JSON 배열의 1부터 시작하는 순번 또는 CSV 헤더를 제외한 데이터 행 번호이다.
+     */
+    public record RowConflictDTO(
+            long row,
+            String codeType,
+            String codeKey,
+            String reason
+    ) {
+    }
+}
@@ -0,0 +1,22 @@
+package kdt.project.fds.stats.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이 파일은 스냅샷 지표 시계열 응답 DTO 레코드 파일이다.
+ * 스냅샷 요약 로그에서 읽은 지표 값을 스냅샷 시작일 순으로 제공한다.
+ */
+public record StatsSnapshotSeriesResponseDTO(
+        String scope,
+        String metric,
+        List<PointDTO> points
+) {
+    public record PointDTO(
+            String snapshotId,
+            LocalDate fromDate,
+            LocalDate toDate,
+            BigDecimal value
+    ) { }
+}
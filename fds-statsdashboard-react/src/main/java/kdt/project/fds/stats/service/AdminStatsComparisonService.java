@@ -0,0 +1,249 @@
+package kdt.project.fds.stats.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import kdt.project.fds.stats.dto.response.AdminComparisonResponseDTO;
+import kdt.project.fds.stats.vo.StatsDateRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 관리자 대시보드 기간 비교 서비스 파일이다.
+ * 여러 기간의 핵심 지표를 기간마다 따로 조회하지 않고, 테이블마다 한 번만 읽으면서 CASE로 만든 기간 번호로 묶어 집계한다.
+ * 기간 번호는 안쪽 인라인 뷰에서 계산한다. 바깥 GROUP BY에 바인딩 변수가 든 CASE 식을 그대로 쓰면
+ * Oracle이 SELECT와 GROUP BY의 위치 바인딩을 다른 식으로 보아 ORA-00979가 나기 때문이다.
+ * 한 행은 한 기간에만 속해야 하므로 겹치는 기간은 받지 않는다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AdminStatsComparisonService extends StatsDashboardSupport {
+    private static final int MAX_RANGES = 12;
+    private static final int MAX_PERIOD_DAYS = 366;
+    private static final String RANGE_SEPARATOR = "..";
+
+    private static final List<ComparisonQuery> QUERIES = List.of(
+            new ComparisonQuery("TRANSACTIONS", "TX_TIMESTAMP", "TX_AMOUNT", """
+                    COUNT(*) AS TRANSACTION_COUNT,
+                    NVL(SUM(TX_AMOUNT), 0) AS TOTAL_AMOUNT,
+                    AVG(TX_AMOUNT) AS AVERAGE_AMOUNT""", List.of(
+                    new MetricColumn("transactionCount", "TRANSACTION_COUNT", true),
+                    new MetricColumn("totalAmount", "TOTAL_AMOUNT", true),
+                    new MetricColumn("averageAmount", "AVERAGE_AMOUNT", false)
+            )),
+            new ComparisonQuery("FRAUD_DETECTION_RESULTS", "DETECTED_AT", "IS_FRAUD, FRAUD_PROBABILITY", """
+                    COUNT(*) AS DETECTION_COUNT,
+                    SUM(CASE WHEN IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT,
+                    AVG(FRAUD_PROBABILITY) AS AVERAGE_FRAUD_PROBABILITY""", List.of(
+                    new MetricColumn("detectionCount", "DETECTION_COUNT", true),
+                    new MetricColumn("fraudCount", "FRAUD_COUNT", true),
+                    new MetricColumn("averageFraudProbability", "AVERAGE_FRAUD_PROBABILITY", false)
+            )),
+            new ComparisonQuery("FRAUD_REPORTS", "CREATED_AT", null, "COUNT(*) AS REPORT_COUNT", List.of(
+                    new MetricColumn("reportCount", "REPORT_COUNT", true)
+            )),
+            new ComparisonQuery("BLACKLIST_ACCOUNTS", "BLOCKED_AT", null, "COUNT(*) AS BLACKLIST_COUNT", List.of(
+                    new MetricColumn("newBlacklist", "BLACKLIST_COUNT", true)
+            )),
+            new ComparisonQuery("USERS", "CREATED_AT", null, "COUNT(*) AS USER_COUNT", List.of(
+                    new MetricColumn("newUsers", "USER_COUNT", true)
+            )),
+            new ComparisonQuery("ACCOUNTS", "CREATED_AT", null, "COUNT(*) AS ACCOUNT_COUNT", List.of(
+                    new MetricColumn("newAccounts", "ACCOUNT_COUNT", true)
+            )),
+            new ComparisonQuery("CARDS", "CREATED_AT", null, "COUNT(*) AS CARD_COUNT", List.of(
+                    new MetricColumn("newCards", "CARD_COUNT", true)
+            ))
+    );
+
+    public AdminStatsComparisonService(NamedParameterJdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    /**
+     * 기간 목록("yyyy-MM-dd..yyyy-MM-dd")의 지표를 비교한다. 기간 목록이 비어 있으면 오늘로 끝나는 periodDays일 기간 periods개를 사용한다.
+     */
+    public AdminComparisonResponseDTO compare(List<String> rangeTexts, int periods, int periodDays) {
+        List<StatsDateRange> ranges = rangeTexts == null || rangeTexts.isEmpty()
+                ? lastPeriods(periods, periodDays)
+                : parseRanges(rangeTexts);
+        return compare(ranges);
+    }
+
+    /**
+     * 겹치지 않는 기간들의 지표를 테이블마다 한 번씩 조회해 비교한다. 기간은 시작일 순으로 정렬해 반환한다.
+     */
+    public AdminComparisonResponseDTO compare(List<StatsDateRange> requestedRanges) {
+        List<StatsDateRange> ranges = validate(requestedRanges);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        for (int i = 0; i < ranges.size(); i++) {
+            params.addValue("from" + i, ranges.get(i).fromTimestamp());
+            params.addValue("to" + i, ranges.get(i).toExclusiveTimestamp());
+        }
+
+        Map<String, BigDecimal[]> values = new LinkedHashMap<>();
+        for (ComparisonQuery query : QUERIES) {
+            for (MetricColumn column : query.metrics()) {
+                BigDecimal[] series = new BigDecimal[ranges.size()];
+                if (column.count()) {
+                    Arrays.fill(series, BigDecimal.ZERO);
+                }
+                values.put(column.metric(), series);
+            }
+            jdbcTemplate.query(query.sql(ranges.size()), params, rs -> {
+                int rangeKey = rs.getInt("RANGE_KEY");
+                for (MetricColumn column : query.metrics()) {
+                    BigDecimal value = rs.getBigDecimal(column.column());
+                    values.get(column.metric())[rangeKey] = value == null || column.count()
+                            ? value
+                            : value.setScale(4, RoundingMode.HALF_UP);
+                }
+            });
+        }
+        values.put("fraudRate", ratios(values.get("fraudCount"), values.get("detectionCount")));
+        values.put("detectionCoverage", ratios(values.get("detectionCount"), values.get("transactionCount")));
+
+        List<AdminComparisonResponseDTO.MetricSeriesDTO> metrics = new ArrayList<>(values.size());
+        values.forEach((metric, series) -> metrics.add(toSeries(metric, series)));
+        return new AdminComparisonResponseDTO(
+                ranges.stream().map(range -> new AdminComparisonResponseDTO.RangeDTO(range.fromDate(), range.toDate())).toList(),
+                metrics
+        );
+    }
+
+    private List<StatsDateRange> lastPeriods(int periods, int periodDays) {
+        if (periods < 1 || periods > MAX_RANGES || periodDays < 1 || periodDays > MAX_PERIOD_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "periods must be 1.." + MAX_RANGES + " and periodDays 1.." + MAX_PERIOD_DAYS);
+        }
+        LocalDate toDate = LocalDate.now(DEFAULT_ZONE);
+        List<StatsDateRange> ranges = new ArrayList<>(periods);
+        for (int i = 0; i < periods; i++) {
+            ranges.add(new StatsDateRange(toDate.minusDays(periodDays - 1L), toDate));
+            toDate = toDate.minusDays(periodDays);
+        }
+        return ranges;
+    }
+
+    private List<StatsDateRange> parseRanges(List<String> rangeTexts) {
+        List<StatsDateRange> ranges = new ArrayList<>(rangeTexts.size());
+        for (String text : rangeTexts) {
+            int separator = text == null ? -1 : text.indexOf(RANGE_SEPARATOR);
+            try {
+                if (separator < 0) {
+                    throw new DateTimeParseException("Missing range separator", String.valueOf(text), 0);
+                }
+                ranges.add(new StatsDateRange(
+                        LocalDate.parse(text.substring(0, separator).trim()),
+                        LocalDate.parse(text.substring(separator + RANGE_SEPARATOR.length()).trim())
+                ));
+            } catch (DateTimeParseException ex) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "ranges must look like 2026-01-01..2026-01-07: " + text);
+            }
+        }
+        return ranges;
+    }
+
+    private List<StatsDateRange> validate(List<StatsDateRange> requestedRanges) {
+        if (requestedRanges.isEmpty() || requestedRanges.size() > MAX_RANGES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Between 1 and " + MAX_RANGES + " ranges are allowed");
+        }
+        List<StatsDateRange> ranges = new ArrayList<>(requestedRanges);
+        ranges.sort(Comparator.comparing(StatsDateRange::fromDate));
+        for (int i = 0; i < ranges.size(); i++) {
+            StatsDateRange range = ranges.get(i);
+            if (range.fromDate().isAfter(range.toDate())
+                    || ChronoUnit.DAYS.between(range.fromDate(), range.toDate()) >= MAX_PERIOD_DAYS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Each range must run forward and span at most " + MAX_PERIOD_DAYS + " days");
+            }
+            if (i > 0 && !range.fromDate().isAfter(ranges.get(i - 1).toDate())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ranges must not overlap");
+            }
+        }
+        return ranges;
+    }
+
+    private static BigDecimal[] ratios(BigDecimal[] numerators, BigDecimal[] denominators) {
+        BigDecimal[] ratios = new BigDecimal[numerators.length];
+        for (int i = 0; i < ratios.length; i++) {
+            ratios[i] = denominators[i].signum() == 0
+                    ? BigDecimal.ZERO
+                    : numerators[i].divide(denominators[i], 4, RoundingMode.HALF_UP);
+        }
+        return ratios;
+    }
+
+    private static AdminComparisonResponseDTO.MetricSeriesDTO toSeries(String metric, BigDecimal[] series) {
+        List<BigDecimal> deltas = new ArrayList<>(series.length);
+        List<BigDecimal> percentDeltas = new ArrayList<>(series.length);
+        for (int i = 0; i < series.length; i++) {
+            BigDecimal previous = i == 0 ? null : series[i - 1];
+            BigDecimal current = series[i];
+            if (previous == null || current == null) {
+                deltas.add(null);
+                percentDeltas.add(null);
+                continue;
+            }
+            BigDecimal delta = current.subtract(previous);
+            deltas.add(delta);
+            percentDeltas.add(previous.signum() == 0
+                    ? null
+                    : delta.multiply(BigDecimal.valueOf(100)).divide(previous.abs(), 2, RoundingMode.HALF_UP));
+        }
+        return new AdminComparisonResponseDTO.MetricSeriesDTO(metric, Arrays.asList(series), deltas, percentDeltas);
+    }
+
+    /**
+     * 테이블 하나에서 읽을 지표 묶음이다. 기간 조건은 기간별 OR로 걸어 기간 사이의 빈 구간은 읽지 않는다.
+     */
+    private record ComparisonQuery(
+            String table,
+            String timestampColumn,
+            String valueColumns,
+            String aggregates,
+            List<MetricColumn> metrics
+    ) {
+        private String sql(int ranges) {
+            StringBuilder rangeKey = new StringBuilder("CASE");
+            StringBuilder rangeFilter = new StringBuilder();
+            for (int i = 0; i < ranges; i++) {
+                String condition = "%s >= :from%d AND %s < :to%d".formatted(timestampColumn, i, timestampColumn, i);
+                rangeKey.append(" WHEN ").append(condition).append(" THEN ").append(i);
+                rangeFilter.append(i == 0 ? "(" : " OR (").append(condition).append(')');
+            }
+            rangeKey.append(" END");
+            return """
+                    SELECT RANGE_KEY,
+                           %s
+                    FROM (
+                        SELECT %s AS RANGE_KEY%s
+                        FROM %s
+                        WHERE %s
+                    )
+                    GROUP BY RANGE_KEY
+                    """.formatted(
+                    aggregates,
+                    rangeKey,
+                    valueColumns == null ? "" : ", " + valueColumns,
+                    table,
+                    rangeFilter
+            );
+        }
+    }
+
+    private record MetricColumn(String metric, String column, boolean count) { }
+}
@@ -6,30 +6,94 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.service.BlacklistIndex;
+import kdt.project.fds.detection.service.BlacklistIndexService;
 import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.project.fds.stats.vo.StatsAccuracy;
 import kdt.project.fds.stats.vo.StatsDateRange;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 관리자 대시보드에 필요한 집계를 담당한다.
+ * 블랙리스트 관련 지표는 BLACKLIST_ACCOUNTS 서브쿼리 대신 블랙리스트 인덱스의 ACCOUNT_ID 목록을 바인딩해 거른다.
+ * 기간이 긴 요청의 거래 섹션은 PartitionedTransactionStatsService가 기간을 나누어 병렬로 집계하고,
+ * 근사 집계를 요청하면 SampledTransactionStatsService가 거래 표본으로 추정한다.
+ * 두 서비스는 자체 트랜잭션으로 분석용 커넥션을 쓰므로, 나머지 섹션을 읽는 읽기 전용 트랜잭션은 그 결과를 받은 뒤에 연다.
+ * 요청 스레드가 커넥션을 잡은 채 파티션을 기다리면 동시 요청들이 분석용 풀을 모두 차지해 서로를 기다릴 수 있다.
  */
 @Service
-@Transactional(readOnly = true)
 public class AdminStatsDashboardService extends StatsDashboardSupport {
-    public AdminStatsDashboardService(NamedParameterJdbcTemplate jdbcTemplate) {
+    // Oracle IN 목록 하나에 넣을 수 있는 최대 값 수이다.
+    private static final int IN_LIST_CHUNK = 1_000;
+
+    private final BlacklistIndexService blacklistIndexService;
+    private final PartitionedTransactionStatsService partitionedTransactionStatsService;
+    private final SampledTransactionStatsService sampledTransactionStatsService;
+    private final int maxBoundAccountIds;
+    private final TransactionTemplate dashboardTransaction;
+    private volatile Boolean oracle;
+
+    public AdminStatsDashboardService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            BlacklistIndexService blacklistIndexService,
+            PartitionedTransactionStatsService partitionedTransactionStatsService,
+            SampledTransactionStatsService sampledTransactionStatsService,
+            FraudDetectionProperties fraudDetectionProperties,
+            PlatformTransactionManager transactionManager
+    ) {
         super(jdbcTemplate);
+        this.blacklistIndexService = blacklistIndexService;
+        this.partitionedTransactionStatsService = partitionedTransactionStatsService;
+        this.sampledTransactionStatsService = sampledTransactionStatsService;
+        this.maxBoundAccountIds = fraudDetectionProperties.getBlacklist().getMaxBoundAccountIds();
+        this.dashboardTransaction = new TransactionTemplate(transactionManager);
+        this.dashboardTransaction.setReadOnly(true);
+        this.dashboardTransaction.setName(AdminStatsDashboardService.class.getName() + ".getAdminDashboard");
     }
 
     /**
      * 관리자 대시보드에 필요한 모든 섹션 통계를 지정 기간 기준으로 집계한다. 관리자 대시보드 응답에 사용될 DTO 객체를 반환한다.
      */
     public AdminDashboardResponseDTO getAdminDashboard(LocalDate fromDate, LocalDate toDate) {
+        return getAdminDashboard(fromDate, toDate, StatsAccuracy.EXACT);
+    }
+
+    /**
+     * 정확도를 지정해 관리자 대시보드를 집계한다. APPROXIMATE이면 거래 섹션을 표본으로 추정하고 추정 정보를 함께 반환한다.
+     * 표본이 너무 작으면 정확한 집계로 대신하며, 이때 approximation은 null이다.
+     */
+    public AdminDashboardResponseDTO getAdminDashboard(LocalDate fromDate, LocalDate toDate, StatsAccuracy accuracy) {
         StatsDateRange range = resolveRange(fromDate, toDate);
+        SampledTransactionStatsService.SampledTransactions sampled = accuracy == StatsAccuracy.APPROXIMATE
+                ? sampledTransactionStatsService.sample(range)
+                : null;
+        AdminDashboardResponseDTO.TransactionsSectionDTO preloadedTransactions = null;
+        if (sampled != null) {
+            preloadedTransactions = sampled.section();
+        } else if (partitionedTransactionStatsService.shouldPartition(range)) {
+            preloadedTransactions = partitionedTransactionStatsService.aggregate(range);
+        }
+        AdminDashboardResponseDTO.TransactionsSectionDTO transactions = preloadedTransactions;
+        return dashboardTransaction.execute(status -> buildDashboard(range, transactions, sampled));
+    }
+
+    /**
+     * 거래 섹션을 제외한 섹션을 한 읽기 전용 트랜잭션 안에서 집계한다. 거래 섹션이 미리 집계되지 않았으면 기간 전체를 한 번에 집계한다.
+     */
+    private AdminDashboardResponseDTO buildDashboard(
+            StatsDateRange range,
+            AdminDashboardResponseDTO.TransactionsSectionDTO preloadedTransactions,
+            SampledTransactionStatsService.SampledTransactions sampled
+    ) {
         MapSqlParameterSource rangeParams = new MapSqlParameterSource()
                 .addValue("fromTs", range.fromTimestamp())
                 .addValue("toTs", range.toExclusiveTimestamp());
@@ -37,15 +101,23 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
         AdminDashboardResponseDTO.UsersSectionDTO users = buildUsersSection(rangeParams);
         AdminDashboardResponseDTO.AccountsSectionDTO accounts = buildAccountsSection(rangeParams);
         AdminDashboardResponseDTO.CardsSectionDTO cards = buildCardsSection(rangeParams);
-        AdminDashboardResponseDTO.TransactionsSectionDTO transactions = buildTransactionsSection(rangeParams);
+        AdminDashboardResponseDTO.TransactionsSectionDTO transactions = preloadedTransactions != null
+                ? preloadedTransactions
+                : buildTransactionsSection(rangeParams);
         AdminDashboardResponseDTO.TransactionFeaturesSectionDTO transactionFeatures = buildTransactionFeaturesSection();
+        // 표본 추정 건수로 나누면 탐지 비율이 1을 넘을 수 있으므로 근사 모드에서도 분모는 정확한 거래 건수를 쓴다.
+        long exactTransactionCount = sampled != null
+                ? countTransactions(rangeParams)
+                : transactions.totalTransactions();
         AdminDashboardResponseDTO.DetectionSectionDTO detections =
-                buildDetectionSection(rangeParams, transactions.totalTransactions());
+                buildDetectionSection(rangeParams, exactTransactionCount);
         AdminDashboardResponseDTO.FraudReportsSectionDTO fraudReports = buildFraudReportsSection(rangeParams);
-        AdminDashboardResponseDTO.BlacklistSectionDTO blacklist = buildBlacklistSection(rangeParams);
+        // 블랙리스트 건수와 관련 거래 조건이 같은 인덱스 버전을 보도록 한 번만 읽는다.
+        BlacklistIndex blacklistIndex = blacklistIndexService.current();
+        AdminDashboardResponseDTO.BlacklistSectionDTO blacklist = buildBlacklistSection(rangeParams, blacklistIndex);
         AdminDashboardResponseDTO.ReferenceDataSectionDTO referenceData = buildReferenceDataSection(rangeParams);
         AdminDashboardResponseDTO.CrossEntitySectionDTO crossEntity =
-                buildCrossEntitySection(rangeParams);
+                buildCrossEntitySection(rangeParams, blacklistIndex);
 
         return new AdminDashboardResponseDTO(
                 new AdminDashboardResponseDTO.DateRangeDTO(range.fromDate(), range.toDate()),
@@ -58,7 +130,8 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 fraudReports,
                 blacklist,
                 referenceData,
-                crossEntity
+                crossEntity,
+                sampled == null ? null : sampled.approximation()
         );
     }
 
@@ -176,11 +249,7 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
      * 거래 섹션 통계를 구성한다. 거래 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
     private AdminDashboardResponseDTO.TransactionsSectionDTO buildTransactionsSection(MapSqlParameterSource rangeParams) {
-        long totalTransactions = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS
-                WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
-                """, rangeParams);
+        long totalTransactions = countTransactions(rangeParams);
         List<AdminDashboardResponseDTO.DateCountDTO> dailyTrend = loadAdminDateCounts("""
                 SELECT TRUNC(TX_TIMESTAMP) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
                 FROM TRANSACTIONS
@@ -189,7 +258,7 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 ORDER BY TRUNC(TX_TIMESTAMP)
                 """, rangeParams);
         Map<String, Long> hourlyDistribution = loadDistribution("""
-                SELECT TO_CHAR(EXTRACT(HOUR FROM TX_TIMESTAMP)) AS KEY_NAME, COUNT(*) AS COUNT_VALUE
+                SELECT EXTRACT(HOUR FROM TX_TIMESTAMP) AS KEY_NAME, COUNT(*) AS COUNT_VALUE
                 FROM TRANSACTIONS
                 WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
                 GROUP BY EXTRACT(HOUR FROM TX_TIMESTAMP)
@@ -273,7 +342,8 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 topAccountsByCount,
                 topAccountsByAmount,
                 topUsersByCount,
-                topUsersByAmount
+                topUsersByAmount,
+                List.of()
         );
     }
 
@@ -291,27 +361,42 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 buildNumericSummary("NEW_BALANCE_DEST"),
                 buildNumericSummary("ERROR_BALANCE")
         );
-        long vFeaturesCount = queryLong("""
-                SELECT COUNT(*)
+        // 이관된 행은 행 안의 RAW 길이로 세고, V_FEATURES LOB은 아직 이관되지 않은 행에서만 읽는다.
+        // Oracle의 LENGTH는 RAW를 16진 문자열로 바꿔 두 배를 반환하므로 UTL_RAW.LENGTH로 바이트 수를 구한다.
+        String packedLength = isOracle() ? "UTL_RAW.LENGTH(V_FEATURES_PACKED)" : "LENGTH(V_FEATURES_PACKED)";
+        long[] vFeaturesCount = {0};
+        BigDecimal avgFeaturesLength = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) AS V_FEATURES_COUNT,
+                       AVG(CASE WHEN V_FEATURES_PACKED IS NOT NULL THEN %s
+                                ELSE LENGTH(V_FEATURES) END) AS AVG_FEATURES_LENGTH
                 FROM TRANSACTION_FEATURES
-                WHERE V_FEATURES IS NOT NULL
-                """, new MapSqlParameterSource());
-        BigDecimal avgFeaturesLength = queryDecimal("""
-                SELECT AVG(LENGTH(V_FEATURES))
-                FROM TRANSACTION_FEATURES
-                WHERE V_FEATURES IS NOT NULL
-                """, new MapSqlParameterSource());
+                WHERE V_FEATURES_PACKED IS NOT NULL OR V_FEATURES IS NOT NULL
+                """.formatted(packedLength), new MapSqlParameterSource(), (rs, rowNum) -> {
+            vFeaturesCount[0] = rs.getLong("V_FEATURES_COUNT");
+            return rs.getBigDecimal("AVG_FEATURES_LENGTH");
+        });
 
         return new AdminDashboardResponseDTO.TransactionFeaturesSectionDTO(
                 transactionCount,
                 featureCount,
                 coverageRate,
                 balanceSummaries,
-                vFeaturesCount,
+                vFeaturesCount[0],
                 avgFeaturesLength
         );
     }
 
+    /**
+     * 기간 내 거래 건수를 거래 시각 인덱스 범위 조회 한 번으로 센다.
+     */
+    private long countTransactions(MapSqlParameterSource rangeParams) {
+        return queryLong("""
+                SELECT COUNT(*)
+                FROM TRANSACTIONS
+                WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
+                """, rangeParams);
+    }
+
     /**
      * 탐지 섹션 통계를 구성한다. 탐지 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
@@ -507,9 +592,13 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
 
     /**
      * 블랙리스트 섹션 통계를 구성한다. 블랙리스트 섹션 응답에 사용될 DTO 객체를 반환한다.
+     * 전체/고유 계좌 수는 관련 거래 조건과 같은 인덱스 스냅샷에서 읽으므로, 인덱스 갱신 주기만큼 늦더라도 서로 어긋나지 않는다.
      */
-    private AdminDashboardResponseDTO.BlacklistSectionDTO buildBlacklistSection(MapSqlParameterSource rangeParams) {
-        long totalBlacklist = queryLong("SELECT COUNT(*) FROM BLACKLIST_ACCOUNTS", new MapSqlParameterSource());
+    private AdminDashboardResponseDTO.BlacklistSectionDTO buildBlacklistSection(
+            MapSqlParameterSource rangeParams,
+            BlacklistIndex blacklistIndex
+    ) {
+        long totalBlacklist = blacklistIndex.rowCount();
         List<AdminDashboardResponseDTO.DateCountDTO> newTrend = loadAdminDateCounts("""
                 SELECT TRUNC(BLOCKED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
                 FROM BLACKLIST_ACCOUNTS
@@ -522,26 +611,23 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 FROM BLACKLIST_ACCOUNTS
                 GROUP BY NVL(REASON, 'UNKNOWN')
                 """, new MapSqlParameterSource());
-        long distinctAccountCount = queryLong("""
-                SELECT COUNT(DISTINCT ACCOUNT_NUMBER)
-                FROM BLACKLIST_ACCOUNTS
-                """, new MapSqlParameterSource());
+        long distinctAccountCount = blacklistIndex.accountNumberCount();
         long duplicateCount = totalBlacklist - distinctAccountCount;
+        MapSqlParameterSource blacklistParams = new MapSqlParameterSource(rangeParams.getValues());
+        String blacklistedAccounts = blacklistedAccountFilter("t.ACCOUNT_ID", blacklistIndex, blacklistParams);
         long relatedTransactionCount = queryLong("""
                 SELECT COUNT(*)
                 FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
                 WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
-                  AND a.ACCOUNT_NUMBER IN (SELECT ACCOUNT_NUMBER FROM BLACKLIST_ACCOUNTS)
-                """, rangeParams);
+                  AND %s
+                """.formatted(blacklistedAccounts), blacklistParams);
         long relatedDetectionCount = queryLong("""
                 SELECT COUNT(*)
                 FROM FRAUD_DETECTION_RESULTS d
                 JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
                 WHERE d.DETECTED_AT >= :fromTs AND d.DETECTED_AT < :toTs
-                  AND a.ACCOUNT_NUMBER IN (SELECT ACCOUNT_NUMBER FROM BLACKLIST_ACCOUNTS)
-                """, rangeParams);
+                  AND %s
+                """.formatted(blacklistedAccounts), blacklistParams);
 
         return new AdminDashboardResponseDTO.BlacklistSectionDTO(
                 totalBlacklist,
@@ -632,7 +718,10 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
     /**
      * 교차 분석 섹션 통계를 구성한다. 교차 분석 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.CrossEntitySectionDTO buildCrossEntitySection(MapSqlParameterSource rangeParams) {
+    private AdminDashboardResponseDTO.CrossEntitySectionDTO buildCrossEntitySection(
+            MapSqlParameterSource rangeParams,
+            BlacklistIndex blacklistIndex
+    ) {
         List<AdminDashboardResponseDTO.SegmentMetricDTO> segmentMetrics = new ArrayList<>();
         segmentMetrics.addAll(loadSegmentMetrics("""
                 SELECT NVL(u.GENDER, 'UNKNOWN') AS SEGMENT,
@@ -724,7 +813,7 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                        END
                 """, rangeParams);
         List<AdminDashboardResponseDTO.FraudBucketDTO> hourBuckets = loadFraudBuckets("""
-                SELECT TO_CHAR(EXTRACT(HOUR FROM t.TX_TIMESTAMP)) AS BUCKET,
+                SELECT EXTRACT(HOUR FROM t.TX_TIMESTAMP) AS BUCKET,
                        COUNT(*) AS TX_COUNT,
                        SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT,
                        AVG(d.FRAUD_PROBABILITY) AS AVG_PROB
@@ -764,14 +853,14 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
             );
         });
 
+        MapSqlParameterSource blacklistParams = new MapSqlParameterSource(rangeParams.getValues());
         BigDecimal blacklistDetectionRate = queryDecimal("""
                 SELECT SUM(CASE WHEN d.TX_ID IS NOT NULL THEN 1 ELSE 0 END) / NULLIF(COUNT(*), 0)
                 FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
                 LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
                 WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
-                  AND a.ACCOUNT_NUMBER IN (SELECT ACCOUNT_NUMBER FROM BLACKLIST_ACCOUNTS)
-                """, rangeParams);
+                  AND %s
+                """.formatted(blacklistedAccountFilter("t.ACCOUNT_ID", blacklistIndex, blacklistParams)), blacklistParams);
 
         return new AdminDashboardResponseDTO.CrossEntitySectionDTO(
                 segmentMetrics,
@@ -788,6 +877,33 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
         );
     }
 
+    /**
+     * 블랙리스트 계좌만 남기는 WHERE 조건을 만든다. 인덱스의 ACCOUNT_ID를 1000개씩 나눈 IN 목록으로 params에 바인딩한다.
+     * 블랙리스트가 비어 있으면 항상 거짓인 조건을, 바인딩 한도를 넘으면 BLACKLIST_ACCOUNTS 서브쿼리 조건을 반환한다.
+     * 서브쿼리 조건은 인덱스 대신 현재 테이블을 읽으므로 그 경우에만 인덱스 갱신 주기만큼 건수와 어긋날 수 있다.
+     */
+    private String blacklistedAccountFilter(
+            String accountIdColumn,
+            BlacklistIndex blacklistIndex,
+            MapSqlParameterSource params
+    ) {
+        List<Long> accountIds = blacklistIndex.accountIds();
+        if (accountIds.isEmpty()) {
+            return "1 = 0";
+        }
+        if (accountIds.size() > maxBoundAccountIds) {
+            return accountIdColumn + " IN (SELECT a.ACCOUNT_ID FROM ACCOUNTS a"
+                    + " JOIN BLACKLIST_ACCOUNTS b ON b.ACCOUNT_NUMBER = a.ACCOUNT_NUMBER)";
+        }
+        List<String> conditions = new ArrayList<>();
+        for (int from = 0; from < accountIds.size(); from += IN_LIST_CHUNK) {
+            String name = "blacklistAccountIds" + conditions.size();
+            params.addValue(name, accountIds.subList(from, Math.min(accountIds.size(), from + IN_LIST_CHUNK)));
+            conditions.add(accountIdColumn + " IN (:" + name + ")");
+        }
+        return conditions.size() == 1 ? conditions.get(0) : "(" + String.join(" OR ", conditions) + ")";
+    }
+
     /**
      * 사용자 생년을 연령대 버킷으로 묶어 분포를 계산한다. 연령대별 사용자 수 분포 응답에 사용될 Map 데이터를 반환한다.
      */
@@ -1007,6 +1123,18 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
         return next;
     }
 
+    private boolean isOracle() {
+        Boolean cached = oracle;
+        if (cached == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+            );
+            cached = product != null && product.toUpperCase(Locale.ROOT).contains("ORACLE");
+            oracle = cached;
+        }
+        return cached;
+    }
+
     private BigDecimal average(List<BigDecimal> values) {
         if (values == null || values.isEmpty()) {
             return null;
@@ -1026,7 +1154,7 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
         return sum.divide(BigDecimal.valueOf(count), 4, RoundingMode.HALF_UP);
     }
 
-    private String toAgeGroup(String birth) {
+    String toAgeGroup(String birth) {
         if (birth == null || birth.isBlank()) {
             return "UNKNOWN";
         }
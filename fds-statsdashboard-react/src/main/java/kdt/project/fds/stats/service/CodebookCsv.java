@@ -0,0 +1,116 @@
+package kdt.project.fds.stats.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이 파일은 코드북 CSV 읽기/쓰기 보조 파일이다.
+ * RFC 4180 형식(큰따옴표 이스케이프, 필드 안의 쉼표/줄바꿈)을 한 레코드씩 스트리밍으로 처리한다.
+ */
+final class CodebookCsv {
+    static final List<String> HEADER = List.of(
+            "codeType", "codeKey", "displayName", "description", "sortOrder", "active", "metaJson"
+    );
+
+    private final Reader reader;
+    private int pending = -2;
+
+    CodebookCsv(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드의 필드 목록을 반환한다. 입력이 끝나면 null을 반환한다.
+     */
+    List<String> next() {
+        int ch = read();
+        if (ch == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>(HEADER.size());
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (ch == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted CSV field");
+                }
+                if (ch == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        ch = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) ch);
+                }
+            } else if (ch == '"' && fieldStart) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                ch = read();
+                continue;
+            } else if (ch == '\r' || ch == '\n' || ch == -1) {
+                if (ch == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) ch);
+            }
+            fieldStart = false;
+            ch = read();
+        }
+    }
+
+    /**
+     * 필드 목록을 한 줄로 쓴다. 쉼표, 따옴표, 줄바꿈이 있는 필드만 따옴표로 감싼다.
+     */
+    static void writeRow(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = fields.get(i);
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private int read() {
+        if (pending != -2) {
+            int value = pending;
+            pending = -2;
+            return value;
+        }
+        try {
+            return reader.read();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package kdt.project.fds.stats.service;
+
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import kdt.project.fds.stats.config.StatsPartitionProperties;
+import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.project.fds.stats.vo.StatsDateRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이 파일은 관리자 대시보드 거래 섹션의 기간 분할 집계 서비스 파일이다.
+ * 긴 기간을 달력에 맞춘 일/주 파티션으로 나누어 공유 스레드 풀에서 병렬로 집계하고, 파티션별 부분 집계를 더해 한 섹션으로 합친다.
+ * 파티션마다 짧은 읽기 전용 트랜잭션을 따로 열어 분석용 커넥션 풀로 라우팅되며, 커넥션을 오래 붙잡지 않는다.
+ * 실패한 파티션은 그 파티션만 다시 조회하고, 오늘 이전에 끝난 파티션 결과는 TTL 동안 캐시해 다른 기간 요청과 함께 쓴다.
+ * 상위 항목은 파티션별 후보만 합치므로 후보 수(topCandidates)가 작으면 근사값이 될 수 있다(TopKSummary 참고).
+ * 구성이 보장되지 않는 상위 목록은 응답의 approximateTopMetrics에 이름을 남긴다.
+ */
+@Service
+public class PartitionedTransactionStatsService extends StatsDashboardSupport {
+    private static final Logger log = LoggerFactory.getLogger(PartitionedTransactionStatsService.class);
+    // 1970-01-05(월요일)의 epoch day이다. 파티션 경계를 월요일에 맞추는 기준으로 쓴다.
+    private static final long MONDAY_EPOCH_DAY = 4;
+    private static final String[] FIELD_NAMES = {"merchantStats", "locationStats", "targetAccountStats", "descriptionStats"};
+
+    private static final String TOTALS_SQL = """
+            SELECT COUNT(*) AS TX_COUNT,
+                   COUNT(TX_AMOUNT) AS AMOUNT_COUNT,
+                   NVL(SUM(TX_AMOUNT), 0) AS AMOUNT_SUM,
+                   SUM(CASE WHEN MERCHANT_NAME IS NULL OR TRIM(MERCHANT_NAME) = '' THEN 1 ELSE 0 END)
+                       AS MERCHANT_NAME_MISSING,
+                   SUM(CASE WHEN LOCATION IS NULL OR TRIM(LOCATION) = '' THEN 1 ELSE 0 END)
+                       AS LOCATION_MISSING,
+                   SUM(CASE WHEN TARGET_ACCOUNT_NUMBER IS NULL OR TRIM(TARGET_ACCOUNT_NUMBER) = '' THEN 1 ELSE 0 END)
+                       AS TARGET_ACCOUNT_NUMBER_MISSING,
+                   SUM(CASE WHEN DESCRIPTION IS NULL OR TRIM(DESCRIPTION) = '' THEN 1 ELSE 0 END)
+                       AS DESCRIPTION_MISSING
+            FROM TRANSACTIONS
+            WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
+            """;
+    private static final String DAILY_SQL = """
+            SELECT TRUNC(TX_TIMESTAMP) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
+            FROM TRANSACTIONS
+            WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
+            GROUP BY TRUNC(TX_TIMESTAMP)
+            """;
+    private static final String HOURLY_SQL = """
+            SELECT EXTRACT(HOUR FROM TX_TIMESTAMP) AS KEY_NAME, COUNT(*) AS COUNT_VALUE
+            FROM TRANSACTIONS
+            WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
+            GROUP BY EXTRACT(HOUR FROM TX_TIMESTAMP)
+            """;
+    private static final String TYPE_SQL = """
+            SELECT NVL(TX_TYPE, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
+            FROM TRANSACTIONS
+            WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
+            GROUP BY NVL(TX_TYPE, 'UNKNOWN')
+            """;
+    private static final String FIELD_TOP_SQL = """
+            SELECT %s AS KEY_NAME, COUNT(*) AS COUNT_VALUE
+            FROM TRANSACTIONS
+            WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
+              AND %s IS NOT NULL AND TRIM(%s) <> ''
+            GROUP BY %s
+            ORDER BY COUNT(*) DESC
+            FETCH NEXT :limit ROWS ONLY
+            """;
+    private static final String TOP_ACCOUNTS_BY_COUNT_SQL = """
+            SELECT a.ACCOUNT_NUMBER AS KEY_NAME, COUNT(*) AS COUNT_VALUE
+            FROM TRANSACTIONS t
+            JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+            WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
+            GROUP BY a.ACCOUNT_NUMBER
+            ORDER BY COUNT(*) DESC
+            FETCH NEXT :limit ROWS ONLY
+            """;
+    private static final String TOP_ACCOUNTS_BY_AMOUNT_SQL = """
+            SELECT a.ACCOUNT_NUMBER AS KEY_NAME, NVL(SUM(t.TX_AMOUNT), 0) AS AMOUNT_VALUE
+            FROM TRANSACTIONS t
+            JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+            WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
+            GROUP BY a.ACCOUNT_NUMBER
+            ORDER BY NVL(SUM(t.TX_AMOUNT), 0) DESC
+            FETCH NEXT :limit ROWS ONLY
+            """;
+    private static final String TOP_USERS_BY_COUNT_SQL = """
+            SELECT u.USER_ID AS KEY_NAME, COUNT(*) AS COUNT_VALUE
+            FROM TRANSACTIONS t
+            JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+            JOIN USERS u ON u.ID = a.USER_INNER_ID
+            WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
+            GROUP BY u.USER_ID
+            ORDER BY COUNT(*) DESC
+            FETCH NEXT :limit ROWS ONLY
+            """;
+    private static final String TOP_USERS_BY_AMOUNT_SQL = """
+            SELECT u.USER_ID AS KEY_NAME, NVL(SUM(t.TX_AMOUNT), 0) AS AMOUNT_VALUE
+            FROM TRANSACTIONS t
+            JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+            JOIN USERS u ON u.ID = a.USER_INNER_ID
+            WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
+            GROUP BY u.USER_ID
+            ORDER BY NVL(SUM(t.TX_AMOUNT), 0) DESC
+            FETCH NEXT :limit ROWS ONLY
+            """;
+
+    private final StatsPartitionProperties properties;
+    private final TransactionTemplate partitionTransaction;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<StatsDateRange, CachedPartial> cache = new ConcurrentHashMap<>();
+
+    public PartitionedTransactionStatsService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            StatsPartitionProperties properties
+    ) {
+        super(jdbcTemplate);
+        this.properties = properties;
+        this.partitionTransaction = new TransactionTemplate(transactionManager);
+        this.partitionTransaction.setReadOnly(true);
+        this.partitionTransaction.setName(PartitionedTransactionStatsService.class.getName() + ".partition");
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "fds-stats-partition-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 기간이 분할 기준 일수보다 길어 분할 집계를 사용할지 반환한다.
+     */
+    public boolean shouldPartition(StatsDateRange range) {
+        long days = ChronoUnit.DAYS.between(range.fromDate(), range.toDate()) + 1;
+        return properties.isEnabled() && days > properties.getThresholdDays();
+    }
+
+    /**
+     * 기간을 파티션으로 나누어 병렬 집계하고 합친 거래 섹션을 반환한다.
+     * 한 파티션이라도 재시도 끝에 실패하면 대기 중인 파티션을 취소하고 그 예외를 던진다.
+     */
+    public AdminDashboardResponseDTO.TransactionsSectionDTO aggregate(StatsDateRange range) {
+        List<StatsDateRange> partitions = partitions(range);
+        List<CompletableFuture<TransactionStatsPartial>> futures = new ArrayList<>(partitions.size());
+        for (StatsDateRange partition : partitions) {
+            futures.add(CompletableFuture.supplyAsync(() -> loadCached(partition), executor));
+        }
+        TransactionStatsPartial total = new TransactionStatsPartial();
+        try {
+            for (CompletableFuture<TransactionStatsPartial> future : futures) {
+                total.merge(future.join());
+            }
+        } catch (CompletionException ex) {
+            futures.forEach(future -> future.cancel(false));
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return toSection(total, range);
+    }
+
+    /**
+     * 기간을 partitionDays 단위로 자른다. 경계는 월요일(1970-01-05)부터 센 partitionDays 배수에 맞추고, 양 끝은 기간에 맞춰 자른다.
+     */
+    List<StatsDateRange> partitions(StatsDateRange range) {
+        int partitionDays = Math.max(1, properties.getPartitionDays());
+        List<StatsDateRange> partitions = new ArrayList<>();
+        LocalDate from = range.fromDate();
+        while (!from.isAfter(range.toDate())) {
+            long epochDay = from.toEpochDay();
+            long alignedStart = epochDay - Math.floorMod(epochDay - MONDAY_EPOCH_DAY, partitionDays);
+            LocalDate to = LocalDate.ofEpochDay(alignedStart + partitionDays - 1);
+            if (to.isAfter(range.toDate())) {
+                to = range.toDate();
+            }
+            partitions.add(new StatsDateRange(from, to));
+            from = to.plusDays(1);
+        }
+        return partitions;
+    }
+
+    private TransactionStatsPartial loadCached(StatsDateRange partition) {
+        boolean cacheable = properties.getCacheTtlMillis() > 0
+                && partition.toDate().isBefore(LocalDate.now(DEFAULT_ZONE));
+        long now = System.nanoTime();
+        if (cacheable) {
+            CachedPartial cached = cache.get(partition);
+            if (cached != null && cached.expiresAtNanos() - now > 0) {
+                return cached.partial();
+            }
+        }
+        TransactionStatsPartial partial = loadWithRetry(partition);
+        if (cacheable) {
+            if (cache.size() >= properties.getCacheMaxEntries()) {
+                cache.values().removeIf(entry -> entry.expiresAtNanos() - now <= 0);
+            }
+            if (cache.size() < properties.getCacheMaxEntries()) {
+                cache.put(partition, new CachedPartial(partial, now + properties.getCacheTtlMillis() * 1_000_000));
+            }
+        }
+        return partial;
+    }
+
+    private TransactionStatsPartial loadWithRetry(StatsDateRange partition) {
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return partitionTransaction.execute(status -> loadPartition(partition));
+            } catch (DataAccessException | TransactionException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+                log.warn("Transaction stats partition {}..{} failed (attempt {}/{}): {}",
+                        partition.fromDate(), partition.toDate(), attempt, maxAttempts, ex.getMessage());
+                try {
+                    Thread.sleep(properties.getRetryBackoffMillis() * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private TransactionStatsPartial loadPartition(StatsDateRange partition) {
+        int candidates = Math.max(TOP_LIMIT, properties.getTopCandidates());
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromTs", partition.fromTimestamp())
+                .addValue("toTs", partition.toExclusiveTimestamp())
+                .addValue("limit", candidates);
+        TransactionStatsPartial partial = new TransactionStatsPartial();
+        jdbcTemplate.query(TOTALS_SQL, params, rs -> {
+            partial.transactions = rs.getLong("TX_COUNT");
+            partial.amountCount = rs.getLong("AMOUNT_COUNT");
+            partial.amountSum = rs.getBigDecimal("AMOUNT_SUM");
+            for (int i = 0; i < TransactionStatsPartial.FIELD_COLUMNS.length; i++) {
+                partial.missing[i] = rs.getLong(TransactionStatsPartial.FIELD_COLUMNS[i] + "_MISSING");
+            }
+        });
+        if (partial.transactions == 0) {
+            return partial;
+        }
+        jdbcTemplate.query(DAILY_SQL, params, rs -> {
+            partial.daily.merge(toLocalDate(rs.getTimestamp(KEY_DATE)), rs.getLong(COUNT_VALUE), Long::sum);
+        });
+        jdbcTemplate.query(HOURLY_SQL, params, rs -> {
+            partial.hourly.merge(rs.getInt(KEY_NAME), rs.getLong(COUNT_VALUE), Long::sum);
+        });
+        partial.types.putAll(loadDistribution(TYPE_SQL, params));
+        for (int i = 0; i < TransactionStatsPartial.FIELD_COLUMNS.length; i++) {
+            String column = TransactionStatsPartial.FIELD_COLUMNS[i];
+            partial.fieldTopValues[i] = loadCandidates(
+                    FIELD_TOP_SQL.formatted(column, column, column, column), COUNT_VALUE, params, candidates);
+        }
+        partial.topAccountsByCount = loadCandidates(TOP_ACCOUNTS_BY_COUNT_SQL, COUNT_VALUE, params, candidates);
+        partial.topAccountsByAmount = loadCandidates(TOP_ACCOUNTS_BY_AMOUNT_SQL, AMOUNT_VALUE, params, candidates);
+        partial.topUsersByCount = loadCandidates(TOP_USERS_BY_COUNT_SQL, COUNT_VALUE, params, candidates);
+        partial.topUsersByAmount = loadCandidates(TOP_USERS_BY_AMOUNT_SQL, AMOUNT_VALUE, params, candidates);
+        return partial;
+    }
+
+    private TopKSummary loadCandidates(String sql, String valueColumn, MapSqlParameterSource params, int candidates) {
+        Map<String, BigDecimal> sorted = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            BigDecimal value = rs.getBigDecimal(valueColumn);
+            sorted.merge(rs.getString(KEY_NAME), value == null ? BigDecimal.ZERO : value, BigDecimal::add);
+        });
+        return TopKSummary.ofCandidates(sorted, candidates);
+    }
+
+    private AdminDashboardResponseDTO.TransactionsSectionDTO toSection(
+            TransactionStatsPartial total,
+            StatsDateRange range
+    ) {
+        List<AdminDashboardResponseDTO.DateCountDTO> dailyTrend = new ArrayList<>(total.daily.size());
+        total.daily.forEach((date, count) -> dailyTrend.add(new AdminDashboardResponseDTO.DateCountDTO(date, count)));
+        Map<String, Long> hourlyDistribution = new LinkedHashMap<>();
+        total.hourly.forEach((hour, count) -> hourlyDistribution.put(String.valueOf(hour), count));
+        BigDecimal averageAmount = total.amountCount == 0
+                ? null
+                : total.amountSum.divide(BigDecimal.valueOf(total.amountCount), MathContext.DECIMAL128);
+        List<String> approximate = new ArrayList<>();
+        AdminDashboardResponseDTO.FieldStatsDTO[] fieldStats =
+                new AdminDashboardResponseDTO.FieldStatsDTO[TransactionStatsPartial.FIELD_COLUMNS.length];
+        for (int i = 0; i < fieldStats.length; i++) {
+            fieldStats[i] = new AdminDashboardResponseDTO.FieldStatsDTO(
+                    total.transactions,
+                    total.missing[i],
+                    safeRate(total.missing[i], total.transactions),
+                    toNamedCounts(total.fieldTopValues[i], range, FIELD_NAMES[i], approximate)
+            );
+        }
+        List<AdminDashboardResponseDTO.NamedCountDTO> topAccountsByCount =
+                toNamedCounts(total.topAccountsByCount, range, "topAccountsByCount", approximate);
+        List<AdminDashboardResponseDTO.NamedAmountDTO> topAccountsByAmount =
+                toNamedAmounts(total.topAccountsByAmount, range, "topAccountsByAmount", approximate);
+        List<AdminDashboardResponseDTO.NamedCountDTO> topUsersByCount =
+                toNamedCounts(total.topUsersByCount, range, "topUsersByCount", approximate);
+        List<AdminDashboardResponseDTO.NamedAmountDTO> topUsersByAmount =
+                toNamedAmounts(total.topUsersByAmount, range, "topUsersByAmount", approximate);
+        return new AdminDashboardResponseDTO.TransactionsSectionDTO(
+                total.transactions,
+                dailyTrend,
+                hourlyDistribution,
+                new AdminDashboardResponseDTO.AmountSummaryDTO(total.amountSum, averageAmount),
+                new LinkedHashMap<>(total.types),
+                fieldStats[0],
+                fieldStats[1],
+                fieldStats[2],
+                fieldStats[3],
+                topAccountsByCount,
+                topAccountsByAmount,
+                topUsersByCount,
+                topUsersByAmount,
+                List.copyOf(approximate)
+        );
+    }
+
+    private List<AdminDashboardResponseDTO.NamedCountDTO> toNamedCounts(
+            TopKSummary summary,
+            StatsDateRange range,
+            String metric,
+            List<String> approximate
+    ) {
+        markIfApproximate(summary, range, metric, approximate);
+        return summary.top(TOP_LIMIT).stream()
+                .map(entry -> new AdminDashboardResponseDTO.NamedCountDTO(entry.getKey(), entry.getValue().longValue()))
+                .toList();
+    }
+
+    private List<AdminDashboardResponseDTO.NamedAmountDTO> toNamedAmounts(
+            TopKSummary summary,
+            StatsDateRange range,
+            String metric,
+            List<String> approximate
+    ) {
+        markIfApproximate(summary, range, metric, approximate);
+        return summary.top(TOP_LIMIT).stream()
+                .map(entry -> new AdminDashboardResponseDTO.NamedAmountDTO(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private void markIfApproximate(
+            TopKSummary summary,
+            StatsDateRange range,
+            String metric,
+            List<String> approximate
+    ) {
+        if (!summary.isExact(TOP_LIMIT)) {
+            approximate.add(metric);
+            log.debug("Partitioned top-{} {} for {}..{} may be approximate (error bound {})",
+                    TOP_LIMIT, metric, range.fromDate(), range.toDate(), summary.errorBound());
+        }
+    }
+
+    private record CachedPartial(TransactionStatsPartial partial, long expiresAtNanos) { }
+}
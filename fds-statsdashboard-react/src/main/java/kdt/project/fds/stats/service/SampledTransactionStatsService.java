@@ -0,0 +1,339 @@
+package kdt.project.fds.stats.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import kdt.project.fds.stats.config.StatsSamplingProperties;
+import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.project.fds.stats.vo.StatsDateRange;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이 파일은 관리자 대시보드 거래 섹션의 표본 추정 서비스 파일이다.
+ * 기간 내 거래를 행 단위 베르누이 표본(Oracle은 SAMPLE 절, 그 밖의 DB는 RAND() 조건)으로 한 번만 읽고,
+ * 건수/합계/분포는 표본 값을 표본 비율로 나누어 추정하며 평균은 표본 평균을 그대로 쓴다.
+ * Oracle의 행 SAMPLE은 표본 비율과 관계없이 테이블의 모든 블록을 읽고, 기간 조건보다 먼저 적용되어 기간 인덱스도 쓰지 못한다.
+ * SAMPLE BLOCK은 읽는 블록을 줄이지만 시간순으로 쌓인 같은 블록의 거래가 함께 뽑혀 행이 독립이라는 가정이 깨지고
+ * 아래 분산 식이 오차를 과소 추정하므로 쓰지 않는다. 대신 기간이 minRangeDays보다 짧으면 표본 없이 정확히 집계한다.
+ * 추정값마다 정규 근사 신뢰구간을 함께 계산한다. 건수 추정의 분산은 n(1-p)/p², 합계는 (1-p)Σy²/p²,
+ * 평균은 (1-p)s²/n이다. 상위 목록은 표본 순위를 따르므로 신뢰구간 없이 추정 건수만 반환한다.
+ * 표본 조회는 이름이 붙은 읽기 전용 트랜잭션으로 실행되어 분석용 커넥션 풀로 라우팅된다.
+ */
+@Service
+public class SampledTransactionStatsService extends StatsDashboardSupport {
+    private static final String ORACLE_SAMPLE_SQL = """
+            SELECT t.TX_TIMESTAMP, t.TX_TYPE, t.TX_AMOUNT, t.MERCHANT_NAME, t.LOCATION,
+                   t.TARGET_ACCOUNT_NUMBER, t.DESCRIPTION, a.ACCOUNT_NUMBER, u.USER_ID
+            FROM (
+                SELECT *
+                FROM TRANSACTIONS SAMPLE (%s)
+                WHERE TX_TIMESTAMP >= ? AND TX_TIMESTAMP < ?
+            ) t
+            LEFT JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+            LEFT JOIN USERS u ON u.ID = a.USER_INNER_ID
+            """;
+    private static final String RANDOM_SAMPLE_SQL = """
+            SELECT t.TX_TIMESTAMP, t.TX_TYPE, t.TX_AMOUNT, t.MERCHANT_NAME, t.LOCATION,
+                   t.TARGET_ACCOUNT_NUMBER, t.DESCRIPTION, a.ACCOUNT_NUMBER, u.USER_ID
+            FROM (
+                SELECT *
+                FROM TRANSACTIONS
+                WHERE TX_TIMESTAMP >= ? AND TX_TIMESTAMP < ?
+                  AND RAND() < %s
+            ) t
+            LEFT JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+            LEFT JOIN USERS u ON u.ID = a.USER_INNER_ID
+            """;
+    private static final String[] FIELD_NAMES = {"merchantStats", "locationStats", "targetAccountStats", "descriptionStats"};
+    private static final int ESTIMATE_SCALE = 4;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate sampleTransaction;
+    private final StatsSamplingProperties properties;
+    private final double z;
+    private volatile Boolean oracle;
+
+    public SampledTransactionStatsService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            JdbcTemplate plainJdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            StatsSamplingProperties properties
+    ) {
+        super(jdbcTemplate);
+        this.properties = properties;
+        this.z = zScore(properties.getConfidenceLevel());
+        this.streamingJdbcTemplate = new JdbcTemplate(Objects.requireNonNull(plainJdbcTemplate.getDataSource()));
+        this.streamingJdbcTemplate.setFetchSize(Math.max(1, properties.getFetchSize()));
+        this.sampleTransaction = new TransactionTemplate(transactionManager);
+        this.sampleTransaction.setReadOnly(true);
+        this.sampleTransaction.setName(SampledTransactionStatsService.class.getName() + ".sample");
+    }
+
+    /**
+     * 기간 내 거래 표본으로 거래 섹션을 추정한다.
+     * 표본 비율이 100% 이상이거나, 기간이 최소 일수보다 짧거나, 표본이 최소 표본 수보다 적으면 null을 반환하며,
+     * 호출 측은 정확한 집계를 사용한다.
+     */
+    public SampledTransactions sample(StatsDateRange range) {
+        double percent = properties.getSamplePercent();
+        if (!(percent > 0) || percent >= 100) {
+            return null;
+        }
+        if (ChronoUnit.DAYS.between(range.fromDate(), range.toDate()) + 1 < properties.getMinRangeDays()) {
+            return null;
+        }
+        double p = percent / 100.0;
+        String sql = isOracle()
+                ? ORACLE_SAMPLE_SQL.formatted(BigDecimal.valueOf(percent).toPlainString())
+                : RANDOM_SAMPLE_SQL.formatted(BigDecimal.valueOf(p).toPlainString());
+        SampleAccumulator sample = new SampleAccumulator();
+        sampleTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(sql, rs -> {
+            Timestamp txTimestamp = rs.getTimestamp("TX_TIMESTAMP");
+            sample.add(
+                    txTimestamp == null ? null : txTimestamp.toLocalDateTime(),
+                    normalizeText(Objects.toString(rs.getString("TX_TYPE"), "UNKNOWN")),
+                    rs.getBigDecimal("TX_AMOUNT"),
+                    new String[]{
+                            rs.getString("MERCHANT_NAME"),
+                            rs.getString("LOCATION"),
+                            rs.getString("TARGET_ACCOUNT_NUMBER"),
+                            rs.getString("DESCRIPTION")
+                    },
+                    rs.getString("ACCOUNT_NUMBER"),
+                    rs.getString("USER_ID")
+            );
+        }, Timestamp.valueOf(range.fromTimestamp()), Timestamp.valueOf(range.toExclusiveTimestamp())));
+        if (sample.rows < Math.max(1, properties.getMinSampleRows())) {
+            return null;
+        }
+        return toSampledTransactions(sample, p, percent);
+    }
+
+    private SampledTransactions toSampledTransactions(SampleAccumulator sample, double p, double percent) {
+        Map<String, AdminDashboardResponseDTO.EstimateDTO> estimates = new LinkedHashMap<>();
+        long totalTransactions = putCount(estimates, "transactions.totalTransactions", sample.rows, p);
+
+        List<AdminDashboardResponseDTO.DateCountDTO> dailyTrend = new ArrayList<>(sample.daily.size());
+        sample.daily.forEach((date, count) -> dailyTrend.add(new AdminDashboardResponseDTO.DateCountDTO(
+                date, putCount(estimates, "transactions.dailyTrend." + date, count, p))));
+        Map<String, Long> hourlyDistribution = new LinkedHashMap<>();
+        sample.hourly.forEach((hour, count) -> hourlyDistribution.put(String.valueOf(hour),
+                putCount(estimates, "transactions.hourlyDistribution." + hour, count, p)));
+        Map<String, Long> typeDistribution = new LinkedHashMap<>();
+        sample.types.forEach((type, count) -> typeDistribution.put(type,
+                putCount(estimates, "transactions.typeDistribution." + type, count, p)));
+
+        BigDecimal totalAmount = sample.amountSum.divide(BigDecimal.valueOf(p), MathContext.DECIMAL128);
+        double totalHalfWidth = z * Math.sqrt((1 - p) * sample.amountSquares) / p;
+        estimates.put("transactions.amountSummary.total", estimate(totalAmount, totalHalfWidth, BigDecimal.ZERO));
+        BigDecimal averageAmount = null;
+        if (sample.amountRows > 0) {
+            averageAmount = sample.amountSum.divide(BigDecimal.valueOf(sample.amountRows), MathContext.DECIMAL128);
+            double mean = averageAmount.doubleValue();
+            double variance = sample.amountRows > 1
+                    ? Math.max(0, (sample.amountSquares - sample.amountRows * mean * mean) / (sample.amountRows - 1))
+                    : 0;
+            double averageHalfWidth = z * Math.sqrt((1 - p) * variance / sample.amountRows);
+            estimates.put("transactions.amountSummary.average", estimate(averageAmount, averageHalfWidth, null));
+        }
+
+        AdminDashboardResponseDTO.FieldStatsDTO[] fieldStats = new AdminDashboardResponseDTO.FieldStatsDTO[FIELD_NAMES.length];
+        for (int i = 0; i < FIELD_NAMES.length; i++) {
+            long missing = putCount(estimates, "transactions." + FIELD_NAMES[i] + ".missingCount", sample.missing[i], p);
+            fieldStats[i] = new AdminDashboardResponseDTO.FieldStatsDTO(
+                    totalTransactions,
+                    missing,
+                    safeRate(missing, totalTransactions),
+                    scaledCounts(sample.fieldValues.get(i), p)
+            );
+        }
+
+        AdminDashboardResponseDTO.TransactionsSectionDTO section = new AdminDashboardResponseDTO.TransactionsSectionDTO(
+                totalTransactions,
+                dailyTrend,
+                hourlyDistribution,
+                new AdminDashboardResponseDTO.AmountSummaryDTO(totalAmount.setScale(2, RoundingMode.HALF_UP), averageAmount),
+                typeDistribution,
+                fieldStats[0],
+                fieldStats[1],
+                fieldStats[2],
+                fieldStats[3],
+                scaledCounts(sample.accountCounts, p),
+                scaledAmounts(sample.accountAmounts, p),
+                scaledCounts(sample.userCounts, p),
+                scaledAmounts(sample.userAmounts, p),
+                // 표본 추정 섹션 전체가 근사값이며 approximation으로 따로 표시한다.
+                List.of()
+        );
+        AdminDashboardResponseDTO.ApproximationDTO approximation = new AdminDashboardResponseDTO.ApproximationDTO(
+                isOracle() ? "ORACLE_SAMPLE" : "BERNOULLI",
+                BigDecimal.valueOf(percent),
+                sample.rows,
+                BigDecimal.valueOf(properties.getConfidenceLevel()),
+                estimates
+        );
+        return new SampledTransactions(section, approximation);
+    }
+
+    /**
+     * 표본 건수를 전체 건수로 환산해 신뢰구간과 함께 기록하고 추정 건수를 반환한다.
+     * 하한은 표본에서 실제로 본 건수보다 작아지지 않는다.
+     */
+    private long putCount(
+            Map<String, AdminDashboardResponseDTO.EstimateDTO> estimates,
+            String metric,
+            long sampled,
+            double p
+    ) {
+        long scaled = Math.round(sampled / p);
+        double halfWidth = z * Math.sqrt(sampled * (1 - p)) / p;
+        estimates.put(metric, estimate(BigDecimal.valueOf(scaled), halfWidth, BigDecimal.valueOf(sampled)));
+        return scaled;
+    }
+
+    private static AdminDashboardResponseDTO.EstimateDTO estimate(BigDecimal value, double halfWidth, BigDecimal floor) {
+        BigDecimal half = BigDecimal.valueOf(halfWidth);
+        BigDecimal lower = value.subtract(half);
+        if (floor != null && lower.compareTo(floor) < 0) {
+            lower = floor;
+        }
+        return new AdminDashboardResponseDTO.EstimateDTO(
+                value.setScale(ESTIMATE_SCALE, RoundingMode.HALF_UP),
+                lower.setScale(ESTIMATE_SCALE, RoundingMode.HALF_UP),
+                value.add(half).setScale(ESTIMATE_SCALE, RoundingMode.HALF_UP)
+        );
+    }
+
+    private List<AdminDashboardResponseDTO.NamedCountDTO> scaledCounts(Map<String, Long> sampled, double p) {
+        return sampled.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(TOP_LIMIT)
+                .map(entry -> new AdminDashboardResponseDTO.NamedCountDTO(entry.getKey(), Math.round(entry.getValue() / p)))
+                .toList();
+    }
+
+    private List<AdminDashboardResponseDTO.NamedAmountDTO> scaledAmounts(Map<String, BigDecimal> sampled, double p) {
+        BigDecimal scale = BigDecimal.valueOf(p);
+        return sampled.entrySet().stream()
+                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(TOP_LIMIT)
+                .map(entry -> new AdminDashboardResponseDTO.NamedAmountDTO(
+                        entry.getKey(), entry.getValue().divide(scale, 2, RoundingMode.HALF_UP)))
+                .toList();
+    }
+
+    private boolean isOracle() {
+        Boolean cached = oracle;
+        if (cached == null) {
+            String product = streamingJdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+            );
+            cached = product != null && product.toUpperCase(Locale.ROOT).contains("ORACLE");
+            oracle = cached;
+        }
+        return cached;
+    }
+
+    private static double zScore(double confidenceLevel) {
+        if (Math.abs(confidenceLevel - 0.90) < 1e-9) {
+            return 1.6449;
+        }
+        if (Math.abs(confidenceLevel - 0.95) < 1e-9) {
+            return 1.9600;
+        }
+        if (Math.abs(confidenceLevel - 0.99) < 1e-9) {
+            return 2.5758;
+        }
+        throw new IllegalStateException("fds.stats.sampling.confidence-level must be one of 0.90, 0.95, 0.99");
+    }
+
+    /**
+     * 표본으로 추정한 거래 섹션과 추정 정보이다.
+     */
+    public record SampledTransactions(
+            AdminDashboardResponseDTO.TransactionsSectionDTO section,
+            AdminDashboardResponseDTO.ApproximationDTO approximation
+    ) { }
+
+    /**
+     * 표본 행을 한 번 읽으면서 모든 지표의 표본 값을 누적한다.
+     */
+    private static final class SampleAccumulator {
+        private long rows;
+        private long amountRows;
+        private BigDecimal amountSum = BigDecimal.ZERO;
+        private double amountSquares;
+        private final long[] missing = new long[FIELD_NAMES.length];
+        private final Map<LocalDate, Long> daily = new TreeMap<>();
+        private final Map<Integer, Long> hourly = new TreeMap<>();
+        private final Map<String, Long> types = new LinkedHashMap<>();
+        private final List<Map<String, Long>> fieldValues = new ArrayList<>(FIELD_NAMES.length);
+        private final Map<String, Long> accountCounts = new HashMap<>();
+        private final Map<String, BigDecimal> accountAmounts = new HashMap<>();
+        private final Map<String, Long> userCounts = new HashMap<>();
+        private final Map<String, BigDecimal> userAmounts = new HashMap<>();
+
+        private SampleAccumulator() {
+            for (int i = 0; i < FIELD_NAMES.length; i++) {
+                fieldValues.add(new HashMap<>());
+            }
+        }
+
+        private void add(
+                LocalDateTime txTimestamp,
+                String txType,
+                BigDecimal amount,
+                String[] fields,
+                String accountNumber,
+                String userId
+        ) {
+            rows++;
+            if (txTimestamp != null) {
+                daily.merge(txTimestamp.toLocalDate(), 1L, Long::sum);
+                hourly.merge(txTimestamp.getHour(), 1L, Long::sum);
+            }
+            types.merge(txType == null ? "UNKNOWN" : txType, 1L, Long::sum);
+            if (amount != null) {
+                amountRows++;
+                amountSum = amountSum.add(amount);
+                double value = amount.doubleValue();
+                amountSquares += value * value;
+            }
+            for (int i = 0; i < fields.length; i++) {
+                String value = fields[i];
+                if (value == null || value.trim().isEmpty()) {
+                    missing[i]++;
+                } else {
+                    fieldValues.get(i).merge(value, 1L, Long::sum);
+                }
+            }
+            BigDecimal amountOrZero = amount == null ? BigDecimal.ZERO : amount;
+            if (accountNumber != null) {
+                accountCounts.merge(accountNumber, 1L, Long::sum);
+                accountAmounts.merge(accountNumber, amountOrZero, BigDecimal::add);
+                if (userId != null) {
+                    userCounts.merge(userId, 1L, Long::sum);
+                    userAmounts.merge(userId, amountOrZero, BigDecimal::add);
+                }
+            }
+        }
+    }
+}
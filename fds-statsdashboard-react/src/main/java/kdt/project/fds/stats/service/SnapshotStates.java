@@ -0,0 +1,99 @@
+package kdt.project.fds.stats.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import kdt.project.fds.stats.vo.SnapshotDayState;
+
+/**
+ * 이 파일은 스냅샷 일별 상태를 합쳐 KPI를 계산하는 유틸리티 파일이다.
+ * 건수/합계는 더하고, 평균은 합계/건수로, 최신 시각은 최댓값으로, 사기 확률 중앙값은 합친 히스토그램에서 구한다.
+ * 히스토그램 중앙값은 구간 안에서 선형 보간하므로 오차가 구간 폭(1/PROBABILITY_BINS) 이내이다.
+ */
+final class SnapshotStates {
+    private SnapshotStates() {
+    }
+
+    /**
+     * 일별 상태를 합쳐 주간 스냅샷 kpi와 같은 형태의 맵을 만든다.
+     */
+    static Map<String, Object> kpi(Collection<SnapshotDayState> days) {
+        long transactionCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        long amountCount = 0;
+        long detectedCount = 0;
+        long fraudCount = 0;
+        double probabilitySum = 0.0;
+        long[] histogram = new long[SnapshotDayState.PROBABILITY_BINS];
+        LocalDateTime latestTransactionAt = null;
+        LocalDateTime latestDetectionAt = null;
+        for (SnapshotDayState day : days) {
+            transactionCount += day.transactionCount();
+            totalAmount = totalAmount.add(day.totalAmount());
+            amountCount += day.amountCount();
+            detectedCount += day.detectedCount();
+            fraudCount += day.fraudCount();
+            probabilitySum += day.probabilitySum();
+            for (int bin = 0; bin < histogram.length; bin++) {
+                histogram[bin] += day.probabilityHistogram()[bin];
+            }
+            latestTransactionAt = later(latestTransactionAt, day.latestTransactionAt());
+            latestDetectionAt = later(latestDetectionAt, day.latestDetectionAt());
+        }
+        long probabilityCount = 0;
+        for (long count : histogram) {
+            probabilityCount += count;
+        }
+
+        Map<String, Object> kpi = new LinkedHashMap<>();
+        kpi.put("transactionCount", transactionCount);
+        kpi.put("totalAmount", totalAmount);
+        kpi.put("averageAmount", amountCount == 0
+                ? null
+                : totalAmount.divide(BigDecimal.valueOf(amountCount), 4, RoundingMode.HALF_UP));
+        kpi.put("detectedCount", detectedCount);
+        kpi.put("detectedRate", rate(detectedCount, transactionCount));
+        kpi.put("fraudCount", fraudCount);
+        kpi.put("fraudRate", rate(fraudCount, detectedCount));
+        kpi.put("averageFraudProbability", probabilityCount == 0 ? null : probabilitySum / probabilityCount);
+        kpi.put("medianFraudProbability", median(histogram, probabilityCount));
+        kpi.put("latestTransactionAt", latestTransactionAt);
+        kpi.put("latestDetectionAt", latestDetectionAt);
+        return kpi;
+    }
+
+    static BigDecimal rate(long numerator, long denominator) {
+        if (denominator <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(numerator)
+                .divide(BigDecimal.valueOf(denominator), 4, RoundingMode.HALF_UP);
+    }
+
+    private static Double median(long[] histogram, long total) {
+        if (total == 0) {
+            return null;
+        }
+        double rank = (total - 1) / 2.0;
+        long before = 0;
+        for (int bin = 0; bin < histogram.length; bin++) {
+            long count = histogram[bin];
+            if (count > 0 && rank < before + count) {
+                double within = (rank - before + 0.5) / count;
+                return (bin + within) / histogram.length;
+            }
+            before += count;
+        }
+        return 1.0;
+    }
+
+    private static LocalDateTime later(LocalDateTime current, LocalDateTime candidate) {
+        if (current == null) {
+            return candidate;
+        }
+        return candidate != null && candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -0,0 +1,129 @@
+package kdt.project.fds.stats.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import kdt.project.fds.stats.vo.StatsSnapshotSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 이 파일은 스냅샷 요약 로그 파일을 다루는 클래스 파일이다.
+ * 스냅샷을 쓸 때마다 요약 한 줄(JSON Lines)을 덧붙이고, 같은 스냅샷 ID가 다시 쓰이면 마지막 줄을 사용한다.
+ * 읽은 결과는 파일 크기/수정 시각이 바뀔 때까지 메모리에 보관해 시계열 조회가 파일을 다시 파싱하지 않도록 한다.
+ * 쓰다가 중단돼 깨진 줄은 건너뛰고, 정리(rewrite) 때 함께 제거한다.
+ */
+class SnapshotSummaryLog {
+    private static final Logger log = LoggerFactory.getLogger(SnapshotSummaryLog.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<Path, CachedLog> cache = new ConcurrentHashMap<>();
+
+    SnapshotSummaryLog(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    synchronized void append(Path logPath, StatsSnapshotSummary summary) {
+        try {
+            Files.createDirectories(logPath.getParent());
+            Files.writeString(logPath, objectMapper.writeValueAsString(summary) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to append snapshot summary", ex);
+        } finally {
+            cache.remove(logPath);
+        }
+    }
+
+    /**
+     * 스냅샷 ID별 최신 요약을 시작일 순으로 반환한다. 로그 파일이 없으면 빈 목록이다.
+     */
+    synchronized List<StatsSnapshotSummary> read(Path logPath) {
+        CachedLog cached = load(logPath);
+        return cached == null ? List.of() : cached.summaries();
+    }
+
+    /**
+     * 덮어쓴 스냅샷이나 깨진 줄처럼 최신 요약이 아닌 줄이 로그에 남아 있는지 확인한다.
+     */
+    synchronized boolean hasStaleLines(Path logPath) {
+        CachedLog cached = load(logPath);
+        return cached != null && cached.lineCount() > cached.summaries().size();
+    }
+
+    /**
+     * 로그를 주어진 요약만 담은 새 파일로 바꾼다. 임시 파일에 쓴 뒤 이동해 읽는 쪽이 반쯤 쓴 파일을 보지 않게 한다.
+     */
+    synchronized void rewrite(Path logPath, Collection<StatsSnapshotSummary> summaries) {
+        Path tempPath = logPath.resolveSibling(logPath.getFileName() + ".tmp");
+        try {
+            StringBuilder content = new StringBuilder();
+            for (StatsSnapshotSummary summary : summaries) {
+                content.append(objectMapper.writeValueAsString(summary)).append('\n');
+            }
+            Files.createDirectories(logPath.getParent());
+            Files.writeString(tempPath, content, StandardCharsets.UTF_8);
+            Files.move(tempPath, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to rewrite snapshot summary log", ex);
+        } finally {
+            cache.remove(logPath);
+        }
+    }
+
+    private CachedLog load(Path logPath) {
+        if (!Files.exists(logPath)) {
+            cache.remove(logPath);
+            return null;
+        }
+        try {
+            long size = Files.size(logPath);
+            FileTime modifiedAt = Files.getLastModifiedTime(logPath);
+            CachedLog cached = cache.get(logPath);
+            if (cached != null && cached.size() == size && cached.modifiedAt().equals(modifiedAt)) {
+                return cached;
+            }
+            Map<String, StatsSnapshotSummary> latest = new LinkedHashMap<>();
+            int lineCount = 0;
+            for (String line : Files.readAllLines(logPath, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                lineCount++;
+                try {
+                    StatsSnapshotSummary summary = objectMapper.readValue(line, StatsSnapshotSummary.class);
+                    latest.remove(summary.snapshotId());
+                    latest.put(summary.snapshotId(), summary);
+                } catch (IOException ex) {
+                    log.warn("Skipping unreadable snapshot summary line in {}: {}", logPath, ex.getMessage());
+                }
+            }
+            List<StatsSnapshotSummary> summaries = new ArrayList<>(latest.values());
+            summaries.sort(Comparator.comparing(StatsSnapshotSummary::fromDate));
+            cached = new CachedLog(size, modifiedAt, List.copyOf(summaries), lineCount);
+            cache.put(logPath, cached);
+            return cached;
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to read snapshot summary log", ex);
+        }
+    }
+
+    private record CachedLog(
+            long size,
+            FileTime modifiedAt,
+            List<StatsSnapshotSummary> summaries,
+            int lineCount
+    ) { }
+}
@@ -0,0 +1,178 @@
+package kdt.project.fds.stats.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import kdt.project.fds.stats.config.StatsBulkheadProperties;
+import kdt.project.fds.stats.vo.StatsTrafficClass;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이 파일은 통계 엔드포인트 벌크헤드 서비스 파일이다.
+ * 트래픽 분류마다 공정 세마포어로 동시 실행 수를 제한하고, 사용자별 요청률은 잠금 없는 토큰 버킷으로 제한한다.
+ * 토큰 버킷은 GCRA 방식으로 "다음 요청이 허용되는 이론상 시각" 하나만 CAS로 갱신한다.
+ * 분류별 실행 중/가용 슬롯, 거절 수, 대기 시간은 fds.stats.bulkhead.* 메트릭으로 노출한다.
+ */
+@Service
+public class StatsBulkheadService {
+    private final StatsBulkheadProperties properties;
+    private final Map<StatsTrafficClass, Compartment> compartments = new EnumMap<>(StatsTrafficClass.class);
+
+    public StatsBulkheadService(StatsBulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (StatsTrafficClass trafficClass : StatsTrafficClass.values()) {
+            compartments.put(trafficClass, new Compartment(trafficClass, limitOf(trafficClass), meterRegistry));
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 사용자별 요청률과 분류별 동시 실행 한도를 차례로 확인하고 실행 슬롯을 획득한다.
+     * 요청률을 넘으면 429, 대기 시간 안에 슬롯을 얻지 못하면 503 StatsOverloadedException을 발생시킨다.
+     * 성공한 호출은 반드시 release로 슬롯을 반환해야 한다.
+     */
+    public void acquire(StatsTrafficClass trafficClass, String principalKey) {
+        Compartment compartment = compartments.get(trafficClass);
+        long now = System.nanoTime();
+        if (principalKey != null) {
+            long waitNanos = compartment.consumeToken(principalKey, now, properties.getMaxTrackedPrincipals());
+            if (waitNanos > 0) {
+                compartment.rateRejected.increment();
+                long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                throw new StatsOverloadedException(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too many statistics requests", retryAfter);
+            }
+        }
+
+        boolean acquired;
+        try {
+            acquired = compartment.slots.tryAcquire(compartment.queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        compartment.queueWait.record(System.nanoTime() - now, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            compartment.concurrencyRejected.increment();
+            throw new StatsOverloadedException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "Statistics capacity is exhausted",
+                    Math.max(1, properties.getRetryAfterSeconds()));
+        }
+    }
+
+    /**
+     * acquire로 얻은 실행 슬롯을 반환한다.
+     */
+    public void release(StatsTrafficClass trafficClass) {
+        compartments.get(trafficClass).slots.release();
+    }
+
+    int availableSlots(StatsTrafficClass trafficClass) {
+        return compartments.get(trafficClass).slots.availablePermits();
+    }
+
+    int trackedPrincipals(StatsTrafficClass trafficClass) {
+        return compartments.get(trafficClass).buckets.size();
+    }
+
+    private StatsBulkheadProperties.Limit limitOf(StatsTrafficClass trafficClass) {
+        return switch (trafficClass) {
+            case ADMIN_DASHBOARD -> properties.getAdminDashboard();
+            case SNAPSHOT_GENERATE -> properties.getSnapshotGenerate();
+            case USER_DASHBOARD -> properties.getUserDashboard();
+            case DETECTION_BACKTEST -> properties.getDetectionBacktest();
+            case TRANSFER_GRAPH -> properties.getTransferGraph();
+        };
+    }
+
+    private static final class Compartment {
+        private final int maxConcurrent;
+        private final Semaphore slots;
+        private final long queueTimeoutMillis;
+        // 요청 간 최소 간격과 연속 허용 폭을 나노초로 환산한 값이다. 간격이 0이면 요청률을 제한하지 않는다.
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final Counter rateRejected;
+        private final Counter concurrencyRejected;
+        private final Timer queueWait;
+
+        private Compartment(
+                StatsTrafficClass trafficClass,
+                StatsBulkheadProperties.Limit limit,
+                MeterRegistry meterRegistry
+        ) {
+            this.maxConcurrent = Math.max(1, limit.getMaxConcurrent());
+            this.slots = new Semaphore(maxConcurrent, true);
+            this.queueTimeoutMillis = Math.max(0, limit.getQueueTimeoutMillis());
+            this.emissionIntervalNanos = limit.getRequestsPerSecond() > 0
+                    ? (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRequestsPerSecond())
+                    : 0;
+            this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, limit.getBurst());
+
+            String tag = trafficClass.tag();
+            Gauge.builder("fds.stats.bulkhead.active", this, c -> c.maxConcurrent - c.slots.availablePermits())
+                    .description("Statistics requests currently holding a bulkhead slot")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("fds.stats.bulkhead.queued", slots, Semaphore::getQueueLength)
+                    .description("Statistics requests waiting for a bulkhead slot")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            this.rateRejected = Counter.builder("fds.stats.bulkhead.rejected")
+                    .description("Statistics requests rejected by the bulkhead")
+                    .tag("class", tag)
+                    .tag("reason", "rate")
+                    .register(meterRegistry);
+            this.concurrencyRejected = Counter.builder("fds.stats.bulkhead.rejected")
+                    .description("Statistics requests rejected by the bulkhead")
+                    .tag("class", tag)
+                    .tag("reason", "concurrency")
+                    .register(meterRegistry);
+            this.queueWait = Timer.builder("fds.stats.bulkhead.wait")
+                    .description("Time spent waiting for a bulkhead slot")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * 사용자 토큰 하나를 소비한다. 허용되면 0을, 거절되면 다음 토큰까지 남은 나노초를 반환한다.
+         */
+        private long consumeToken(String principalKey, long now, int maxTrackedPrincipals) {
+            if (emissionIntervalNanos == 0) {
+                return 0;
+            }
+            AtomicLong theoreticalArrival = buckets.get(principalKey);
+            if (theoreticalArrival == null) {
+                if (buckets.size() >= maxTrackedPrincipals) {
+                    // 이론상 시각이 지난 사용자는 버킷이 가득 찬 상태이므로 지워도 한도가 느슨해지지 않는다.
+                    buckets.values().removeIf(tat -> tat.get() <= now);
+                }
+                theoreticalArrival = buckets.computeIfAbsent(principalKey, key -> new AtomicLong(now));
+            }
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                long waitNanos = next - now - burstToleranceNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,493 @@
+package kdt.project.fds.stats.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import kdt.project.fds.stats.dto.request.StatsCodebookRequestDTO;
+import kdt.project.fds.stats.dto.response.StatsCodebookImportResponseDTO;
+import kdt.project.fds.stats.vo.CodebookImportMode;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 코드북 일괄 등록/내보내기 서비스 파일이다.
+ * JSON 배열이나 CSV를 한 행씩 읽어 메모리에서 검증하고, 배치 크기만큼 모아 MERGE 문을 JDBC 배치로 실행한다.
+ * 신규 행의 id는 MERGE 안에서 시퀀스로 바로 채번해 행마다 시퀀스를 따로 조회하지 않는다.
+ * 배치가 제약 조건 위반으로 실패하면 해당 배치만 한 행씩 다시 실행해 충돌 행을 찾아 보고한다.
+ */
+@Service
+public class StatsCodebookBulkService {
+    static final int BATCH_SIZE = 500;
+    // 응답에 담는 충돌 행 수의 상한이다. 넘는 행은 건수에만 반영한다.
+    static final int MAX_REPORTED_CONFLICTS = 1_000;
+    // 내보내기 조회 시 한 번에 가져오는 행 수이다.
+    private static final int EXPORT_FETCH_SIZE = 1_000;
+
+    private static final String UPSERT_SQL = """
+            MERGE INTO STATS_CODEBOOK c
+            USING (SELECT CAST(? AS VARCHAR2(40)) AS CODE_TYPE, CAST(? AS VARCHAR2(80)) AS CODE_KEY FROM DUAL) s
+            ON (c.CODE_TYPE = s.CODE_TYPE AND c.CODE_KEY = s.CODE_KEY)
+            WHEN MATCHED THEN UPDATE SET
+                c.DISPLAY_NAME = ?, c.DESCRIPTION = ?, c.SORT_ORDER = ?, c.IS_ACTIVE = ?,
+                c.META_JSON = ?, c.UPDATED_AT = ?
+            WHEN NOT MATCHED THEN INSERT (
+                CODEBOOK_ID, CODE_TYPE, CODE_KEY, DISPLAY_NAME, DESCRIPTION, SORT_ORDER, IS_ACTIVE,
+                META_JSON, CREATED_AT, UPDATED_AT
+            ) VALUES (STATS_CODEBOOK_SEQ.NEXTVAL, s.CODE_TYPE, s.CODE_KEY, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_ONLY_SQL = """
+            MERGE INTO STATS_CODEBOOK c
+            USING (SELECT CAST(? AS VARCHAR2(40)) AS CODE_TYPE, CAST(? AS VARCHAR2(80)) AS CODE_KEY FROM DUAL) s
+            ON (c.CODE_TYPE = s.CODE_TYPE AND c.CODE_KEY = s.CODE_KEY)
+            WHEN NOT MATCHED THEN INSERT (
+                CODEBOOK_ID, CODE_TYPE, CODE_KEY, DISPLAY_NAME, DESCRIPTION, SORT_ORDER, IS_ACTIVE,
+                META_JSON, CREATED_AT, UPDATED_AT
+            ) VALUES (STATS_CODEBOOK_SEQ.NEXTVAL, s.CODE_TYPE, s.CODE_KEY, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final Validator validator;
+    // 배치마다 독립적으로 커밋하여 큰 업로드가 하나의 긴 트랜잭션으로 잠금을 오래 잡지 않게 한다.
+    private final TransactionTemplate batchTransaction;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public StatsCodebookBulkService(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedJdbcTemplate,
+            Validator validator,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.validator = validator;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * JSON 배열 스트림을 한 요소씩 읽어 일괄 등록한다.
+     * 배열 전체를 메모리에 올리지 않고 배치 단위로 검증/반영하며, 배치마다 따로 커밋한다.
+     * 요소는 트리로 먼저 읽고 행 단위로 변환하므로, 타입이 맞지 않는 요소는 CSV와 같이 해당 행만 거부된다.
+     */
+    public StatsCodebookImportResponseDTO importJson(InputStream body, CodebookImportMode mode) {
+        Importer importer = new Importer(mode);
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Codebook import body must be a JSON array");
+            }
+            long row = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == null) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Codebook JSON array is not closed");
+                }
+                row++;
+                JsonNode element = objectMapper.readTree(parser);
+                if (!element.isObject()) {
+                    importer.rejectUnparsed(row, null, null, "Element must be a JSON object");
+                    continue;
+                }
+                try {
+                    importer.accept(row, objectMapper.treeToValue(element, StatsCodebookRequestDTO.class));
+                } catch (JsonProcessingException ex) {
+                    importer.rejectUnparsed(row, text(element, "codeType"), text(element, "codeKey"), ex.getOriginalMessage());
+                }
+            }
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed codebook JSON: " + ex.getMessage(), ex);
+        }
+        return importer.finish();
+    }
+
+    /**
+     * 헤더가 있는 CSV 스트림을 한 행씩 읽어 일괄 등록한다.
+     * 헤더 이름으로 열 위치를 찾으므로 열 순서는 자유이며, 빈 줄은 건너뛴다.
+     */
+    public StatsCodebookImportResponseDTO importCsv(InputStream body, CodebookImportMode mode) {
+        Importer importer = new Importer(mode);
+        CodebookCsv csv = new CodebookCsv(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        try {
+            List<String> header = csv.next();
+            if (header == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Codebook CSV header is required");
+            }
+            int[] columns = resolveColumns(header);
+            long row = 0;
+            List<String> fields;
+            while ((fields = csv.next()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                row++;
+                try {
+                    importer.accept(row, toRequest(fields, columns));
+                } catch (IllegalArgumentException ex) {
+                    importer.rejectUnparsed(row, field(fields, columns[0]), field(fields, columns[1]), ex.getMessage());
+                }
+            }
+        } catch (IllegalArgumentException | UncheckedIOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed codebook CSV: " + ex.getMessage(), ex);
+        }
+        return importer.finish();
+    }
+
+    /**
+     * 코드북을 CSV로 스트리밍한다.
+     * 결과 전체를 메모리에 올리지 않고 행을 읽는 즉시 출력 스트림에 쓴다.
+     */
+    public void exportCsv(String codeType, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CodebookCsv.writeRow(writer, CodebookCsv.HEADER);
+        streamRows(codeType, rs -> {
+            try {
+                CodebookCsv.writeRow(writer, List.of(
+                        rs.getString("CODE_TYPE"),
+                        rs.getString("CODE_KEY"),
+                        rs.getString("DISPLAY_NAME"),
+                        Objects.toString(rs.getString("DESCRIPTION"), ""),
+                        Objects.toString(rs.getObject("SORT_ORDER"), ""),
+                        String.valueOf("Y".equalsIgnoreCase(rs.getString("IS_ACTIVE"))),
+                        Objects.toString(rs.getString("META_JSON"), "")
+                ));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        writer.flush();
+    }
+
+    /**
+     * 코드북을 JSON 배열로 스트리밍한다.
+     * 각 요소는 일괄 등록 JSON과 같은 필드를 가지므로 그대로 다시 등록할 수 있다.
+     */
+    public void exportJson(String codeType, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            streamRows(codeType, rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeStringField("codeType", rs.getString("CODE_TYPE"));
+                    generator.writeStringField("codeKey", rs.getString("CODE_KEY"));
+                    generator.writeStringField("displayName", rs.getString("DISPLAY_NAME"));
+                    generator.writeStringField("description", rs.getString("DESCRIPTION"));
+                    Object sortOrder = rs.getObject("SORT_ORDER");
+                    if (sortOrder == null) {
+                        generator.writeNullField("sortOrder");
+                    } else {
+                        generator.writeNumberField("sortOrder", ((Number) sortOrder).intValue());
+                    }
+                    generator.writeBooleanField("active", "Y".equalsIgnoreCase(rs.getString("IS_ACTIVE")));
+                    generator.writeStringField("metaJson", rs.getString("META_JSON"));
+                    generator.writeEndObject();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    private void streamRows(String codeType, RowCallbackHandler handler) {
+        String normalized = codeType == null || codeType.isBlank() ? null : codeType.trim();
+        JdbcTemplate streaming = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        streaming.setFetchSize(EXPORT_FETCH_SIZE);
+        String sql = """
+                SELECT CODE_TYPE, CODE_KEY, DISPLAY_NAME, DESCRIPTION, SORT_ORDER, IS_ACTIVE, META_JSON
+                FROM STATS_CODEBOOK
+                %s
+                ORDER BY CODE_TYPE, SORT_ORDER, CODE_KEY
+                """.formatted(normalized == null ? "" : "WHERE CODE_TYPE = ?");
+        if (normalized == null) {
+            streaming.query(sql, handler);
+        } else {
+            streaming.query(sql, handler, normalized);
+        }
+    }
+
+    private static int[] resolveColumns(List<String> header) {
+        int[] columns = new int[CodebookCsv.HEADER.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (CodebookCsv.HEADER.get(i).equalsIgnoreCase(header.get(j).trim())) {
+                    columns[i] = j;
+                    break;
+                }
+            }
+        }
+        for (int i = 0; i < 3; i++) {
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("Missing column " + CodebookCsv.HEADER.get(i));
+            }
+        }
+        return columns;
+    }
+
+    private static StatsCodebookRequestDTO toRequest(List<String> fields, int[] columns) {
+        String sortOrder = blankToNull(field(fields, columns[4]));
+        String active = blankToNull(field(fields, columns[5]));
+        Integer parsedSortOrder;
+        try {
+            parsedSortOrder = sortOrder == null ? null : Integer.valueOf(sortOrder.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("sortOrder must be an integer");
+        }
+        return new StatsCodebookRequestDTO(
+                field(fields, columns[0]),
+                field(fields, columns[1]),
+                field(fields, columns[2]),
+                blankToNull(field(fields, columns[3])),
+                parsedSortOrder,
+                active == null || "true".equalsIgnoreCase(active.trim()) || "Y".equalsIgnoreCase(active.trim()),
+                blankToNull(field(fields, columns[6]))
+        );
+    }
+
+    private static String text(JsonNode element, String name) {
+        JsonNode value = element.get(name);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column < 0 || column >= fields.size() ? null : fields.get(column);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    /**
+     * 한 번의 일괄 등록 상태를 보관한다.
+     * 검증을 통과한 행을 배치 크기만큼 모았다가 기존 키 조회 한 번과 MERGE 배치 한 번으로 반영한다.
+     */
+    private final class Importer {
+        private final CodebookImportMode mode;
+        private final Set<String> seenKeys = new HashSet<>();
+        private final List<PendingRow> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<StatsCodebookImportResponseDTO.RowConflictDTO> conflicts = new ArrayList<>();
+        private final LocalDateTime now = LocalDateTime.now();
+        private long received;
+        private long inserted;
+        private long updated;
+        private long rejected;
+
+        private Importer(CodebookImportMode mode) {
+            this.mode = mode == null ? CodebookImportMode.UPSERT : mode;
+        }
+
+        private void accept(long row, StatsCodebookRequestDTO request) {
+            received++;
+            if (request == null) {
+                reject(row, null, null, "row is empty");
+                return;
+            }
+            Set<ConstraintViolation<StatsCodebookRequestDTO>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String reason = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                reject(row, request.codeType(), request.codeKey(), reason);
+                return;
+            }
+            PendingRow pending = new PendingRow(row, normalize(request));
+            if (!seenKeys.add(pending.key())) {
+                reject(row, pending.request().codeType(), pending.request().codeKey(), "duplicate key in payload");
+                return;
+            }
+            batch.add(pending);
+            if (batch.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void rejectUnparsed(long row, String codeType, String codeKey, String reason) {
+            received++;
+            reject(row, codeType, codeKey, reason);
+        }
+
+        private void reject(long row, String codeType, String codeKey, String reason) {
+            rejected++;
+            if (conflicts.size() < MAX_REPORTED_CONFLICTS) {
+                conflicts.add(new StatsCodebookImportResponseDTO.RowConflictDTO(row, codeType, codeKey, reason));
+            }
+        }
+
+        private StatsCodebookImportResponseDTO finish() {
+            flush();
+            return new StatsCodebookImportResponseDTO(
+                    received,
+                    inserted,
+                    updated,
+                    rejected,
+                    List.copyOf(conflicts),
+                    rejected > conflicts.size()
+            );
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            Set<String> existing = loadExistingKeys();
+            List<PendingRow> writes = new ArrayList<>(batch.size());
+            for (PendingRow pending : batch) {
+                boolean exists = existing.contains(pending.key());
+                if (exists && mode == CodebookImportMode.INSERT_ONLY) {
+                    reject(pending.row(), pending.request().codeType(), pending.request().codeKey(), "code already exists");
+                    continue;
+                }
+                writes.add(pending.withExisting(exists));
+            }
+            batch.clear();
+            if (writes.isEmpty()) {
+                return;
+            }
+
+            String sql = mode == CodebookImportMode.INSERT_ONLY ? INSERT_ONLY_SQL : UPSERT_SQL;
+            try {
+                int[] counts = batchTransaction.execute(status ->
+                        jdbcTemplate.batchUpdate(sql, writes.stream().map(this::toArgs).toList()));
+                for (int i = 0; i < writes.size(); i++) {
+                    count(writes.get(i), counts != null && counts.length > i ? counts[i] : 1);
+                }
+            } catch (DataAccessException ex) {
+                // 배치 트랜잭션은 통째로 롤백되었다. 실패 행 위치는 드라이버마다 다르게 알려주므로 한 행씩 다시 실행한다.
+                for (PendingRow pending : writes) {
+                    try {
+                        Integer affected = batchTransaction.execute(status -> jdbcTemplate.update(sql, toArgs(pending)));
+                        count(pending, affected == null ? 0 : affected);
+                    } catch (DataAccessException rowEx) {
+                        reject(pending.row(), pending.request().codeType(), pending.request().codeKey(),
+                                "conflict: " + rootMessage(rowEx));
+                    }
+                }
+            }
+        }
+
+        private void count(PendingRow pending, int affected) {
+            if (affected == 0) {
+                reject(pending.row(), pending.request().codeType(), pending.request().codeKey(), "code already exists");
+            } else if (pending.existing()) {
+                updated++;
+            } else {
+                inserted++;
+            }
+        }
+
+        private Set<String> loadExistingKeys() {
+            Map<String, List<String>> keysByType = batch.stream()
+                    .collect(Collectors.groupingBy(
+                            pending -> pending.request().codeType(),
+                            Collectors.mapping(pending -> pending.request().codeKey(), Collectors.toList())
+                    ));
+            Set<String> existing = new LinkedHashSet<>();
+            for (Map.Entry<String, List<String>> entry : keysByType.entrySet()) {
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("codeType", entry.getKey())
+                        .addValue("codeKeys", entry.getValue());
+                namedJdbcTemplate.query("""
+                        SELECT CODE_TYPE, CODE_KEY
+                        FROM STATS_CODEBOOK
+                        WHERE CODE_TYPE = :codeType AND CODE_KEY IN (:codeKeys)
+                        """, params, rs -> {
+                    existing.add(keyOf(rs.getString("CODE_TYPE"), rs.getString("CODE_KEY")));
+                });
+            }
+            return existing;
+        }
+
+        private Object[] toArgs(PendingRow pending) {
+            StatsCodebookRequestDTO request = pending.request();
+            Timestamp timestamp = Timestamp.valueOf(now);
+            SqlParameterValue description = new SqlParameterValue(Types.VARCHAR, request.description());
+            SqlParameterValue sortOrder = new SqlParameterValue(Types.INTEGER, request.sortOrder());
+            String active = request.active() ? "Y" : "N";
+            SqlParameterValue metaJson = new SqlParameterValue(Types.CLOB, request.metaJson());
+            if (mode == CodebookImportMode.INSERT_ONLY) {
+                return new Object[]{
+                        request.codeType(), request.codeKey(),
+                        request.displayName(), description, sortOrder, active, metaJson, timestamp, timestamp
+                };
+            }
+            return new Object[]{
+                    request.codeType(), request.codeKey(),
+                    request.displayName(), description, sortOrder, active, metaJson, timestamp,
+                    request.displayName(), description, sortOrder, active, metaJson, timestamp, timestamp
+            };
+        }
+    }
+
+    private static StatsCodebookRequestDTO normalize(StatsCodebookRequestDTO request) {
+        return new StatsCodebookRequestDTO(
+                request.codeType().trim(),
+                request.codeKey().trim(),
+                request.displayName().trim(),
+                request.description(),
+                request.sortOrder() == null ? 0 : request.sortOrder(),
+                request.active(),
+                request.metaJson()
+        );
+    }
+
+    private static String keyOf(String codeType, String codeKey) {
+        return codeType + '\u0000' + codeKey;
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable root = ex;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private record PendingRow(long row, StatsCodebookRequestDTO request, boolean existing) {
+        private PendingRow(long row, StatsCodebookRequestDTO request) {
+            this(row, request, false);
+        }
+
+        private String key() {
+            return keyOf(request.codeType(), request.codeKey());
+        }
+
+        private PendingRow withExisting(boolean exists) {
+            return new PendingRow(row, request, exists);
+        }
+    }
+}
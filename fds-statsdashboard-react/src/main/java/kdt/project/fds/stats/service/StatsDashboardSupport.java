@@ -100,6 +100,23 @@ abstract class StatsDashboardSupport {
                 .divide(BigDecimal.valueOf(denominator), 4, RoundingMode.HALF_UP);
     }
 
+    /**
+     * 오름차순으로 정렬된 값 목록의 중앙값을 계산한다. 홀수 개이면 가운데 값, 짝수 개이면 중앙 두 값의 평균을 반환한다.
+     * 값이 없으면 null을 반환한다.
+     */
+    protected static Double median(List<Double> sortedValues) {
+        if (sortedValues == null || sortedValues.isEmpty()) {
+            return null;
+        }
+        int size = sortedValues.size();
+        if (size % 2 == 1) {
+            return sortedValues.get(size / 2);
+        }
+        double lower = sortedValues.get(size / 2 - 1);
+        double upper = sortedValues.get(size / 2);
+        return (lower + upper) / 2.0;
+    }
+
     protected String normalizeText(String value) {
         if (value == null) {
             return null;
@@ -0,0 +1,29 @@
+package kdt.project.fds.stats.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 통계 엔드포인트 과부하 예외 파일이다.
+ * 동시 실행 한도 초과는 503, 사용자별 요청률 초과는 429로 응답하며 Retry-After 헤더를 함께 전달한다.
+ */
+public class StatsOverloadedException extends ResponseStatusException {
+    private final long retryAfterSeconds;
+
+    public StatsOverloadedException(HttpStatus status, String reason, long retryAfterSeconds) {
+        super(status, reason);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -1,25 +1,27 @@
 package kdt.project.fds.stats.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.math.BigDecimal;
 import java.io.IOException;
 import java.sql.Timestamp;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import kdt.project.fds.stats.config.StatsSnapshotProperties;
@@ -27,17 +29,27 @@ import kdt.project.fds.stats.dto.request.StatsSnapshotGenerateRequestDTO;
 import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
 import kdt.project.fds.stats.dto.response.StatsSnapshotMetadataDTO;
 import kdt.project.fds.stats.dto.response.StatsSnapshotGenerateResponseDTO;
+import kdt.project.fds.stats.dto.response.StatsSnapshotSeriesResponseDTO;
+import kdt.project.fds.stats.vo.SnapshotDayState;
 import kdt.project.fds.stats.vo.SnapshotScope;
+import kdt.project.fds.stats.vo.SnapshotTier;
 import kdt.project.fds.stats.vo.StatsDateRange;
-import org.jspecify.annotations.NonNull;
+import kdt.project.fds.stats.vo.StatsSnapshotSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * 이 파일은 스냅샷 파일 생성/조회 서비스 파일이다.
  * 주간 집계 결과를 JSON 파일로 저장하고 히스토리를 제공한다.
+ * 스냅샷을 쓸 때마다 KPI 요약 한 줄을 스코프별 요약 로그(summary.jsonl)에 덧붙여,
+ * 지표 시계열은 스냅샷 파일을 열지 않고 요약 로그만으로 응답한다.
+ * 일반 주간 스냅샷에는 일별 집계 상태를 함께 저장하고, 월간/분기 스냅샷은 DB 조회 없이 하위 주기의 일별 상태를 합쳐 만든다.
  */
 @Service
 @Transactional
@@ -45,12 +57,14 @@ public class StatsSnapshotService {
     private static final ZoneId SNAPSHOT_ZONE = ZoneId.of("Asia/Seoul");
     private static final Pattern SNAPSHOT_NAME_PATTERN =
             Pattern.compile("^(\\d{4})_(\\d{2})(\\d{2})_(?:(\\d{4})_)?(\\d{2})(\\d{2})$");
-    private static final int RETENTION_DAYS = 365;
+    private static final Logger log = LoggerFactory.getLogger(StatsSnapshotService.class);
+    private static final String SUMMARY_LOG_FILENAME = "summary.jsonl";
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final AdminStatsDashboardService adminDashboardService;
     private final StatsSnapshotProperties statsSnapshotProperties;
     private final ObjectMapper objectMapper;
+    private final SnapshotSummaryLog summaryLog;
 
     public StatsSnapshotService(
             NamedParameterJdbcTemplate jdbcTemplate,
@@ -61,9 +75,10 @@ public class StatsSnapshotService {
         this.adminDashboardService = adminDashboardService;
         this.statsSnapshotProperties = statsSnapshotProperties;
         this.objectMapper = createObjectMapper();
+        this.summaryLog = new SnapshotSummaryLog(objectMapper);
     }
 
-    private static ObjectMapper createObjectMapper() {
+    static ObjectMapper createObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -92,6 +107,7 @@ public class StatsSnapshotService {
         SnapshotResult generalResult = writeGeneralSnapshot(range, generatedAt, forceRebuild);
         SnapshotResult businessResult = writeBusinessSnapshot(range, generatedAt, forceRebuild);
         cleanupOldGeneralSnapshots();
+        compactSummaryLogs();
 
         return new StatsSnapshotGenerateResponseDTO(
                 range.fromDate(),
@@ -102,13 +118,87 @@ public class StatsSnapshotService {
         );
     }
 
+    /**
+     * 월간/분기 일반 스냅샷을 하위 주기 스냅샷의 일별 상태를 합쳐 만든다. DB는 조회하지 않는다.
+     * 기준일을 지정하지 않으면 직전 월/분기를 만들고, 기간의 모든 날짜가 하위 스냅샷에 있어야 한다.
+     */
+    public StatsSnapshotGenerateResponseDTO generateMergedSnapshot(
+            SnapshotTier tier,
+            LocalDate periodDate,
+            boolean forceRebuild
+    ) {
+        if (tier == SnapshotTier.WEEKLY) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Weekly snapshots are generated from the database");
+        }
+        LocalDate today = LocalDate.now(SNAPSHOT_ZONE);
+        StatsDateRange range = tier.periodContaining(periodDate != null
+                ? periodDate
+                : today.minusMonths(tier == SnapshotTier.MONTHLY ? 1 : 3));
+        if (!range.toDate().isBefore(today)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The period has not ended yet: " + range.toDate());
+        }
+        LocalDateTime generatedAt = LocalDateTime.now(SNAPSHOT_ZONE);
+        Path targetPath = resolveSnapshotPath(tier, SnapshotScope.GENERAL, range);
+        if (forceRebuild || !Files.exists(targetPath)) {
+            Map<LocalDate, SnapshotDayState> days = new TreeMap<>();
+            List<String> sources = collectDayStates(tier.source(), range, days);
+            for (LocalDate date = range.fromDate(); !date.isAfter(range.toDate()); date = date.plusDays(1)) {
+                if (!days.containsKey(date)) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "No " + tier.source().directoryName() + " snapshot state covers " + date);
+                }
+            }
+
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("scope", SnapshotScope.GENERAL.name());
+            payload.put("tier", tier.name());
+            payload.put("fromDate", range.fromDate());
+            payload.put("toDate", range.toDate());
+            payload.put("generatedAt", generatedAt);
+            payload.put("sources", sources);
+            payload.put("kpi", SnapshotStates.kpi(days.values()));
+            payload.put("state", statePayload(List.copyOf(days.values())));
+            writeSnapshotFile(SnapshotScope.GENERAL, range, targetPath, payload, true);
+            compactSummaryLog(tier, SnapshotScope.GENERAL);
+        }
+        return new StatsSnapshotGenerateResponseDTO(
+                range.fromDate(),
+                range.toDate(),
+                targetPath.getFileName().toString(),
+                null,
+                generatedAt
+        );
+    }
+
+    /**
+     * 스케줄러용으로 아직 없는 직전 월간/분기 스냅샷을 만든다.
+     * 하위 스냅샷이 기간을 모두 덮지 못하면 다음 주기 실행 때 다시 시도한다.
+     */
+    public void generateDueMergedSnapshots() {
+        for (SnapshotTier tier : List.of(SnapshotTier.MONTHLY, SnapshotTier.QUARTERLY)) {
+            try {
+                generateMergedSnapshot(tier, null, false);
+            } catch (ResponseStatusException ex) {
+                log.info("Skipping {} snapshot: {}", tier.directoryName(), ex.getReason());
+            }
+        }
+    }
+
     /**
      * 스냅샷 히스토리 목록을 반환한다.
      * 스코프별 파일 메타데이터를 정렬해 제공한다.
      */
     @Transactional(readOnly = true)
     public List<StatsSnapshotMetadataDTO> listSnapshots(SnapshotScope scope) {
-        Path directory = resolveDirectory(scope);
+        return listSnapshots(SnapshotTier.WEEKLY, scope);
+    }
+
+    /**
+     * 주기별 스냅샷 히스토리 목록을 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public List<StatsSnapshotMetadataDTO> listSnapshots(SnapshotTier tier, SnapshotScope scope) {
+        Path directory = resolveDirectory(tier, scope);
         if (!Files.exists(directory)) {
             return List.of();
         }
@@ -130,7 +220,15 @@ public class StatsSnapshotService {
      */
     @Transactional(readOnly = true)
     public Object getSnapshotDetailByFilename(SnapshotScope scope, String filename) {
-        Path filePath = resolveDirectory(scope).resolve(filename);
+        return getSnapshotDetailByFilename(SnapshotTier.WEEKLY, scope, filename);
+    }
+
+    /**
+     * 주기별 스냅샷 상세 JSON을 반환한다. 파일명은 listSnapshots로 검증한 값이어야 한다.
+     */
+    @Transactional(readOnly = true)
+    public Object getSnapshotDetailByFilename(SnapshotTier tier, SnapshotScope scope, String filename) {
+        Path filePath = resolveDirectory(tier, scope).resolve(filename);
         if (!Files.exists(filePath)) {
             throw new IllegalArgumentException("Snapshot file not found: " + filename);
         }
@@ -141,6 +239,53 @@ public class StatsSnapshotService {
         }
     }
 
+    /**
+     * 스냅샷 요약 로그에서 지표 시계열을 반환한다.
+     * from/to를 지정하면 그 안에 온전히 들어가는 스냅샷만 포함하고, 스냅샷 파일은 열지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public StatsSnapshotSeriesResponseDTO getSeries(
+            SnapshotScope scope,
+            String metric,
+            LocalDate from,
+            LocalDate to
+    ) {
+        return getSeries(SnapshotTier.WEEKLY, scope, metric, from, to);
+    }
+
+    /**
+     * 주기별 스냅샷 요약 로그에서 지표 시계열을 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public StatsSnapshotSeriesResponseDTO getSeries(
+            SnapshotTier tier,
+            SnapshotScope scope,
+            String metric,
+            LocalDate from,
+            LocalDate to
+    ) {
+        if (metric == null || !StatsSnapshotSummary.METRICS.contains(metric)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "metric must be one of " + String.join(", ", StatsSnapshotSummary.METRICS));
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        List<StatsSnapshotSeriesResponseDTO.PointDTO> points = new ArrayList<>();
+        for (StatsSnapshotSummary summary : loadSummaries(tier, scope)) {
+            if ((from != null && summary.fromDate().isBefore(from)) || (to != null && summary.toDate().isAfter(to))) {
+                continue;
+            }
+            points.add(new StatsSnapshotSeriesResponseDTO.PointDTO(
+                    summary.snapshotId(),
+                    summary.fromDate(),
+                    summary.toDate(),
+                    summary.metric(metric)
+            ));
+        }
+        return new StatsSnapshotSeriesResponseDTO(scope.name(), metric, points);
+    }
+
     private SnapshotResult writeGeneralSnapshot(
             StatsDateRange range,
             LocalDateTime generatedAt,
@@ -150,70 +295,21 @@ public class StatsSnapshotService {
                 .addValue("fromTs", range.fromDate().atStartOfDay())
                 .addValue("toTs", range.toDate().plusDays(1).atStartOfDay());
 
-        long transactionCount = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS
-                WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
-                """, params);
-        BigDecimal totalAmount = queryDecimal("""
-                SELECT NVL(SUM(TX_AMOUNT), 0)
-                FROM TRANSACTIONS
-                WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
-                """, params);
-        BigDecimal averageAmount = queryDecimal("""
-                SELECT AVG(TX_AMOUNT)
-                FROM TRANSACTIONS
-                WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
-                """, params);
-        long detectedCount = queryLong("""
-                SELECT COUNT(*)
-                FROM FRAUD_DETECTION_RESULTS d
-                JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
-                WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
-                """, params);
-        long fraudCount = queryLong("""
-                SELECT COUNT(*)
-                FROM FRAUD_DETECTION_RESULTS d
-                JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
-                WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
-                  AND d.IS_FRAUD = 1
-                """, params);
-        Double avgProbability = queryDouble(params);
-        Double medianProbability = queryMedianProbability(params);
-        LocalDateTime latestTxAt = queryTimestamp("""
-                SELECT MAX(TX_TIMESTAMP)
-                FROM TRANSACTIONS
-                WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
-                """, params);
-        LocalDateTime latestDetectionAt = queryTimestamp("""
-                SELECT MAX(d.DETECTED_AT)
-                FROM FRAUD_DETECTION_RESULTS d
-                JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
-                WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
-                """, params);
+        // KPI는 병합 주기와 같은 방식으로 일별 상태에서 계산하고, 중앙값만 정확한 값으로 따로 조회한다.
+        List<SnapshotDayState> days = queryDayStates(range, params);
+        Map<String, Object> kpi = SnapshotStates.kpi(days);
+        kpi.put("medianFraudProbability", queryMedianProbability(params));
 
         Map<String, Object> payload = new LinkedHashMap<>();
         payload.put("scope", SnapshotScope.GENERAL.name());
         payload.put("fromDate", range.fromDate());
         payload.put("toDate", range.toDate());
         payload.put("generatedAt", generatedAt);
-
-        Map<String, Object> kpi = new LinkedHashMap<>();
-        kpi.put("transactionCount", transactionCount);
-        kpi.put("totalAmount", totalAmount);
-        kpi.put("averageAmount", averageAmount);
-        kpi.put("detectedCount", detectedCount);
-        kpi.put("detectedRate", safeRate(detectedCount, transactionCount));
-        kpi.put("fraudCount", fraudCount);
-        kpi.put("fraudRate", safeRate(fraudCount, detectedCount));
-        kpi.put("averageFraudProbability", avgProbability);
-        kpi.put("medianFraudProbability", medianProbability);
-        kpi.put("latestTransactionAt", latestTxAt);
-        kpi.put("latestDetectionAt", latestDetectionAt);
         payload.put("kpi", kpi);
+        payload.put("state", statePayload(days));
 
         Path targetPath = resolveSnapshotPath(SnapshotScope.GENERAL, range);
-        writeSnapshotFile(targetPath, payload, forceRebuild);
+        writeSnapshotFile(SnapshotScope.GENERAL, range, targetPath, payload, forceRebuild);
         return new SnapshotResult(targetPath.getFileName().toString());
     }
 
@@ -232,11 +328,17 @@ public class StatsSnapshotService {
         payload.put("dashboard", dashboard);
 
         Path targetPath = resolveSnapshotPath(SnapshotScope.BUSINESS, range);
-        writeSnapshotFile(targetPath, payload, forceRebuild);
+        writeSnapshotFile(SnapshotScope.BUSINESS, range, targetPath, payload, forceRebuild);
         return new SnapshotResult(targetPath.getFileName().toString());
     }
 
-    private void writeSnapshotFile(Path targetPath, Map<String, Object> payload, boolean forceRebuild) {
+    private void writeSnapshotFile(
+            SnapshotScope scope,
+            StatsDateRange range,
+            Path targetPath,
+            Map<String, Object> payload,
+            boolean forceRebuild
+    ) {
         if (!forceRebuild && Files.exists(targetPath)) {
             return;
         }
@@ -247,33 +349,152 @@ public class StatsSnapshotService {
         } catch (IOException ex) {
             throw new IllegalStateException("Failed to write snapshot file", ex);
         }
+        String snapshotId = formatSnapshotId(range.fromDate(), range.toDate());
+        summaryLog.append(targetPath.resolveSibling(SUMMARY_LOG_FILENAME),
+                summarize(scope, snapshotId, objectMapper.valueToTree(payload)));
     }
 
-    private void cleanupOldGeneralSnapshots() {
-        LocalDateTime cutoff = LocalDateTime.now(SNAPSHOT_ZONE).minusDays(RETENTION_DAYS);
-        Path directory = resolveDirectory(SnapshotScope.GENERAL);
+    /**
+     * 스코프의 요약 목록을 반환한다.
+     * 요약 로그가 없으면 스냅샷 파일 목록에 맞춰 한 번 만든다. 그 뒤로는 스냅샷을 쓸 때의 정리 단계가 로그를 맞춘다.
+     */
+    private List<StatsSnapshotSummary> loadSummaries(SnapshotTier tier, SnapshotScope scope) {
+        Path logPath = resolveSummaryLogPath(tier, scope);
+        if (!Files.exists(logPath)) {
+            compactSummaryLog(tier, scope);
+        }
+        return summaryLog.read(logPath);
+    }
+
+    /**
+     * 요약 로그를 스냅샷 파일 목록에 맞춘다.
+     * 삭제된 스냅샷의 요약과 덮어쓰기로 밀려난 요약 줄을 제거하고, 요약 로그가 생기기 전에 만든 스냅샷처럼
+     * 로그에 없는 스냅샷은 그 파일만 읽어 요약을 채운다. 새 스냅샷이 먼저 로그를 만들어도 기존 스냅샷이 빠지지 않는다.
+     */
+    private void compactSummaryLogs() {
+        for (SnapshotTier tier : SnapshotTier.values()) {
+            compactSummaryLog(tier, SnapshotScope.GENERAL);
+        }
+        compactSummaryLog(SnapshotTier.WEEKLY, SnapshotScope.BUSINESS);
+    }
+
+    private void compactSummaryLog(SnapshotTier tier, SnapshotScope scope) {
+        Path directory = resolveDirectory(tier, scope);
         if (!Files.exists(directory)) {
             return;
         }
-        try {
-            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
-                @Override
-                public FileVisitResult visitFile(@NonNull Path file, @NonNull BasicFileAttributes attrs) throws IOException {
-                    if (!file.getFileName().toString().endsWith(".json")) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    LocalDateTime modifiedAt = LocalDateTime.ofInstant(
-                            attrs.lastModifiedTime().toInstant(),
-                            SNAPSHOT_ZONE
-                    );
-                    if (modifiedAt.isBefore(cutoff)) {
-                        Files.deleteIfExists(file);
-                    }
-                    return FileVisitResult.CONTINUE;
+        Path logPath = resolveSummaryLogPath(tier, scope);
+        List<StatsSnapshotSummary> summaries = summaryLog.read(logPath);
+        Set<String> logged = new HashSet<>();
+        summaries.forEach(summary -> logged.add(summary.snapshotId()));
+        Set<String> existing = new HashSet<>();
+        List<StatsSnapshotSummary> retained = new ArrayList<>();
+        for (StatsSnapshotMetadataDTO metadata : listSnapshots(tier, scope)) {
+            existing.add(metadata.snapshotId());
+            if (logged.contains(metadata.snapshotId())) {
+                continue;
+            }
+            try {
+                JsonNode payload = objectMapper.readTree(directory.resolve(metadata.filename()).toFile());
+                retained.add(summarize(scope, metadata.snapshotId(), payload));
+            } catch (IOException | RuntimeException ex) {
+                // 읽을 수 없는 스냅샷 하나 때문에 스냅샷 생성이 실패하지 않도록 건너뛰고 다음 정리 때 다시 시도한다.
+                log.warn("Skipping unreadable snapshot {} while backfilling summaries: {}",
+                        metadata.filename(), ex.getMessage());
+            }
+        }
+        boolean backfilled = !retained.isEmpty();
+        summaries.stream()
+                .filter(summary -> existing.contains(summary.snapshotId()))
+                .forEach(retained::add);
+        if (backfilled || retained.size() != summaries.size() || summaryLog.hasStaleLines(logPath)
+                || !Files.exists(logPath)) {
+            retained.sort(Comparator.comparing(StatsSnapshotSummary::fromDate));
+            summaryLog.rewrite(logPath, retained);
+        }
+    }
+
+    /**
+     * 스냅샷 본문(JSON 트리)에서 KPI 요약을 만든다.
+     * 일반 스냅샷은 kpi 필드를, 관리자 스냅샷은 대시보드 섹션의 대응 값을 사용한다.
+     */
+    private StatsSnapshotSummary summarize(SnapshotScope scope, String snapshotId, JsonNode payload) {
+        LocalDate fromDate = LocalDate.parse(payload.path("fromDate").asText());
+        LocalDate toDate = LocalDate.parse(payload.path("toDate").asText());
+        LocalDateTime generatedAt = payload.path("generatedAt").isTextual()
+                ? LocalDateTime.parse(payload.path("generatedAt").asText())
+                : null;
+        if (scope == SnapshotScope.GENERAL) {
+            JsonNode kpi = payload.path("kpi");
+            return new StatsSnapshotSummary(
+                    snapshotId,
+                    fromDate,
+                    toDate,
+                    generatedAt,
+                    decimal(kpi.path("transactionCount")),
+                    decimal(kpi.path("totalAmount")),
+                    decimal(kpi.path("averageAmount")),
+                    decimal(kpi.path("detectedCount")),
+                    decimal(kpi.path("detectedRate")),
+                    decimal(kpi.path("fraudCount")),
+                    decimal(kpi.path("fraudRate")),
+                    decimal(kpi.path("averageFraudProbability")),
+                    decimal(kpi.path("medianFraudProbability")),
+                    null,
+                    null
+            );
+        }
+        JsonNode dashboard = payload.path("dashboard");
+        JsonNode transactions = dashboard.path("transactions");
+        JsonNode detections = dashboard.path("detections");
+        return new StatsSnapshotSummary(
+                snapshotId,
+                fromDate,
+                toDate,
+                generatedAt,
+                decimal(transactions.path("totalTransactions")),
+                decimal(transactions.path("amountSummary").path("total")),
+                decimal(transactions.path("amountSummary").path("average")),
+                decimal(detections.path("detectionCount")),
+                decimal(detections.path("detectionCoverage")),
+                decimal(detections.path("fraudCount")),
+                decimal(detections.path("fraudRate")),
+                null,
+                null,
+                decimal(dashboard.path("fraudReports").path("totalReports")),
+                decimal(dashboard.path("blacklist").path("totalBlacklist"))
+        );
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        if (node.isNumber()) {
+            return node.decimalValue();
+        }
+        if (node.isTextual() && !node.asText().isBlank()) {
+            return new BigDecimal(node.asText());
+        }
+        return null;
+    }
+
+    /**
+     * 일반 스냅샷을 주기별 보관 기간에 따라 정리한다.
+     * 파일 수정 시각은 재생성/병합 때 바뀌므로 스냅샷 기간의 종료일을 기준으로 판단한다.
+     */
+    private void cleanupOldGeneralSnapshots() {
+        LocalDate today = LocalDate.now(SNAPSHOT_ZONE);
+        for (SnapshotTier tier : SnapshotTier.values()) {
+            LocalDate cutoff = today.minusDays(statsSnapshotProperties.retentionDays(tier));
+            Path directory = resolveDirectory(tier, SnapshotScope.GENERAL);
+            for (StatsSnapshotMetadataDTO metadata : listSnapshots(tier, SnapshotScope.GENERAL)) {
+                if (!metadata.toDate().isBefore(cutoff)) {
+                    continue;
                 }
-            });
-        } catch (IOException ex) {
-            throw new IllegalStateException("Failed to cleanup old snapshots", ex);
+                try {
+                    Files.deleteIfExists(directory.resolve(metadata.filename()));
+                } catch (IOException ex) {
+                    throw new IllegalStateException("Failed to cleanup old snapshots", ex);
+                }
+            }
         }
     }
 
@@ -304,18 +525,26 @@ public class StatsSnapshotService {
         return new StatsDateRange(lastMonday, lastSunday);
     }
 
-    private Path resolveDirectory(SnapshotScope scope) {
-        return Path.of(statsSnapshotProperties.getBasePath(), "weekly", scope.directoryName());
+    private Path resolveDirectory(SnapshotTier tier, SnapshotScope scope) {
+        return Path.of(statsSnapshotProperties.getBasePath(), tier.directoryName(), scope.directoryName());
+    }
+
+    private Path resolveSummaryLogPath(SnapshotTier tier, SnapshotScope scope) {
+        return resolveDirectory(tier, scope).resolve(SUMMARY_LOG_FILENAME);
     }
 
     private Path resolveSnapshotPath(SnapshotScope scope, StatsDateRange range) {
+        return resolveSnapshotPath(SnapshotTier.WEEKLY, scope, range);
+    }
+
+    private Path resolveSnapshotPath(SnapshotTier tier, SnapshotScope scope, StatsDateRange range) {
         String snapshotId = formatSnapshotId(range.fromDate(), range.toDate());
-        return resolveSnapshotPath(scope, snapshotId);
+        return resolveSnapshotPath(tier, scope, snapshotId);
     }
 
-    private Path resolveSnapshotPath(SnapshotScope scope, String snapshotId) {
+    private Path resolveSnapshotPath(SnapshotTier tier, SnapshotScope scope, String snapshotId) {
         String filename = snapshotId + scope.fileSuffix() + ".json";
-        return resolveDirectory(scope).resolve(filename);
+        return resolveDirectory(tier, scope).resolve(filename);
     }
 
     /**
@@ -338,7 +567,7 @@ public class StatsSnapshotService {
      * 스냅샷 ID 패턴(YYYY_MMDD_YYYY_MMDD)에서 날짜 범위를 추출하고,
      * 파일 수정 시간을 생성 시각으로 사용한다.
      */
-    private java.util.Optional<StatsSnapshotMetadataDTO> parseMetadata(SnapshotScope scope, Path path) {
+    java.util.Optional<StatsSnapshotMetadataDTO> parseMetadata(SnapshotScope scope, Path path) {
         String filename = path.getFileName().toString();
         String snapshotId = filename;
         if (snapshotId.endsWith(".json")) {
@@ -383,27 +612,133 @@ public class StatsSnapshotService {
         ));
     }
 
-    private long queryLong(String sql, MapSqlParameterSource params) {
-        Long value = jdbcTemplate.queryForObject(sql, params, Long.class);
-        return value == null ? 0L : value;
-    }
-
-    private BigDecimal queryDecimal(String sql, MapSqlParameterSource params) {
-        return jdbcTemplate.queryForObject(sql, params, BigDecimal.class);
+    /**
+     * 하위 주기 일반 스냅샷에서 기간에 속한 일별 상태를 모은다. 같은 날짜가 여러 스냅샷에 있으면 최근에 만든 것을 쓴다.
+     * 일별 상태가 없는 예전 스냅샷이나 히스토그램 구간 수가 다른 스냅샷은 건너뛴다.
+     */
+    private List<String> collectDayStates(
+            SnapshotTier sourceTier,
+            StatsDateRange range,
+            Map<LocalDate, SnapshotDayState> days
+    ) {
+        List<StatsSnapshotMetadataDTO> candidates = new ArrayList<>(listSnapshots(sourceTier, SnapshotScope.GENERAL));
+        candidates.removeIf(metadata -> metadata.toDate().isBefore(range.fromDate())
+                || metadata.fromDate().isAfter(range.toDate()));
+        candidates.sort(Comparator.comparing(StatsSnapshotMetadataDTO::generatedAt,
+                Comparator.nullsFirst(Comparator.naturalOrder())).reversed());
+        List<String> sources = new ArrayList<>();
+        for (StatsSnapshotMetadataDTO metadata : candidates) {
+            JsonNode state;
+            try {
+                state = objectMapper.readTree(resolveDirectory(sourceTier, SnapshotScope.GENERAL)
+                        .resolve(metadata.filename()).toFile()).path("state");
+            } catch (IOException ex) {
+                throw new IllegalStateException("Failed to read snapshot file", ex);
+            }
+            if (state.path("probabilityBins").asInt() != SnapshotDayState.PROBABILITY_BINS) {
+                continue;
+            }
+            boolean used = false;
+            for (JsonNode dayNode : state.path("days")) {
+                SnapshotDayState day;
+                try {
+                    day = objectMapper.treeToValue(dayNode, SnapshotDayState.class);
+                } catch (IOException ex) {
+                    throw new IllegalStateException("Failed to read snapshot state", ex);
+                }
+                if (!day.date().isBefore(range.fromDate()) && !day.date().isAfter(range.toDate())
+                        && days.putIfAbsent(day.date(), day) == null) {
+                    used = true;
+                }
+            }
+            if (used) {
+                sources.add(metadata.snapshotId());
+            }
+        }
+        sources.sort(Comparator.naturalOrder());
+        return sources;
     }
 
-    private Double queryDouble(MapSqlParameterSource params) {
-        return jdbcTemplate.queryForObject("""
-                SELECT AVG(d.FRAUD_PROBABILITY)
-                FROM FRAUD_DETECTION_RESULTS d
-                JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
-                WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
-                """, params, Double.class);
+    private static Map<String, Object> statePayload(List<SnapshotDayState> days) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("probabilityBins", SnapshotDayState.PROBABILITY_BINS);
+        state.put("days", days);
+        return state;
     }
 
-    private LocalDateTime queryTimestamp(String sql, MapSqlParameterSource params) {
-        Timestamp value = jdbcTemplate.queryForObject(sql, params, Timestamp.class);
-        return value == null ? null : value.toLocalDateTime();
+    /**
+     * 주간 범위의 일별 상태를 거래 1회, 탐지 1회 조회로 만든다. 거래가 없는 날도 빈 상태로 포함한다.
+     * 탐지는 거래일 기준으로 묶어 주간 KPI의 탐지 건수와 같은 기준을 쓴다.
+     */
+    private List<SnapshotDayState> queryDayStates(StatsDateRange range, MapSqlParameterSource params) {
+        Map<LocalDate, DayStateAccumulator> days = new HashMap<>();
+        for (LocalDate date = range.fromDate(); !date.isAfter(range.toDate()); date = date.plusDays(1)) {
+            days.put(date, new DayStateAccumulator(date));
+        }
+        jdbcTemplate.query("""
+                SELECT TRUNC(TX_TIMESTAMP) AS KEY_DATE,
+                       COUNT(*) AS TX_COUNT,
+                       NVL(SUM(TX_AMOUNT), 0) AS TOTAL_AMOUNT,
+                       COUNT(TX_AMOUNT) AS AMOUNT_COUNT,
+                       MAX(TX_TIMESTAMP) AS LATEST_TX_AT
+                FROM TRANSACTIONS
+                WHERE TX_TIMESTAMP >= :fromTs AND TX_TIMESTAMP < :toTs
+                GROUP BY TRUNC(TX_TIMESTAMP)
+                """, params, rs -> {
+            DayStateAccumulator day = days.get(rs.getTimestamp("KEY_DATE").toLocalDateTime().toLocalDate());
+            if (day == null) {
+                return;
+            }
+            day.transactionCount = rs.getLong("TX_COUNT");
+            day.totalAmount = rs.getBigDecimal("TOTAL_AMOUNT");
+            day.amountCount = rs.getLong("AMOUNT_COUNT");
+            Timestamp latest = rs.getTimestamp("LATEST_TX_AT");
+            day.latestTransactionAt = latest == null ? null : latest.toLocalDateTime();
+        });
+        jdbcTemplate.query("""
+                SELECT KEY_DATE,
+                       PROBABILITY_BIN,
+                       COUNT(*) AS DETECTED_COUNT,
+                       SUM(FRAUD_FLAG) AS FRAUD_COUNT,
+                       NVL(SUM(FRAUD_PROBABILITY), 0) AS PROBABILITY_SUM,
+                       MAX(DETECTED_AT) AS LATEST_DETECTION_AT
+                FROM (
+                    SELECT TRUNC(t.TX_TIMESTAMP) AS KEY_DATE,
+                           CASE
+                               WHEN d.FRAUD_PROBABILITY IS NULL THEN -1
+                               ELSE GREATEST(LEAST(FLOOR(d.FRAUD_PROBABILITY * %d), %d), 0)
+                           END AS PROBABILITY_BIN,
+                           CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END AS FRAUD_FLAG,
+                           d.FRAUD_PROBABILITY,
+                           d.DETECTED_AT
+                    FROM FRAUD_DETECTION_RESULTS d
+                    JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
+                    WHERE t.TX_TIMESTAMP >= :fromTs AND t.TX_TIMESTAMP < :toTs
+                )
+                GROUP BY KEY_DATE, PROBABILITY_BIN
+                """.formatted(SnapshotDayState.PROBABILITY_BINS, SnapshotDayState.PROBABILITY_BINS - 1), params, rs -> {
+            DayStateAccumulator day = days.get(rs.getTimestamp("KEY_DATE").toLocalDateTime().toLocalDate());
+            if (day == null) {
+                return;
+            }
+            long detected = rs.getLong("DETECTED_COUNT");
+            day.detectedCount += detected;
+            day.fraudCount += rs.getLong("FRAUD_COUNT");
+            day.probabilitySum += rs.getDouble("PROBABILITY_SUM");
+            int bin = rs.getInt("PROBABILITY_BIN");
+            if (bin >= 0) {
+                day.probabilityHistogram[bin] += detected;
+            }
+            Timestamp latest = rs.getTimestamp("LATEST_DETECTION_AT");
+            if (latest != null
+                    && (day.latestDetectionAt == null || latest.toLocalDateTime().isAfter(day.latestDetectionAt))) {
+                day.latestDetectionAt = latest.toLocalDateTime();
+            }
+        });
+        return days.values().stream()
+                .map(DayStateAccumulator::toState)
+                .sorted(Comparator.comparing(SnapshotDayState::date))
+                .toList();
     }
 
     /**
@@ -419,27 +754,40 @@ public class StatsSnapshotService {
                   AND d.FRAUD_PROBABILITY IS NOT NULL
                 ORDER BY d.FRAUD_PROBABILITY
                 """, params, (rs, rowNum) -> rs.getDouble(1));
-        if (values.isEmpty()) {
-            return null;
-        }
-        int size = values.size();
-        // 홀수 개: 정확히 가운데 값 반환
-        if (size % 2 == 1) {
-            return values.get(size / 2);
-        }
-        // 짝수 개: 중앙 두 값의 평균 반환
-        double lower = values.get(size / 2 - 1);
-        double upper = values.get(size / 2);
-        return (lower + upper) / 2.0;
+        return StatsDashboardSupport.median(values);
     }
 
-    private BigDecimal safeRate(long numerator, long denominator) {
-        if (denominator <= 0) {
-            return BigDecimal.ZERO;
+    private record SnapshotResult(String filename) { }
+
+    private static final class DayStateAccumulator {
+        private final LocalDate date;
+        private final long[] probabilityHistogram = new long[SnapshotDayState.PROBABILITY_BINS];
+        private long transactionCount;
+        private BigDecimal totalAmount = BigDecimal.ZERO;
+        private long amountCount;
+        private long detectedCount;
+        private long fraudCount;
+        private double probabilitySum;
+        private LocalDateTime latestTransactionAt;
+        private LocalDateTime latestDetectionAt;
+
+        private DayStateAccumulator(LocalDate date) {
+            this.date = date;
         }
-        return BigDecimal.valueOf(numerator)
-                .divide(BigDecimal.valueOf(denominator), 4, java.math.RoundingMode.HALF_UP);
-    }
 
-    private record SnapshotResult(String filename) { }
+        private SnapshotDayState toState() {
+            return new SnapshotDayState(
+                    date,
+                    transactionCount,
+                    totalAmount,
+                    amountCount,
+                    detectedCount,
+                    fraudCount,
+                    probabilitySum,
+                    probabilityHistogram,
+                    latestTransactionAt,
+                    latestDetectionAt
+            );
+        }
+    }
 }
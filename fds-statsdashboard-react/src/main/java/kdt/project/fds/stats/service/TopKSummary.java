@@ -0,0 +1,74 @@
+package kdt.project.fds.stats.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이 파일은 합칠 수 있는 상위 항목 요약 파일이다.
+ * 파티션마다 값이 큰 후보 몇 개만 가져오므로, 어떤 파티션에서 후보에 들지 못한 키는 그 파티션의 마지막 후보 값 이하만큼 덜 세어진다.
+ * 잘린 파티션의 마지막 후보 값을 errorBound에 더해 두면 합친 값은 실제 값의 하한이고, 실제 값은 하한 + errorBound를 넘지 않는다.
+ * 캐시된 파티션 결과를 공유하므로 merge는 인자를 바꾸지 않고 자기 자신에만 더한다.
+ */
+final class TopKSummary {
+    private static final Comparator<Map.Entry<String, BigDecimal>> BY_VALUE_DESC =
+            Map.Entry.<String, BigDecimal>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.nullsLast(Comparator.naturalOrder())));
+
+    private final Map<String, BigDecimal> values = new HashMap<>();
+    private BigDecimal errorBound = BigDecimal.ZERO;
+
+    /**
+     * 값이 큰 순서로 정렬된 파티션 후보 목록으로 요약을 만든다. 후보가 candidates개로 꽉 찼으면 잘린 것으로 본다.
+     */
+    static TopKSummary ofCandidates(Map<String, BigDecimal> sortedCandidates, int candidates) {
+        TopKSummary summary = new TopKSummary();
+        BigDecimal last = BigDecimal.ZERO;
+        for (Map.Entry<String, BigDecimal> entry : sortedCandidates.entrySet()) {
+            summary.values.merge(entry.getKey(), entry.getValue(), BigDecimal::add);
+            last = entry.getValue();
+        }
+        if (sortedCandidates.size() >= candidates) {
+            summary.errorBound = last;
+        }
+        return summary;
+    }
+
+    void merge(TopKSummary other) {
+        other.values.forEach((key, value) -> values.merge(key, value, BigDecimal::add));
+        errorBound = errorBound.add(other.errorBound);
+    }
+
+    /**
+     * 값이 큰 순서로 k개를 반환한다. 값이 같으면 키 순서를 따른다.
+     */
+    List<Map.Entry<String, BigDecimal>> top(int k) {
+        List<Map.Entry<String, BigDecimal>> entries = new ArrayList<>(values.entrySet());
+        entries.sort(BY_VALUE_DESC);
+        return entries.subList(0, Math.min(k, entries.size()));
+    }
+
+    /**
+     * 상위 k개의 구성이 보장되는지 반환한다. k번째 하한이 k+1번째 이후 어떤 키의 상한보다도 크거나 같아야 한다.
+     * 후보에 한 번도 들지 못한 키의 상한은 errorBound이다.
+     */
+    boolean isExact(int k) {
+        if (errorBound.signum() == 0) {
+            return true;
+        }
+        List<Map.Entry<String, BigDecimal>> entries = top(k + 1);
+        if (entries.size() < k) {
+            return false;
+        }
+        BigDecimal kth = entries.get(k - 1).getValue();
+        BigDecimal next = entries.size() > k ? entries.get(k).getValue() : BigDecimal.ZERO;
+        return kth.compareTo(next.add(errorBound)) >= 0;
+    }
+
+    BigDecimal errorBound() {
+        return errorBound;
+    }
+}
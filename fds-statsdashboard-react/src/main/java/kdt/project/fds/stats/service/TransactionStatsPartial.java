@@ -0,0 +1,57 @@
+package kdt.project.fds.stats.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 이 파일은 거래 섹션 부분 집계 파일이다.
+ * 파티션 하나의 거래 건수, 금액 합계와 금액이 있는 건수, 필드별 누락 건수, 일자/시간대/유형별 건수, 상위 항목 요약을 담는다.
+ * 모든 값이 더해서 합칠 수 있는 형태이므로 파티션 결과를 순서와 관계없이 하나로 합칠 수 있다.
+ * 평균 금액은 합계와 건수에서 마지막에 한 번만 계산한다.
+ */
+final class TransactionStatsPartial {
+    // 누락 건수와 상위 값을 따로 집계하는 거래 필드이다.
+    static final String[] FIELD_COLUMNS = {"MERCHANT_NAME", "LOCATION", "TARGET_ACCOUNT_NUMBER", "DESCRIPTION"};
+
+    long transactions;
+    long amountCount;
+    BigDecimal amountSum = BigDecimal.ZERO;
+    final long[] missing = new long[FIELD_COLUMNS.length];
+    final Map<LocalDate, Long> daily = new TreeMap<>();
+    final Map<Integer, Long> hourly = new TreeMap<>();
+    final Map<String, Long> types = new LinkedHashMap<>();
+    final TopKSummary[] fieldTopValues = new TopKSummary[FIELD_COLUMNS.length];
+    TopKSummary topAccountsByCount = new TopKSummary();
+    TopKSummary topAccountsByAmount = new TopKSummary();
+    TopKSummary topUsersByCount = new TopKSummary();
+    TopKSummary topUsersByAmount = new TopKSummary();
+
+    TransactionStatsPartial() {
+        for (int i = 0; i < fieldTopValues.length; i++) {
+            fieldTopValues[i] = new TopKSummary();
+        }
+    }
+
+    /**
+     * 다른 파티션 결과를 이 객체에 더한다. 인자는 바꾸지 않는다.
+     */
+    void merge(TransactionStatsPartial other) {
+        transactions += other.transactions;
+        amountCount += other.amountCount;
+        amountSum = amountSum.add(other.amountSum);
+        for (int i = 0; i < missing.length; i++) {
+            missing[i] += other.missing[i];
+            fieldTopValues[i].merge(other.fieldTopValues[i]);
+        }
+        other.daily.forEach((key, value) -> daily.merge(key, value, Long::sum));
+        other.hourly.forEach((key, value) -> hourly.merge(key, value, Long::sum));
+        other.types.forEach((key, value) -> types.merge(key, value, Long::sum));
+        topAccountsByCount.merge(other.topAccountsByCount);
+        topAccountsByAmount.merge(other.topAccountsByAmount);
+        topUsersByCount.merge(other.topUsersByCount);
+        topUsersByAmount.merge(other.topUsersByAmount);
+    }
+}
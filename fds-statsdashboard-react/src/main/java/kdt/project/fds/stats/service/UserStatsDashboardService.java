@@ -336,15 +336,6 @@ public class UserStatsDashboardService extends StatsDashboardSupport {
                   AND d.FRAUD_PROBABILITY IS NOT NULL
                 ORDER BY d.FRAUD_PROBABILITY
                 """, params, (rs, rowNum) -> rs.getDouble(1));
-        if (values.isEmpty()) {
-            return null;
-        }
-        int size = values.size();
-        if (size % 2 == 1) {
-            return values.get(size / 2);
-        }
-        double lower = values.get(size / 2 - 1);
-        double upper = values.get(size / 2);
-        return (lower + upper) / 2.0;
+        return median(values);
     }
 }
@@ -0,0 +1,29 @@
+package kdt.project.fds.stats.vo;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.MediaType;
+
+/**
+ * 이 파일은 코드북 내보내기 형식을 구분하는 열거형 파일이다.
+ * 형식별 응답 Content-Type과 파일 확장자를 제공한다.
+ */
+public enum CodebookExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    JSON(MediaType.APPLICATION_JSON, "json");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    CodebookExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,10 @@
+package kdt.project.fds.stats.vo;
+
+/**
+ * 이 파일은 코드북 일괄 등록 방식을 구분하는 열거형 파일이다.
+ * UPSERT는 기존 코드를 갱신하고, INSERT_ONLY는 기존 코드를 충돌로 보고한다.
+ */
+public enum CodebookImportMode {
+    UPSERT,
+    INSERT_ONLY
+}
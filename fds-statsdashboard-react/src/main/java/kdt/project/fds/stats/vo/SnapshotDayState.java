@@ -0,0 +1,26 @@
+package kdt.project.fds.stats.vo;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 이 파일은 스냅샷에 함께 저장하는 일별 집계 상태 레코드 파일이다.
+ * 건수/합계/최신 시각과 사기 확률 히스토그램처럼 더해서 합칠 수 있는 값만 담아,
+ * 월간/분기 스냅샷을 DB 조회 없이 주간 스냅샷의 일별 상태를 합쳐 만들 수 있게 한다.
+ * 히스토그램은 [0, 1]을 PROBABILITY_BINS개 구간으로 나눈 건수이며, 확률이 없는 탐지는 세지 않는다.
+ */
+public record SnapshotDayState(
+        LocalDate date,
+        long transactionCount,
+        BigDecimal totalAmount,
+        long amountCount,
+        long detectedCount,
+        long fraudCount,
+        double probabilitySum,
+        long[] probabilityHistogram,
+        LocalDateTime latestTransactionAt,
+        LocalDateTime latestDetectionAt
+) {
+    public static final int PROBABILITY_BINS = 200;
+}
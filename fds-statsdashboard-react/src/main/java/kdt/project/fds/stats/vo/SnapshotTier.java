@@ -0,0 +1,65 @@
+package kdt.project.fds.stats.vo;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * 이 파일은 스냅샷 주기(tier)를 구분하는 열거형 파일이다.
+ * 주간 스냅샷만 DB에서 집계하고, 월간은 주간의, 분기는 월간의 일별 상태를 합쳐 만든다.
+ */
+public enum SnapshotTier {
+    WEEKLY("weekly", null),
+    MONTHLY("monthly", WEEKLY),
+    QUARTERLY("quarterly", MONTHLY);
+
+    private final String directoryName;
+    private final SnapshotTier source;
+
+    SnapshotTier(String directoryName, SnapshotTier source) {
+        this.directoryName = directoryName;
+        this.source = source;
+    }
+
+    public String directoryName() {
+        return directoryName;
+    }
+
+    /**
+     * 병합할 때 일별 상태를 읽어 올 하위 주기이다. 주간은 DB에서 집계하므로 null이다.
+     */
+    public SnapshotTier source() {
+        return source;
+    }
+
+    /**
+     * 기준일이 속한 월/분기 범위를 반환한다. 주간은 병합 대상이 아니므로 지원하지 않는다.
+     */
+    public StatsDateRange periodContaining(LocalDate date) {
+        return switch (this) {
+            case MONTHLY -> new StatsDateRange(
+                    date.withDayOfMonth(1),
+                    date.with(TemporalAdjusters.lastDayOfMonth())
+            );
+            case QUARTERLY -> {
+                LocalDate start = LocalDate.of(date.getYear(), (date.getMonthValue() - 1) / 3 * 3 + 1, 1);
+                yield new StatsDateRange(start, start.plusMonths(3).minusDays(1));
+            }
+            case WEEKLY -> throw new IllegalStateException("Weekly snapshots are not merged");
+        };
+    }
+
+    /**
+     * 요청 파라미터 값을 대소문자 구분 없이 변환한다. 비어 있으면 WEEKLY, 알 수 없는 값이면 null을 반환한다.
+     */
+    public static SnapshotTier fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return WEEKLY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package kdt.project.fds.stats.vo;
+
+import java.util.Locale;
+
+/**
+ * 이 파일은 관리자 대시보드 집계 정확도 열거형 파일이다.
+ * EXACT는 기간 전체를 집계하고, APPROXIMATE는 거래 표본으로 추정한 값과 신뢰구간을 함께 반환한다.
+ */
+public enum StatsAccuracy {
+    EXACT,
+    APPROXIMATE;
+
+    /**
+     * 요청 파라미터 값을 대소문자 구분 없이 변환한다. 비어 있으면 EXACT, 알 수 없는 값이면 null을 반환한다.
+     */
+    public static StatsAccuracy fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package kdt.project.fds.stats.vo;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이 파일은 스냅샷 요약 레코드 파일이다.
+ * 스냅샷 하나의 KPI를 고정된 필드로 담아 스코프별 요약 로그에 한 줄로 저장한다.
+ * 스코프마다 채우지 못하는 지표(예: 관리자 스냅샷의 중앙 사기 확률)는 null이다.
+ */
+public record StatsSnapshotSummary(
+        String snapshotId,
+        LocalDate fromDate,
+        LocalDate toDate,
+        LocalDateTime generatedAt,
+        BigDecimal transactionCount,
+        BigDecimal totalAmount,
+        BigDecimal averageAmount,
+        BigDecimal detectedCount,
+        BigDecimal detectedRate,
+        BigDecimal fraudCount,
+        BigDecimal fraudRate,
+        BigDecimal averageFraudProbability,
+        BigDecimal medianFraudProbability,
+        BigDecimal reportCount,
+        BigDecimal blacklistCount
+) {
+    /**
+     * 시계열 조회에 쓸 수 있는 지표 이름 목록이다.
+     */
+    public static final List<String> METRICS = List.of(
+            "transactionCount",
+            "totalAmount",
+            "averageAmount",
+            "detectedCount",
+            "detectedRate",
+            "fraudCount",
+            "fraudRate",
+            "averageFraudProbability",
+            "medianFraudProbability",
+            "reportCount",
+            "blacklistCount"
+    );
+
+    /**
+     * 지표 이름에 해당하는 값을 반환한다. 목록에 없는 이름이면 IllegalArgumentException을 던진다.
+     */
+    public BigDecimal metric(String name) {
+        return switch (name) {
+            case "transactionCount" -> transactionCount;
+            case "totalAmount" -> totalAmount;
+            case "averageAmount" -> averageAmount;
+            case "detectedCount" -> detectedCount;
+            case "detectedRate" -> detectedRate;
+            case "fraudCount" -> fraudCount;
+            case "fraudRate" -> fraudRate;
+            case "averageFraudProbability" -> averageFraudProbability;
+            case "medianFraudProbability" -> medianFraudProbability;
+            case "reportCount" -> reportCount;
+            case "blacklistCount" -> blacklistCount;
+            default -> throw new IllegalArgumentException("Unknown snapshot metric: " + name);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package kdt.project.fds.stats.vo;
+
+/**
+ * 이 파일은 비용이 큰 통계 엔드포인트의 트래픽 분류 열거형 파일이다.
+ * 분류마다 동시 실행 한도와 사용자별 요청률 한도를 따로 두어 서로의 용량을 침범하지 않도록 한다.
+ */
+public enum StatsTrafficClass {
+    ADMIN_DASHBOARD("admin-dashboard"),
+    SNAPSHOT_GENERATE("snapshot-generate"),
+    USER_DASHBOARD("user-dashboard"),
+    DETECTION_BACKTEST("detection-backtest"),
+    TRANSFER_GRAPH("transfer-graph");
+
+    private final String tag;
+
+    StatsTrafficClass(String tag) {
+        this.tag = tag;
+    }
+
+    // 메트릭 태그와 설정 키에 사용하는 이름을 반환한다.
+    public String tag() {
+        return tag;
+    }
+}
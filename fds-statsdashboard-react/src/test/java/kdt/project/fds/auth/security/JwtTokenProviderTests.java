@@ -0,0 +1,78 @@
+package kdt.project.fds.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import kdt.project.fds.auth.config.SecurityProperties;
+import kdt.project.fds.users.security.UserPrincipal;
+import kdt.project.fds.users.security.UserRole;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 이 파일은 JWT 토큰 제공자 테스트 파일이다.
+ * 단일 파싱 경로와 검증 토큰 캐시의 동작을 확인한다.
+ */
+class JwtTokenProviderTests {
+    private static final String SECRET = "unit-test-secret-key-with-at-least-32-bytes";
+
+    @Test
+    void resolvesPrincipalAndServesRepeatedTokensFromCache() {
+        JwtTokenProvider provider = new JwtTokenProvider(properties(100));
+        String token = provider.createToken(new UserPrincipal(7L, "tester", "", UserRole.ADMIN));
+
+        UserPrincipal first = provider.resolvePrincipal(token).orElseThrow();
+        UserPrincipal second = provider.resolvePrincipal(token).orElseThrow();
+
+        assertThat(first.getUserId()).isEqualTo(7L);
+        assertThat(first.getUsername()).isEqualTo("tester");
+        assertThat(first.getRole()).isEqualTo(UserRole.ADMIN);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void rejectsTamperedAndBlankTokens() {
+        JwtTokenProvider provider = new JwtTokenProvider(properties(100));
+        String token = provider.createToken(new UserPrincipal(7L, "tester", "", UserRole.USER));
+        provider.resolvePrincipal(token);
+
+        assertThat(provider.resolvePrincipal(token.substring(0, token.length() - 2) + "xx")).isEmpty();
+        assertThat(provider.resolvePrincipal("")).isEmpty();
+        assertThat(provider.resolvePrincipal("not-a-jwt")).isEmpty();
+    }
+
+    @Test
+    void cacheIgnoresExpiredEntriesAndRespectsCapacity() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(1);
+        UserPrincipal principal = new UserPrincipal(1L, "tester", "", UserRole.USER);
+
+        cache.put("a", principal, 2_000L, 1_000L);
+        assertThat(cache.get("a", 1_500L)).isSameAs(principal);
+        assertThat(cache.get("a", 2_000L)).isNull();
+
+        cache.put("b", principal, 3_000L, 2_000L);
+        assertThat(cache.get("b", 2_500L)).isSameAs(principal);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void cacheEvictsLeastRecentlyUsedTokenWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        UserPrincipal principal = new UserPrincipal(1L, "tester", "", UserRole.USER);
+
+        cache.put("a", principal, 5_000L, 1_000L);
+        cache.put("b", principal, 5_000L, 1_000L);
+        assertThat(cache.get("a", 1_100L)).isSameAs(principal);
+        cache.put("c", principal, 5_000L, 1_200L);
+
+        assertThat(cache.get("b", 1_300L)).isNull();
+        assertThat(cache.get("a", 1_300L)).isSameAs(principal);
+        assertThat(cache.get("c", 1_300L)).isSameAs(principal);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private static SecurityProperties properties(int cacheSize) {
+        SecurityProperties properties = new SecurityProperties();
+        properties.getJwt().setSecret(SECRET);
+        properties.getJwt().setVerifiedCacheSize(cacheSize);
+        return properties;
+    }
+}
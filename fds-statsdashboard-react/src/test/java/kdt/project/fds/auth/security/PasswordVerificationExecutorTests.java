@@ -0,0 +1,72 @@
+package kdt.project.fds.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kdt.project.fds.auth.config.SecurityProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 이 파일은 로그인 비밀번호 검증 작업 풀 테스트 파일이다.
+ * 대기열이 가득 찼을 때 429와 Retry-After로 즉시 거절하는지와 메트릭 기록을 확인한다.
+ */
+class PasswordVerificationExecutorTests {
+
+    @Test
+    void rejectsWithRetryAfterWhenQueueIsFull() throws Exception {
+        SecurityProperties properties = new SecurityProperties();
+        properties.getLogin().setPasswordWorkers(1);
+        properties.getLogin().setPasswordQueueCapacity(1);
+        properties.getLogin().setRetryAfterSeconds(3);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordVerificationExecutor executor = new PasswordVerificationExecutor(properties, registry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AuthenticationManager blocking = request -> {
+            started.countDown();
+            await(release);
+            return request;
+        };
+        Authentication request = new UsernamePasswordAuthenticationToken("tester", "pw");
+
+        try {
+            CompletableFuture<Authentication> running = executor.authenticate(blocking, request);
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<Authentication> queued = executor.authenticate(blocking, request);
+            assertThat(registry.get("fds.auth.password.queue.depth").gauge().value()).isEqualTo(1.0);
+
+            assertThatThrownBy(() -> executor.authenticate(blocking, request))
+                    .isInstanceOfSatisfying(LoginOverloadedException.class, ex -> {
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                        assertThat(ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+                    });
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isSameAs(request);
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isSameAs(request);
+            assertThat(registry.get("fds.auth.password.rejected").counter().count()).isEqualTo(1.0);
+            assertThat(registry.get("fds.auth.password.verification").timer().count()).isEqualTo(2L);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
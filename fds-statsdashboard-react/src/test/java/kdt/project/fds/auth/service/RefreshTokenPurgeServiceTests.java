@@ -0,0 +1,80 @@
+package kdt.project.fds.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 이 파일은 리프레시 토큰 정리 서비스 테스트 파일이다.
+ * 작은 배치 크기로 만료 토큰과 보관 기간이 지난 폐기 토큰만 삭제되는지와 배치 지표 기록을 H2에서 확인한다.
+ */
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fds-refresh-purge;MODE=Oracle;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "fds.security.refresh-purge.batch-size=7",
+        "fds.security.refresh-purge.pause-millis=1",
+        "fds.security.refresh-purge.revoked-retention-days=7"
+})
+class RefreshTokenPurgeServiceTests {
+    @Autowired
+    private RefreshTokenPurgeService purgeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void deletesExpiredAndOldRevokedTokensInBatches() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 3, 0);
+        long id = 1;
+        // 1~20: 만료, 21~30: 유효, 31~35: 보관 기간 지난 폐기, 36~40: 최근 폐기
+        for (int i = 0; i < 20; i++) {
+            insert(id++, now.minusDays(1), null);
+        }
+        for (int i = 0; i < 10; i++) {
+            insert(id++, now.plusDays(1), null);
+        }
+        for (int i = 0; i < 5; i++) {
+            insert(id++, now.plusDays(1), now.minusDays(8));
+        }
+        for (int i = 0; i < 5; i++) {
+            insert(id++, now.plusDays(1), now.minusDays(1));
+        }
+
+        RefreshTokenPurgeService.PurgeResult result = purgeService.purge(now);
+
+        assertThat(result.deletedRows()).isEqualTo(25);
+        assertThat(result.batches()).isEqualTo(4);
+        List<Long> remaining = jdbcTemplate.queryForList(
+                "SELECT REFRESH_TOKEN_ID FROM REFRESH_TOKENS ORDER BY REFRESH_TOKEN_ID", Long.class
+        );
+        assertThat(remaining).hasSize(15);
+        assertThat(remaining).allMatch(remainingId -> (remainingId >= 21 && remainingId <= 30) || remainingId >= 36);
+        assertThat(meterRegistry.get("fds.auth.refresh-token.purge.batch").timer().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("fds.auth.refresh-token.purge.rows").counter().count()).isEqualTo(25.0);
+
+        assertThat(purgeService.purge(now).deletedRows()).isZero();
+    }
+
+    private void insert(long id, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO REFRESH_TOKENS (REFRESH_TOKEN_ID, USER_ID, TOKEN_HASH, EXPIRES_AT, CREATED_AT, REVOKED_AT)
+                VALUES (?, 1, ?, ?, ?, ?)
+                """,
+                id,
+                "hash-" + id,
+                Timestamp.valueOf(expiresAt),
+                Timestamp.valueOf(expiresAt.minusDays(14)),
+                revokedAt == null ? null : Timestamp.valueOf(revokedAt));
+    }
+}
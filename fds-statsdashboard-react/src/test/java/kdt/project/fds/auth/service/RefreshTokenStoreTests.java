@@ -0,0 +1,165 @@
+package kdt.project.fds.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import kdt.project.fds.perf.QueryCounter;
+import kdt.project.fds.perf.QueryCountingDataSourcePostProcessor;
+import kdt.project.fds.users.security.UserPrincipal;
+import kdt.project.fds.users.security.UserRole;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 리프레시 토큰 저장소 계층 테스트 파일이다.
+ * 캐시 적중 시 회전 쿼리 수, 유예 시간 내 동일 후속 토큰 응답과 이후 재사용 거부, 동시 회전 직렬화,
+ * 로그아웃 시 계열 전체의 유예 종료, 사용 기록 지연 저장을 H2에서 확인한다.
+ */
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fds-refresh;MODE=Oracle;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "fds.security.refresh-cache.write-behind-interval-millis=600000",
+        "fds.security.refresh-cache.rotation-grace-millis=5000"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import(RefreshTokenStoreTests.QueryCountingConfig.class)
+class RefreshTokenStoreTests {
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private RefreshTokenUsageWriter usageWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void insertUser() {
+        jdbcTemplate.update("""
+                INSERT INTO USERS (ID, USER_ID, USER_PW, NAME, ROLE, CREATED_AT)
+                VALUES (?, 'tester', 'pw', 'Tester', 'USER', ?)
+                """, USER_ID, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Test
+    void rotatesCachedTokenWithoutReadsAndRejectsReuseAfterGrace() {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshTokenStore.IssuedToken issued = refreshTokenStore.issue(principal(), "agent", "127.0.0.1", now);
+
+        QueryCounter.reset();
+        RefreshTokenStore.IssuedToken rotated = refreshTokenStore.rotate(issued.rawToken(), "agent-2", "10.0.0.1", now);
+        // 시퀀스 채번 + 조건부 UPDATE + INSERT
+        assertThat(QueryCounter.current()).isLessThanOrEqualTo(3);
+        assertThat(rotated.principal().getUsername()).isEqualTo("tester");
+
+        QueryCounter.reset();
+        RefreshTokenStore.IssuedToken replayed =
+                refreshTokenStore.rotate(issued.rawToken(), "agent", "127.0.0.1", now.plusSeconds(1));
+        assertThat(replayed.rawToken()).isEqualTo(rotated.rawToken());
+        assertThat(QueryCounter.current()).isZero();
+
+        assertThatThrownBy(() -> refreshTokenStore.rotate(issued.rawToken(), "agent", "127.0.0.1", now.plusSeconds(6)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT REPLACED_BY FROM REFRESH_TOKENS WHERE TOKEN_HASH = ?", String.class, issued.hash()
+        )).isEqualTo(rotated.hash());
+
+        usageWriter.flush();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT LAST_USED_AT FROM REFRESH_TOKENS WHERE TOKEN_HASH = ?", Timestamp.class, issued.hash()
+        )).isNotNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT USER_AGENT FROM REFRESH_TOKENS WHERE TOKEN_HASH = ?", String.class, rotated.hash()
+        )).isEqualTo("agent-2");
+    }
+
+    @Test
+    void concurrentRotationOfSameTokenResolvesToOneSuccessor() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshTokenStore.IssuedToken issued = refreshTokenStore.issue(principal(), "agent", "127.0.0.1", now);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<String>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                calls.add(() -> refreshTokenStore.rotate(issued.rawToken(), "agent", "127.0.0.1", now).hash());
+            }
+            Set<String> successors = new HashSet<>();
+            for (Future<String> result : pool.invokeAll(calls)) {
+                successors.add(result.get());
+            }
+            assertThat(successors).hasSize(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM REFRESH_TOKENS WHERE TOKEN_HASH = ?", Long.class, successors.iterator().next()
+            )).isEqualTo(1L);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void logoutClosesGraceWindowForWholeFamily() {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshTokenStore.IssuedToken a = refreshTokenStore.issue(principal(), "agent", "127.0.0.1", now);
+        RefreshTokenStore.IssuedToken b = refreshTokenStore.rotate(a.rawToken(), "agent", "127.0.0.1", now);
+        RefreshTokenStore.IssuedToken c = refreshTokenStore.rotate(b.rawToken(), "agent", "127.0.0.1", now);
+        assertThat(RefreshTokenStore.familyOf(c.rawToken())).isEqualTo(RefreshTokenStore.familyOf(a.rawToken()));
+
+        assertThat(refreshTokenStore.rotate(a.rawToken(), "agent", "127.0.0.1", now.plusSeconds(1)).hash())
+                .isEqualTo(c.hash());
+
+        refreshTokenStore.revoke(c.rawToken(), now.plusSeconds(1));
+
+        for (RefreshTokenStore.IssuedToken previous : List.of(a, b, c)) {
+            assertThatThrownBy(() -> refreshTokenStore.rotate(previous.rawToken(), "agent", "127.0.0.1", now.plusSeconds(2)))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        }
+    }
+
+    @Test
+    void revokedTokenCannotRotate() {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshTokenStore.IssuedToken issued = refreshTokenStore.issue(principal(), "agent", "127.0.0.1", now);
+
+        refreshTokenStore.revoke(issued.rawToken(), now);
+
+        assertThatThrownBy(() -> refreshTokenStore.rotate(issued.rawToken(), "agent", "127.0.0.1", now))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private static UserPrincipal principal() {
+        return new UserPrincipal(USER_ID, "tester", "$2a$10$hash", UserRole.USER);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class QueryCountingConfig {
+        @Bean
+        static QueryCountingDataSourcePostProcessor queryCountingDataSourcePostProcessor() {
+            return new QueryCountingDataSourcePostProcessor();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.response.AccountFeaturesResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 이 파일은 계좌별 스트리밍 특징값 서비스 테스트 파일이다.
+ * 거래를 이어 읽어 1시간/24시간/7일 창과 상대방 수, EWMA가 계산되는지와
+ * 체크포인트로 복원한 뒤 이어 읽기가 중복 없이 계속되는지, 거래 시각이 없는 행을 건너뛰는지,
+ * 늦게 커밋된 작은 TX_ID를 한 번만 반영하는지, 한 번의 읽기 주기가 배치 수 제한에서 멈추는지 H2에서 확인한다.
+ */
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fds-account-features;MODE=Oracle;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "fds.detection.features.poll-batch-size=2"
+})
+class AccountFeatureServiceTests {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Path CHECKPOINT = createCheckpointPath();
+
+    @Autowired
+    private AccountFeatureService featureService;
+
+    @Autowired
+    private FraudDetectionProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void checkpointProperties(DynamicPropertyRegistry registry) {
+        registry.add("fds.detection.features.checkpoint-path", CHECKPOINT::toString);
+    }
+
+    @BeforeEach
+    void clear() throws IOException {
+        jdbcTemplate.update("DELETE FROM TRANSACTIONS");
+        Files.deleteIfExists(CHECKPOINT);
+    }
+
+    @Test
+    void buildsWindowsIncrementallyAndResumesFromCheckpoint() throws IOException {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        insert(1, 7, 10_000, "110-000-000001", now.minusMinutes(10));
+        insert(2, 7, 20_000, "110-000-000002", now.minusHours(5));
+        insert(3, 7, 30_000, "110-000-000001", now.minusDays(3));
+        insert(4, 7, 40_000, "110-000-000003", now.minusDays(10));
+        insert(5, 8, 50_000, null, now.minusMinutes(5));
+
+        assertThat(featureService.catchUp()).isEqualTo(5);
+
+        AccountFeaturesResponseDTO features = featureService.getFeatures(7);
+        assertThat(features.txCount1h()).isEqualTo(1);
+        assertThat(features.txAmount1h()).isEqualTo(10_000);
+        assertThat(features.txCount24h()).isEqualTo(2);
+        assertThat(features.txAmount24h()).isEqualTo(30_000);
+        assertThat(features.txCount7d()).isEqualTo(3);
+        assertThat(features.txAmount7d()).isEqualTo(60_000);
+        assertThat(features.totalTxCount()).isEqualTo(4);
+        assertThat(features.distinctCounterparties()).isEqualTo(3);
+        // 10000 → 0.1*20000 + 0.9*10000 = 11000 → 0.1*30000 + 0.9*11000 = 12900 → 0.1*40000 + 0.9*12900 = 15610
+        assertThat(features.ewmaAmount()).isCloseTo(15_610, offset(1e-6));
+        assertThat(features.lastAppliedTxId()).isEqualTo(5);
+
+        featureService.checkpoint();
+        insert(6, 7, 5_000, "110-000-000004", now.minusMinutes(1));
+
+        AccountFeatureService restarted = new AccountFeatureService(jdbcTemplate, properties);
+        assertThat(restarted.catchUp()).isEqualTo(1);
+        AccountFeaturesResponseDTO resumed = restarted.getFeatures(7);
+        assertThat(resumed.txCount1h()).isEqualTo(2);
+        assertThat(resumed.totalTxCount()).isEqualTo(5);
+        assertThat(resumed.distinctCounterparties()).isEqualTo(4);
+        assertThat(restarted.getFeatures(8).txCount1h()).isEqualTo(1);
+
+        // 거래 시각이 없는 행은 반영하지 않고 건너뛰며, 다음 읽기에서 다시 읽지 않는다.
+        insert(7, 7, 7_000, "110-000-000005", null);
+        insert(8, 7, 8_000, "110-000-000005", now);
+        assertThat(restarted.catchUp()).isEqualTo(1);
+        assertThat(restarted.catchUp()).isZero();
+        AccountFeaturesResponseDTO afterGap = restarted.getFeatures(7);
+        assertThat(afterGap.totalTxCount()).isEqualTo(6);
+        assertThat(afterGap.lastAppliedTxId()).isEqualTo(8);
+    }
+
+    @Test
+    void picksUpLateCommittedTransactionsOnceAndBoundsEachPoll() {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        AccountFeatureService service = new AccountFeatureService(jdbcTemplate, properties);
+        insert(101, 9, 1_000, "110-000-000001", now);
+        insert(103, 9, 1_000, "110-000-000002", now);
+        assertThat(service.catchUp()).isEqualTo(2);
+
+        // 102번이 103번보다 늦게 커밋되어 마지막 TX_ID 뒤에 나타난다.
+        insert(102, 9, 1_000, "110-000-000003", now);
+        assertThat(service.catchUp()).isEqualTo(1);
+        assertThat(service.catchUp()).isZero();
+        assertThat(service.getFeatures(9).totalTxCount()).isEqualTo(3);
+        assertThat(service.getFeatures(9).lastAppliedTxId()).isEqualTo(103);
+
+        for (long txId = 104; txId <= 108; txId++) {
+            insert(txId, 9, 1_000, "110-000-000001", now);
+        }
+        // 배치 크기 2에서 한 배치만 읽으면 아직 따라잡지 못한 상태로 돌아온다.
+        assertThat(service.catchUp(1).caughtUp()).isFalse();
+        assertThat(service.catchUp()).isEqualTo(5);
+        assertThat(service.getFeatures(9).totalTxCount()).isEqualTo(8);
+    }
+
+    private void insert(long txId, long accountId, long amount, String target, LocalDateTime txAt) {
+        jdbcTemplate.update("""
+                INSERT INTO TRANSACTIONS (TX_ID, ACCOUNT_ID, TX_TYPE, TX_AMOUNT, TARGET_ACCOUNT_NUMBER, TX_TIMESTAMP)
+                VALUES (?, ?, 'TRANSFER', ?, ?, ?)
+                """, txId, accountId, amount, target, txAt == null ? null : Timestamp.valueOf(txAt));
+    }
+
+    private static Path createCheckpointPath() {
+        try {
+            return Files.createTempDirectory("fds-account-features").resolve("account-features.bin");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
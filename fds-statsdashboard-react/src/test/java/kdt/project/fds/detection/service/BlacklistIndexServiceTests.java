@@ -0,0 +1,69 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import kdt.project.fds.detection.dto.response.BlacklistMembershipResponseDTO;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이 파일은 블랙리스트 멤버십 인덱스 서비스 테스트 파일이다.
+ * 새 BLACKLIST_ID 행은 증분으로 반영되고, 삭제가 있으면 전체 재구성되며, 계좌 번호/ACCOUNT_ID 판정이 맞는지 H2에서 확인한다.
+ */
+class BlacklistIndexServiceTests extends SharedH2IntegrationTest {
+    @Autowired
+    private BlacklistIndexService blacklistIndexService;
+
+    @Test
+    void refreshesIncrementallyAndRebuildsAfterDeletes() {
+        insertAccount(10, "110-000-0010");
+        insertAccount(11, "110-000-0011");
+        insertBlacklist("110-000-0010");
+        insertBlacklist("999-NO-ACCOUNT");
+
+        BlacklistIndex initial = blacklistIndexService.refresh();
+        assertThat(initial.accountNumberCount()).isEqualTo(2);
+        assertThat(initial.accountIds()).containsExactly(10L);
+        assertThat(initial.containsAccountNumber("999-NO-ACCOUNT")).isTrue();
+        assertThat(initial.containsAccountNumber("110-000-0011")).isFalse();
+
+        insertBlacklist("110-000-0011");
+        BlacklistIndex extended = blacklistIndexService.refresh();
+        assertThat(extended.lastBlacklistId()).isGreaterThan(initial.lastBlacklistId());
+        assertThat(extended.rowCount()).isEqualTo(3);
+        // 행 수가 테이블과 같으면 새 행이 없을 때 같은 스냅샷을 그대로 쓴다.
+        assertThat(blacklistIndexService.refresh()).isSameAs(extended);
+        assertThat(extended.accountIds()).containsExactly(10L, 11L);
+        assertThat(extended.containsAccountId(11)).isTrue();
+        // 이전 스냅샷은 바뀌지 않는다.
+        assertThat(initial.containsAccountId(11)).isFalse();
+
+        jdbcTemplate.update("DELETE FROM BLACKLIST_ACCOUNTS WHERE ACCOUNT_NUMBER = '110-000-0010'");
+        BlacklistIndex rebuilt = blacklistIndexService.refresh();
+        assertThat(rebuilt.accountIds()).containsExactly(11L);
+        assertThat(rebuilt.containsAccountNumber("110-000-0010")).isFalse();
+
+        BlacklistMembershipResponseDTO membership = blacklistIndexService.checkMembership(
+                List.of("110-000-0011", "110-000-0010"), List.of(10L, 11L));
+        assertThat(membership.accountNumbers())
+                .containsEntry("110-000-0011", true)
+                .containsEntry("110-000-0010", false);
+        assertThat(membership.accountIds()).containsEntry(10L, false).containsEntry(11L, true);
+    }
+
+    private void insertAccount(long accountId, String accountNumber) {
+        jdbcTemplate.update("""
+                INSERT INTO ACCOUNTS (ACCOUNT_ID, ACCOUNT_NUMBER, USER_INNER_ID, BALANCE, PASSWORD, STATUS)
+                VALUES (?, ?, 1, 0, 'x', 'ACTIVE')
+                """, accountId, accountNumber);
+    }
+
+    private void insertBlacklist(String accountNumber) {
+        jdbcTemplate.update("""
+                INSERT INTO BLACKLIST_ACCOUNTS (ACCOUNT_NUMBER, REASON, BLOCKED_AT)
+                VALUES (?, 'TEST', CURRENT_TIMESTAMP)
+                """, accountNumber);
+    }
+}
@@ -0,0 +1,130 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 이 파일은 특징 벡터 유사도 검색의 재현율 테스트 파일이다.
+ * 16차원 군집 데이터 5만 건에서 SIMD 전수 비교가 스칼라 내적과 같은 이웃을 찾는지,
+ * 전수 비교 결과를 정답으로 본 HNSW의 recall@10이 0.9 이상인지 확인한다.
+ * 처리량은 src/jmh의 FeatureSimilarityBenchmark에서 측정한다.
+ */
+@Tag("performance")
+class FeatureSimilarityRecallTests {
+    private static final int ROWS = 50_000;
+    private static final int DIMENSIONS = 16;
+    private static final int CLUSTERS = 64;
+    private static final int QUERIES = 300;
+    private static final int SCALAR_QUERIES = 20;
+    private static final int K = 10;
+
+    @Test
+    void hnswRecallMatchesExactSearch() {
+        FeatureMatrix matrix = clusteredMatrix(new SplittableRandom(7));
+        HnswIndex hnsw = HnswIndex.build(matrix, 16, 100, 42L);
+
+        SplittableRandom random = new SplittableRandom(11);
+        int[] queryRows = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryRows[i] = random.nextInt(ROWS);
+        }
+
+        long[][] exact = exactNeighbors(matrix, queryRows);
+        for (int i = 0; i < SCALAR_QUERIES; i++) {
+            assertThat(scalarNeighbors(matrix, queryRows[i]))
+                    .as("scalar top-%d for row %d", K, queryRows[i])
+                    .containsExactlyInAnyOrder(exact[i]);
+        }
+
+        long[][] approximate = hnswNeighbors(hnsw, matrix, queryRows, 64);
+        assertThat(recall(exact, approximate)).as("HNSW recall@10 against exact search").isGreaterThanOrEqualTo(0.9);
+    }
+
+    private static FeatureMatrix clusteredMatrix(SplittableRandom random) {
+        double[][] centers = new double[CLUSTERS][DIMENSIONS];
+        for (double[] center : centers) {
+            for (int d = 0; d < DIMENSIONS; d++) {
+                center[d] = random.nextDouble(-3, 3);
+            }
+        }
+        FeatureMatrix.Builder builder = FeatureMatrix.builder();
+        StringBuilder features = new StringBuilder();
+        for (int row = 0; row < ROWS; row++) {
+            double[] center = centers[random.nextInt(CLUSTERS)];
+            features.setLength(0);
+            for (int d = 0; d < DIMENSIONS; d++) {
+                if (d > 0) {
+                    features.append(',');
+                }
+                features.append(String.format(Locale.ROOT, "%.4f", center[d] + gaussian(random)));
+            }
+            builder.add(row + 1L, features.toString());
+        }
+        return builder.build();
+    }
+
+    private static long[][] exactNeighbors(FeatureMatrix matrix, int[] queryRows) {
+        long[][] neighbors = new long[queryRows.length][];
+        for (int i = 0; i < queryRows.length; i++) {
+            neighbors[i] = txIds(matrix, matrix.exactTopK(matrix.copyRow(queryRows[i]), K, queryRows[i]));
+        }
+        return neighbors;
+    }
+
+    private static long[] scalarNeighbors(FeatureMatrix matrix, int queryRow) {
+        float[] query = matrix.copyRow(queryRow);
+        NodeScoreHeap top = NodeScoreHeap.minHeap(K);
+        for (int row = 0; row < ROWS; row++) {
+            if (row != queryRow) {
+                top.pushBounded(row, VectorKernels.scalarDot(query, 0, matrix.values(), matrix.offset(row), DIMENSIONS), K);
+            }
+        }
+        return txIds(matrix, top);
+    }
+
+    private static long[][] hnswNeighbors(HnswIndex hnsw, FeatureMatrix matrix, int[] queryRows, int ef) {
+        long[][] neighbors = new long[queryRows.length][];
+        for (int i = 0; i < queryRows.length; i++) {
+            neighbors[i] = txIds(matrix, hnsw.search(matrix.copyRow(queryRows[i]), K, ef, queryRows[i]));
+        }
+        return neighbors;
+    }
+
+    private static long[] txIds(FeatureMatrix matrix, NodeScoreHeap top) {
+        int[] rows = new int[top.size()];
+        float[] scores = new float[top.size()];
+        int count = top.drainDescending(rows, scores);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = matrix.txId(rows[i]);
+        }
+        return ids;
+    }
+
+    private static double recall(long[][] exact, long[][] approximate) {
+        long hits = 0;
+        long total = 0;
+        for (int q = 0; q < exact.length; q++) {
+            for (long expected : exact[q]) {
+                total++;
+                for (long actual : approximate[q]) {
+                    if (actual == expected) {
+                        hits++;
+                        break;
+                    }
+                }
+            }
+        }
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+}
@@ -0,0 +1,96 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import kdt.project.fds.detection.dto.response.SimilarTransactionsResponseDTO;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 거래 특징 벡터 유사도 검색 서비스 테스트 파일이다.
+ * 방향이 정해진 두 군집의 V_FEATURES를 H2에 넣고, 전수 비교와 HNSW 탐색이 같은 군집의 가까운 거래를 유사도 순으로 돌려주는지 확인한다.
+ */
+class FeatureSimilarityServiceTests extends SharedH2IntegrationTest {
+    private static final int DIMENSIONS = 8;
+
+    @Autowired
+    private FeatureSimilarityService featureSimilarityService;
+
+    @Test
+    void findsNearestTransactionsByCosineSimilarity() {
+        jdbcTemplate.update("""
+                INSERT INTO ACCOUNTS (ACCOUNT_ID, ACCOUNT_NUMBER, USER_INNER_ID, BALANCE, PASSWORD, STATUS)
+                VALUES (1, '110-000-0001', 1, 0, 'x', 'ACTIVE')
+                """);
+        // 1~20번은 첫 번째 축, 21~40번은 두 번째 축 쪽 군집이다. 번호가 작을수록 축에 가깝다.
+        for (int i = 1; i <= 40; i++) {
+            double[] vector = new double[DIMENSIONS];
+            int axis = i <= 20 ? 0 : 1;
+            int step = i <= 20 ? i : i - 20;
+            vector[axis] = 10.0;
+            vector[2 + step % 6] = step * 0.2;
+            transaction(i, vector, i == 2 ? 1 : 0);
+        }
+        transactionWithFeatures(41, "1.0,2.0");
+        transactionWithFeatures(42, "0,0,0,0,0,0,0,0");
+        featureSimilarityService.refresh();
+
+        SimilarTransactionsResponseDTO exact = featureSimilarityService.findSimilar(1, 3, "exact");
+        assertThat(exact.mode()).isEqualTo("EXACT");
+        assertThat(exact.dimensions()).isEqualTo(DIMENSIONS);
+        assertThat(exact.indexedTransactions()).isEqualTo(40);
+        assertThat(exact.skippedTransactions()).isEqualTo(2);
+        assertThat(exact.neighbors()).extracting(SimilarTransactionsResponseDTO.NeighborDTO::txId)
+                .containsExactly(2L, 3L, 4L);
+        assertThat(exact.neighbors().get(0).isFraud()).isEqualTo(1);
+        assertThat(exact.neighbors().get(0).txType()).isEqualTo("TRANSFER");
+        assertThat(exact.neighbors().get(0).similarity()).isGreaterThan(exact.neighbors().get(2).similarity());
+
+        SimilarTransactionsResponseDTO approximate = featureSimilarityService.findSimilar(1, 3, null);
+        assertThat(approximate.mode()).isEqualTo("HNSW");
+        assertThat(approximate.neighbors()).extracting(SimilarTransactionsResponseDTO.NeighborDTO::txId)
+                .containsExactly(2L, 3L, 4L);
+        assertThat(featureSimilarityService.findSimilar(25, 10, "hnsw").neighbors())
+                .allSatisfy(neighbor -> assertThat(neighbor.txId()).isBetween(21L, 40L));
+
+        assertThatThrownBy(() -> featureSimilarityService.findSimilar(41, 3, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("404");
+        assertThatThrownBy(() -> featureSimilarityService.findSimilar(1, 1_000, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("400");
+    }
+
+    private void transaction(long txId, double[] vector, int isFraud) {
+        StringBuilder features = new StringBuilder();
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                features.append(',');
+            }
+            features.append(String.format(Locale.ROOT, "%.4f", vector[i]));
+        }
+        transactionWithFeatures(txId, features.toString());
+        jdbcTemplate.update("""
+                INSERT INTO FRAUD_DETECTION_RESULTS (DETECTION_ID, TX_ID, FRAUD_PROBABILITY, IS_FRAUD, DETECTED_ENGINE,
+                                                     THRESHOLD_VALUE, ACTION_TAKEN, DETECTED_AT)
+                VALUES (?, ?, ?, ?, 'RULE', 0.7, 'ALLOW', ?)
+                """, txId, txId, isFraud == 1 ? 0.9 : 0.1, isFraud, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private void transactionWithFeatures(long txId, String features) {
+        jdbcTemplate.update("""
+                INSERT INTO TRANSACTIONS (TX_ID, ACCOUNT_ID, TX_TYPE, TX_AMOUNT, BALANCE_AFTER_TX, TX_TIMESTAMP)
+                VALUES (?, 1, 'TRANSFER', 10000, 0, ?)
+                """, txId, Timestamp.valueOf(LocalDateTime.of(2026, 3, 2, 12, 0)));
+        jdbcTemplate.update("""
+                INSERT INTO TRANSACTION_FEATURES (TX_ID, V_FEATURES)
+                VALUES (?, ?)
+                """, txId, features);
+    }
+}
@@ -0,0 +1,92 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import kdt.project.fds.detection.dto.request.FraudBacktestRequestDTO;
+import kdt.project.fds.detection.dto.response.FraudBacktestResponseDTO;
+import kdt.project.fds.detection.dto.response.FraudBacktestResponseDTO.CandidateResultDTO;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이 파일은 탐지 임계값 백테스트 서비스 테스트 파일이다.
+ * 여러 날짜 파티션의 거래를 현재 설정과 후보 설정으로 한 번에 재평가해 설정별 조치/적중/오탐 수가 맞는지 H2에서 확인한다.
+ * 라벨은 확정 신고에서만 오고 기록된 탐지 결과의 IS_FRAUD는 쓰지 않는지도 함께 확인한다.
+ */
+class FraudBacktestServiceTests extends SharedH2IntegrationTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 2, 10);
+    private static final String FRAUD_ACCOUNT = "110-999-000001";
+    private static final String CLEARED_ACCOUNT = "110-999-000002";
+
+    @Autowired
+    private FraudBacktestService backtestService;
+
+    @Test
+    void comparesCandidateThresholdsInOnePass() {
+        jdbcTemplate.update("""
+                INSERT INTO FRAUD_REPORTS (REPORT_ID, ACCOUNT_NUMBER, STATUS, CREATED_AT)
+                VALUES (1, ?, 'CONFIRMED', CURRENT_TIMESTAMP), (2, ?, 'REJECTED', CURRENT_TIMESTAMP)
+                """, FRAUD_ACCOUNT, CLEARED_ACCOUNT);
+        // 기본 규칙 점수: 1 = 0.67(심야 고액 이체), 2 = 0, 3 = 0.2(현금 인출), 4 = 0.56(고액 이체), 5 = 기간 밖
+        insert(1, "TRANSFER", 5_000_000, DAY.atTime(2, 0), true);
+        insert(2, "PAYMENT", 10_000, DAY.atTime(12, 0), false);
+        insert(3, "CASH_OUT", 100_000, DAY.plusDays(1).atTime(13, 0), true);
+        insert(4, "TRANSFER", 4_000_000, DAY.plusDays(2).atTime(14, 0), false);
+        insert(5, "TRANSFER", 9_000_000, DAY.plusDays(3).atTime(1, 0), true);
+
+        FraudBacktestResponseDTO response = backtestService.backtest(new FraudBacktestRequestDTO(
+                DAY,
+                DAY.plusDays(2),
+                List.of(
+                        new FraudBacktestRequestDTO.CandidateDTO("loose", Map.of(
+                                "detection.threshold.block", "0.5", "detection.threshold.review", "0.3")),
+                        new FraudBacktestRequestDTO.CandidateDTO("strict", Map.of(
+                                "detection.threshold.block", "0.15"))
+                )
+        ));
+
+        assertThat(response.transactions()).isEqualTo(4);
+        assertThat(response.labelledFraud()).isEqualTo(2);
+        assertThat(response.partitions()).isEqualTo(3);
+        assertThat(response.results()).extracting(CandidateResultDTO::name)
+                .containsExactly("current", "loose", "strict");
+
+        CandidateResultDTO current = response.results().get(0);
+        assertThat(current.detections()).isZero();
+        assertThat(current.reviewed()).isEqualTo(2);
+        assertThat(current.missedFraud()).isEqualTo(2);
+
+        CandidateResultDTO loose = response.results().get(1);
+        assertThat(loose.blocked()).isEqualTo(2);
+        assertThat(loose.allowed()).isEqualTo(2);
+        assertThat(loose.caughtFraud()).isEqualTo(1);
+        assertThat(loose.falsePositives()).isEqualTo(1);
+        assertThat(loose.recall()).isEqualTo(0.5);
+
+        CandidateResultDTO strict = response.results().get(2);
+        assertThat(strict.detections()).isEqualTo(3);
+        assertThat(strict.caughtFraud()).isEqualTo(2);
+        assertThat(strict.precision()).isCloseTo(2.0 / 3, offset(1e-9));
+    }
+
+    private void insert(long txId, String txType, long amount, LocalDateTime txAt, boolean fraud) {
+        jdbcTemplate.update("""
+                INSERT INTO TRANSACTIONS (TX_ID, ACCOUNT_ID, TX_TYPE, TX_AMOUNT, BALANCE_AFTER_TX, TARGET_ACCOUNT_NUMBER,
+                                          TX_TIMESTAMP)
+                VALUES (?, 1, ?, ?, 1000000, ?, ?)
+                """, txId, txType, amount, fraud ? FRAUD_ACCOUNT : CLEARED_ACCOUNT, Timestamp.valueOf(txAt));
+        // 모델이 남긴 판정은 라벨과 반대로 기록해, 백테스트가 이 값을 정답으로 쓰지 않는지 확인한다.
+        jdbcTemplate.update("""
+                INSERT INTO FRAUD_DETECTION_RESULTS (DETECTION_ID, TX_ID, FRAUD_PROBABILITY, IS_FRAUD, DETECTED_ENGINE,
+                                                     THRESHOLD_VALUE, ACTION_TAKEN, DETECTED_AT)
+                VALUES (?, ?, ?, ?, 'ML', 0.8, ?, ?)
+                """, txId, txId, fraud ? 0.1 : 0.9, fraud ? 0 : 1, fraud ? "ALLOW" : "BLOCK", Timestamp.valueOf(txAt));
+    }
+}
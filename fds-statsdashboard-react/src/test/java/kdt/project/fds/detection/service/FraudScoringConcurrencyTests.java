@@ -0,0 +1,110 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import kdt.project.fds.detection.config.FraudDetectionProperties;
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.dto.response.FraudScoreResponseDTO;
+import kdt.project.fds.detection.vo.ScoringRules;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 이 파일은 실시간 사기 점수 동시 실행 테스트 파일이다.
+ * 같은 규칙 스냅샷을 여러 스레드가 공유해 점수를 매겨도 단일 스레드 결과와 같은지 확인한다.
+ * 처리량은 src/jmh의 FraudScoringBenchmark에서 측정한다.
+ */
+class FraudScoringConcurrencyTests {
+    private static final int TRANSACTIONS = 20_000;
+    private static final int BLACKLIST_SIZE = 5_000;
+    private static final int THREADS = 4;
+    private static final String[] TX_TYPES = {"PAYMENT", "TRANSFER", "WITHDRAWAL", "DEPOSIT", "CASH_OUT"};
+
+    @Test
+    void concurrentScoringMatchesSequentialScoring() throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        Set<String> blacklist = new HashSet<>();
+        for (int i = 0; i < BLACKLIST_SIZE; i++) {
+            blacklist.add(accountNumber(random.nextInt(100_000)));
+        }
+        ScoringRules rules = ScoringRules.fromConfig(Map.of());
+        BlacklistIndex blacklistIndex = blacklistIndex(blacklist);
+        FraudScoringService scoringService = new FraudScoringService(
+                List.of(new RuleFraudEvaluator(), new BlacklistFraudEvaluator(() -> blacklistIndex)),
+                null,
+                null,
+                new FraudDetectionProperties(),
+                new SimpleMeterRegistry()
+        );
+        FraudScoreRequestDTO[] transactions = new FraudScoreRequestDTO[TRANSACTIONS];
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 0, 0);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            transactions[i] = new FraudScoreRequestDTO(
+                    (long) i,
+                    (long) random.nextInt(15_000),
+                    accountNumber(random.nextInt(100_000)),
+                    TX_TYPES[random.nextInt(TX_TYPES.length)],
+                    BigDecimal.valueOf(random.nextLong(1_000, 10_000_000)),
+                    BigDecimal.valueOf(random.nextInt(10) == 0 ? 0 : random.nextLong(1, 50_000_000)),
+                    random.nextBoolean() ? accountNumber(random.nextInt(100_000)) : null,
+                    "SEOUL",
+                    base.plusMinutes(random.nextInt(60 * 24 * 7))
+            );
+        }
+
+        LocalDateTime detectedAt = LocalDateTime.now();
+        FraudScoreResponseDTO[] sequential = new FraudScoreResponseDTO[TRANSACTIONS];
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            sequential[i] = scoringService.score(transactions[i], rules, detectedAt);
+        }
+
+        FraudScoreResponseDTO[] concurrent = new FraudScoreResponseDTO[TRANSACTIONS];
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Void>> slices = new ArrayList<>(THREADS);
+            int sliceSize = (TRANSACTIONS + THREADS - 1) / THREADS;
+            for (int t = 0; t < THREADS; t++) {
+                int from = t * sliceSize;
+                int to = Math.min(TRANSACTIONS, from + sliceSize);
+                slices.add(() -> {
+                    for (int i = from; i < to; i++) {
+                        concurrent[i] = scoringService.score(transactions[i], rules, detectedAt);
+                    }
+                    return null;
+                });
+            }
+            for (var future : executor.invokeAll(slices)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(concurrent).containsExactly(sequential);
+        assertThat(sequential).anySatisfy(result -> assertThat(result.isFraud()).isEqualTo(1));
+        assertThat(sequential).anySatisfy(result -> assertThat(result.actionTaken()).isEqualTo("ALLOW"));
+    }
+
+    private static BlacklistIndex blacklistIndex(Set<String> accountNumbers) {
+        List<BlacklistIndex.Entry> entries = new ArrayList<>(accountNumbers.size());
+        for (String accountNumber : accountNumbers) {
+            entries.add(new BlacklistIndex.Entry(entries.size() + 1, accountNumber, null));
+        }
+        return BlacklistIndex.build(entries, 0.01, LocalDateTime.now());
+    }
+
+    private static String accountNumber(int value) {
+        return "110-%03d-%06d".formatted(value / 1_000_000, value % 1_000_000);
+    }
+}
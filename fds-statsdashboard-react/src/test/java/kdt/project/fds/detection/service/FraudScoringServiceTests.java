@@ -0,0 +1,88 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.dto.response.FraudScoreResponseDTO;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이 파일은 실시간 사기 점수 서비스 테스트 파일이다.
+ * FDS_CONFIG 임계값과 블랙리스트가 판정에 반영되고, 결과가 FRAUD_DETECTION_RESULTS에 MERGE로 저장되는지 H2에서 확인한다.
+ */
+class FraudScoringServiceTests extends SharedH2IntegrationTest {
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 3, 2, 12, 0);
+
+    @Autowired
+    private FraudScoringService scoringService;
+
+    @Autowired
+    private FraudScoringRulesProvider rulesProvider;
+
+    @Autowired
+    private FraudDetectionResultWriter resultWriter;
+
+    @Autowired
+    private BlacklistIndexService blacklistIndexService;
+
+    @Test
+    void scoresWithConfiguredRulesAndWritesResults() {
+        jdbcTemplate.update("INSERT INTO FDS_CONFIG (CONFIG_KEY, CONFIG_VALUE) VALUES ('detection.threshold.block', '0.6')");
+        jdbcTemplate.update("INSERT INTO FDS_CONFIG (CONFIG_KEY, CONFIG_VALUE) VALUES ('detection.threshold.review', '0.3')");
+        jdbcTemplate.update("""
+                INSERT INTO BLACKLIST_ACCOUNTS (ACCOUNT_NUMBER, REASON, BLOCKED_AT)
+                VALUES ('110-000-000001', 'PHISHING', CURRENT_TIMESTAMP)
+                """);
+        rulesProvider.reload();
+        blacklistIndexService.refresh();
+
+        List<FraudScoreResponseDTO> results = scoringService.scoreAndRecord(List.of(
+                transaction(1L, "PAYMENT", 20_000, "110-000-000002", NOON),
+                transaction(2L, "TRANSFER", 5_000_000, "110-000-000003", NOON.withHour(2)),
+                transaction(3L, "PAYMENT", 10_000, "110-000-000001", NOON)
+        ));
+
+        assertThat(results).extracting(FraudScoreResponseDTO::actionTaken).containsExactly("ALLOW", "BLOCK", "BLOCK");
+        assertThat(results.get(1).fraudProbability()).isBetween(0.6, 1.0);
+        assertThat(results.get(2).fraudProbability()).isEqualTo(1.0);
+        assertThat(results).allSatisfy(result -> assertThat(result.thresholdValue()).isEqualTo(0.6));
+
+        assertThat(resultWriter.flush()).isEqualTo(3);
+        // 같은 거래를 다시 점수 매기면 새 행 대신 기존 행을 갱신하되, 처음 저장한 IS_FRAUD는 유지한다.
+        scoringService.scoreAndRecord(List.of(
+                transaction(1L, "CASH_OUT", 20_000, "110-000-000002", NOON),
+                transaction(2L, "PAYMENT", 20_000, "110-000-000002", NOON)
+        ));
+        resultWriter.flush();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT TX_ID, IS_FRAUD, DETECTED_ENGINE, ACTION_TAKEN
+                FROM FRAUD_DETECTION_RESULTS
+                ORDER BY TX_ID
+                """);
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).containsEntry("DETECTED_ENGINE", "RULE");
+        assertThat(rows.get(1).get("IS_FRAUD")).hasToString("1");
+        assertThat(rows.get(1).get("ACTION_TAKEN")).isEqualTo("ALLOW");
+        assertThat(rows.get(2).get("ACTION_TAKEN")).isEqualTo("BLOCK");
+    }
+
+    private static FraudScoreRequestDTO transaction(
+            long txId,
+            String txType,
+            long amount,
+            String targetAccountNumber,
+            LocalDateTime txAt
+    ) {
+        return new FraudScoreRequestDTO(
+                txId, 1L, "110-000-009999", txType, BigDecimal.valueOf(amount), BigDecimal.valueOf(1_000_000),
+                targetAccountNumber, "SEOUL", txAt
+        );
+    }
+}
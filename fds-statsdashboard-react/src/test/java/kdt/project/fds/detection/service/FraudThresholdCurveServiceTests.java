@@ -0,0 +1,77 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import kdt.project.fds.detection.dto.response.FraudThresholdCurveResponseDTO;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이 파일은 임계값 what-if 곡선 서비스 테스트 파일이다.
+ * 일자/엔진별 히스토그램을 합친 곡선이 임계값별 탐지 수와 사기 확정 수를 맞게 돌려주는지,
+ * 사기 확정은 엔진이 기록한 IS_FRAUD가 아니라 확정 신고에서 오는지, 지난 날짜는 캐시를 쓰고 오늘 날짜는 다시 집계하는지 H2에서 확인한다.
+ */
+class FraudThresholdCurveServiceTests extends SharedH2IntegrationTest {
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+    private static final String FRAUD_ACCOUNT = "110-999-000001";
+    private static final String CLEARED_ACCOUNT = "110-999-000002";
+
+    @Autowired
+    private FraudThresholdCurveService curveService;
+
+    @Test
+    void answersThresholdQueriesFromMergedDailyHistograms() {
+        LocalDate yesterday = TODAY.minusDays(1);
+        jdbcTemplate.update("""
+                INSERT INTO FRAUD_REPORTS (REPORT_ID, ACCOUNT_NUMBER, STATUS, CREATED_AT)
+                VALUES (1, ?, 'CONFIRMED', CURRENT_TIMESTAMP), (2, ?, 'REJECTED', CURRENT_TIMESTAMP)
+                """, FRAUD_ACCOUNT, CLEARED_ACCOUNT);
+        insert(1, "ML", 0.95, true, yesterday.atTime(10, 0));
+        insert(2, "ML", 0.7, false, yesterday.atTime(11, 0));
+        insert(3, "RULE", 0.7, true, yesterday.atTime(12, 0));
+        insert(4, "RULE", 0.2, false, TODAY.atTime(0, 30));
+        insert(5, "ML", 1.0, true, TODAY.atTime(0, 40));
+
+        FraudThresholdCurveResponseDTO all = curveService.getCurve(yesterday, TODAY, null, 0.7);
+        assertThat(all.engines()).containsExactly("ML", "RULE");
+        assertThat(all.totalDetections()).isEqualTo(5);
+        assertThat(all.totalConfirmedFraud()).isEqualTo(3);
+        assertThat(all.point().detections()).isEqualTo(4);
+        assertThat(all.point().confirmedFraud()).isEqualTo(3);
+        assertThat(all.detections()[800]).isEqualTo(2);
+        assertThat(all.detections()[999]).isEqualTo(1);
+
+        FraudThresholdCurveResponseDTO ml = curveService.getCurve(yesterday, TODAY, "ML", 0.71);
+        assertThat(ml.totalDetections()).isEqualTo(3);
+        assertThat(ml.point().detections()).isEqualTo(2);
+        assertThat(ml.point().precision()).isEqualTo(1.0);
+
+        // 지난 날짜는 캐시된 히스토그램을 쓰고, 오늘 날짜는 새로 들어온 결과를 반영한다.
+        insert(6, "ML", 0.9, true, yesterday.atTime(13, 0));
+        insert(7, "ML", 0.9, false, TODAY.atTime(0, 50));
+        FraudThresholdCurveResponseDTO refreshed = curveService.getCurve(yesterday, TODAY, null, 0.7);
+        assertThat(refreshed.totalDetections()).isEqualTo(6);
+        assertThat(refreshed.point().detections()).isEqualTo(5);
+    }
+
+    /**
+     * 거래와 탐지 결과를 넣는다. 엔진은 모든 거래를 사기로 판정했다고 기록하고, 라벨은 입금 계좌의 신고 상태로만 정한다.
+     */
+    private void insert(long txId, String engine, double probability, boolean fraud, LocalDateTime detectedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO TRANSACTIONS (TX_ID, ACCOUNT_ID, TX_TYPE, TX_AMOUNT, BALANCE_AFTER_TX, TARGET_ACCOUNT_NUMBER,
+                                          TX_TIMESTAMP)
+                VALUES (?, 1, 'TRANSFER', 10000, 0, ?, ?)
+                """, txId, fraud ? FRAUD_ACCOUNT : CLEARED_ACCOUNT, Timestamp.valueOf(detectedAt));
+        jdbcTemplate.update("""
+                INSERT INTO FRAUD_DETECTION_RESULTS (DETECTION_ID, TX_ID, FRAUD_PROBABILITY, IS_FRAUD, DETECTED_ENGINE,
+                                                     THRESHOLD_VALUE, ACTION_TAKEN, DETECTED_AT)
+                VALUES (?, ?, ?, 1, ?, 0.7, 'BLOCK', ?)
+                """, txId, txId, probability, engine, Timestamp.valueOf(detectedAt));
+    }
+}
@@ -0,0 +1,36 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import kdt.project.fds.detection.dto.request.FraudScoreRequestDTO;
+import kdt.project.fds.detection.vo.ScoringRules;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 이 파일은 거래 속성 규칙 평가기 테스트 파일이다.
+ * 위험 거래 유형 규칙이 설정 값과 요청 값의 대소문자/앞뒤 공백과 관계없이 같은 가중치를 주는지 확인한다.
+ */
+class RuleFraudEvaluatorTests {
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 3, 2, 12, 0);
+
+    private final RuleFraudEvaluator evaluator = new RuleFraudEvaluator();
+
+    @Test
+    void riskyTxTypeMatchesRegardlessOfCase() {
+        ScoringRules rules = ScoringRules.fromConfig(Map.of(ScoringRules.RISKY_TX_TYPES, "transfer, Cash_Out"));
+
+        assertThat(evaluator.evaluate(request("TRANSFER"), rules)).isCloseTo(rules.riskyTxTypeWeight(), within(1e-9));
+        assertThat(evaluator.evaluate(request("transfer"), rules)).isCloseTo(rules.riskyTxTypeWeight(), within(1e-9));
+        assertThat(evaluator.evaluate(request(" cash_out "), rules)).isCloseTo(rules.riskyTxTypeWeight(), within(1e-9));
+        assertThat(evaluator.evaluate(request("payment"), rules)).isZero();
+    }
+
+    private static FraudScoreRequestDTO request(String txType) {
+        return new FraudScoreRequestDTO(1L, 1L, "100-0001", txType, BigDecimal.valueOf(10_000),
+                BigDecimal.valueOf(50_000), null, "SEOUL", NOON);
+    }
+}
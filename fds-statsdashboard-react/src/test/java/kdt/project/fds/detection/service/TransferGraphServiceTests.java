@@ -0,0 +1,96 @@
+package kdt.project.fds.detection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import kdt.project.fds.detection.dto.response.TransferGraphResponseDTO;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이 파일은 이체 그래프 분석 서비스 테스트 파일이다.
+ * 작은 이체 그래프에서 팬인/팬아웃, 블랙리스트·신고 계좌의 2단계 도달 계좌, 의심 그룹 연결 요소가 맞는지 H2에서 확인한다.
+ */
+class TransferGraphServiceTests extends SharedH2IntegrationTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private TransferGraphService transferGraphService;
+
+    @Autowired
+    private BlacklistIndexService blacklistIndexService;
+
+    private long nextTxId = 1;
+
+    @Test
+    void flagsRingsReachableFromBlacklistedAndReportedAccounts() {
+        // 그룹 1: MULE-A(블랙리스트) → B → C, D → B, B → C 두 번
+        // 그룹 2: E → F → G (E는 기간 이후 신고라 플래그되지 않음), 그룹 3: H(신고) → I
+        account(1, "MULE-A");
+        account(2, "B");
+        account(4, "D");
+        account(5, "E");
+        account(6, "F");
+        account(8, "H");
+        transfer(1, "B");
+        transfer(2, "C");
+        transfer(2, "C");
+        transfer(4, "B");
+        transfer(5, "F");
+        transfer(6, "G");
+        transfer(8, "I");
+        transfer(1, "MULE-A");
+        jdbcTemplate.update("INSERT INTO BLACKLIST_ACCOUNTS (ACCOUNT_NUMBER, REASON) VALUES ('MULE-A', 'TEST')");
+        report("H", DAY);
+        report("E", DAY.plusDays(30));
+        blacklistIndexService.refresh();
+
+        TransferGraphResponseDTO graph = transferGraphService.analyze(DAY, DAY);
+
+        assertThat(graph.vertexCount()).isEqualTo(9);
+        assertThat(graph.edgeCount()).isEqualTo(6);
+        assertThat(graph.transferCount()).isEqualTo(7);
+        assertThat(graph.blacklistedAccounts()).isEqualTo(1);
+        assertThat(graph.reportedAccounts()).isEqualTo(1);
+        // MULE-A → B(1단계) → C(2단계), H → I(1단계)
+        assertThat(graph.oneHopExposed()).isEqualTo(2);
+        assertThat(graph.twoHopExposed()).isEqualTo(1);
+        assertThat(graph.exposedAccounts()).extracting(TransferGraphResponseDTO.ExposedAccountDTO::accountNumber)
+                .containsExactly("B", "I", "C");
+        assertThat(graph.topFanIn().get(0).accountNumber()).isEqualTo("B");
+        assertThat(graph.topFanIn().get(0).fanIn()).isEqualTo(2);
+
+        assertThat(graph.componentCount()).isEqualTo(3);
+        assertThat(graph.largestComponentSize()).isEqualTo(4);
+        assertThat(graph.suspectedRings()).hasSize(1);
+        TransferGraphResponseDTO.SuspectedRingDTO ring = graph.suspectedRings().get(0);
+        assertThat(ring.size()).isEqualTo(4);
+        assertThat(ring.edgeCount()).isEqualTo(3);
+        assertThat(ring.flaggedAccounts()).isEqualTo(1);
+        assertThat(ring.sampleAccounts()).startsWith("MULE-A").containsExactlyInAnyOrder("MULE-A", "B", "C", "D");
+    }
+
+    private void account(long accountId, String accountNumber) {
+        jdbcTemplate.update("""
+                INSERT INTO ACCOUNTS (ACCOUNT_ID, ACCOUNT_NUMBER, USER_INNER_ID, BALANCE, PASSWORD, STATUS)
+                VALUES (?, ?, 1, 0, 'x', 'ACTIVE')
+                """, accountId, accountNumber);
+    }
+
+    private void transfer(long accountId, String target) {
+        jdbcTemplate.update("""
+                INSERT INTO TRANSACTIONS (TX_ID, ACCOUNT_ID, TX_TYPE, TX_AMOUNT, BALANCE_AFTER_TX,
+                                          TARGET_ACCOUNT_NUMBER, TX_TIMESTAMP)
+                VALUES (?, ?, 'TRANSFER', 10000, 0, ?, ?)
+                """, nextTxId++, accountId, target, Timestamp.valueOf(DAY.atTime(12, 0)));
+    }
+
+    private void report(String accountNumber, LocalDate createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO FRAUD_REPORTS (REPORT_ID, ACCOUNT_NUMBER, REASON, STATUS, CREATED_AT)
+                VALUES (?, ?, 'TEST', 'RECEIVED', ?)
+                """, nextTxId++, accountNumber, Timestamp.valueOf(createdAt.atStartOfDay()));
+    }
+}
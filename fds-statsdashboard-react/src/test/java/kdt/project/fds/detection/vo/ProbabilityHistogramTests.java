@@ -0,0 +1,42 @@
+package kdt.project.fds.detection.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 이 파일은 사기 확률 히스토그램 테스트 파일이다.
+ * 경계값과 범위 밖 확률의 구간 배정, 구간별 덧셈 병합, 위쪽 구간부터 누적한 임계값 곡선을 확인한다.
+ */
+class ProbabilityHistogramTests {
+
+    @Test
+    void assignsBoundaryAndOutOfRangeProbabilitiesToBins() {
+        assertThat(ProbabilityHistogram.binOf(0.7)).isEqualTo(700);
+        assertThat(ProbabilityHistogram.binOf(0.6999)).isEqualTo(699);
+        assertThat(ProbabilityHistogram.binOf(-0.2)).isZero();
+        assertThat(ProbabilityHistogram.binOf(1.0)).isEqualTo(ProbabilityHistogram.BINS - 1);
+        assertThat(ProbabilityHistogram.binOf(1.5)).isEqualTo(ProbabilityHistogram.BINS - 1);
+    }
+
+    @Test
+    void mergedHistogramsBuildCumulativeCurve() {
+        ProbabilityHistogram ml = new ProbabilityHistogram();
+        ml.add(0.95, true);
+        ml.add(0.7, false);
+        ProbabilityHistogram rule = new ProbabilityHistogram();
+        rule.add(0.3, false);
+        rule.addBin(ProbabilityHistogram.binOf(0.7), 2, 1);
+
+        ThresholdCurve curve = ml.merge(rule).toCurve();
+
+        assertThat(curve.totalDetections()).isEqualTo(5);
+        assertThat(curve.totalConfirmedFraud()).isEqualTo(2);
+        assertThat(curve.detectionsAt(0.7)).isEqualTo(4);
+        assertThat(curve.confirmedFraudAt(0.7)).isEqualTo(2);
+        assertThat(curve.detectionsAt(0.71)).isEqualTo(1);
+        assertThat(curve.detectionsAt(0.96)).isZero();
+        // 병합은 인자를 바꾸지 않는다.
+        assertThat(rule.toCurve().totalDetections()).isEqualTo(3);
+    }
+}
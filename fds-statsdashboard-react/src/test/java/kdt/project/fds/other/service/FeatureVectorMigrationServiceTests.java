@@ -0,0 +1,98 @@
+package kdt.project.fds.other.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.nio.FloatBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import kdt.project.fds.other.dto.response.FeatureVectorMigrationResultDTO;
+import kdt.project.fds.other.vo.FeatureEncoding;
+import kdt.project.fds.other.vo.FeatureVectorCodec;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.project.fds.stats.service.AdminStatsDashboardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이 파일은 특징 벡터 이진 형식 이관 서비스 테스트 파일이다.
+ * 텍스트 V_FEATURES만 있는 행을 H2에 넣고 이관 뒤 V_FEATURES_PACKED가 같은 값으로 디코딩되는지,
+ * 숫자가 아닌 벡터는 건너뛰는지, 대시보드가 이관된 행의 길이를 RAW에서 읽는지, float16 형식이 허용 오차 안에서 값을 보존하는지 확인한다.
+ */
+class FeatureVectorMigrationServiceTests extends SharedH2IntegrationTest {
+    @Autowired
+    private FeatureVectorMigrationService featureVectorMigrationService;
+
+    @Autowired
+    private AdminStatsDashboardService adminStatsDashboardService;
+
+    @Test
+    void migratesTextVectorsToPackedColumnInBatches() {
+        jdbcTemplate.update("""
+                INSERT INTO ACCOUNTS (ACCOUNT_ID, ACCOUNT_NUMBER, USER_INNER_ID, BALANCE, PASSWORD, STATUS)
+                VALUES (1, '110-000-0001', 1, 0, 'x', 'ACTIVE')
+                """);
+        for (int i = 1; i <= 7; i++) {
+            transactionWithFeatures(i, i + ".5,-0.25," + (i * 0.125));
+        }
+        transactionWithFeatures(8, "1.0,abc,2.0");
+
+        FeatureVectorMigrationResultDTO result = featureVectorMigrationService.migrate();
+
+        assertThat(result.encoding()).isEqualTo("FLOAT32");
+        assertThat(result.convertedRows()).isEqualTo(7);
+        assertThat(result.skippedRows()).isEqualTo(1);
+        assertThat(result.batches()).isEqualTo(3);
+        FloatBuffer decoded = FeatureVectorCodec.decode(packed(4));
+        assertThat(decoded.remaining()).isEqualTo(3);
+        assertThat(decoded.get(0)).isEqualTo(4.5f);
+        assertThat(decoded.get(1)).isEqualTo(-0.25f);
+        assertThat(decoded.get(2)).isEqualTo(0.5f);
+        assertThat(packed(8)).isNull();
+
+        // 이미 변환된 행은 다시 읽지 않는다.
+        FeatureVectorMigrationResultDTO rerun = featureVectorMigrationService.migrate();
+        assertThat(rerun.convertedRows()).isZero();
+        assertThat(rerun.skippedRows()).isEqualTo(1);
+
+        // 대시보드는 이관된 행의 RAW 길이(헤더 4 + 3 x 4바이트)와 남은 텍스트 행의 길이를 함께 평균한다.
+        AdminDashboardResponseDTO.TransactionFeaturesSectionDTO features = adminStatsDashboardService
+                .getAdminDashboard(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 3))
+                .transactionFeatures();
+        assertThat(features.vFeaturesCount()).isEqualTo(8);
+        assertThat(features.averageFeaturesLength()).isEqualByComparingTo("15.375");
+    }
+
+    @Test
+    void float16EncodingHalvesPayloadWithinTolerance() {
+        float[] values = {0.1234f, -3.5f, 1234.5f, 0f};
+
+        byte[] packed = FeatureVectorCodec.encode(values, FeatureEncoding.FLOAT16);
+
+        assertThat(packed).hasSize(FeatureVectorCodec.HEADER_BYTES + values.length * 2);
+        assertThat(FeatureVectorCodec.encoding(packed)).isEqualTo(FeatureEncoding.FLOAT16);
+        assertThat(FeatureVectorCodec.dimensions(packed)).isEqualTo(values.length);
+        FloatBuffer decoded = FeatureVectorCodec.decode(packed);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(decoded.get(i)).isCloseTo(values[i], within(Math.abs(values[i]) * 1e-3f));
+        }
+    }
+
+    private byte[] packed(long txId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT V_FEATURES_PACKED FROM TRANSACTION_FEATURES WHERE TX_ID = ?", byte[].class, txId);
+    }
+
+    private void transactionWithFeatures(long txId, String features) {
+        jdbcTemplate.update("""
+                INSERT INTO TRANSACTIONS (TX_ID, ACCOUNT_ID, TX_TYPE, TX_AMOUNT, BALANCE_AFTER_TX, TX_TIMESTAMP)
+                VALUES (?, 1, 'TRANSFER', 10000, 0, ?)
+                """, txId, Timestamp.valueOf(LocalDateTime.of(2026, 3, 2, 12, 0)));
+        jdbcTemplate.update("""
+                INSERT INTO TRANSACTION_FEATURES (TX_ID, V_FEATURES)
+                VALUES (?, ?)
+                """, txId, features);
+    }
+}
@@ -0,0 +1,45 @@
+package kdt.project.fds.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 이 파일은 서비스 메서드의 성능 예산 레코드 파일이다.
+ * 허용 쿼리 수와 허용 지연 시간을 선언하고, 측정값이 이를 넘으면 테스트를 실패시킨다.
+ */
+public record PerformanceBudget(
+        String name,
+        long maxQueries,
+        Duration maxLatency
+) {
+    /**
+     * 대상 호출을 한 번 예열한 뒤 다시 실행하며 쿼리 수와 지연 시간을 측정한다.
+     * 예열은 JIT/Hibernate 초기화 비용이 예산에 섞이지 않도록 하기 위함이다.
+     */
+    public <T> Measurement<T> measure(Supplier<T> call) {
+        call.get();
+        QueryCounter.reset();
+        long started = System.nanoTime();
+        T result = call.get();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        return new Measurement<>(result, QueryCounter.current(), elapsed);
+    }
+
+    /**
+     * 측정 후 예산 초과 여부를 검증하고 호출 결과를 반환한다.
+     */
+    public <T> T assertWithin(Supplier<T> call) {
+        Measurement<T> measurement = measure(call);
+        assertThat(measurement.queries())
+                .as("%s executed %d JDBC statements (budget %d)", name, measurement.queries(), maxQueries)
+                .isLessThanOrEqualTo(maxQueries);
+        assertThat(measurement.elapsed())
+                .as("%s took %d ms (budget %d ms)", name, measurement.elapsed().toMillis(), maxLatency.toMillis())
+                .isLessThanOrEqualTo(maxLatency);
+        return measurement.result();
+    }
+
+    public record Measurement<T>(T result, long queries, Duration elapsed) { }
+}
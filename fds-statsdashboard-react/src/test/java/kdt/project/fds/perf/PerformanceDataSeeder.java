@@ -0,0 +1,353 @@
+package kdt.project.fds.perf;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 이 파일은 성능 테스트용 데이터 적재 파일이다.
+ * 고정 시드 난수로 사용자/계좌/카드/거래/탐지/신고/블랙리스트/코드북 데이터를 배치 삽입한다.
+ * 거래 시각은 기준일 이전 14일에 분포시켜 기본 조회 기간(최근 7일)에 데이터가 걸리도록 한다.
+ */
+public final class PerformanceDataSeeder {
+    public static final long TARGET_USER_ID = 1L;
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] GENDERS = {"M", "F", null};
+    private static final String[] ACCOUNT_STATUSES = {"ACTIVE", "ACTIVE", "ACTIVE", "DORMANT", "SUSPENDED"};
+    private static final String[] CARD_TYPES = {"CREDIT", "DEBIT", "CHECK"};
+    private static final String[] CARD_STATUSES = {"ACTIVE", "ACTIVE", "LOST", "EXPIRED"};
+    private static final String[] ISSUERS = {"KB", "SHINHAN", "HYUNDAI", "SAMSUNG", "WOORI"};
+    private static final String[] TX_TYPES = {"TRANSFER", "PAYMENT", "WITHDRAWAL", "DEPOSIT", "CASH_OUT"};
+    private static final String[] LOCATIONS = {"SEOUL", "BUSAN", "INCHEON", "DAEGU", "ONLINE", null};
+    private static final String[] ENGINES = {"RULE", "ML", "HYBRID"};
+    private static final String[] ACTIONS = {"ALLOW", "REVIEW", "BLOCK"};
+    private static final String[] REPORT_STATUSES = {"RECEIVED", "INVESTIGATING", "CONFIRMED", "REJECTED"};
+    private static final String[] REPORT_REASONS = {"PHISHING", "ACCOUNT_TAKEOVER", "LOAN_SCAM", "UNKNOWN_TRANSFER"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Scale scale;
+    private final LocalDate baseDate;
+    private final Random random;
+
+    public PerformanceDataSeeder(JdbcTemplate jdbcTemplate, Scale scale, LocalDate baseDate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scale = scale;
+        this.baseDate = baseDate;
+        this.random = new Random(20240101L);
+    }
+
+    /**
+     * 모든 테이블에 데이터를 적재한다.
+     * 외래키 순서(사용자 → 계좌 → 카드 → 거래 → 특징/탐지)를 따른다.
+     */
+    public void seed() {
+        createIndexes();
+        seedUsers();
+        seedAccounts();
+        seedCards();
+        seedTransactions();
+        seedFraudReports();
+        seedBlacklist();
+        seedCodebook();
+        seedConfig();
+    }
+
+    /**
+     * 운영 스키마에 있는 조회용 인덱스를 H2에도 만든다.
+     * Hibernate DDL은 FK 컬럼 인덱스를 만들지 않으므로 조인 비용이 운영과 크게 달라지는 것을 막는다.
+     * 이미 있으면 건너뛰므로 테이블을 비운 같은 DB에 다시 적재할 수 있다.
+     */
+    private void createIndexes() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_TX_TIMESTAMP ON TRANSACTIONS (TX_TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_TX_ACCOUNT ON TRANSACTIONS (ACCOUNT_ID, TX_TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_ACCOUNT_USER ON ACCOUNTS (USER_INNER_ID)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_CARD_USER ON CARDS (USER_INNER_ID)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_DETECTION_AT ON FRAUD_DETECTION_RESULTS (DETECTED_AT)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_REPORT_CREATED ON FRAUD_REPORTS (CREATED_AT)");
+    }
+
+    private void seedUsers() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= scale.users(); id++) {
+            int birthYear = 1950 + random.nextInt(55);
+            rows.add(new Object[]{
+                    id,
+                    "user" + id,
+                    "$2a$10$abcdefghijklmnopqrstuuJ2hY3k4l5m6n7o8p9q0r1s2t3u4v5w6",
+                    "User " + id,
+                    "user" + id + "@fds.test",
+                    "%d-%02d-%02d".formatted(birthYear, 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                    pick(GENDERS),
+                    id == TARGET_USER_ID ? "ADMIN" : "USER",
+                    timestamp(randomPastDateTime(60))
+            });
+        }
+        batch("""
+                INSERT INTO USERS (ID, USER_ID, USER_PW, NAME, USER_EMAIL, BIRTH, GENDER, ROLE, CREATED_AT)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private void seedAccounts() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= scale.accounts(); id++) {
+            long owner = ((id - 1) % scale.users()) + 1;
+            rows.add(new Object[]{
+                    id,
+                    accountNumber(id),
+                    owner,
+                    amount(10_000, 50_000_000),
+                    "pw",
+                    pick(ACCOUNT_STATUSES),
+                    timestamp(randomPastDateTime(60))
+            });
+        }
+        batch("""
+                INSERT INTO ACCOUNTS (ACCOUNT_ID, ACCOUNT_NUMBER, USER_INNER_ID, BALANCE, PASSWORD, STATUS, CREATED_AT)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private void seedCards() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= scale.cards(); id++) {
+            long accountId = ((id - 1) % scale.accounts()) + 1;
+            long owner = ((accountId - 1) % scale.users()) + 1;
+            rows.add(new Object[]{
+                    id,
+                    "9400%012d".formatted(id),
+                    pick(CARD_TYPES),
+                    owner,
+                    accountId,
+                    pick(ISSUERS),
+                    pick(CARD_STATUSES),
+                    timestamp(randomPastDateTime(60))
+            });
+        }
+        batch("""
+                INSERT INTO CARDS (CARD_ID, CARD_NUMBER, CARD_TYPE, USER_INNER_ID, ACCOUNT_ID, ISSUER, STATUS, CREATED_AT)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    /**
+     * 거래와 거래 특징값, 탐지 결과를 함께 생성한다.
+     * 거래의 일부만 탐지 결과를 가지며, 탐지 결과 중 일부만 사기로 표시한다.
+     */
+    private void seedTransactions() {
+        List<Object[]> transactions = new ArrayList<>();
+        List<Object[]> features = new ArrayList<>();
+        List<Object[]> detections = new ArrayList<>();
+        long detectionId = 1;
+        for (long txId = 1; txId <= scale.transactions(); txId++) {
+            long accountId = 1 + random.nextInt((int) scale.accounts());
+            LocalDateTime txAt = randomPastDateTime(14);
+            BigDecimal txAmount = amount(1_000, 3_000_000);
+            transactions.add(new Object[]{
+                    txId,
+                    accountId,
+                    pick(TX_TYPES),
+                    txAmount,
+                    amount(0, 50_000_000),
+                    random.nextInt(4) == 0 ? null : accountNumber(1 + random.nextInt((int) scale.accounts())),
+                    random.nextInt(5) == 0 ? null : "MERCHANT_" + random.nextInt(200),
+                    pick(LOCATIONS),
+                    random.nextInt(3) == 0 ? null : "memo " + random.nextInt(50),
+                    timestamp(txAt)
+            });
+            if (random.nextInt(10) < 8) {
+                features.add(new Object[]{
+                        txId,
+                        amount(0, 10_000_000),
+                        amount(0, 10_000_000),
+                        amount(0, 10_000_000),
+                        amount(0, 10_000_000),
+                        amount(0, 10_000),
+                        random.nextInt(4) == 0 ? null : featureVector()
+                });
+            }
+            if (random.nextInt(10) < 3) {
+                double probability = random.nextDouble();
+                detections.add(new Object[]{
+                        detectionId++,
+                        txId,
+                        probability,
+                        probability > 0.9 && random.nextInt(3) > 0 ? 1 : 0,
+                        pick(ENGINES),
+                        random.nextInt(10) == 0 ? null : 0.5 + random.nextInt(5) / 10.0,
+                        pick(ACTIONS),
+                        timestamp(txAt.plusSeconds(5 + random.nextInt(600)))
+                });
+            }
+        }
+        batch("""
+                INSERT INTO TRANSACTIONS (TX_ID, ACCOUNT_ID, TX_TYPE, TX_AMOUNT, BALANCE_AFTER_TX,
+                                          TARGET_ACCOUNT_NUMBER, MERCHANT_NAME, LOCATION, DESCRIPTION, TX_TIMESTAMP)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, transactions);
+        batch("""
+                INSERT INTO TRANSACTION_FEATURES (TX_ID, OLD_BALANCE_ORG, NEW_BALANCE_ORG, OLD_BALANCE_DEST,
+                                                  NEW_BALANCE_DEST, ERROR_BALANCE, V_FEATURES)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, features);
+        batch("""
+                INSERT INTO FRAUD_DETECTION_RESULTS (DETECTION_ID, TX_ID, FRAUD_PROBABILITY, IS_FRAUD,
+                                                     DETECTED_ENGINE, THRESHOLD_VALUE, ACTION_TAKEN, DETECTED_AT)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, detections);
+    }
+
+    private void seedFraudReports() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= scale.reports(); id++) {
+            rows.add(new Object[]{
+                    id,
+                    accountNumber(1 + random.nextInt((int) Math.min(scale.accounts(), 200))),
+                    1 + (long) random.nextInt((int) scale.users()),
+                    pick(REPORT_REASONS),
+                    pick(REPORT_STATUSES),
+                    timestamp(randomPastDateTime(14))
+            });
+        }
+        batch("""
+                INSERT INTO FRAUD_REPORTS (REPORT_ID, ACCOUNT_NUMBER, REPORTER_ID, REASON, STATUS, CREATED_AT)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private void seedBlacklist() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= scale.blacklist(); id++) {
+            rows.add(new Object[]{
+                    accountNumber(id * 7),
+                    pick(REPORT_REASONS),
+                    timestamp(randomPastDateTime(30))
+            });
+        }
+        batch("""
+                INSERT INTO BLACKLIST_ACCOUNTS (ACCOUNT_NUMBER, REASON, BLOCKED_AT)
+                VALUES (?, ?, ?)
+                """, rows);
+    }
+
+    private void seedCodebook() {
+        List<Object[]> rows = new ArrayList<>();
+        long id = 1;
+        id = addCodes(rows, id, "ACCOUNT_STATUS", ACCOUNT_STATUSES);
+        id = addCodes(rows, id, "CARD_STATUS", CARD_STATUSES);
+        id = addCodes(rows, id, "CARD_TYPE", CARD_TYPES);
+        id = addCodes(rows, id, "TRANSACTION_TYPE", TX_TYPES);
+        addCodes(rows, id, "REPORT_STATUS", REPORT_STATUSES);
+        batch("""
+                INSERT INTO STATS_CODEBOOK (CODEBOOK_ID, CODE_TYPE, CODE_KEY, DISPLAY_NAME, DESCRIPTION,
+                                            SORT_ORDER, IS_ACTIVE, META_JSON, CREATED_AT, UPDATED_AT)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private long addCodes(List<Object[]> rows, long startId, String codeType, String[] keys) {
+        long id = startId;
+        int sortOrder = 0;
+        for (String key : distinct(keys)) {
+            Timestamp createdAt = timestamp(randomPastDateTime(30));
+            rows.add(new Object[]{
+                    id++,
+                    codeType,
+                    key,
+                    key.toLowerCase(Locale.ROOT),
+                    sortOrder % 2 == 0 ? null : key + " description",
+                    sortOrder++,
+                    "Y",
+                    null,
+                    createdAt,
+                    createdAt
+            });
+        }
+        return id;
+    }
+
+    private void seedConfig() {
+        batch("""
+                INSERT INTO FDS_CONFIG (CONFIG_KEY, CONFIG_VALUE, DESCRIPTION)
+                VALUES (?, ?, ?)
+                """, List.of(
+                new Object[]{"ML_THRESHOLD", "0.8", "ML engine threshold"},
+                new Object[]{"RULE_THRESHOLD", "0.7", "Rule engine threshold"},
+                new Object[]{"MAX_DAILY_AMOUNT", "10000000", "Daily transfer limit"}
+        ));
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private LocalDateTime randomPastDateTime(int days) {
+        return baseDate.minusDays(random.nextInt(days))
+                .atStartOfDay()
+                .plusSeconds(random.nextInt(24 * 60 * 60));
+    }
+
+    private BigDecimal amount(long min, long max) {
+        long value = min + (long) (random.nextDouble() * (max - min));
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private String featureVector() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 16; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(String.format(Locale.ROOT, "%.4f", random.nextGaussian()));
+        }
+        return builder.toString();
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String accountNumber(long accountId) {
+        return "110-%09d".formatted(accountId);
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return Timestamp.valueOf(value);
+    }
+
+    private static List<String> distinct(String[] values) {
+        List<String> result = new ArrayList<>();
+        for (String value : values) {
+            if (value != null && !result.contains(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 테이블별 적재 행 수를 정의한다.
+     */
+    public record Scale(
+            long users,
+            long accounts,
+            long cards,
+            long transactions,
+            long reports,
+            long blacklist
+    ) {
+        public static Scale standard() {
+            return new Scale(300, 600, 900, 30_000, 150, 40);
+        }
+    }
+}
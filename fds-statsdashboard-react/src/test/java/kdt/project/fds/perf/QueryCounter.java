@@ -0,0 +1,34 @@
+package kdt.project.fds.perf;
+
+/**
+ * 이 파일은 테스트용 JDBC 실행 횟수 카운터 파일이다.
+ * 스레드별로 Statement 실행 횟수를 누적해 서비스 메서드의 쿼리 수를 측정한다.
+ */
+public final class QueryCounter {
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 현재 스레드의 실행 횟수를 0으로 초기화한다.
+     * 측정 구간 시작 직전에 호출한다.
+     */
+    public static void reset() {
+        COUNTS.get()[0] = 0L;
+    }
+
+    /**
+     * 현재 스레드에서 Statement 실행이 한 번 일어났음을 기록한다.
+     */
+    static void increment() {
+        COUNTS.get()[0]++;
+    }
+
+    /**
+     * 마지막 reset 이후 현재 스레드에서 실행된 Statement 수를 반환한다.
+     */
+    public static long current() {
+        return COUNTS.get()[0];
+    }
+}
@@ -0,0 +1,86 @@
+package kdt.project.fds.perf;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 이 파일은 DataSource 프록시 등록 파일이다.
+ * 애플리케이션 DataSource를 감싸 Statement의 execute* 호출마다 QueryCounter를 증가시킨다.
+ */
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !isCounting(dataSource)) {
+            return proxy(DataSource.class, dataSource);
+        }
+        return bean;
+    }
+
+    /**
+     * 대상 객체를 같은 인터페이스의 프록시로 감싼다.
+     * Connection/Statement를 반환하는 호출은 다시 프록시로 감싸 실행 시점을 가로챈다.
+     */
+    private static <T> T proxy(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(
+                QueryCountingDataSourcePostProcessor.class.getClassLoader(),
+                new Class<?>[]{type},
+                new CountingHandler(type, target)
+        ));
+    }
+
+    /**
+     * 이미 이 후처리기가 감싼 객체인지 확인한다.
+     * LazyConnectionDataSourceProxy처럼 다른 JDK 프록시 커넥션을 돌려주는 DataSource도 감싸야 하므로
+     * 프록시 여부가 아니라 핸들러 종류로 판단한다.
+     */
+    private static boolean isCounting(Object target) {
+        return Proxy.isProxyClass(target.getClass()) && Proxy.getInvocationHandler(target) instanceof CountingHandler;
+    }
+
+    private static Object wrapResult(Method method, Object result) {
+        if (result instanceof Connection connection && !isCounting(connection)) {
+            return proxy(Connection.class, connection);
+        }
+        if (method.getDeclaringClass() != Connection.class) {
+            return result;
+        }
+        if (result instanceof CallableStatement statement) {
+            return proxy(CallableStatement.class, statement);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement);
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement);
+        }
+        return result;
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private record CountingHandler(Class<?> type, Object target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute")) {
+                QueryCounter.increment();
+            }
+            Object result = QueryCountingDataSourcePostProcessor.invoke(method, target, args);
+            return wrapResult(method, result);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package kdt.project.fds.perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import kdt.project.fds.detection.service.BlacklistIndexService;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * 이 파일은 H2 통합 테스트가 함께 쓰는 스프링 컨텍스트 기반 클래스 파일이다.
+ * 상속한 테스트 클래스는 설정이 모두 같아 테스트 컨텍스트 캐시에서 컨텍스트 하나와 H2 DB 하나를 함께 쓴다.
+ * 테스트가 끝날 때마다 모든 테이블을 비우고 스냅샷 디렉터리를 지우므로, 각 테스트는 필요한 데이터를 직접 적재한다.
+ * 서비스별 테스트 설정은 서로 다른 네임스페이스라 여기서 한 번에 정하고, 테스트 중 바꾼 설정 값은 테스트가 되돌린다.
+ */
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fds-shared;MODE=Oracle;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        // 분석용 풀을 커넥션 하나로 두어, 커넥션을 잡은 채 다른 분석 커넥션을 기다리는 코드가 있으면 실패하게 한다.
+        "fds.datasource.analytics.maximum-pool-size=1",
+        "fds.datasource.analytics.connection-timeout-millis=2000",
+        "fds.stats.partitioning.threshold-days=1000",
+        "fds.stats.partitioning.partition-days=3",
+        "fds.stats.partitioning.top-candidates=1000",
+        "fds.stats.partitioning.max-attempts=1",
+        "fds.stats.sampling.sample-percent=20",
+        "fds.stats.sampling.min-sample-rows=500",
+        "fds.stats.sampling.min-range-days=7",
+        "fds.detection.backtest.parallelism=2",
+        "fds.detection.backtest.fetch-size=2",
+        "fds.detection.similarity.hnsw-min-rows=10",
+        "fds.detection.write-interval-millis=60000",
+        "fds.feature-vectors.migration-batch-size=3"
+})
+@Import(SharedH2IntegrationTest.QueryCountingConfig.class)
+public abstract class SharedH2IntegrationTest {
+    protected static final Path SNAPSHOT_ROOT = createSnapshotDirectory();
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BlacklistIndexService blacklistIndexService;
+
+    @DynamicPropertySource
+    static void snapshotProperties(DynamicPropertyRegistry registry) {
+        registry.add("fds.snapshots.base-path", SNAPSHOT_ROOT::toString);
+    }
+
+    /**
+     * 기준일까지의 성능 데이터셋을 적재하고, 블랙리스트 인덱스가 이전 테스트의 데이터를 들고 있지 않도록 다시 맞춘다.
+     */
+    protected void seed(PerformanceDataSeeder.Scale scale, LocalDate baseDate) {
+        new PerformanceDataSeeder(jdbcTemplate, scale, baseDate).seed();
+        blacklistIndexService.refresh();
+    }
+
+    /**
+     * 모든 테이블을 비우고 스냅샷 디렉터리를 지운다. 식별자 시퀀스는 이어서 쓰므로 증분 캐시가 새 행을 삭제로 착각하지 않는다.
+     */
+    @AfterEach
+    void resetSharedDatabase() throws IOException {
+        List<String> tables = jdbcTemplate.queryForList("""
+                SELECT TABLE_NAME
+                FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'
+                """, String.class);
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            tables.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table));
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+        FileSystemUtils.deleteRecursively(SNAPSHOT_ROOT);
+        Files.createDirectories(SNAPSHOT_ROOT);
+    }
+
+    private static Path createSnapshotDirectory() {
+        try {
+            return Files.createTempDirectory("fds-shared-snapshots");
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to create snapshot directory", ex);
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class QueryCountingConfig {
+        @Bean
+        static QueryCountingDataSourcePostProcessor queryCountingDataSourcePostProcessor() {
+            return new QueryCountingDataSourcePostProcessor();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package kdt.project.fds.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.project.fds.stats.dto.response.StatsSnapshotGenerateResponseDTO;
+import kdt.project.fds.stats.dto.response.UserDashboardResponseDTO;
+import kdt.project.fds.stats.dto.response.UserSummaryResponseDTO;
+import kdt.project.fds.stats.service.AdminStatsDashboardService;
+import kdt.project.fds.stats.service.StatsSnapshotService;
+import kdt.project.fds.stats.service.UserStatsDashboardService;
+import kdt.project.fds.stats.vo.SnapshotScope;
+import kdt.project.fds.stats.vo.StatsDateRange;
+import kdt.project.fds.stats.vo.StatsRangeType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 이 파일은 통계 서비스 성능 회귀 테스트 파일이다.
+ * H2(Oracle 호환 모드)에 고정 데이터셋을 적재한 뒤 공개 서비스 메서드별 쿼리 수와 지연 시간을 측정하고,
+ * 선언된 예산을 넘으면 빌드를 실패시킨다.
+ * 쿼리 예산은 현재 구현의 실측값이므로 쿼리를 추가/삭제하는 변경은 예산도 함께 조정해야 한다.
+ */
+@Tag("performance")
+@ActiveProfiles("perf")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import(StatsServicePerformanceTests.QueryCountingConfig.class)
+class StatsServicePerformanceTests {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Path SNAPSHOT_DIR = createSnapshotDirectory();
+
+    private static final PerformanceBudget ADMIN_DASHBOARD =
+            new PerformanceBudget("getAdminDashboard", 100, Duration.ofSeconds(15));
+    private static final PerformanceBudget USER_DASHBOARD =
+            new PerformanceBudget("getUserDashboard", 16, Duration.ofMillis(500));
+    private static final PerformanceBudget USER_SUMMARY =
+            new PerformanceBudget("getUserSummary", 9, Duration.ofMillis(500));
+    private static final PerformanceBudget WEEKLY_SNAPSHOTS =
+            new PerformanceBudget("generateWeeklySnapshots", 103, Duration.ofSeconds(10));
+    private static final PerformanceBudget LIST_SNAPSHOTS =
+            new PerformanceBudget("listSnapshots", 0, Duration.ofMillis(200));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdminStatsDashboardService adminStatsDashboardService;
+
+    @Autowired
+    private UserStatsDashboardService userStatsDashboardService;
+
+    @Autowired
+    private StatsSnapshotService statsSnapshotService;
+
+    @DynamicPropertySource
+    static void snapshotProperties(DynamicPropertyRegistry registry) {
+        registry.add("fds.snapshots.base-path", SNAPSHOT_DIR::toString);
+    }
+
+    @BeforeAll
+    void seedDataset() {
+        new PerformanceDataSeeder(jdbcTemplate, PerformanceDataSeeder.Scale.standard(), LocalDate.now(ZONE)).seed();
+    }
+
+    @Test
+    void adminDashboardStaysWithinBudget() {
+        LocalDate today = LocalDate.now(ZONE);
+        AdminDashboardResponseDTO dashboard = ADMIN_DASHBOARD.assertWithin(
+                () -> adminStatsDashboardService.getAdminDashboard(today.minusDays(13), today)
+        );
+
+        assertThat(dashboard.transactions().totalTransactions()).isPositive();
+        assertThat(dashboard.detections().detectionCount()).isPositive();
+    }
+
+    @Test
+    void userDashboardStaysWithinBudget() {
+        UserDashboardResponseDTO dashboard = USER_DASHBOARD.assertWithin(
+                () -> userStatsDashboardService.getUserDashboard(
+                        PerformanceDataSeeder.TARGET_USER_ID,
+                        StatsRangeType.LAST_7_DAYS
+                )
+        );
+
+        assertThat(dashboard.accounts()).isNotEmpty();
+    }
+
+    @Test
+    void userSummaryStaysWithinBudget() {
+        UserSummaryResponseDTO summary = USER_SUMMARY.assertWithin(
+                () -> userStatsDashboardService.getUserSummary(
+                        PerformanceDataSeeder.TARGET_USER_ID,
+                        StatsRangeType.LAST_7_DAYS
+                )
+        );
+
+        assertThat(summary.transactionCount()).isPositive();
+    }
+
+    @Test
+    void weeklySnapshotGenerationStaysWithinBudget() {
+        LocalDate today = LocalDate.now(ZONE);
+        StatsDateRange range = new StatsDateRange(today.minusDays(6), today);
+        StatsSnapshotGenerateResponseDTO response = WEEKLY_SNAPSHOTS.assertWithin(
+                () -> statsSnapshotService.generateWeeklySnapshots(range, true)
+        );
+
+        assertThat(response.generalSnapshotFile()).isNotBlank();
+        assertThat(response.businessSnapshotFile()).isNotBlank();
+    }
+
+    @Test
+    void snapshotListingStaysWithinBudget() {
+        LocalDate today = LocalDate.now(ZONE);
+        statsSnapshotService.generateWeeklySnapshots(new StatsDateRange(today.minusDays(6), today), false);
+
+        assertThat(LIST_SNAPSHOTS.assertWithin(() -> statsSnapshotService.listSnapshots(SnapshotScope.BUSINESS)))
+                .isNotEmpty();
+    }
+
+    private static Path createSnapshotDirectory() {
+        try {
+            return Files.createTempDirectory("fds-perf-snapshots");
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to create snapshot directory", ex);
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class QueryCountingConfig {
+        @Bean
+        static QueryCountingDataSourcePostProcessor queryCountingDataSourcePostProcessor() {
+            return new QueryCountingDataSourcePostProcessor();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package kdt.project.fds.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import kdt.project.fds.other.dto.response.SyntheticDataReportDTO;
+import kdt.project.fds.other.service.SyntheticDataGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 이 파일은 합성 데이터 생성기 테스트 파일이다.
+ * 작은 규모로 H2에 적재한 뒤 행 수와 시퀀스 위치를 확인한다.
+ */
+@Tag("performance")
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fds-generator;MODE=Oracle;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "fds.generator.scale-factor=0.005",
+        "fds.generator.fraud-rate=0.01",
+        "fds.generator.batch-size=500"
+})
+class SyntheticDataGeneratorTests {
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generatesScaledRowsAndAdvancesSequences() {
+        SyntheticDataReportDTO report = syntheticDataGenerator.generate();
+
+        assertThat(report.target()).isEqualTo("H2");
+        assertThat(report.rowCounts())
+                .containsEntry("USERS", 500L)
+                .containsEntry("ACCOUNTS", 750L)
+                .containsEntry("CARDS", 1_000L)
+                .containsEntry("TRANSACTIONS", 10_000L);
+        assertThat(report.rowCounts().get("FRAUD_DETECTION_RESULTS")).isGreaterThan(report.rowCounts().get("FRAUD_REPORTS"));
+        assertThat(count("TRANSACTIONS")).isEqualTo(10_000L);
+        assertThat(count("FRAUD_DETECTION_RESULTS")).isEqualTo(report.rowCounts().get("FRAUD_DETECTION_RESULTS"));
+
+        Long maxTxId = jdbcTemplate.queryForObject("SELECT MAX(TX_ID) FROM TRANSACTIONS", Long.class);
+        Long nextTxId = jdbcTemplate.queryForObject("SELECT SEQ_TX_ID.NEXTVAL FROM DUAL", Long.class);
+        assertThat(nextTxId).isGreaterThan(maxTxId);
+
+        SyntheticDataReportDTO second = syntheticDataGenerator.generate();
+        assertThat(count("TRANSACTIONS")).isEqualTo(20_000L);
+        assertThat(second.rowCounts()).containsEntry("TRANSACTIONS", 10_000L);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
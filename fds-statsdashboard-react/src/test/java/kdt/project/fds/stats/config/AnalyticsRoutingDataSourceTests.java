@@ -0,0 +1,96 @@
+package kdt.project.fds.stats.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import kdt.project.fds.stats.service.AdminStatsDashboardService;
+import kdt.project.fds.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이 파일은 분석용 풀 라우팅 테스트 파일이다.
+ * 서로 다른 두 H2 DB를 기본/분석용 풀로 두고, 읽기 전용 통계 트랜잭션만 분석용 풀로 가는지 확인한다.
+ */
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fds-route-primary;MODE=Oracle;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "fds.datasource.analytics.url=jdbc:h2:mem:fds-route-analytics;MODE=Oracle;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "fds.datasource.analytics.username=sa",
+        "fds.datasource.analytics.maximum-pool-size=2"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalyticsRoutingDataSourceTests {
+    private static final String STATS_TRANSACTION =
+            "kdt.project.fds.stats.service.AdminStatsDashboardService.getAdminDashboard";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AnalyticsDataSourceConfig.DataSourcePools pools;
+
+    @Autowired
+    private AdminStatsDashboardService adminStatsDashboardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    void copySchemaToAnalyticsDatabase() {
+        // 기본 DB에 생성된 스키마를 복제 DB처럼 분석용 DB에 그대로 만든다.
+        List<String> ddl = new JdbcTemplate(pools.primary()).queryForList("SCRIPT NODATA", String.class);
+        JdbcTemplate analytics = new JdbcTemplate(pools.analytics());
+        ddl.stream()
+                .filter(statement -> statement.startsWith("CREATE"))
+                .forEach(analytics::execute);
+    }
+
+    @Test
+    void routesOnlyNamedReadOnlyTransactionsToAnalyticsPool() {
+        assertThat(databaseIn(STATS_TRANSACTION, true)).containsIgnoringCase("analytics");
+        assertThat(databaseIn(STATS_TRANSACTION, false)).containsIgnoringCase("primary");
+        assertThat(databaseIn("kdt.project.fds.users.service.UserService.signup", true))
+                .containsIgnoringCase("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).containsIgnoringCase("primary");
+    }
+
+    @Test
+    void statsServiceUsesAnalyticsPoolAndRepositoryReadsStayOnPrimary() {
+        double analyticsBefore = usageCount("fds-analytics");
+        adminStatsDashboardService.getAdminDashboard(LocalDate.now().minusDays(7), LocalDate.now());
+        assertThat(usageCount("fds-analytics")).isGreaterThan(analyticsBefore);
+
+        analyticsBefore = usageCount("fds-analytics");
+        double primaryBefore = usageCount("fds-primary");
+        userRepository.findAll();
+        assertThat(usageCount("fds-analytics")).isEqualTo(analyticsBefore);
+        assertThat(usageCount("fds-primary")).isGreaterThan(primaryBefore);
+    }
+
+    private String databaseIn(String transactionName, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setName(transactionName);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private double usageCount(String pool) {
+        return meterRegistry.get("hikaricp.connections.usage").tag("pool", pool).timer().count();
+    }
+}
@@ -0,0 +1,78 @@
+package kdt.project.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import kdt.project.fds.perf.PerformanceDataSeeder;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import kdt.project.fds.stats.dto.response.AdminComparisonResponseDTO;
+import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 관리자 기간 비교 테스트 파일이다.
+ * 한 번의 조회로 구한 기간별 거래/탐지 건수가 기간마다 대시보드를 따로 조회한 값과 같은지,
+ * 증감이 직전 기간 기준으로 계산되는지, 겹치는 기간은 400으로 거절하는지 확인한다.
+ */
+class AdminStatsComparisonServiceTests extends SharedH2IntegrationTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Autowired
+    private AdminStatsComparisonService adminStatsComparisonService;
+
+    @Autowired
+    private AdminStatsDashboardService adminStatsDashboardService;
+
+    @Test
+    void compareMatchesPerRangeDashboardsAndRejectsOverlap() {
+        LocalDate today = LocalDate.now(ZONE);
+        seed(new PerformanceDataSeeder.Scale(20, 40, 40, 2_000, 10, 5), today);
+        LocalDate earlierFrom = today.minusDays(13);
+        LocalDate laterFrom = today.minusDays(6);
+
+        AdminComparisonResponseDTO comparison = adminStatsComparisonService.compare(List.of(
+                laterFrom + ".." + today,
+                earlierFrom + ".." + laterFrom.minusDays(1)
+        ), 0, 0);
+
+        assertThat(comparison.ranges()).extracting(AdminComparisonResponseDTO.RangeDTO::fromDate)
+                .containsExactly(earlierFrom, laterFrom);
+        AdminDashboardResponseDTO earlier = adminStatsDashboardService.getAdminDashboard(earlierFrom, laterFrom.minusDays(1));
+        AdminDashboardResponseDTO later = adminStatsDashboardService.getAdminDashboard(laterFrom, today);
+
+        AdminComparisonResponseDTO.MetricSeriesDTO transactions = metric(comparison, "transactionCount");
+        assertThat(transactions.values()).containsExactly(
+                BigDecimal.valueOf(earlier.transactions().totalTransactions()),
+                BigDecimal.valueOf(later.transactions().totalTransactions()));
+        assertThat(transactions.deltas().get(0)).isNull();
+        assertThat(transactions.deltas().get(1)).isEqualByComparingTo(BigDecimal.valueOf(
+                later.transactions().totalTransactions() - earlier.transactions().totalTransactions()));
+        assertThat(metric(comparison, "detectionCount").values()).containsExactly(
+                BigDecimal.valueOf(earlier.detections().detectionCount()),
+                BigDecimal.valueOf(later.detections().detectionCount()));
+        assertThat(metric(comparison, "fraudCount").values()).containsExactly(
+                BigDecimal.valueOf(earlier.detections().fraudCount()),
+                BigDecimal.valueOf(later.detections().fraudCount()));
+
+        assertThatThrownBy(() -> adminStatsComparisonService.compare(List.of(
+                earlierFrom + ".." + laterFrom,
+                laterFrom + ".." + today
+        ), 0, 0))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private static AdminComparisonResponseDTO.MetricSeriesDTO metric(AdminComparisonResponseDTO comparison, String name) {
+        return comparison.metrics().stream()
+                .filter(metric -> metric.metric().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,123 @@
+package kdt.project.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import kdt.project.fds.perf.PerformanceDataSeeder;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import kdt.project.fds.stats.config.StatsPartitionProperties;
+import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.project.fds.stats.vo.StatsDateRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이 파일은 관리자 대시보드 거래 섹션 분할 집계 테스트 파일이다.
+ * 같은 기간을 한 번에 집계한 결과(분할 기준 일수를 크게 두어 기존 경로 사용)와 3일 파티션으로 나누어 합친 결과가 같은지 확인한다.
+ * 파티션 후보 수를 줄이면 보장되지 않는 상위 목록이 응답에 표시되는지, 공용 컨텍스트의 커넥션 하나짜리 분석용 풀에서
+ * 대시보드가 커넥션을 잡은 채 파티션을 기다리지 않는지도 확인한다.
+ */
+class PartitionedTransactionStatsServiceTests extends SharedH2IntegrationTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Autowired
+    private AdminStatsDashboardService adminStatsDashboardService;
+
+    @Autowired
+    private PartitionedTransactionStatsService partitionedTransactionStatsService;
+
+    @Autowired
+    private StatsPartitionProperties partitionProperties;
+
+    @BeforeEach
+    void seedTransactions() {
+        seed(new PerformanceDataSeeder.Scale(40, 80, 80, 3_000, 10, 5), LocalDate.now(ZONE));
+    }
+
+    @Test
+    void partitionedAggregationMatchesSingleRangeQueries() {
+        LocalDate today = LocalDate.now(ZONE);
+        StatsDateRange range = new StatsDateRange(today.minusDays(15), today);
+        assertThat(partitionedTransactionStatsService.partitions(range))
+                .hasSizeBetween(6, 7)
+                .allSatisfy(partition -> assertThat(partition.fromDate()).isBeforeOrEqualTo(partition.toDate()));
+
+        AdminDashboardResponseDTO.TransactionsSectionDTO expected =
+                adminStatsDashboardService.getAdminDashboard(range.fromDate(), range.toDate()).transactions();
+        AdminDashboardResponseDTO.TransactionsSectionDTO partitioned = partitionedTransactionStatsService.aggregate(range);
+
+        assertThat(partitioned.totalTransactions()).isEqualTo(expected.totalTransactions()).isPositive();
+        assertThat(partitioned.dailyTrend()).isEqualTo(expected.dailyTrend());
+        assertThat(partitioned.hourlyDistribution()).isEqualTo(expected.hourlyDistribution());
+        assertThat(partitioned.typeDistribution()).containsExactlyInAnyOrderEntriesOf(expected.typeDistribution());
+        assertThat(partitioned.amountSummary().total()).isEqualByComparingTo(expected.amountSummary().total());
+        assertThat(partitioned.amountSummary().average().doubleValue())
+                .isCloseTo(expected.amountSummary().average().doubleValue(), within(1e-6));
+        assertFieldStats(partitioned.locationStats(), expected.locationStats());
+        assertFieldStats(partitioned.merchantStats(), expected.merchantStats());
+        assertThat(counts(partitioned.topAccountsByCount())).isEqualTo(counts(expected.topAccountsByCount()));
+        assertThat(counts(partitioned.topUsersByCount())).isEqualTo(counts(expected.topUsersByCount()));
+        assertThat(partitioned.topAccountsByAmount()).isEqualTo(expected.topAccountsByAmount());
+        assertThat(partitioned.topUsersByAmount()).isEqualTo(expected.topUsersByAmount());
+        assertThat(partitioned.approximateTopMetrics()).isEmpty();
+
+        // 오늘 이전에 끝난 파티션은 캐시에서 읽으므로 두 번째 결과도 같다.
+        assertThat(partitionedTransactionStatsService.aggregate(range)).isEqualTo(partitioned);
+    }
+
+    @Test
+    void reportsTopListsThatMayBeApproximate() {
+        LocalDate today = LocalDate.now(ZONE);
+        StatsDateRange range = new StatsDateRange(today.minusDays(15), today);
+        int topCandidates = partitionProperties.getTopCandidates();
+        long cacheTtlMillis = partitionProperties.getCacheTtlMillis();
+        // 파티션마다 상위 5개 후보만 가져오면 80개 계좌가 고르게 나뉜 건수 순위는 보장되지 않는다.
+        partitionProperties.setTopCandidates(5);
+        partitionProperties.setCacheTtlMillis(0);
+        try {
+            AdminDashboardResponseDTO.TransactionsSectionDTO partitioned =
+                    partitionedTransactionStatsService.aggregate(range);
+
+            assertThat(partitioned.approximateTopMetrics()).contains("topAccountsByCount");
+            assertThat(partitioned.topAccountsByCount()).hasSize(5);
+        } finally {
+            partitionProperties.setTopCandidates(topCandidates);
+            partitionProperties.setCacheTtlMillis(cacheTtlMillis);
+        }
+    }
+
+    @Test
+    void dashboardDoesNotHoldAnalyticsConnectionWhileWaitingForPartitions() {
+        LocalDate today = LocalDate.now(ZONE);
+        StatsDateRange range = new StatsDateRange(today.minusDays(15), today);
+        int thresholdDays = partitionProperties.getThresholdDays();
+        partitionProperties.setThresholdDays(1);
+        try {
+            AdminDashboardResponseDTO dashboard =
+                    adminStatsDashboardService.getAdminDashboard(range.fromDate(), range.toDate());
+
+            assertThat(dashboard.transactions()).isEqualTo(partitionedTransactionStatsService.aggregate(range));
+            assertThat(dashboard.detections()).isNotNull();
+        } finally {
+            partitionProperties.setThresholdDays(thresholdDays);
+        }
+    }
+
+    private static void assertFieldStats(
+            AdminDashboardResponseDTO.FieldStatsDTO actual,
+            AdminDashboardResponseDTO.FieldStatsDTO expected
+    ) {
+        assertThat(actual.totalCount()).isEqualTo(expected.totalCount());
+        assertThat(actual.missingCount()).isEqualTo(expected.missingCount());
+        assertThat(actual.missingRate()).isEqualByComparingTo(expected.missingRate());
+        assertThat(counts(actual.topValues())).isEqualTo(counts(expected.topValues()));
+    }
+
+    private static List<Long> counts(List<AdminDashboardResponseDTO.NamedCountDTO> values) {
+        return values.stream().map(AdminDashboardResponseDTO.NamedCountDTO::count).toList();
+    }
+}
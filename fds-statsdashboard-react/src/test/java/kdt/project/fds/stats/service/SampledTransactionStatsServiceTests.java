@@ -0,0 +1,88 @@
+package kdt.project.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import kdt.project.fds.perf.PerformanceDataSeeder;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import kdt.project.fds.stats.config.StatsSamplingProperties;
+import kdt.project.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.project.fds.stats.vo.StatsAccuracy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이 파일은 관리자 대시보드 근사 집계 테스트 파일이다.
+ * 20% 표본으로 추정한 거래 건수/합계/평균이 정확한 값과 신뢰구간 폭 안팎으로 가까운지, 탐지 비율은 정확한 값과 같은지,
+ * 기간이 최소 일수보다 짧거나 표본이 최소 표본 수보다 적으면 정확한 집계로 대신하는지 확인한다.
+ */
+class SampledTransactionStatsServiceTests extends SharedH2IntegrationTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Autowired
+    private AdminStatsDashboardService adminStatsDashboardService;
+
+    @Autowired
+    private StatsSamplingProperties samplingProperties;
+
+    @Test
+    void approximateDashboardEstimatesTransactionsWithConfidenceIntervals() {
+        LocalDate today = LocalDate.now(ZONE);
+        seed(new PerformanceDataSeeder.Scale(40, 80, 80, 20_000, 10, 5), today);
+        LocalDate from = today.minusDays(13);
+
+        AdminDashboardResponseDTO exact = adminStatsDashboardService.getAdminDashboard(from, today, StatsAccuracy.EXACT);
+        AdminDashboardResponseDTO approximate =
+                adminStatsDashboardService.getAdminDashboard(from, today, StatsAccuracy.APPROXIMATE);
+
+        assertThat(exact.approximation()).isNull();
+        AdminDashboardResponseDTO.ApproximationDTO approximation = approximate.approximation();
+        assertThat(approximation).isNotNull();
+        assertThat(approximation.method()).isEqualTo("BERNOULLI");
+        assertThat(approximation.sampledRows()).isBetween(2_000L, 6_000L);
+
+        AdminDashboardResponseDTO.EstimateDTO count = approximation.estimates().get("transactions.totalTransactions");
+        assertThat(count.estimate().longValue()).isEqualTo(approximate.transactions().totalTransactions());
+        assertThat(count.lower()).isLessThan(count.estimate());
+        assertThat(count.upper()).isGreaterThan(count.estimate());
+        assertClose(count, BigDecimal.valueOf(exact.transactions().totalTransactions()));
+        assertClose(approximation.estimates().get("transactions.amountSummary.total"),
+                exact.transactions().amountSummary().total());
+        assertClose(approximation.estimates().get("transactions.amountSummary.average"),
+                exact.transactions().amountSummary().average());
+        assertThat(exact.transactions().typeDistribution()).containsKeys(
+                approximate.transactions().typeDistribution().keySet().toArray(String[]::new));
+        assertThat(approximation.estimates()).containsKey("transactions.locationStats.missingCount");
+        // 탐지 비율은 표본 추정 건수가 아닌 정확한 거래 건수로 나눈다.
+        assertThat(approximate.detections().detectionCoverage())
+                .isEqualByComparingTo(exact.detections().detectionCoverage());
+
+        // 최소 일수보다 짧은 기간은 표본을 읽지 않고 정확한 집계를 사용한다.
+        AdminDashboardResponseDTO shortRange =
+                adminStatsDashboardService.getAdminDashboard(today.minusDays(5), today, StatsAccuracy.APPROXIMATE);
+        assertThat(shortRange.approximation()).isNull();
+        assertThat(shortRange.transactions().totalTransactions()).isEqualTo(
+                adminStatsDashboardService.getAdminDashboard(today.minusDays(5), today).transactions().totalTransactions());
+
+        // 표본이 최소 표본 수보다 적어도 정확한 집계를 사용한다.
+        long minSampleRows = samplingProperties.getMinSampleRows();
+        samplingProperties.setMinSampleRows(1_000_000);
+        try {
+            assertThat(adminStatsDashboardService.getAdminDashboard(from, today, StatsAccuracy.APPROXIMATE)
+                    .approximation()).isNull();
+        } finally {
+            samplingProperties.setMinSampleRows(minSampleRows);
+        }
+    }
+
+    /**
+     * 추정값과 정확한 값의 차이가 신뢰구간 폭의 두 배(표준오차 약 8배) 이내인지 확인한다.
+     */
+    private static void assertClose(AdminDashboardResponseDTO.EstimateDTO estimate, BigDecimal exact) {
+        BigDecimal width = estimate.upper().subtract(estimate.lower());
+        assertThat(width).isPositive();
+        assertThat(estimate.estimate().subtract(exact).abs()).isLessThanOrEqualTo(width.multiply(BigDecimal.TWO));
+    }
+}
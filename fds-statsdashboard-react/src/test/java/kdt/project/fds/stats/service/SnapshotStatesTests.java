@@ -0,0 +1,69 @@
+package kdt.project.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import kdt.project.fds.stats.vo.SnapshotDayState;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 이 파일은 스냅샷 일별 상태 병합 테스트 파일이다.
+ * 건수/합계/비율/최신 시각이 일별 상태를 더한 값과 같은지, 중앙값이 합친 히스토그램에서 보간되는지,
+ * 빈 입력에서는 평균과 중앙값이 비고 비율이 0인지 확인한다.
+ */
+class SnapshotStatesTests {
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Test
+    void mergesDailyStatesIntoKpi() {
+        long[] first = new long[SnapshotDayState.PROBABILITY_BINS];
+        first[10] = 3;
+        long[] second = new long[SnapshotDayState.PROBABILITY_BINS];
+        second[100] = 1;
+        second[150] = 1;
+        SnapshotDayState monday = new SnapshotDayState(MONDAY, 10, new BigDecimal("1000"), 8, 3, 1, 0.16, first,
+                MONDAY.atTime(23, 0), MONDAY.atTime(22, 0));
+        SnapshotDayState tuesday = new SnapshotDayState(MONDAY.plusDays(1), 6, new BigDecimal("500"), 4, 2, 2, 1.26,
+                second, MONDAY.plusDays(1).atTime(9, 0), null);
+
+        Map<String, Object> kpi = SnapshotStates.kpi(List.of(monday, tuesday));
+
+        assertThat(kpi.get("transactionCount")).isEqualTo(16L);
+        assertThat((BigDecimal) kpi.get("totalAmount")).isEqualByComparingTo("1500");
+        assertThat((BigDecimal) kpi.get("averageAmount")).isEqualByComparingTo("125");
+        assertThat(kpi.get("detectedCount")).isEqualTo(5L);
+        assertThat((BigDecimal) kpi.get("detectedRate")).isEqualByComparingTo("0.3125");
+        assertThat(kpi.get("fraudCount")).isEqualTo(3L);
+        assertThat((BigDecimal) kpi.get("fraudRate")).isEqualByComparingTo("0.6");
+        assertThat((Double) kpi.get("averageFraudProbability")).isCloseTo(0.284, within(1e-9));
+        // 다섯 값 중 세 번째는 10번 구간(0.05 ~ 0.055)의 세 값 중 마지막이다.
+        assertThat((Double) kpi.get("medianFraudProbability")).isCloseTo((10 + 2.5 / 3) / 200, within(1e-9));
+        assertThat(kpi.get("latestTransactionAt")).isEqualTo(MONDAY.plusDays(1).atTime(9, 0));
+        assertThat(kpi.get("latestDetectionAt")).isEqualTo(MONDAY.atTime(22, 0));
+    }
+
+    @Test
+    void emptyStatesHaveNoAveragesAndZeroRates() {
+        Map<String, Object> kpi = SnapshotStates.kpi(List.of());
+
+        assertThat(kpi.get("transactionCount")).isEqualTo(0L);
+        assertThat(kpi.get("averageAmount")).isNull();
+        assertThat((BigDecimal) kpi.get("detectedRate")).isEqualByComparingTo("0");
+        assertThat((BigDecimal) kpi.get("fraudRate")).isEqualByComparingTo("0");
+        assertThat(kpi.get("averageFraudProbability")).isNull();
+        assertThat(kpi.get("medianFraudProbability")).isNull();
+        assertThat(kpi.get("latestTransactionAt")).isNull();
+    }
+
+    @Test
+    void rateRoundsToFourDecimalPlaces() {
+        assertThat(SnapshotStates.rate(1, 3)).isEqualByComparingTo("0.3333");
+        assertThat(SnapshotStates.rate(2, 3)).isEqualByComparingTo("0.6667");
+        assertThat(SnapshotStates.rate(1, 0)).isEqualByComparingTo("0");
+    }
+}
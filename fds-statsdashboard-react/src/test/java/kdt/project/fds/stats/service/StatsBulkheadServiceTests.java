@@ -0,0 +1,79 @@
+package kdt.project.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kdt.project.fds.stats.config.StatsBulkheadProperties;
+import kdt.project.fds.stats.vo.StatsTrafficClass;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 이 파일은 통계 벌크헤드 서비스 테스트 파일이다.
+ * 사용자별 연속 허용 폭을 넘으면 429, 분류별 실행 슬롯이 없으면 503이 발생하고
+ * 다른 분류와 다른 사용자의 용량은 영향을 받지 않는지 확인한다.
+ */
+class StatsBulkheadServiceTests {
+
+    @Test
+    void rejectsPrincipalOverBurstWithoutAffectingOthers() {
+        StatsBulkheadProperties properties = new StatsBulkheadProperties();
+        properties.setUserDashboard(new StatsBulkheadProperties.Limit(100, 0, 0.5, 3));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StatsBulkheadService service = new StatsBulkheadService(properties, registry);
+
+        for (int i = 0; i < 3; i++) {
+            service.acquire(StatsTrafficClass.USER_DASHBOARD, "user:1");
+            service.release(StatsTrafficClass.USER_DASHBOARD);
+        }
+        assertThatThrownBy(() -> service.acquire(StatsTrafficClass.USER_DASHBOARD, "user:1"))
+                .isInstanceOfSatisfying(StatsOverloadedException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(ex.getRetryAfterSeconds()).isBetween(1L, 2L);
+                });
+
+        service.acquire(StatsTrafficClass.USER_DASHBOARD, "user:2");
+        service.release(StatsTrafficClass.USER_DASHBOARD);
+        assertThat(registry.get("fds.stats.bulkhead.rejected")
+                .tags("class", "user-dashboard", "reason", "rate").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectsWhenClassSlotsAreExhaustedAndRecoversAfterRelease() {
+        StatsBulkheadProperties properties = new StatsBulkheadProperties();
+        properties.setAdminDashboard(new StatsBulkheadProperties.Limit(2, 0, 0, 1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StatsBulkheadService service = new StatsBulkheadService(properties, registry);
+
+        service.acquire(StatsTrafficClass.ADMIN_DASHBOARD, "user:1");
+        service.acquire(StatsTrafficClass.ADMIN_DASHBOARD, "user:2");
+        assertThat(registry.get("fds.stats.bulkhead.active").tag("class", "admin-dashboard").gauge().value())
+                .isEqualTo(2.0);
+
+        assertThatThrownBy(() -> service.acquire(StatsTrafficClass.ADMIN_DASHBOARD, "user:3"))
+                .isInstanceOfSatisfying(StatsOverloadedException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        // 다른 분류의 용량은 그대로 남아 있다.
+        service.acquire(StatsTrafficClass.USER_DASHBOARD, "user:3");
+        service.release(StatsTrafficClass.USER_DASHBOARD);
+
+        service.release(StatsTrafficClass.ADMIN_DASHBOARD);
+        service.acquire(StatsTrafficClass.ADMIN_DASHBOARD, "user:3");
+        assertThat(service.availableSlots(StatsTrafficClass.ADMIN_DASHBOARD)).isZero();
+    }
+
+    @Test
+    void evictsIdleBucketsWhenTrackingLimitIsReached() {
+        StatsBulkheadProperties properties = new StatsBulkheadProperties();
+        properties.setMaxTrackedPrincipals(4);
+        properties.setUserDashboard(new StatsBulkheadProperties.Limit(100, 0, 1_000_000, 1));
+        StatsBulkheadService service = new StatsBulkheadService(properties, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 20; i++) {
+            service.acquire(StatsTrafficClass.USER_DASHBOARD, "user:" + i);
+            service.release(StatsTrafficClass.USER_DASHBOARD);
+        }
+        assertThat(service.trackedPrincipals(StatsTrafficClass.USER_DASHBOARD)).isLessThanOrEqualTo(5);
+    }
+}
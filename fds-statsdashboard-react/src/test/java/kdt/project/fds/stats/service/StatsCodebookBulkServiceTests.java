@@ -0,0 +1,131 @@
+package kdt.project.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import kdt.project.fds.stats.dto.response.StatsCodebookImportResponseDTO;
+import kdt.project.fds.stats.vo.CodebookImportMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이 파일은 코드북 일괄 등록 서비스 테스트 파일이다.
+ * JSON/CSV 일괄 등록의 검증 실패, 중복, 충돌 보고와 CSV 내보내기 왕복을 H2에서 확인한다.
+ */
+class StatsCodebookBulkServiceTests extends SharedH2IntegrationTest {
+    @Autowired
+    private StatsCodebookBulkService bulkService;
+
+    @Test
+    void importsJsonAndReportsRowConflicts() {
+        String json = """
+                [
+                  {"codeType":"CHANNEL","codeKey":"WEB","displayName":"웹","sortOrder":1,"active":true},
+                  {"codeType":"CHANNEL","codeKey":"APP","displayName":"","active":true},
+                  {"codeType":"CHANNEL","codeKey":"WEB","displayName":"웹 중복","active":true},
+                  {"codeType":"CHANNEL","codeKey":"ATM","displayName":"ATM","active":false,"metaJson":"{\\"color\\":\\"red\\"}"}
+                ]
+                """;
+
+        StatsCodebookImportResponseDTO result = bulkService.importJson(stream(json), CodebookImportMode.UPSERT);
+
+        assertThat(result.received()).isEqualTo(4);
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(result.updated()).isZero();
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.conflicts())
+                .extracting(StatsCodebookImportResponseDTO.RowConflictDTO::row)
+                .containsExactly(2L, 3L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT META_JSON FROM STATS_CODEBOOK WHERE CODE_KEY = 'ATM'", String.class
+        )).isEqualTo("{\"color\":\"red\"}");
+    }
+
+    @Test
+    void rejectsMistypedJsonElementsPerRow() {
+        String json = """
+                [
+                  {"codeType":"CHANNEL","codeKey":"WEB","displayName":"웹","sortOrder":"first","active":true},
+                  42,
+                  {"codeType":"CHANNEL","codeKey":"APP","displayName":"앱","sortOrder":2,"active":true}
+                ]
+                """;
+
+        StatsCodebookImportResponseDTO result = bulkService.importJson(stream(json), CodebookImportMode.UPSERT);
+
+        assertThat(result.received()).isEqualTo(3);
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.conflicts())
+                .extracting(StatsCodebookImportResponseDTO.RowConflictDTO::row, StatsCodebookImportResponseDTO.RowConflictDTO::codeKey)
+                .containsExactly(tuple(1L, "WEB"), tuple(2L, null));
+    }
+
+    @Test
+    void upsertsCsvAndRejectsExistingKeysInInsertOnlyMode() {
+        bulkService.importJson(stream("""
+                [{"codeType":"REASON","codeKey":"R1","displayName":"기존","active":true}]
+                """), CodebookImportMode.UPSERT);
+
+        String csv = """
+                codeKey,codeType,displayName,description,active
+                R1,REASON,"갱신, 설명 포함","줄바꿈
+                포함",Y
+                R2,REASON,신규,,N
+                """;
+        StatsCodebookImportResponseDTO upsert = bulkService.importCsv(stream(csv), CodebookImportMode.UPSERT);
+
+        assertThat(upsert.inserted()).isEqualTo(1);
+        assertThat(upsert.updated()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT DISPLAY_NAME FROM STATS_CODEBOOK WHERE CODE_KEY = 'R1'", String.class
+        )).isEqualTo("갱신, 설명 포함");
+
+        StatsCodebookImportResponseDTO insertOnly = bulkService.importCsv(stream("""
+                codeType,codeKey,displayName
+                REASON,R2,다시
+                REASON,R3,추가
+                """), CodebookImportMode.INSERT_ONLY);
+
+        assertThat(insertOnly.inserted()).isEqualTo(1);
+        assertThat(insertOnly.rejected()).isEqualTo(1);
+        assertThat(insertOnly.conflicts().getFirst().codeKey()).isEqualTo("R2");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT DISPLAY_NAME FROM STATS_CODEBOOK WHERE CODE_KEY = 'R2'", String.class
+        )).isEqualTo("신규");
+    }
+
+    @Test
+    void csvExportRoundTrips() throws Exception {
+        bulkService.importJson(stream("""
+                [
+                  {"codeType":"RISK","codeKey":"HIGH","displayName":"높음, \\"위험\\"","sortOrder":1,"active":true},
+                  {"codeType":"RISK","codeKey":"LOW","displayName":"낮음","description":"두 줄\\n설명","active":false}
+                ]
+                """), CodebookImportMode.UPSERT);
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        bulkService.exportCsv("RISK", exported);
+        jdbcTemplate.update("DELETE FROM STATS_CODEBOOK");
+
+        StatsCodebookImportResponseDTO result = bulkService.importCsv(
+                new ByteArrayInputStream(exported.toByteArray()), CodebookImportMode.INSERT_ONLY
+        );
+
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(result.rejected()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT DISPLAY_NAME FROM STATS_CODEBOOK WHERE CODE_KEY = 'HIGH'", String.class
+        )).isEqualTo("높음, \"위험\"");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT DESCRIPTION || '/' || IS_ACTIVE FROM STATS_CODEBOOK WHERE CODE_KEY = 'LOW'", String.class
+        )).isEqualTo("두 줄\n설명/N");
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package kdt.project.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import kdt.project.fds.perf.PerformanceDataSeeder;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import kdt.project.fds.stats.dto.response.StatsSnapshotMetadataDTO;
+import kdt.project.fds.stats.dto.response.StatsSnapshotSeriesResponseDTO;
+import kdt.project.fds.stats.vo.SnapshotScope;
+import kdt.project.fds.stats.vo.StatsDateRange;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 스냅샷 요약 로그와 지표 시계열 테스트 파일이다.
+ * 시계열이 스냅샷 파일을 열지 않고 요약 로그만으로 응답하는지, 덮어쓴 스냅샷은 최신 요약만 남는지,
+ * 요약 로그가 없던 기존 스냅샷은 한 번 읽어 요약 로그를 채우는지, 첫 시계열 조회 전에 새 스냅샷을 만들어도
+ * 기존 스냅샷의 요약이 빠지지 않는지 확인한다.
+ */
+class StatsSnapshotServiceTests extends SharedH2IntegrationTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Autowired
+    private StatsSnapshotService statsSnapshotService;
+
+    @Test
+    void seriesIsServedFromSummaryLogWithoutOpeningSnapshots() throws IOException {
+        LocalDate today = LocalDate.now(ZONE);
+        seed(new PerformanceDataSeeder.Scale(20, 40, 40, 1_000, 10, 5), today);
+        LocalDate lastMonday = today.with(DayOfWeek.MONDAY).minusWeeks(1);
+        StatsDateRange earlier = new StatsDateRange(lastMonday.minusWeeks(1), lastMonday.minusDays(1));
+        StatsDateRange later = new StatsDateRange(lastMonday, lastMonday.plusDays(6));
+        statsSnapshotService.generateWeeklySnapshots(earlier, false);
+        statsSnapshotService.generateWeeklySnapshots(later, false);
+        statsSnapshotService.generateWeeklySnapshots(later, true);
+
+        long earlierCount = countTransactions(earlier);
+        long laterCount = countTransactions(later);
+        Path generalLog = SNAPSHOT_ROOT.resolve("weekly/user/summary.jsonl");
+        assertThat(Files.readAllLines(generalLog)).hasSize(2);
+
+        // 스냅샷 본문을 망가뜨려도 시계열은 요약 로그만 읽으므로 영향을 받지 않는다.
+        List<StatsSnapshotMetadataDTO> snapshots = statsSnapshotService.listSnapshots(SnapshotScope.GENERAL);
+        Path snapshotFile = SNAPSHOT_ROOT.resolve("weekly/user").resolve(snapshots.getFirst().filename());
+        byte[] original = Files.readAllBytes(snapshotFile);
+        Files.writeString(snapshotFile, "not json");
+        StatsSnapshotSeriesResponseDTO general =
+                statsSnapshotService.getSeries(SnapshotScope.GENERAL, "transactionCount", null, null);
+        assertThat(general.points()).extracting(StatsSnapshotSeriesResponseDTO.PointDTO::value)
+                .containsExactly(BigDecimal.valueOf(earlierCount), BigDecimal.valueOf(laterCount));
+        assertThat(statsSnapshotService.getSeries(SnapshotScope.BUSINESS, "transactionCount", later.fromDate(), null)
+                .points()).extracting(StatsSnapshotSeriesResponseDTO.PointDTO::value)
+                .containsExactly(BigDecimal.valueOf(laterCount));
+        Files.write(snapshotFile, original);
+
+        // 요약 로그가 없으면 기존 스냅샷을 한 번 읽어 다시 만든다.
+        Files.delete(generalLog);
+        assertThat(statsSnapshotService.getSeries(SnapshotScope.GENERAL, "transactionCount", null, later.toDate())
+                .points()).hasSize(2);
+        assertThat(generalLog).exists();
+
+        // 요약 로그가 없던 스냅샷이 있는 상태에서 새 스냅샷이 먼저 로그를 만들어도 기존 스냅샷 요약을 채운다.
+        Files.delete(generalLog);
+        StatsDateRange earliest = new StatsDateRange(earlier.fromDate().minusWeeks(1), earlier.fromDate().minusDays(1));
+        statsSnapshotService.generateWeeklySnapshots(earliest, false);
+        assertThat(Files.readAllLines(generalLog)).hasSize(3);
+        assertThat(statsSnapshotService.getSeries(SnapshotScope.GENERAL, "transactionCount", null, null).points())
+                .extracting(StatsSnapshotSeriesResponseDTO.PointDTO::value)
+                .containsExactly(BigDecimal.valueOf(countTransactions(earliest)),
+                        BigDecimal.valueOf(earlierCount), BigDecimal.valueOf(laterCount));
+
+        assertThatThrownBy(() -> statsSnapshotService.getSeries(SnapshotScope.GENERAL, "unknown", null, null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private long countTransactions(StatsDateRange range) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM TRANSACTIONS WHERE TX_TIMESTAMP >= ? AND TX_TIMESTAMP < ?",
+                Long.class, range.fromTimestamp(), range.toExclusiveTimestamp());
+        return count == null ? 0L : count;
+    }
+}
@@ -0,0 +1,232 @@
+package kdt.project.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import kdt.project.fds.perf.PerformanceDataSeeder;
+import kdt.project.fds.perf.QueryCounter;
+import kdt.project.fds.perf.SharedH2IntegrationTest;
+import kdt.project.fds.stats.dto.response.StatsSnapshotGenerateResponseDTO;
+import kdt.project.fds.stats.dto.response.StatsSnapshotMetadataDTO;
+import kdt.project.fds.stats.vo.SnapshotDayState;
+import kdt.project.fds.stats.vo.SnapshotScope;
+import kdt.project.fds.stats.vo.SnapshotTier;
+import kdt.project.fds.stats.vo.StatsDateRange;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이 파일은 주기별 스냅샷 병합과 보관 테스트 파일이다.
+ * 주간 스냅샷이 월을 모두 덮지 못하면 409로 거절하고, 모두 덮으면 DB 조회 없이 병합한 KPI가
+ * 월 전체를 직접 집계한 값과 같은지(중앙값은 히스토그램 구간 폭 이내인지), 분기 스냅샷이 월간 일별 상태를 합치는지,
+ * 주기별 보관 기간이 기간 종료일 기준으로 적용되고 삭제된 스냅샷의 요약 줄이 정리되는지 확인한다.
+ */
+class StatsSnapshotTierTests extends SharedH2IntegrationTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final ObjectMapper MAPPER = StatsSnapshotService.createObjectMapper();
+
+    @Autowired
+    private StatsSnapshotService statsSnapshotService;
+
+    @Test
+    void monthlySnapshotMergesWeeklyStatesWithoutQueries() throws IOException {
+        LocalDate monthEnd = LocalDate.now(ZONE).withDayOfMonth(1).minusDays(1);
+        seed(new PerformanceDataSeeder.Scale(20, 40, 40, 2_000, 10, 5), monthEnd);
+        StatsDateRange month = new StatsDateRange(monthEnd.withDayOfMonth(1), monthEnd);
+        List<StatsDateRange> weeks = new ArrayList<>();
+        for (LocalDate monday = month.fromDate().with(DayOfWeek.MONDAY); !monday.isAfter(monthEnd);
+                monday = monday.plusWeeks(1)) {
+            weeks.add(new StatsDateRange(monday, monday.plusDays(6)));
+        }
+        for (StatsDateRange week : weeks.subList(0, weeks.size() - 1)) {
+            statsSnapshotService.generateWeeklySnapshots(week, false);
+        }
+
+        assertThatThrownBy(() -> statsSnapshotService.generateMergedSnapshot(SnapshotTier.MONTHLY, monthEnd, false))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        statsSnapshotService.generateWeeklySnapshots(weeks.getLast(), false);
+        QueryCounter.reset();
+        StatsSnapshotGenerateResponseDTO response =
+                statsSnapshotService.generateMergedSnapshot(SnapshotTier.MONTHLY, monthEnd, false);
+        assertThat(QueryCounter.current()).isZero();
+
+        JsonNode kpi = new ObjectMapper()
+                .readTree(SNAPSHOT_ROOT.resolve("monthly/user").resolve(response.generalSnapshotFile()).toFile())
+                .path("kpi");
+        String monthFilter = " WHERE t.TX_TIMESTAMP >= ? AND t.TX_TIMESTAMP < ?";
+        Object[] bounds = { month.fromTimestamp(), month.toExclusiveTimestamp() };
+        assertThat(kpi.path("transactionCount").asLong()).isEqualTo(
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TRANSACTIONS t" + monthFilter, Long.class, bounds));
+        assertThat(kpi.path("totalAmount").decimalValue()).isEqualByComparingTo(jdbcTemplate.queryForObject(
+                "SELECT NVL(SUM(TX_AMOUNT), 0) FROM TRANSACTIONS t" + monthFilter, BigDecimal.class, bounds));
+        String detections = " FROM FRAUD_DETECTION_RESULTS d JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID" + monthFilter;
+        assertThat(kpi.path("detectedCount").asLong()).isEqualTo(
+                jdbcTemplate.queryForObject("SELECT COUNT(*)" + detections, Long.class, bounds));
+        assertThat(kpi.path("fraudCount").asLong()).isEqualTo(
+                jdbcTemplate.queryForObject("SELECT COUNT(*)" + detections + " AND d.IS_FRAUD = 1", Long.class, bounds));
+        List<Double> probabilities = jdbcTemplate.queryForList(
+                "SELECT d.FRAUD_PROBABILITY" + detections + " AND d.FRAUD_PROBABILITY IS NOT NULL",
+                Double.class, bounds);
+        assertThat(kpi.path("medianFraudProbability").asDouble()).isCloseTo(
+                StatsDashboardSupport.median(probabilities.stream().sorted().toList()), within(0.005));
+
+        assertThat(statsSnapshotService.listSnapshots(SnapshotTier.MONTHLY, SnapshotScope.GENERAL))
+                .singleElement()
+                .satisfies(metadata -> assertThat(metadata.fromDate()).isEqualTo(month.fromDate()));
+        assertThat(statsSnapshotService.getSeries(SnapshotTier.MONTHLY, SnapshotScope.GENERAL, "transactionCount",
+                null, null).points()).singleElement()
+                .satisfies(point -> assertThat(point.value().longValue()).isEqualTo(kpi.path("transactionCount").asLong()));
+        assertThat(Files.exists(SNAPSHOT_ROOT.resolve("monthly/user/summary.jsonl"))).isTrue();
+    }
+
+    @Test
+    void quarterlySnapshotMergesMonthlyStatesWithoutQueries() throws IOException {
+        StatsDateRange quarter = SnapshotTier.QUARTERLY.periodContaining(LocalDate.now(ZONE).minusMonths(3));
+        List<StatsDateRange> months = new ArrayList<>();
+        for (LocalDate first = quarter.fromDate(); !first.isAfter(quarter.toDate()); first = first.plusMonths(1)) {
+            months.add(SnapshotTier.MONTHLY.periodContaining(first));
+        }
+        for (StatsDateRange month : months.subList(0, 2)) {
+            writeGeneralSnapshot(SnapshotTier.MONTHLY, month, dayStates(month));
+        }
+
+        assertThatThrownBy(() -> statsSnapshotService.generateMergedSnapshot(
+                SnapshotTier.QUARTERLY, quarter.toDate(), false))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        writeGeneralSnapshot(SnapshotTier.MONTHLY, months.getLast(), dayStates(months.getLast()));
+        QueryCounter.reset();
+        StatsSnapshotGenerateResponseDTO response =
+                statsSnapshotService.generateMergedSnapshot(SnapshotTier.QUARTERLY, quarter.toDate(), false);
+        assertThat(QueryCounter.current()).isZero();
+
+        JsonNode quarterly = MAPPER.readTree(
+                SNAPSHOT_ROOT.resolve("quarterly/user").resolve(response.generalSnapshotFile()).toFile());
+        long days = quarter.toDate().toEpochDay() - quarter.fromDate().toEpochDay() + 1;
+        assertThat(quarterly.path("sources")).hasSize(3);
+        assertThat(quarterly.path("state").path("days")).hasSize((int) days);
+        assertThat(quarterly.path("kpi").path("transactionCount").asLong()).isEqualTo(days * 2);
+        assertThat(quarterly.path("kpi").path("totalAmount").decimalValue())
+                .isEqualByComparingTo(BigDecimal.valueOf(days * 30));
+        assertThat(quarterly.path("kpi").path("detectedCount").asLong()).isEqualTo(days);
+    }
+
+    @Test
+    void cleanupAppliesTierRetentionByPeriodEndAndCompactsSummaries() throws IOException {
+        LocalDate today = LocalDate.now(ZONE);
+        StatsDateRange weeklyExpired = endingOn(today.minusDays(366), 6);
+        StatsDateRange weeklyOnCutoff = endingOn(today.minusDays(365), 6);
+        StatsDateRange weeklyRecent = endingOn(today.minusDays(14), 6);
+        StatsDateRange monthlyExpired = endingOn(today.minusDays(1_826), 29);
+        StatsDateRange monthlyKept = endingOn(today.minusDays(400), 29);
+        StatsDateRange quarterlyExpired = endingOn(today.minusDays(1_826), 89);
+        StatsDateRange quarterlyKept = endingOn(today.minusDays(400), 89);
+        for (StatsDateRange week : List.of(weeklyExpired, weeklyOnCutoff, weeklyRecent)) {
+            writeGeneralSnapshot(SnapshotTier.WEEKLY, week, dayStates(week));
+        }
+        for (StatsDateRange month : List.of(monthlyExpired, monthlyKept)) {
+            writeGeneralSnapshot(SnapshotTier.MONTHLY, month, dayStates(month));
+        }
+        for (StatsDateRange period : List.of(quarterlyExpired, quarterlyKept)) {
+            writeGeneralSnapshot(SnapshotTier.QUARTERLY, period, dayStates(period));
+        }
+        // 시계열 조회가 요약 로그를 만들어 만료 예정 스냅샷의 요약도 먼저 로그에 들어간다.
+        for (SnapshotTier tier : SnapshotTier.values()) {
+            statsSnapshotService.getSeries(tier, SnapshotScope.GENERAL, "transactionCount", null, null);
+        }
+        assertThat(summaryLine(SnapshotTier.WEEKLY, weeklyExpired)).isTrue();
+        assertThat(summaryLine(SnapshotTier.QUARTERLY, quarterlyExpired)).isTrue();
+
+        StatsDateRange lastWeek = endingOn(today.with(DayOfWeek.MONDAY).minusDays(1), 6);
+        statsSnapshotService.generateWeeklySnapshots(lastWeek, false);
+
+        assertThat(snapshotIds(SnapshotTier.WEEKLY)).containsExactlyInAnyOrder(
+                snapshotId(weeklyOnCutoff), snapshotId(weeklyRecent), snapshotId(lastWeek));
+        assertThat(snapshotIds(SnapshotTier.MONTHLY)).containsExactly(snapshotId(monthlyKept));
+        assertThat(snapshotIds(SnapshotTier.QUARTERLY)).containsExactly(snapshotId(quarterlyKept));
+        assertThat(summaryLine(SnapshotTier.WEEKLY, weeklyExpired)).isFalse();
+        assertThat(summaryLine(SnapshotTier.WEEKLY, weeklyOnCutoff)).isTrue();
+        assertThat(summaryLine(SnapshotTier.MONTHLY, monthlyExpired)).isFalse();
+        assertThat(summaryLine(SnapshotTier.MONTHLY, monthlyKept)).isTrue();
+        assertThat(summaryLine(SnapshotTier.QUARTERLY, quarterlyExpired)).isFalse();
+        assertThat(summaryLine(SnapshotTier.QUARTERLY, quarterlyKept)).isTrue();
+    }
+
+    private static StatsDateRange endingOn(LocalDate toDate, int days) {
+        return new StatsDateRange(toDate.minusDays(days), toDate);
+    }
+
+    /**
+     * 날짜마다 거래 2건(합계 30), 탐지 1건인 일별 상태를 만든다.
+     */
+    private static List<SnapshotDayState> dayStates(StatsDateRange range) {
+        List<SnapshotDayState> days = new ArrayList<>();
+        for (LocalDate date = range.fromDate(); !date.isAfter(range.toDate()); date = date.plusDays(1)) {
+            long[] histogram = new long[SnapshotDayState.PROBABILITY_BINS];
+            histogram[100] = 1;
+            days.add(new SnapshotDayState(date, 2, BigDecimal.valueOf(30), 2, 1, 0, 0.5, histogram,
+                    date.atTime(12, 0), date.atTime(12, 5)));
+        }
+        return days;
+    }
+
+    /**
+     * 서비스가 쓰는 것과 같은 파일명과 본문 형식으로 일반 스냅샷 파일을 직접 쓴다.
+     */
+    private static void writeGeneralSnapshot(SnapshotTier tier, StatsDateRange range, List<SnapshotDayState> days)
+            throws IOException {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("scope", SnapshotScope.GENERAL.name());
+        payload.put("tier", tier.name());
+        payload.put("fromDate", range.fromDate());
+        payload.put("toDate", range.toDate());
+        payload.put("kpi", SnapshotStates.kpi(days));
+        payload.put("state", Map.of("probabilityBins", SnapshotDayState.PROBABILITY_BINS, "days", days));
+        Path directory = SNAPSHOT_ROOT.resolve(tier.directoryName()).resolve(SnapshotScope.GENERAL.directoryName());
+        Files.createDirectories(directory);
+        MAPPER.writeValue(directory.resolve(snapshotId(range) + ".json").toFile(), payload);
+    }
+
+    private static String snapshotId(StatsDateRange range) {
+        return "%d_%02d%02d_%d_%02d%02d".formatted(
+                range.fromDate().getYear(), range.fromDate().getMonthValue(), range.fromDate().getDayOfMonth(),
+                range.toDate().getYear(), range.toDate().getMonthValue(), range.toDate().getDayOfMonth());
+    }
+
+    private List<String> snapshotIds(SnapshotTier tier) {
+        return statsSnapshotService.listSnapshots(tier, SnapshotScope.GENERAL).stream()
+                .map(StatsSnapshotMetadataDTO::snapshotId)
+                .toList();
+    }
+
+    private static boolean summaryLine(SnapshotTier tier, StatsDateRange range) throws IOException {
+        Path logPath = SNAPSHOT_ROOT.resolve(tier.directoryName()).resolve(SnapshotScope.GENERAL.directoryName())
+                .resolve("summary.jsonl");
+        for (String line : Files.readAllLines(logPath)) {
+            if (MAPPER.readTree(line).path("snapshotId").asText().equals(snapshotId(range))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
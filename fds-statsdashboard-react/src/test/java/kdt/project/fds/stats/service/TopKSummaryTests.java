@@ -0,0 +1,65 @@
+package kdt.project.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 이 파일은 합칠 수 있는 상위 항목 요약 테스트 파일이다.
+ * 잘린 파티션 후보만 오차 한도에 더해지는지, 합친 하한과 오차 한도로 상위 구성 보장 여부를 판단하는지,
+ * merge가 인자로 받은 요약을 바꾸지 않는지 확인한다.
+ */
+class TopKSummaryTests {
+
+    @Test
+    void onlyTruncatedCandidateListsContributeToErrorBound() {
+        TopKSummary complete = TopKSummary.ofCandidates(candidates("a", 10, "b", 8), 3);
+        TopKSummary truncated = TopKSummary.ofCandidates(candidates("a", 10, "b", 8), 2);
+
+        assertThat(complete.errorBound()).isEqualByComparingTo("0");
+        assertThat(complete.isExact(1)).isTrue();
+        assertThat(truncated.errorBound()).isEqualByComparingTo("8");
+    }
+
+    @Test
+    void mergedSummaryIsExactOnlyWhenLowerBoundsBeatEveryUpperBound() {
+        TopKSummary merged = TopKSummary.ofCandidates(candidates("a", 100, "b", 50), 2);
+        merged.merge(TopKSummary.ofCandidates(candidates("a", 90, "c", 5), 2));
+
+        assertThat(merged.top(3)).extracting(Map.Entry::getKey).containsExactly("a", "b", "c");
+        assertThat(merged.top(1).getFirst().getValue()).isEqualByComparingTo("190");
+        assertThat(merged.errorBound()).isEqualByComparingTo("55");
+        // a의 하한 190은 b의 상한 50 + 55보다 크지만, b의 하한 50은 c의 상한 5 + 55보다 작다.
+        assertThat(merged.isExact(1)).isTrue();
+        assertThat(merged.isExact(2)).isFalse();
+        assertThat(merged.isExact(4)).isFalse();
+    }
+
+    @Test
+    void mergeLeavesArgumentUnchangedAndBreaksTiesByKey() {
+        TopKSummary shared = TopKSummary.ofCandidates(candidates("b", 5, "a", 5), 2);
+        TopKSummary target = new TopKSummary();
+
+        target.merge(shared);
+        target.merge(shared);
+
+        assertThat(shared.top(2)).extracting(Map.Entry::getKey).containsExactly("a", "b");
+        assertThat(shared.top(2)).extracting(Map.Entry::getValue)
+                .allSatisfy(value -> assertThat(value).isEqualByComparingTo("5"));
+        assertThat(shared.errorBound()).isEqualByComparingTo("5");
+        assertThat(target.top(2)).extracting(Map.Entry::getValue)
+                .allSatisfy(value -> assertThat(value).isEqualByComparingTo("10"));
+        assertThat(target.errorBound()).isEqualByComparingTo("10");
+    }
+
+    private static Map<String, BigDecimal> candidates(Object... keyValues) {
+        Map<String, BigDecimal> sorted = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            sorted.put((String) keyValues[i], BigDecimal.valueOf(((Number) keyValues[i + 1]).longValue()));
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,33 @@
+package kdt.project.fds.detection.service;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 이 파일은 Vector API 기반 내적 커널 파일이다.
+ * 플랫폼이 권장하는 레인 폭으로 FMA 누적한 뒤 한 번만 레인을 합치고, 레인 폭에 못 미치는 꼬리는 스칼라로 처리한다.
+ * jdk.incubator.vector 모듈이 있을 때만 VectorKernels를 통해 호출된다.
+ */
+final class SimdVectorKernels {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private SimdVectorKernels() {
+    }
+
+    static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector left = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            FloatVector right = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            sum = left.fma(right, sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+}
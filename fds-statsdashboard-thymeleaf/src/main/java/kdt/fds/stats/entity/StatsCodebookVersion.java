@@ -0,0 +1,37 @@
+package kdt.fds.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이 파일은 통계 코드북 버전 엔티티 파일이다.
+ * STATS_CODEBOOK이 바뀔 때마다 증가하는 단일 행 카운터를 매핑하며,
+ * 여러 인스턴스가 이 값을 비교해 메모리 코드북 레이블을 다시 적재한다.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "STATS_CODEBOOK_VERSION")
+public class StatsCodebookVersion {
+    // 카운터 행의 고정 id이다. 테이블에는 이 행 하나만 존재한다.
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "VERSION_ID")
+    private Long versionId;
+
+    @Column(name = "VERSION_NO", nullable = false)
+    private long versionNo;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public StatsCodebookVersion() {
+    }
+}
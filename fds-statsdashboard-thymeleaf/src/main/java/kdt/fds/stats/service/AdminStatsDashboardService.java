@@ -8,8 +8,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import kdt.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.fds.stats.vo.CodebookLabels;
 import kdt.fds.stats.vo.StatsDateRange;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -22,8 +22,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional(readOnly = true)
 public class AdminStatsDashboardService extends StatsDashboardSupport {
-    public AdminStatsDashboardService(NamedParameterJdbcTemplate jdbcTemplate) {
-        super(jdbcTemplate);
+    public AdminStatsDashboardService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            StatsCodebookLabelResolver codebookLabelResolver
+    ) {
+        super(jdbcTemplate, codebookLabelResolver);
     }
 
     /**
@@ -99,9 +102,8 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 FROM ACCOUNTS
                 GROUP BY NVL(STATUS, 'UNKNOWN')
                 """, new MapSqlParameterSource());
-        Map<String, String> accountStatusLabels = loadCodebookLabels("ACCOUNT_STATUS");
-        Set<String> accountStatusDuplicates = findDuplicateLabels(accountStatusLabels);
-        statusDistribution = mapDistributionLabels(statusDistribution, accountStatusLabels, accountStatusDuplicates);
+        CodebookLabels accountStatusLabels = codebookLabels("ACCOUNT_STATUS");
+        statusDistribution = mapDistributionLabels(statusDistribution, accountStatusLabels);
         List<AdminDashboardResponseDTO.SegmentAverageDTO> averageBalanceByGenderAge =
                 computeAverageBalanceByGenderAge();
         Map<String, Long> accountsPerUserDistribution = computeCountDistribution("""
@@ -141,12 +143,10 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 FROM CARDS
                 GROUP BY NVL(CARD_TYPE, 'UNKNOWN')
                 """, new MapSqlParameterSource());
-        Map<String, String> cardStatusLabels = loadCodebookLabels("CARD_STATUS");
-        Set<String> cardStatusDuplicates = findDuplicateLabels(cardStatusLabels);
-        statusDistribution = mapDistributionLabels(statusDistribution, cardStatusLabels, cardStatusDuplicates);
-        Map<String, String> cardTypeLabels = loadCodebookLabels("CARD_TYPE");
-        Set<String> cardTypeDuplicates = findDuplicateLabels(cardTypeLabels);
-        typeDistribution = mapDistributionLabels(typeDistribution, cardTypeLabels, cardTypeDuplicates);
+        CodebookLabels cardStatusLabels = codebookLabels("CARD_STATUS");
+        statusDistribution = mapDistributionLabels(statusDistribution, cardStatusLabels);
+        CodebookLabels cardTypeLabels = codebookLabels("CARD_TYPE");
+        typeDistribution = mapDistributionLabels(typeDistribution, cardTypeLabels);
         Map<String, Long> issuerDistribution = loadDistribution("""
                 SELECT NVL(ISSUER, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
                 FROM CARDS
@@ -225,9 +225,8 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
                 GROUP BY NVL(TX_TYPE, 'UNKNOWN')
                 """, rangeParams);
-        Map<String, String> transactionTypeLabels = loadCodebookLabels("TRANSACTION_TYPE");
-        Set<String> transactionTypeDuplicates = findDuplicateLabels(transactionTypeLabels);
-        typeDistribution = mapDistributionLabels(typeDistribution, transactionTypeLabels, transactionTypeDuplicates);
+        CodebookLabels transactionTypeLabels = codebookLabels("TRANSACTION_TYPE");
+        typeDistribution = mapDistributionLabels(typeDistribution, transactionTypeLabels);
 
         AdminDashboardResponseDTO.FieldStatsDTO merchantCategoryStats =
                 buildFieldStats("MERCHANT_CAT", rangeParams);
@@ -467,12 +466,10 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
                 GROUP BY NVL(TO_CHAR(REASON_CODE), 'UNKNOWN')
                 """, rangeParams);
-        Map<String, String> reportStatusLabels = loadCodebookLabels("REPORT_STATUS");
-        Set<String> reportStatusDuplicates = findDuplicateLabels(reportStatusLabels);
-        statusDistribution = mapDistributionLabels(statusDistribution, reportStatusLabels, reportStatusDuplicates);
-        Map<String, String> reportReasonLabels = loadCodebookLabels("REPORT_REASON");
-        Set<String> reportReasonDuplicates = findDuplicateLabels(reportReasonLabels);
-        reasonCodeDistribution = mapDistributionLabels(reasonCodeDistribution, reportReasonLabels, reportReasonDuplicates);
+        CodebookLabels reportStatusLabels = codebookLabels("REPORT_STATUS");
+        statusDistribution = mapDistributionLabels(statusDistribution, reportStatusLabels);
+        CodebookLabels reportReasonLabels = codebookLabels("REPORT_REASON");
+        reasonCodeDistribution = mapDistributionLabels(reasonCodeDistribution, reportReasonLabels);
         BigDecimal averageReportCount = queryDecimal("""
                 SELECT AVG(REPORT_COUNT)
                 FROM FRAUD_REPORTS
@@ -689,9 +686,8 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
                 GROUP BY NVL(a.STATUS, 'UNKNOWN')
                 """, rangeParams, "ACCOUNT_STATUS"));
-        Map<String, String> accountStatusLabels = loadCodebookLabels("ACCOUNT_STATUS");
-        Set<String> accountStatusDuplicates = findDuplicateLabels(accountStatusLabels);
-        segmentMetrics = mapSegmentMetrics(segmentMetrics, "ACCOUNT_STATUS", accountStatusLabels, accountStatusDuplicates);
+        CodebookLabels accountStatusLabels = codebookLabels("ACCOUNT_STATUS");
+        segmentMetrics = mapSegmentMetrics(segmentMetrics, "ACCOUNT_STATUS", accountStatusLabels);
 
         List<AdminDashboardResponseDTO.AccountRankDTO> accountRanking = jdbcTemplate.query("""
                 SELECT a.ACCOUNT_NUMBER AS ACCOUNT_NUMBER,
@@ -736,12 +732,10 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
                 GROUP BY NVL(TX_TYPE, 'UNKNOWN')
                 """, rangeParams);
-        Map<String, String> transactionTypeLabels = loadCodebookLabels("TRANSACTION_TYPE");
-        Set<String> transactionTypeDuplicates = findDuplicateLabels(transactionTypeLabels);
+        CodebookLabels transactionTypeLabels = codebookLabels("TRANSACTION_TYPE");
         transactionTypeBreakdown = mapDistributionLabels(
                 transactionTypeBreakdown,
-                transactionTypeLabels,
-                transactionTypeDuplicates
+                transactionTypeLabels
         );
 
         List<AdminDashboardResponseDTO.FraudBucketDTO> amountBuckets = loadFraudBuckets("""
@@ -785,7 +779,7 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
                 GROUP BY NVL(t.TX_TYPE, 'UNKNOWN')
                 """, rangeParams);
-        typeBuckets = mapFraudBuckets(typeBuckets, transactionTypeLabels, transactionTypeDuplicates);
+        typeBuckets = mapFraudBuckets(typeBuckets, transactionTypeLabels);
         List<AdminDashboardResponseDTO.EngineComparisonDTO> engineComparisons = jdbcTemplate.query("""
                 SELECT NVL(DETECTED_ENGINE, 'UNKNOWN') AS ENGINE,
                        AVG(FRAUD_PROBABILITY) AS AVG_PROB,
@@ -1070,8 +1064,7 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
     private List<AdminDashboardResponseDTO.SegmentMetricDTO> mapSegmentMetrics(
             List<AdminDashboardResponseDTO.SegmentMetricDTO> metrics,
             String segmentType,
-            Map<String, String> labels,
-            Set<String> duplicateLabels
+            CodebookLabels labels
     ) {
         if (metrics == null || metrics.isEmpty() || labels == null || labels.isEmpty()) {
             return metrics;
@@ -1082,7 +1075,7 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 mapped.add(metric);
                 continue;
             }
-            String mappedValue = resolveCodeLabel(metric.segmentValue(), labels, duplicateLabels);
+            String mappedValue = resolveCodeLabel(metric.segmentValue(), labels);
             mapped.add(new AdminDashboardResponseDTO.SegmentMetricDTO(
                     metric.segmentType(),
                     mappedValue,
@@ -1096,15 +1089,14 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
 
     private List<AdminDashboardResponseDTO.FraudBucketDTO> mapFraudBuckets(
             List<AdminDashboardResponseDTO.FraudBucketDTO> buckets,
-            Map<String, String> labels,
-            Set<String> duplicateLabels
+            CodebookLabels labels
     ) {
         if (buckets == null || buckets.isEmpty() || labels == null || labels.isEmpty()) {
             return buckets;
         }
         List<AdminDashboardResponseDTO.FraudBucketDTO> mapped = new ArrayList<>(buckets.size());
         for (AdminDashboardResponseDTO.FraudBucketDTO bucket : buckets) {
-            String mappedLabel = resolveCodeLabel(bucket.bucket(), labels, duplicateLabels);
+            String mappedLabel = resolveCodeLabel(bucket.bucket(), labels);
             mapped.add(new AdminDashboardResponseDTO.FraudBucketDTO(
                     mappedLabel,
                     bucket.transactionCount(),
@@ -0,0 +1,175 @@
+package kdt.fds.stats.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import kdt.fds.stats.entity.StatsCodebookVersion;
+import kdt.fds.stats.vo.CodebookLabels;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이 파일은 코드북 레이블 메모리 스냅샷 파일이다.
+ * STATS_CODEBOOK 전체를 코드 타입별 레이블 맵과 중복 레이블 집합으로 미리 계산해 불변 스냅샷으로 보관하고,
+ * 대시보드의 레이블 변환은 DB 조회 없이 스냅샷만 사용한다.
+ * 코드북이 바뀌면 STATS_CODEBOOK_VERSION 카운터를 올리고 커밋 후 스냅샷을 통째로 교체하며,
+ * 다른 인스턴스는 주기적으로 카운터를 비교해 변경을 반영한다.
+ */
+@Component
+public class StatsCodebookLabelResolver {
+    private static final Logger log = LoggerFactory.getLogger(StatsCodebookLabelResolver.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public StatsCodebookLabelResolver(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 코드 타입의 레이블 묶음을 반환한다.
+     * 스냅샷이 아직 없을 때 한 번만 적재하고, 이후에는 DB를 조회하지 않는다.
+     */
+    public CodebookLabels labels(String codeType) {
+        if (codeType == null || codeType.isBlank()) {
+            return CodebookLabels.EMPTY;
+        }
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            current = reload();
+        }
+        return current.byType().getOrDefault(codeType.trim(), CodebookLabels.EMPTY);
+    }
+
+    /**
+     * 코드북 변경을 기록한다.
+     * 현재 트랜잭션 안에서 버전 카운터를 올리고, 커밋이 끝나면 이 인스턴스의 스냅샷을 다시 적재한다.
+     */
+    public void markChanged() {
+        jdbcTemplate.update("""
+                MERGE INTO STATS_CODEBOOK_VERSION v
+                USING (SELECT :versionId AS VERSION_ID FROM DUAL) s
+                ON (v.VERSION_ID = s.VERSION_ID)
+                WHEN MATCHED THEN
+                    UPDATE SET v.VERSION_NO = v.VERSION_NO + 1, v.UPDATED_AT = SYSTIMESTAMP
+                WHEN NOT MATCHED THEN
+                    INSERT (VERSION_ID, VERSION_NO, UPDATED_AT)
+                    VALUES (:versionId, 1, SYSTIMESTAMP)
+                """, new MapSqlParameterSource("versionId", StatsCodebookVersion.SINGLETON_ID));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 커밋은 이미 끝났으므로 적재 실패를 호출자에게 던지지 않는다. 다음 버전 확인에서 다시 적재된다.
+                    try {
+                        reload();
+                    } catch (Exception ex) {
+                        log.warn("Codebook reload after commit failed: {}", ex.getMessage());
+                    }
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 코드북 변경을 확인한다.
+     * 버전 카운터 한 행만 읽고, 스냅샷과 다를 때만 전체를 다시 적재한다.
+     */
+    @Scheduled(
+            fixedDelayString = "${fds.stats.codebook.version-poll-millis:30000}",
+            initialDelayString = "${fds.stats.codebook.version-poll-millis:30000}"
+    )
+    public void refreshIfStale() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return;
+        }
+        try {
+            if (readVersion() != current.version()) {
+                reload();
+            }
+        } catch (Exception ex) {
+            log.warn("Codebook version check failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 버전과 코드북 전체를 읽어 새 스냅샷으로 교체한다.
+     * 버전을 먼저 읽으므로, 적재 중 다른 변경이 커밋되면 다음 확인에서 다시 적재된다.
+     */
+    synchronized Snapshot reload() {
+        long version = readVersion();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT CODE_TYPE, CODE_KEY, DISPLAY_NAME
+                FROM STATS_CODEBOOK
+                """, new MapSqlParameterSource());
+
+        Map<String, Map<String, String>> labelsByType = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            String codeType = normalizeText(Objects.toString(row.get("CODE_TYPE"), null));
+            String codeKey = normalizeText(Objects.toString(row.get("CODE_KEY"), null));
+            if (codeType == null || codeKey == null) {
+                continue;
+            }
+            String displayName = normalizeText(Objects.toString(row.get("DISPLAY_NAME"), null));
+            labelsByType.computeIfAbsent(codeType, key -> new LinkedHashMap<>())
+                    .put(codeKey, displayName == null ? codeKey : displayName);
+        }
+
+        Map<String, CodebookLabels> byType = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> entry : labelsByType.entrySet()) {
+            byType.put(entry.getKey(), new CodebookLabels(entry.getValue(), findDuplicateLabels(entry.getValue())));
+        }
+        Snapshot loaded = new Snapshot(version, Map.copyOf(byType));
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    private long readVersion() {
+        List<Long> versions = jdbcTemplate.queryForList("""
+                SELECT VERSION_NO
+                FROM STATS_CODEBOOK_VERSION
+                WHERE VERSION_ID = :versionId
+                """, new MapSqlParameterSource("versionId", StatsCodebookVersion.SINGLETON_ID), Long.class);
+        return versions.isEmpty() || versions.get(0) == null ? 0L : versions.get(0);
+    }
+
+    /**
+     * 동일한 DISPLAY_NAME이 여러 CODE_KEY에 매핑된 레이블을 찾는다.
+     */
+    private static Set<String> findDuplicateLabels(Map<String, String> labels) {
+        Set<String> seen = new HashSet<>();
+        Set<String> duplicates = new HashSet<>();
+        for (String label : labels.values()) {
+            if (!seen.add(label)) {
+                duplicates.add(label);
+            }
+        }
+        return duplicates;
+    }
+
+    private static String normalizeText(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    record Snapshot(long version, Map<String, CodebookLabels> byType) {
+    }
+}
@@ -17,14 +17,20 @@ import org.springframework.web.server.ResponseStatusException;
 /**
  * 이 파일은 통계 코드북 서비스 파일이다.
  * 코드북 필드를 검증하고 저장소 저장을 처리한다.
+ * 변경이 커밋되면 메모리 코드북 레이블 스냅샷을 교체하도록 StatsCodebookLabelResolver에 알린다.
  */
 @Service
 @Transactional
 public class StatsCodebookService {
     private final StatsCodebookRepository statsCodebookRepository;
+    private final StatsCodebookLabelResolver codebookLabelResolver;
 
-    public StatsCodebookService(StatsCodebookRepository statsCodebookRepository) {
+    public StatsCodebookService(
+            StatsCodebookRepository statsCodebookRepository,
+            StatsCodebookLabelResolver codebookLabelResolver
+    ) {
         this.statsCodebookRepository = statsCodebookRepository;
+        this.codebookLabelResolver = codebookLabelResolver;
     }
 
     /**
@@ -103,6 +109,7 @@ public class StatsCodebookService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Codebook not found");
         }
         statsCodebookRepository.deleteById(codebookId);
+        codebookLabelResolver.markChanged();
     }
 
     private void applyAllFields(StatsCodebook entity, StatsCodebookRequestDTO request) {
@@ -151,7 +158,9 @@ public class StatsCodebookService {
 
     private StatsCodebook save(StatsCodebook entity) {
         try {
-            return statsCodebookRepository.save(entity);
+            StatsCodebook saved = statsCodebookRepository.saveAndFlush(entity);
+            codebookLabelResolver.markChanged();
+            return saved;
         } catch (DataIntegrityViolationException ex) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Codebook already exists", ex);
         }
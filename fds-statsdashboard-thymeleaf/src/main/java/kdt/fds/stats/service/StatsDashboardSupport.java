@@ -6,13 +6,11 @@ import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import kdt.fds.stats.vo.CodebookLabels;
 import kdt.fds.stats.vo.StatsDateRange;
 import kdt.fds.stats.vo.StatsRangeType;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -30,9 +28,14 @@ abstract class StatsDashboardSupport {
     protected static final String KEY_DATE = "KEY_DATE";
 
     protected final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StatsCodebookLabelResolver codebookLabelResolver;
 
-    protected StatsDashboardSupport(NamedParameterJdbcTemplate jdbcTemplate) {
+    protected StatsDashboardSupport(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            StatsCodebookLabelResolver codebookLabelResolver
+    ) {
         this.jdbcTemplate = jdbcTemplate;
+        this.codebookLabelResolver = codebookLabelResolver;
     }
 
     /**
@@ -119,67 +122,23 @@ abstract class StatsDashboardSupport {
     }
 
     /**
-     * 코드 타입에 해당하는 코드북 레이블 맵을 로드한다.
-     * CODE_KEY를 키로, DISPLAY_NAME을 값으로 매핑한다.
-     */
-    protected Map<String, String> loadCodebookLabels(String codeType) {
-        if (codeType == null || codeType.isBlank()) {
-            return Map.of();
-        }
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("codeType", codeType.trim());
-        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
-                SELECT CODE_KEY, DISPLAY_NAME
-                FROM STATS_CODEBOOK
-                WHERE CODE_TYPE = :codeType
-                """, params);
-        Map<String, String> labels = new LinkedHashMap<>();
-        for (Map<String, Object> row : rows) {
-            String codeKey = normalizeText(Objects.toString(row.get("CODE_KEY"), null));
-            if (codeKey == null) {
-                continue;
-            }
-            String displayName = normalizeText(Objects.toString(row.get("DISPLAY_NAME"), null));
-            labels.put(codeKey, displayName == null ? codeKey : displayName);
-        }
-        return labels;
-    }
-
-    /**
-     * 레이블 맵에서 중복된 레이블 값을 찾는다.
-     * 동일한 DISPLAY_NAME이 여러 CODE_KEY에 매핑된 경우 해당 레이블을 반환한다.
+     * 코드 타입에 해당하는 코드북 레이블 묶음을 반환한다.
+     * 메모리 스냅샷에서 꺼내므로 DB를 조회하지 않으며, 중복 레이블 집합도 미리 계산되어 있다.
      */
-    protected Set<String> findDuplicateLabels(Map<String, String> labels) {
-        if (labels == null || labels.isEmpty()) {
-            return Set.of();
-        }
-        Map<String, Integer> counts = new HashMap<>();
-        for (String label : labels.values()) {
-            String normalized = normalizeText(label);
-            if (normalized == null) {
-                continue;
-            }
-            counts.merge(normalized, 1, Integer::sum);
-        }
-        Set<String> duplicates = new HashSet<>();
-        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
-            if (entry.getValue() > 1) {
-                duplicates.add(entry.getKey());
-            }
-        }
-        return duplicates;
+    protected CodebookLabels codebookLabels(String codeType) {
+        return codebookLabelResolver.labels(codeType);
     }
 
     /**
      * 코드 값을 표시 레이블로 변환한다.
      * 중복 레이블이면 코드 값을 괄호로 붙여 구분한다.
      */
-    protected String resolveCodeLabel(String code, Map<String, String> labels, Set<String> duplicateLabels) {
+    protected String resolveCodeLabel(String code, CodebookLabels labels) {
         String normalizedCode = normalizeText(code);
         if (normalizedCode == null) {
             return code;
         }
-        String label = labels.get(normalizedCode);
+        String label = labels.labels().get(normalizedCode);
         if (label == null) {
             return code;
         }
@@ -187,7 +146,7 @@ abstract class StatsDashboardSupport {
         if (normalizedLabel == null) {
             return code;
         }
-        if (duplicateLabels.contains(normalizedLabel)) {
+        if (labels.duplicateLabels().contains(normalizedLabel)) {
             return normalizedLabel + " (" + normalizedCode + ")";
         }
         return normalizedLabel;
@@ -199,15 +158,14 @@ abstract class StatsDashboardSupport {
      */
     protected Map<String, Long> mapDistributionLabels(
             Map<String, Long> distribution,
-            Map<String, String> labels,
-            Set<String> duplicateLabels
+            CodebookLabels labels
     ) {
         if (distribution == null || distribution.isEmpty() || labels == null || labels.isEmpty()) {
             return distribution;
         }
         Map<String, Long> mapped = new LinkedHashMap<>();
         for (Map.Entry<String, Long> entry : distribution.entrySet()) {
-            String label = resolveCodeLabel(entry.getKey(), labels, duplicateLabels);
+            String label = resolveCodeLabel(entry.getKey(), labels);
             mapped.merge(label, entry.getValue(), Long::sum);
         }
         return mapped;
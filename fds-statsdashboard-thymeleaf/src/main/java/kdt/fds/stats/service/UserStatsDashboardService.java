@@ -4,9 +4,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import kdt.fds.stats.dto.response.UserDashboardResponseDTO;
 import kdt.fds.stats.dto.response.UserSummaryResponseDTO;
+import kdt.fds.stats.vo.CodebookLabels;
 import kdt.fds.stats.vo.StatsDateRange;
 import kdt.fds.stats.vo.StatsRangeType;
 import kdt.fds.project.entity.User;
@@ -28,9 +28,10 @@ public class UserStatsDashboardService extends StatsDashboardSupport {
 
     public UserStatsDashboardService(
             NamedParameterJdbcTemplate jdbcTemplate,
+            StatsCodebookLabelResolver codebookLabelResolver,
             UserRepository userRepository
     ) {
-        super(jdbcTemplate);
+        super(jdbcTemplate, codebookLabelResolver);
         this.userRepository = userRepository;
     }
 
@@ -138,14 +139,10 @@ public class UserStatsDashboardService extends StatsDashboardSupport {
                 .addValue("fromTs", range.fromTimestamp())
                 .addValue("toTs", range.toExclusiveTimestamp());
 
-        Map<String, String> accountStatusLabels = loadCodebookLabels("ACCOUNT_STATUS");
-        Set<String> accountStatusDuplicates = findDuplicateLabels(accountStatusLabels);
-        Map<String, String> cardStatusLabels = loadCodebookLabels("CARD_STATUS");
-        Set<String> cardStatusDuplicates = findDuplicateLabels(cardStatusLabels);
-        Map<String, String> cardTypeLabels = loadCodebookLabels("CARD_TYPE");
-        Set<String> cardTypeDuplicates = findDuplicateLabels(cardTypeLabels);
-        Map<String, String> transactionTypeLabels = loadCodebookLabels("TRANSACTION_TYPE");
-        Set<String> transactionTypeDuplicates = findDuplicateLabels(transactionTypeLabels);
+        CodebookLabels accountStatusLabels = codebookLabels("ACCOUNT_STATUS");
+        CodebookLabels cardStatusLabels = codebookLabels("CARD_STATUS");
+        CodebookLabels cardTypeLabels = codebookLabels("CARD_TYPE");
+        CodebookLabels transactionTypeLabels = codebookLabels("TRANSACTION_TYPE");
 
         UserDashboardResponseDTO.UserProfileDTO profile = new UserDashboardResponseDTO.UserProfileDTO(
                 user.getId(),
@@ -161,7 +158,7 @@ public class UserStatsDashboardService extends StatsDashboardSupport {
                 """, params, (rs, rowNum) -> new UserDashboardResponseDTO.AccountDTO(
                 rs.getLong("ACCOUNT_ID"),
                 rs.getString("ACCOUNT_NUMBER"),
-                resolveCodeLabel(rs.getString("STATUS"), accountStatusLabels, accountStatusDuplicates),
+                resolveCodeLabel(rs.getString("STATUS"), accountStatusLabels),
                 rs.getBigDecimal("BALANCE"),
                 toLocalDateTime(rs.getTimestamp("CREATED_AT"))
         ));
@@ -193,8 +190,8 @@ public class UserStatsDashboardService extends StatsDashboardSupport {
                 WHERE USER_INNER_ID = :userId
                 GROUP BY NVL(ISSUER, 'UNKNOWN')
                 """, params);
-        cardStatusCounts = mapDistributionLabels(cardStatusCounts, cardStatusLabels, cardStatusDuplicates);
-        cardTypeCounts = mapDistributionLabels(cardTypeCounts, cardTypeLabels, cardTypeDuplicates);
+        cardStatusCounts = mapDistributionLabels(cardStatusCounts, cardStatusLabels);
+        cardTypeCounts = mapDistributionLabels(cardTypeCounts, cardTypeLabels);
 
         long transactionCount = queryLong("""
                 SELECT COUNT(*)
@@ -229,7 +226,7 @@ public class UserStatsDashboardService extends StatsDashboardSupport {
                   AND t.CREATED_AT < :toTs
                 GROUP BY NVL(t.TX_TYPE, 'UNKNOWN')
                 """, params);
-        txTypeCounts = mapDistributionLabels(txTypeCounts, transactionTypeLabels, transactionTypeDuplicates);
+        txTypeCounts = mapDistributionLabels(txTypeCounts, transactionTypeLabels);
         List<UserDashboardResponseDTO.DateCountDTO> dailyCounts = loadUserDateCounts(params);
         List<UserDashboardResponseDTO.RecentTransactionDTO> recentTransactions = jdbcTemplate.query("""
                 SELECT t.TX_ID, t.CREATED_AT, t.TX_AMOUNT, t.MERCHANT_CAT, t.LOCATION,
@@ -0,0 +1,24 @@
+package kdt.fds.stats.vo;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이 파일은 코드 타입 하나의 코드북 레이블 묶음 파일이다.
+ * CODE_KEY -> DISPLAY_NAME 맵과, 여러 코드에 같은 레이블이 붙은 중복 레이블 집합을 불변으로 함께 보관한다.
+ */
+public record CodebookLabels(
+        Map<String, String> labels,
+        Set<String> duplicateLabels
+) {
+    public static final CodebookLabels EMPTY = new CodebookLabels(Map.of(), Set.of());
+
+    public CodebookLabels {
+        labels = Map.copyOf(labels);
+        duplicateLabels = Set.copyOf(duplicateLabels);
+    }
+
+    public boolean isEmpty() {
+        return labels.isEmpty();
+    }
+}
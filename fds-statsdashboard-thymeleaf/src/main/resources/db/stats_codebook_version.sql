@@ -0,0 +1,14 @@
+-- 이 파일은 코드북 버전 카운터 테이블 DDL 파일이다.
+-- StatsCodebookVersion 엔티티와 같은 구조이며, 스키마를 직접 관리하는 Oracle 환경에서 한 번 실행한다.
+-- 행이 없으면 StatsCodebookLabelResolver가 버전 0으로 보고 첫 변경 시 MERGE로 행을 만든다.
+CREATE TABLE STATS_CODEBOOK_VERSION (
+    VERSION_ID NUMBER(19)   NOT NULL,
+    VERSION_NO NUMBER(19)   NOT NULL,
+    UPDATED_AT TIMESTAMP(6) NOT NULL,
+    CONSTRAINT PK_STATS_CODEBOOK_VERSION PRIMARY KEY (VERSION_ID)
+);
+
+INSERT INTO STATS_CODEBOOK_VERSION (VERSION_ID, VERSION_NO, UPDATED_AT)
+VALUES (1, 0, SYSTIMESTAMP);
+
+COMMIT;
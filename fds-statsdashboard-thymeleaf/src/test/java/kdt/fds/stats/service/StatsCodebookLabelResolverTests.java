@@ -0,0 +1,134 @@
+package kdt.fds.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kdt.fds.stats.vo.CodebookLabels;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * 이 파일은 코드북 레이블 스냅샷 테스트 파일이다.
+ * 버전 카운터가 바뀔 때만 코드북 전체를 다시 읽는지, 다시 읽기가 실패하면 이전 스냅샷을 계속 쓰는지,
+ * 없는 코드 타입/코드 값과 빈 레이블, 중복 레이블을 어떻게 다루는지 DB 없이 확인한다.
+ */
+class StatsCodebookLabelResolverTests {
+
+    @Test
+    void versionBumpReloadsSnapshot() {
+        StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+        jdbcTemplate.put("TX_TYPE", "TRANSFER", "이체");
+        StatsCodebookLabelResolver resolver = new StatsCodebookLabelResolver(jdbcTemplate);
+
+        assertThat(resolver.labels("TX_TYPE").labels()).containsEntry("TRANSFER", "이체");
+        resolver.labels("TX_TYPE");
+        resolver.refreshIfStale();
+        assertThat(jdbcTemplate.codebookReads).isEqualTo(1);
+
+        // 다른 인스턴스가 코드북을 바꾸고 버전을 올린 상황이다.
+        jdbcTemplate.put("TX_TYPE", "TRANSFER", "계좌이체");
+        jdbcTemplate.version++;
+        resolver.refreshIfStale();
+
+        assertThat(jdbcTemplate.codebookReads).isEqualTo(2);
+        assertThat(resolver.labels("TX_TYPE").labels()).containsEntry("TRANSFER", "계좌이체");
+
+        // 트랜잭션 밖에서 변경을 기록하면 버전을 올리고 바로 다시 읽는다.
+        jdbcTemplate.put("TX_TYPE", "PAYMENT", "결제");
+        resolver.markChanged();
+
+        assertThat(jdbcTemplate.version).isEqualTo(3);
+        assertThat(jdbcTemplate.codebookReads).isEqualTo(3);
+        assertThat(resolver.labels("TX_TYPE").labels()).containsEntry("PAYMENT", "결제");
+    }
+
+    @Test
+    void failedReloadKeepsPreviousSnapshot() {
+        StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+        jdbcTemplate.put("CHANNEL", "MOBILE", "모바일");
+        StatsCodebookLabelResolver resolver = new StatsCodebookLabelResolver(jdbcTemplate);
+        resolver.labels("CHANNEL");
+
+        jdbcTemplate.put("CHANNEL", "MOBILE", "모바일 앱");
+        jdbcTemplate.version++;
+        jdbcTemplate.failCodebookReads = true;
+        resolver.refreshIfStale();
+
+        assertThat(resolver.labels("CHANNEL").labels()).containsEntry("MOBILE", "모바일");
+
+        // 버전이 여전히 다르므로 다음 확인에서 다시 읽는다.
+        jdbcTemplate.failCodebookReads = false;
+        resolver.refreshIfStale();
+
+        assertThat(resolver.labels("CHANNEL").labels()).containsEntry("MOBILE", "모바일 앱");
+    }
+
+    @Test
+    void unknownCodesHaveNoLabelsAndBlankLabelsFallBackToCode() {
+        StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+        jdbcTemplate.put(" TX_TYPE ", " TRANSFER ", " 이체 ");
+        jdbcTemplate.put("TX_TYPE", "WIRE", "이체");
+        jdbcTemplate.put("TX_TYPE", "CASH", " ");
+        jdbcTemplate.put("TX_TYPE", " ", "빈 코드");
+        StatsCodebookLabelResolver resolver = new StatsCodebookLabelResolver(jdbcTemplate);
+
+        assertThat(resolver.labels("UNKNOWN_TYPE")).isSameAs(CodebookLabels.EMPTY);
+        assertThat(resolver.labels(null)).isSameAs(CodebookLabels.EMPTY);
+        assertThat(resolver.labels(" ")).isSameAs(CodebookLabels.EMPTY);
+
+        CodebookLabels labels = resolver.labels(" TX_TYPE");
+        assertThat(labels.labels()).isEqualTo(Map.of("TRANSFER", "이체", "WIRE", "이체", "CASH", "CASH"));
+        assertThat(labels.labels()).doesNotContainKey("UNKNOWN");
+        assertThat(labels.duplicateLabels()).isEqualTo(Set.of("이체"));
+        assertThat(jdbcTemplate.codebookReads).isEqualTo(1);
+    }
+
+    /**
+     * 버전 카운터 조회, 코드북 전체 조회, 버전 증가만 흉내 내는 JdbcTemplate이다.
+     */
+    private static final class StubJdbcTemplate extends NamedParameterJdbcTemplate {
+        private final Map<String, Map<String, Object>> rows = new HashMap<>();
+        private long version = 1;
+        private int codebookReads;
+        private boolean failCodebookReads;
+
+        private StubJdbcTemplate() {
+            super(new JdbcTemplate());
+        }
+
+        private void put(String codeType, String codeKey, String displayName) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("CODE_TYPE", codeType);
+            row.put("CODE_KEY", codeKey);
+            row.put("DISPLAY_NAME", displayName);
+            rows.put(codeType.trim() + ":" + codeKey.trim(), row);
+        }
+
+        @Override
+        public <T> List<T> queryForList(String sql, SqlParameterSource paramSource, Class<T> elementType) {
+            return List.of(elementType.cast(version));
+        }
+
+        @Override
+        public List<Map<String, Object>> queryForList(String sql, SqlParameterSource paramSource) {
+            if (failCodebookReads) {
+                throw new DataAccessResourceFailureException("codebook unavailable");
+            }
+            codebookReads++;
+            return new ArrayList<>(rows.values());
+        }
+
+        @Override
+        public int update(String sql, SqlParameterSource paramSource) {
+            version++;
+            return 1;
+        }
+    }
+}